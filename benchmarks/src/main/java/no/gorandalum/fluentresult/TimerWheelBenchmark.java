@@ -0,0 +1,91 @@
+package no.gorandalum.fluentresult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of arming and cancelling a timeout, with {@code outstanding}
+ * one hour timeouts already armed. {@code wheel} uses the timer wheel behind
+ * {@code Result.handleWithTimeout}, {@code executor} schedules and cancels a
+ * task on a {@code ScheduledThreadPoolExecutor}, removing it from the queue
+ * on cancel. The {@code Contended} variants arm and cancel from four threads
+ * at once. {@code HandleWithTimeoutBenchmark} measures the same through the
+ * public methods.
+ * <p>
+ * Placed in the library package to reach the package-private timer wheel.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimerWheelBenchmark {
+
+    private static final long HOUR_NANOS = TimeUnit.HOURS.toNanos(1);
+    private static final Runnable NOOP = () -> {
+    };
+
+    @Param({"0", "100000"})
+    public int outstanding;
+
+    private ScheduledExecutorService timer;
+    private TimerWheel timerWheel;
+    private ScheduledThreadPoolExecutor scheduler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        timer = Scheduler.newScheduler();
+        timerWheel = TimerWheel.startedOn(timer, TimedHandle.TICK_NANOS, TimedHandle.WHEEL_SIZE);
+        scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.setRemoveOnCancelPolicy(true);
+        for (int i = 0; i < outstanding; i++) {
+            timerWheel.arm(HOUR_NANOS, NOOP);
+            scheduler.schedule(NOOP, HOUR_NANOS, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        timer.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean wheel() {
+        return timerWheel.arm(HOUR_NANOS, NOOP).cancel();
+    }
+
+    @Benchmark
+    public boolean executor() {
+        return scheduler.schedule(NOOP, HOUR_NANOS, TimeUnit.NANOSECONDS).cancel(false);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean wheelContended() {
+        return timerWheel.arm(HOUR_NANOS, NOOP).cancel();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean executorContended() {
+        return scheduler.schedule(NOOP, HOUR_NANOS, TimeUnit.NANOSECONDS).cancel(false);
+    }
+}
@@ -0,0 +1,87 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.AsyncResult;
+import no.gorandalum.fluentresult.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a request making {@code calls} downstream calls of
+ * {@code latencyMicros} each. {@code blocking} handles the calls one after
+ * another with {@code Result.handle}, {@code async} starts them all with
+ * {@code AsyncResult.handle} and composes the results without blocking until
+ * the final {@code join}. The downstream calls sleep, so the difference shows
+ * also on a single core.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncResultBenchmark {
+
+    @Param({"20"})
+    public int calls;
+
+    @Param({"500"})
+    public int latencyMicros;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = Executors.newFixedThreadPool(calls);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    private int downstream(int i) throws InterruptedException {
+        TimeUnit.MICROSECONDS.sleep(latencyMicros);
+        return i;
+    }
+
+    @Benchmark
+    public int blocking() {
+        int sum = 0;
+        for (int i = 0; i < calls; i++) {
+            int call = i;
+            sum += Result.handle(() -> downstream(call)).orElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int async() {
+        List<AsyncResult<Integer, Exception>> results = new ArrayList<>(calls);
+        for (int i = 0; i < calls; i++) {
+            int call = i;
+            results.add(AsyncResult.handle(() -> downstream(call), executor));
+        }
+        AsyncResult<Integer, Exception> sum = AsyncResult.success(0);
+        for (AsyncResult<Integer, Exception> result : results) {
+            sum = sum.flatMap(acc -> result.map(val -> acc + val));
+        }
+        return sum.join().orElse(0);
+    }
+}
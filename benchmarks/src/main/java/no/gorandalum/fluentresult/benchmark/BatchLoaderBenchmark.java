@@ -0,0 +1,102 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.BatchLoader;
+import no.gorandalum.fluentresult.OptionalResult;
+import no.gorandalum.fluentresult.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thirty-two threads looking up random keys in a database which spends
+ * {@code queryMicros} on each query plus {@code rowMicros} on each row, and
+ * serves at most {@code connections} queries at a time. {@code perKey} runs
+ * one query for each lookup, {@code batched} collects the lookups with a
+ * {@code BatchLoader} and runs one query for each batch.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class BatchLoaderBenchmark {
+
+    @Param({"1000"})
+    public int queryMicros;
+
+    @Param({"10"})
+    public int rowMicros;
+
+    @Param({"4"})
+    public int connections;
+
+    @Param({"32"})
+    public int maxBatchSize;
+
+    private Semaphore database;
+    private BatchLoader<Integer, Integer, String> loader;
+
+    @Setup
+    public void setup() {
+        database = new Semaphore(connections);
+        loader = BatchLoader.of(this::queryAll)
+                .withMaxBatchSize(maxBatchSize)
+                .withWindow(Duration.ofMillis(1));
+    }
+
+    @Benchmark
+    public OptionalResult<Integer, String> perKey() {
+        int key = ThreadLocalRandom.current().nextInt(1_000_000);
+        return query(1) ? OptionalResult.success(key) : OptionalResult.error("Interrupted");
+    }
+
+    @Benchmark
+    public OptionalResult<Integer, String> batched() {
+        return loader.load(ThreadLocalRandom.current().nextInt(1_000_000));
+    }
+
+    private Result<Map<Integer, Integer>, String> queryAll(Set<Integer> keys) {
+        if (!query(keys.size())) {
+            return Result.error("Interrupted");
+        }
+        Map<Integer, Integer> rows = new HashMap<>();
+        for (Integer key : keys) {
+            rows.put(key, key);
+        }
+        return Result.success(rows);
+    }
+
+    private boolean query(int rows) {
+        try {
+            database.acquire();
+            try {
+                TimeUnit.MICROSECONDS.sleep(queryMicros + (long) rows * rowMicros);
+            } finally {
+                database.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,93 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.BooleanResult;
+import no.gorandalum.fluentresult.OptionalResult;
+import no.gorandalum.fluentresult.Result;
+import no.gorandalum.fluentresult.VoidResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@code BooleanResult} combinators, measured on both the success
+ * path and the error path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BooleanResultBenchmark {
+
+    @Param({"success", "error"})
+    public String state;
+
+    private BooleanResult<String> result;
+
+    @Setup
+    public void setup() {
+        result = "success".equals(state) ? BooleanResult.successTrue() : BooleanResult.error("error");
+    }
+
+    @Benchmark
+    public Result<String, String> map() {
+        return result.map(String::valueOf);
+    }
+
+    @Benchmark
+    public BooleanResult<String> mapToBoolean() {
+        return result.mapToBoolean(val -> !val);
+    }
+
+    @Benchmark
+    public BooleanResult<Integer> mapError() {
+        return result.mapError(String::length);
+    }
+
+    @Benchmark
+    public BooleanResult<String> flatMapToBooleanResult() {
+        return result.flatMapToBooleanResult(val -> BooleanResult.success(!val));
+    }
+
+    @Benchmark
+    public BooleanResult<String> verify() {
+        return result.verify(val -> val, () -> "false");
+    }
+
+    @Benchmark
+    public BooleanResult<String> runIfTrue(Blackhole blackhole) {
+        return result.runIfTrue(() -> blackhole.consume(1));
+    }
+
+    @Benchmark
+    public Integer fold() {
+        return result.fold(() -> 1, () -> 0, err -> -1);
+    }
+
+    @Benchmark
+    public boolean orElseFalse() {
+        return result.orElseFalse();
+    }
+
+    @Benchmark
+    public OptionalResult<Boolean, String> toOptionalResult() {
+        return result.toOptionalResult();
+    }
+
+    @Benchmark
+    public VoidResult<String> toVoidResult() {
+        return result.toVoidResult();
+    }
+}
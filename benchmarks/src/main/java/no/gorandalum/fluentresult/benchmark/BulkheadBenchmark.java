@@ -0,0 +1,101 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.Bulkhead;
+import no.gorandalum.fluentresult.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The overhead of limiting concurrent calls. {@code direct} handles a
+ * callable without a limit, {@code semaphore} guards it with a hand-written
+ * {@code Semaphore.tryAcquire}, {@code fixed} and {@code adaptive} with a
+ * {@code Bulkhead}. {@code rejected} calls a saturated bulkhead, returning
+ * its preallocated rejection result. Run with {@code -prof gc} to see that a
+ * rejection allocates nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkheadBenchmark {
+
+    private final Semaphore semaphore = new Semaphore(64);
+    private final Bulkhead<String> fixedBulkhead = Bulkhead.maxConcurrentCalls(64, "Rejected");
+    private final Bulkhead<String> adaptiveBulkhead = Bulkhead.maxConcurrentCalls(64, "Rejected")
+            .withAdaptiveLimit(1, Duration.ofSeconds(1));
+    private final Bulkhead<String> saturatedBulkhead = Bulkhead.maxConcurrentCalls(1, "Rejected");
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private String value = "Success";
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Thread holder = new Thread(() -> saturatedBulkhead.handle(() -> {
+            started.countDown();
+            release.await();
+            return value;
+        }, Exception::getMessage));
+        holder.setDaemon(true);
+        holder.start();
+        started.await();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        release.countDown();
+    }
+
+    @Benchmark
+    public Result<String, String> direct() {
+        return Result.handle(this::call, Exception::getMessage);
+    }
+
+    @Benchmark
+    public Result<String, String> semaphore() {
+        if (!semaphore.tryAcquire()) {
+            return Result.error("Rejected");
+        }
+        try {
+            return Result.handle(this::call, Exception::getMessage);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    @Benchmark
+    public Result<String, String> fixed() {
+        return fixedBulkhead.handle(this::call, Exception::getMessage);
+    }
+
+    @Benchmark
+    public Result<String, String> adaptive() {
+        return adaptiveBulkhead.handle(this::call, Exception::getMessage);
+    }
+
+    @Benchmark
+    public Result<String, String> rejected() {
+        return saturatedBulkhead.handle(this::call, Exception::getMessage);
+    }
+
+    private String call() {
+        return value;
+    }
+}
@@ -0,0 +1,72 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.CircuitBreaker;
+import no.gorandalum.fluentresult.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The overhead of guarding a call with a {@code CircuitBreaker}.
+ * {@code direct} makes the call without a breaker, {@code closed} through a
+ * closed breaker counting the outcome, and {@code open} through an open
+ * breaker returning its shared error result. The {@code Contended} variants
+ * call the same breaker from four threads, which only share the state field
+ * and the striped counters of the current bucket.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CircuitBreakerBenchmark {
+
+    private final CircuitBreaker<String> closedBreaker = CircuitBreaker.openError("Open");
+    private final CircuitBreaker<String> openBreaker = CircuitBreaker.<String>openError("Open")
+            .withMinimumCalls(1)
+            .withOpenDuration(Duration.ofHours(1));
+
+    private String value = "Success";
+
+    @Setup
+    public void setUp() {
+        openBreaker.call(() -> Result.error("Error"));
+    }
+
+    @Benchmark
+    public Result<String, String> direct() {
+        return call();
+    }
+
+    @Benchmark
+    public Result<String, String> closed() {
+        return closedBreaker.call(this::call);
+    }
+
+    @Benchmark
+    public Result<String, String> open() {
+        return openBreaker.call(this::call);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Result<String, String> closedContended() {
+        return closedBreaker.call(this::call);
+    }
+
+    private Result<String, String> call() {
+        return Result.success(value);
+    }
+}
@@ -0,0 +1,87 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.DeferredResult;
+import no.gorandalum.fluentresult.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chains of {@code depth} {@code flatMap} steps. {@code eagerChain} and
+ * {@code deferredChain} add the steps one after another in a loop,
+ * {@code eagerRecursive} and {@code deferredRecursive} build them by a
+ * method calling itself from inside {@code flatMap}, as a tree walker or a
+ * paginated fetch would. The eager recursive chain nests one stack frame per
+ * step and overflows the default thread stack long before a depth of one
+ * million, in which case it returns an error instead of a sum.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeferredResultBenchmark {
+
+    @Param({"10", "1000", "1000000"})
+    public int depth;
+
+    @Benchmark
+    public Result<Long, String> eagerChain() {
+        Result<Long, String> result = Result.success(0L);
+        for (int i = 1; i <= depth; i++) {
+            long step = i;
+            result = result.flatMap(val -> Result.success(val + step));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Result<Long, String> deferredChain() {
+        DeferredResult<Long, String> result = DeferredResult.success(0L);
+        for (int i = 1; i <= depth; i++) {
+            long step = i;
+            result = result.flatMap(val -> DeferredResult.success(val + step));
+        }
+        return result.toResult();
+    }
+
+    @Benchmark
+    public Result<Long, String> eagerRecursive() {
+        try {
+            return eagerSum(depth);
+        } catch (StackOverflowError e) {
+            return Result.error("StackOverflowError");
+        }
+    }
+
+    @Benchmark
+    public Result<Long, String> deferredRecursive() {
+        return deferredSum(depth).toResult();
+    }
+
+    private static Result<Long, String> eagerSum(int n) {
+        if (n == 0) {
+            return Result.success(0L);
+        }
+        return Result.<Integer, String>success(n)
+                .flatMap(val -> eagerSum(val - 1).map(rest -> rest + val));
+    }
+
+    private static DeferredResult<Long, String> deferredSum(int n) {
+        if (n == 0) {
+            return DeferredResult.success(0L);
+        }
+        return DeferredResult.<Integer, String>success(n)
+                .flatMap(val -> deferredSum(val - 1).map(rest -> rest + val));
+    }
+}
@@ -0,0 +1,120 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.BooleanResult;
+import no.gorandalum.fluentresult.OptionalResult;
+import no.gorandalum.fluentresult.Result;
+import no.gorandalum.fluentresult.VoidResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating results through the static factory methods, with
+ * {@code Optional} factories as baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FactoryBenchmark {
+
+    private String value;
+    private String error;
+    private boolean flag;
+    private Integer small;
+
+    @Setup
+    public void setup() {
+        value = "value";
+        error = "error";
+        flag = true;
+        small = 42;
+    }
+
+    @Benchmark
+    public Result<String, String> resultSuccess() {
+        return Result.success(value);
+    }
+
+    @Benchmark
+    public Result<Integer, String> resultSuccessSmallInteger() {
+        return Result.success(small);
+    }
+
+    @Benchmark
+    public Result<Integer, String> resultSharedSuccessSmallInteger() {
+        return Result.sharedSuccess(small);
+    }
+
+    @Benchmark
+    public Result<String, String> resultError() {
+        return Result.error(error);
+    }
+
+    @Benchmark
+    public OptionalResult<String, String> optionalResultSuccess() {
+        return OptionalResult.success(value);
+    }
+
+    @Benchmark
+    public OptionalResult<String, String> optionalResultSuccessOptional() {
+        return OptionalResult.success(Optional.of(value));
+    }
+
+    @Benchmark
+    public OptionalResult<String, String> optionalResultSuccessNullable() {
+        return OptionalResult.successNullable(value);
+    }
+
+    @Benchmark
+    public OptionalResult<String, String> optionalResultEmpty() {
+        return OptionalResult.empty();
+    }
+
+    @Benchmark
+    public OptionalResult<String, String> optionalResultError() {
+        return OptionalResult.error(error);
+    }
+
+    @Benchmark
+    public BooleanResult<String> booleanResultSuccess() {
+        return BooleanResult.success(flag);
+    }
+
+    @Benchmark
+    public BooleanResult<String> booleanResultError() {
+        return BooleanResult.error(error);
+    }
+
+    @Benchmark
+    public VoidResult<String> voidResultSuccess() {
+        return VoidResult.success();
+    }
+
+    @Benchmark
+    public VoidResult<String> voidResultError() {
+        return VoidResult.error(error);
+    }
+
+    @Benchmark
+    public Optional<String> baselineOptionalOf() {
+        return Optional.of(value);
+    }
+
+    @Benchmark
+    public Optional<String> baselineOptionalEmpty() {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,89 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Reads from {@code replicas} replicas of a cache, each answering in
+ * {@code latencyMicros} except for one read in twenty, which takes
+ * {@code slowLatencyMicros}. {@code single} reads one replica,
+ * {@code parallel} reads all of them at once with {@code firstSuccess}, and
+ * {@code hedged} reads the next replica only when the previous one has not
+ * answered within {@code hedgeDelayMicros}. Compare the high percentiles of
+ * the sample time.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FirstSuccessBenchmark {
+
+    @Param({"2"})
+    public int replicas;
+
+    @Param({"500"})
+    public int latencyMicros;
+
+    @Param({"10000"})
+    public int slowLatencyMicros;
+
+    @Param({"1000"})
+    public int hedgeDelayMicros;
+
+    private List<Supplier<Result<Integer, String>>> reads;
+    private Duration hedgeDelay;
+
+    @Setup
+    public void setup() {
+        reads = new ArrayList<>(replicas);
+        for (int i = 0; i < replicas; i++) {
+            int replica = i;
+            reads.add(() -> read(replica));
+        }
+        hedgeDelay = Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(hedgeDelayMicros));
+    }
+
+    @Benchmark
+    public Result<Integer, String> single() {
+        return read(0);
+    }
+
+    @Benchmark
+    public Result<Integer, List<String>> parallel() {
+        return Result.firstSuccess(reads);
+    }
+
+    @Benchmark
+    public Result<Integer, List<String>> hedged() {
+        return Result.firstSuccess(reads, hedgeDelay);
+    }
+
+    private Result<Integer, String> read(int replica) {
+        boolean slow = ThreadLocalRandom.current().nextInt(20) == 0;
+        try {
+            TimeUnit.MICROSECONDS.sleep(slow ? slowLatencyMicros : latencyMicros);
+        } catch (InterruptedException e) {
+            return Result.error("Cancelled");
+        }
+        return Result.success(replica);
+    }
+}
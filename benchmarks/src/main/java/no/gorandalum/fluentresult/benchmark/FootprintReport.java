@@ -0,0 +1,50 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.BooleanResult;
+import no.gorandalum.fluentresult.DoubleResult;
+import no.gorandalum.fluentresult.IntResult;
+import no.gorandalum.fluentresult.LongResult;
+import no.gorandalum.fluentresult.OptionalResult;
+import no.gorandalum.fluentresult.Result;
+import no.gorandalum.fluentresult.VoidResult;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Prints the shallow size of each result instance, and the retained size
+ * excluding the success and error payloads, which are shared with the
+ * caller, and excluding class metadata. Run with {@code java -cp target/benchmarks.jar
+ * no.gorandalum.fluentresult.benchmark.FootprintReport}.
+ */
+public final class FootprintReport {
+
+    private static final String VALUE = "value";
+    private static final String ERROR = "error";
+
+    private FootprintReport() {
+    }
+
+    public static void main(String[] args) {
+        System.out.printf("%-26s %8s %9s%n", "Instance", "Shallow", "Retained");
+        print("Result.success", Result.success(VALUE));
+        print("Result.error", Result.error(ERROR));
+        print("OptionalResult.success", OptionalResult.success(VALUE));
+        print("OptionalResult.empty", OptionalResult.empty());
+        print("OptionalResult.error", OptionalResult.error(ERROR));
+        print("BooleanResult.success", BooleanResult.success(true));
+        print("BooleanResult.error", BooleanResult.error(ERROR));
+        print("VoidResult.success", VoidResult.success());
+        print("VoidResult.error", VoidResult.error(ERROR));
+        print("IntResult.success", IntResult.success(1));
+        print("LongResult.success", LongResult.success(1L));
+        print("DoubleResult.success", DoubleResult.success(1.0));
+    }
+
+    private static void print(String name, Object instance) {
+        long shallow = ClassLayout.parseInstance(instance).instanceSize();
+        long retained = GraphLayout.parseInstance(instance)
+                .subtract(GraphLayout.parseInstance(VALUE, ERROR, Boolean.TRUE, instance.getClass()))
+                .totalSize();
+        System.out.printf("%-26s %8d %9d%n", name, shallow, retained);
+    }
+}
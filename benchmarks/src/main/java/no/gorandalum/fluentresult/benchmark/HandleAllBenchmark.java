@@ -0,0 +1,69 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan-out of {@code calls} blocking lookups of {@code latencyMicros} each.
+ * {@code sequential} handles them one after another with
+ * {@code Result.handle}, {@code handleAll} runs them concurrently, on virtual
+ * threads when the benchmark runs on a JDK with virtual threads and on the
+ * bounded platform thread pool otherwise.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HandleAllBenchmark {
+
+    @Param({"500"})
+    public int calls;
+
+    @Param({"1000"})
+    public int latencyMicros;
+
+    private List<Callable<Integer>> lookups;
+
+    @Setup
+    public void setup() {
+        lookups = new ArrayList<>(calls);
+        for (int i = 0; i < calls; i++) {
+            int value = i;
+            lookups.add(() -> {
+                TimeUnit.MICROSECONDS.sleep(latencyMicros);
+                return value;
+            });
+        }
+    }
+
+    @Benchmark
+    public List<Result<Integer, Exception>> sequential() {
+        List<Result<Integer, Exception>> results = new ArrayList<>(calls);
+        for (Callable<Integer> lookup : lookups) {
+            results.add(Result.handle(lookup));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public List<Result<Integer, Exception>> handleAll() {
+        return Result.handleAll(lookups);
+    }
+}
@@ -0,0 +1,99 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.BooleanResult;
+import no.gorandalum.fluentresult.OptionalResult;
+import no.gorandalum.fluentresult.Result;
+import no.gorandalum.fluentresult.VoidResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@code handle} factories compared to a hand-written try/catch.
+ * The failing callable throws a preallocated exception, so the numbers show
+ * the cost of the result handling rather than of filling in stack traces.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HandleBenchmark {
+
+    private static final IOException PREALLOCATED = new IOException("error");
+
+    @Param({"success", "error"})
+    public String state;
+
+    private boolean fail;
+
+    @Setup
+    public void setup() {
+        fail = "error".equals(state);
+    }
+
+    private String call() throws IOException {
+        if (fail) {
+            throw PREALLOCATED;
+        }
+        return "value";
+    }
+
+    private void run() throws IOException {
+        if (fail) {
+            throw PREALLOCATED;
+        }
+    }
+
+    @Benchmark
+    public Result<String, Exception> resultHandle() {
+        return Result.handle(this::call);
+    }
+
+    @Benchmark
+    public Result<String, String> resultHandleWithMapper() {
+        return Result.handle(this::call, Exception::getMessage);
+    }
+
+    @Benchmark
+    public OptionalResult<String, Exception> optionalResultHandle() {
+        return OptionalResult.handle(() -> Optional.of(call()));
+    }
+
+    @Benchmark
+    public BooleanResult<Exception> booleanResultHandle() {
+        return BooleanResult.handle(() -> call().isEmpty());
+    }
+
+    @Benchmark
+    public VoidResult<Exception> voidResultHandle() {
+        return VoidResult.handle(this::run);
+    }
+
+    @Benchmark
+    public String baselineTryCatch() {
+        try {
+            return call();
+        } catch (IOException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String resultHandleFold() {
+        return Result.handle(this::call).fold(val -> val, Exception::getMessage);
+    }
+}
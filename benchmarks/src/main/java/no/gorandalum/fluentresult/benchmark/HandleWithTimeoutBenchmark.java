@@ -0,0 +1,94 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of bounding a fast call with a timeout. {@code handle} calls
+ * without a timeout, {@code handleWithTimeout} with a one hour timeout, so
+ * the difference is arming and cancelling a timeout in the timer wheel,
+ * measured alone with many outstanding timeouts by {@code TimerWheelBenchmark}.
+ * {@code scheduledExecutor} bounds the same call by hand, scheduling an
+ * interrupt on a {@code ScheduledThreadPoolExecutor} removing cancelled
+ * tasks, and cancelling it after the call. The {@code Contended} variants
+ * call from four threads at once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HandleWithTimeoutBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofHours(1);
+    private static final Callable<String> CALL = () -> "Success";
+
+    private ScheduledThreadPoolExecutor scheduler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Benchmark
+    public Result<String, Exception> handle() {
+        return Result.handle(CALL);
+    }
+
+    @Benchmark
+    public Result<String, Exception> handleWithTimeout() {
+        return Result.handleWithTimeout(CALL, TIMEOUT);
+    }
+
+    @Benchmark
+    public Result<String, Exception> scheduledExecutor() {
+        return withScheduledInterrupt();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Result<String, Exception> handleWithTimeoutContended() {
+        return Result.handleWithTimeout(CALL, TIMEOUT);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Result<String, Exception> scheduledExecutorContended() {
+        return withScheduledInterrupt();
+    }
+
+    private Result<String, Exception> withScheduledInterrupt() {
+        Thread caller = Thread.currentThread();
+        ScheduledFuture<?> interrupt = scheduler.schedule(caller::interrupt, TIMEOUT.toNanos(), TimeUnit.NANOSECONDS);
+        try {
+            return Result.handle(CALL);
+        } finally {
+            interrupt.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.LazyResult;
+import no.gorandalum.fluentresult.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A result built from an expensive call and an expensive downstream step,
+ * which is only inspected when {@code enabled} is set, as on a
+ * feature-flagged path. {@code eager} builds it with {@code Result} and pays
+ * for both calls on every invocation, {@code lazy} builds it with
+ * {@code LazyResult} and only pays when the result is inspected.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LazyResultBenchmark {
+
+    private static final long TOKENS = 1000;
+
+    @Param({"true", "false"})
+    public boolean enabled;
+
+    @Benchmark
+    public String eager() {
+        Result<String, Exception> result = Result.handle(LazyResultBenchmark::fetch)
+                .map(LazyResultBenchmark::enrich);
+        return enabled ? result.orElse("Fallback") : "Disabled";
+    }
+
+    @Benchmark
+    public String lazy() {
+        LazyResult<String, Exception> result = LazyResult.handle(LazyResultBenchmark::fetch)
+                .map(LazyResultBenchmark::enrich);
+        return enabled ? result.orElse("Fallback") : "Disabled";
+    }
+
+    private static String fetch() {
+        Blackhole.consumeCPU(TOKENS);
+        return "Value";
+    }
+
+    private static String enrich(String value) {
+        Blackhole.consumeCPU(TOKENS);
+        return value + " enriched";
+    }
+}
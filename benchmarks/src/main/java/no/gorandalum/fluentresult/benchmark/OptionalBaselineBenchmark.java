@@ -0,0 +1,79 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plain {@code Optional} equivalents of the combinators measured in
+ * {@link ResultBenchmark}, where a present value corresponds to success state
+ * and an empty value corresponds to error state.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OptionalBaselineBenchmark {
+
+    @Param({"success", "error"})
+    public String state;
+
+    private Optional<String> optional;
+
+    @Setup
+    public void setup() {
+        optional = "success".equals(state) ? Optional.of("value") : Optional.empty();
+    }
+
+    @Benchmark
+    public Optional<Integer> map() {
+        return optional.map(String::length);
+    }
+
+    @Benchmark
+    public Optional<Integer> flatMap() {
+        return optional.flatMap(val -> Optional.of(val.length()));
+    }
+
+    @Benchmark
+    public Optional<String> verifyPredicate() {
+        return optional.filter(val -> !val.isEmpty());
+    }
+
+    @Benchmark
+    public Integer fold() {
+        return optional.map(String::length).orElseGet(() -> -1);
+    }
+
+    @Benchmark
+    public String orElse() {
+        return optional.orElse("other");
+    }
+
+    @Benchmark
+    public String orElseGet() {
+        return optional.orElseGet(() -> "other");
+    }
+
+    @Benchmark
+    public String chain() {
+        return optional
+                .map(String::trim)
+                .filter(val -> !val.isEmpty())
+                .map(String::toUpperCase)
+                .orElse("other");
+    }
+}
@@ -0,0 +1,132 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.OptionalResult;
+import no.gorandalum.fluentresult.Result;
+import no.gorandalum.fluentresult.VoidResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@code OptionalResult} combinators, measured with a present
+ * value, an empty value and an error.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OptionalResultBenchmark {
+
+    @Param({"value", "empty", "error"})
+    public String state;
+
+    private OptionalResult<String, String> result;
+
+    @Setup
+    public void setup() {
+        switch (state) {
+            case "value":
+                result = OptionalResult.success("value");
+                break;
+            case "empty":
+                result = OptionalResult.empty();
+                break;
+            default:
+                result = OptionalResult.error("error");
+        }
+    }
+
+    @Benchmark
+    public Result<Boolean, String> map() {
+        return result.map(Optional::isPresent);
+    }
+
+    @Benchmark
+    public OptionalResult<Integer, String> mapValue() {
+        return result.mapValue(String::length);
+    }
+
+    @Benchmark
+    public OptionalResult<String, Integer> mapError() {
+        return result.mapError(String::length);
+    }
+
+    @Benchmark
+    public OptionalResult<Integer, String> flatMapToOptionalResult() {
+        return result.flatMapToOptionalResult(maybeVal -> OptionalResult.success(1));
+    }
+
+    @Benchmark
+    public OptionalResult<Integer, String> flatMapValueWithResult() {
+        return result.flatMapValueWithResult(val -> Result.success(val.length()));
+    }
+
+    @Benchmark
+    public OptionalResult<String, String> verifyValue() {
+        return result.verifyValue(val -> !val.isEmpty(), () -> "empty");
+    }
+
+    @Benchmark
+    public OptionalResult<String, String> verifyValueVoidResult() {
+        return result.verifyValue(val -> VoidResult.success());
+    }
+
+    @Benchmark
+    public OptionalResult<String, String> consumeValue(Blackhole blackhole) {
+        return result.consumeValue(blackhole::consume);
+    }
+
+    @Benchmark
+    public OptionalResult<String, String> runIfEmpty(Blackhole blackhole) {
+        return result.runIfEmpty(() -> blackhole.consume(1));
+    }
+
+    @Benchmark
+    public Integer fold() {
+        return result.fold(String::length, () -> 0, err -> -1);
+    }
+
+    @Benchmark
+    public Optional<String> orElse() {
+        return result.orElse(Optional.empty());
+    }
+
+    @Benchmark
+    public String valueOrElse() {
+        return result.valueOrElse("other");
+    }
+
+    @Benchmark
+    public Result<String, String> toResult() {
+        return result.toResult(() -> "empty");
+    }
+
+    @Benchmark
+    public VoidResult<String> toVoidResult() {
+        return result.toVoidResult();
+    }
+
+    @Benchmark
+    public String chain() {
+        return result
+                .mapValue(String::trim)
+                .verifyValue(val -> !val.isEmpty(), () -> "empty")
+                .mapValue(String::toUpperCase)
+                .mapError(err -> "failed: " + err)
+                .valueOrElse("other");
+    }
+}
@@ -0,0 +1,108 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.DoubleResult;
+import no.gorandalum.fluentresult.IntResult;
+import no.gorandalum.fluentresult.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Success path of {@code IntResult} and {@code DoubleResult} against the boxed
+ * {@code Result<Integer, E>} and {@code Result<Double, E>}. The value is kept
+ * outside the {@code Integer} cache, so run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm}: the primitive variants allocate only the result
+ * instance itself, the boxed variants allocate an additional wrapper per value.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveResultBenchmark {
+
+    @Param({"1000000"})
+    public int value;
+
+    private Result<Integer, String> boxedResult;
+    private IntResult<String> intResult;
+    private Result<Double, String> boxedDoubleResult;
+    private DoubleResult<String> doubleResult;
+
+    @Setup
+    public void setup() {
+        boxedResult = Result.success(value);
+        intResult = IntResult.success(value);
+        boxedDoubleResult = Result.success(value / 2.0);
+        doubleResult = DoubleResult.success(value / 2.0);
+    }
+
+    @Benchmark
+    public Result<Integer, String> boxedSuccess() {
+        return Result.success(value);
+    }
+
+    @Benchmark
+    public IntResult<String> intSuccess() {
+        return IntResult.success(value);
+    }
+
+    @Benchmark
+    public Result<Integer, String> boxedMap() {
+        return boxedResult.map(val -> val + 1);
+    }
+
+    @Benchmark
+    public IntResult<String> intMap() {
+        return intResult.mapToInt(val -> val + 1);
+    }
+
+    @Benchmark
+    public Result<Double, String> boxedDoubleMap() {
+        return boxedDoubleResult.map(val -> val * 1.25);
+    }
+
+    @Benchmark
+    public DoubleResult<String> doubleMap() {
+        return doubleResult.mapToDouble(val -> val * 1.25);
+    }
+
+    @Benchmark
+    public int boxedChain() {
+        return boxedResult
+                .map(val -> val + 1)
+                .verify(val -> val > 0, () -> "negative")
+                .map(val -> val * 2)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int intChain() {
+        return intResult
+                .mapToInt(val -> val + 1)
+                .verify(val -> val > 0, () -> "negative")
+                .mapToInt(val -> val * 2)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int boxedOrElse() {
+        return boxedResult.orElse(0);
+    }
+
+    @Benchmark
+    public int intOrElse() {
+        return intResult.orElse(0);
+    }
+}
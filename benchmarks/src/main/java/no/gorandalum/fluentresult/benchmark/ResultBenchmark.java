@@ -0,0 +1,161 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.BooleanResult;
+import no.gorandalum.fluentresult.OptionalResult;
+import no.gorandalum.fluentresult.Result;
+import no.gorandalum.fluentresult.VoidResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@code Result} combinators, measured on both the success path
+ * and the error path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultBenchmark {
+
+    private static final IllegalStateException PREALLOCATED =
+            new IllegalStateException("error");
+
+    @Param({"success", "error"})
+    public String state;
+
+    private Result<String, String> result;
+
+    @Setup
+    public void setup() {
+        result = "success".equals(state) ? Result.success("value") : Result.error("error");
+    }
+
+    @Benchmark
+    public Result<Integer, String> map() {
+        return result.map(String::length);
+    }
+
+    @Benchmark
+    public OptionalResult<String, String> mapToOptional() {
+        return result.mapToOptional(Optional::of);
+    }
+
+    @Benchmark
+    public BooleanResult<String> mapToBoolean() {
+        return result.mapToBoolean(String::isEmpty);
+    }
+
+    @Benchmark
+    public Result<String, Integer> mapError() {
+        return result.mapError(String::length);
+    }
+
+    @Benchmark
+    public Result<Integer, String> flatMap() {
+        return result.flatMap(val -> Result.success(val.length()));
+    }
+
+    @Benchmark
+    public VoidResult<String> flatMapToVoidResult() {
+        return result.flatMapToVoidResult(val -> VoidResult.success());
+    }
+
+    @Benchmark
+    public Result<String, String> verifyPredicate() {
+        return result.verify(val -> !val.isEmpty(), () -> "empty");
+    }
+
+    @Benchmark
+    public Result<String, String> verifyVoidResult() {
+        return result.verify(val -> VoidResult.success());
+    }
+
+    @Benchmark
+    public Result<String, String> flatConsume() {
+        return result.flatConsume(val -> VoidResult.success());
+    }
+
+    @Benchmark
+    public Result<String, String> flatRunIfSuccess() {
+        return result.flatRunIfSuccess(VoidResult::success);
+    }
+
+    @Benchmark
+    public Result<String, String> recover() {
+        return result.recover(err -> "recovered");
+    }
+
+    @Benchmark
+    public Result<String, String> flatRecover() {
+        return result.flatRecover(err -> Result.success("recovered"));
+    }
+
+    @Benchmark
+    public Result<String, String> consumeEither(Blackhole blackhole) {
+        return result.consumeEither(blackhole::consume, blackhole::consume);
+    }
+
+    @Benchmark
+    public Result<String, String> runIfError(Blackhole blackhole) {
+        return result.runIfError(() -> blackhole.consume(1));
+    }
+
+    @Benchmark
+    public Integer fold() {
+        return result.fold(String::length, err -> -1);
+    }
+
+    @Benchmark
+    public String orElse() {
+        return result.orElse("other");
+    }
+
+    @Benchmark
+    public String orElseGet() {
+        return result.orElseGet(err -> "other");
+    }
+
+    @Benchmark
+    public String orElseThrow() {
+        try {
+            return result.orElseThrow(err -> PREALLOCATED);
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public OptionalResult<String, String> toOptionalResult() {
+        return result.toOptionalResult();
+    }
+
+    @Benchmark
+    public VoidResult<String> toVoidResult() {
+        return result.toVoidResult();
+    }
+
+    @Benchmark
+    public String chain() {
+        return result
+                .map(String::trim)
+                .verify(val -> !val.isEmpty(), () -> "empty")
+                .map(String::toUpperCase)
+                .mapError(err -> "failed: " + err)
+                .orElse("other");
+    }
+}
@@ -0,0 +1,92 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.Result;
+import no.gorandalum.fluentresult.ResultCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Eight threads looking up random keys among {@code keys}, all of which fit
+ * in the cache. {@code cachedHit} looks them up in a {@code ResultCache},
+ * {@code concurrentHashMap} in an unbounded {@code ConcurrentHashMap} with
+ * {@code computeIfAbsent} as a baseline for the hit path.
+ * {@code errorNotCached} and {@code errorCached} look up keys whose loader
+ * takes {@code loadMicros} and fails, with errors not kept and kept for a
+ * minute.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class ResultCacheBenchmark {
+
+    @Param({"1000"})
+    public int keys;
+
+    @Param({"100"})
+    public int loadMicros;
+
+    private ResultCache<Integer, Integer, String> cache;
+    private ConcurrentHashMap<Integer, Result<Integer, String>> map;
+    private ResultCache<Integer, Integer, String> errorsNotCached;
+    private ResultCache<Integer, Integer, String> errorsCached;
+
+    @Setup
+    public void setup() {
+        cache = ResultCache.<Integer, Integer, String>of(Result::success).withMaximumSize(keys);
+        map = new ConcurrentHashMap<>();
+        errorsNotCached = ResultCache.of(this::failingLoad);
+        errorsCached = errorsNotCached.withErrorTtl(Duration.ofMinutes(1));
+        for (int i = 0; i < keys; i++) {
+            cache.get(i);
+            map.put(i, Result.success(i));
+        }
+    }
+
+    @Benchmark
+    public Result<Integer, String> cachedHit() {
+        return cache.get(ThreadLocalRandom.current().nextInt(keys));
+    }
+
+    @Benchmark
+    public Result<Integer, String> concurrentHashMap() {
+        return map.computeIfAbsent(ThreadLocalRandom.current().nextInt(keys), Result::success);
+    }
+
+    @Benchmark
+    public Result<Integer, String> errorNotCached() {
+        return errorsNotCached.get(ThreadLocalRandom.current().nextInt(keys));
+    }
+
+    @Benchmark
+    public Result<Integer, String> errorCached() {
+        return errorsCached.get(ThreadLocalRandom.current().nextInt(keys));
+    }
+
+    private Result<Integer, String> failingLoad(Integer key) {
+        try {
+            TimeUnit.MICROSECONDS.sleep(loadMicros);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Result.error("Unavailable");
+    }
+}
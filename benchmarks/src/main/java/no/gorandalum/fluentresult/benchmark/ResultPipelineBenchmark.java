@@ -0,0 +1,60 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.Result;
+import no.gorandalum.fluentresult.ResultPipeline;
+import no.gorandalum.fluentresult.VoidResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A per-record transform of five steps. {@code chain} calls the
+ * combinators of {@code Result} for each record, {@code pipeline} applies a
+ * {@code ResultPipeline} built once with the same steps. Run with
+ * {@code -prof gc} and compare {@code gc.alloc.rate.norm} for a valid and an
+ * invalid record.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultPipelineBenchmark {
+
+    private static final ResultPipeline<String, Integer, String> PIPELINE = ResultPipeline
+            .<String, String, String>of(String::trim)
+            .verify(val -> !val.isEmpty(), () -> "Empty")
+            .map(String::length)
+            .verify(val -> val < 100 ? VoidResult.success() : VoidResult.error("Too long"))
+            .map(val -> val * 2)
+            .mapError(err -> "Invalid");
+
+    @Param({" record ", "  "})
+    public String record;
+
+    @Benchmark
+    public Result<Integer, String> chain() {
+        return Result.<String, String>success(record)
+                .map(String::trim)
+                .verify(val -> !val.isEmpty(), () -> "Empty")
+                .map(String::length)
+                .verify(val -> val < 100 ? VoidResult.success() : VoidResult.error("Too long"))
+                .map(val -> val * 2)
+                .mapError(err -> "Invalid");
+    }
+
+    @Benchmark
+    public Result<Integer, String> pipeline() {
+        return PIPELINE.apply(record);
+    }
+}
@@ -0,0 +1,77 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning a list of results into a result of a list: a hand written loop as
+ * baseline, {@code Result.sequence}, and {@code Result.sequenceCollector} on a
+ * sequential and a parallel stream. With {@code errorAt} set to {@code -1} all
+ * results are in success state, otherwise the result at that index is in error
+ * state.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SequenceBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    @Param({"-1", "100"})
+    public int errorAt;
+
+    private List<Result<Integer, String>> results;
+
+    @Setup
+    public void setup() {
+        results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(i == errorAt ? Result.error("Error at " + i) : Result.success(i));
+        }
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> baselineLoop() {
+        List<Integer> values = new ArrayList<>();
+        for (Result<Integer, String> result : results) {
+            if (result.fold(val -> false, err -> true)) {
+                return Result.error(result.fold(val -> null, err -> err));
+            }
+            values.add(result.orElseThrow(IllegalStateException::new));
+        }
+        return Result.success(values);
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> sequence() {
+        return Result.sequence(results);
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> sequenceCollector() {
+        return results.stream().collect(Result.sequenceCollector());
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> sequenceCollectorParallel() {
+        return results.parallelStream().collect(Result.sequenceCollector());
+    }
+}
@@ -0,0 +1,72 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.Result;
+import no.gorandalum.fluentresult.SharedErrors;
+import no.gorandalum.fluentresult.VoidResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating error results for constant error values through {@code error}
+ * against {@code sharedError}. Run with {@code -prof gc}: the shared variants
+ * should report no allocation for enum constants and registered values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SharedErrorBenchmark {
+
+    public enum ErrorCode {
+        NOT_FOUND, FORBIDDEN, RATE_LIMITED
+    }
+
+    private ErrorCode errorCode;
+    private String registered;
+    private String unregistered;
+
+    @Setup
+    public void setup() {
+        errorCode = ErrorCode.RATE_LIMITED;
+        registered = "registered";
+        unregistered = "unregistered";
+        SharedErrors.register(registered);
+    }
+
+    @Benchmark
+    public Result<String, ErrorCode> resultErrorEnum() {
+        return Result.error(errorCode);
+    }
+
+    @Benchmark
+    public Result<String, ErrorCode> resultSharedErrorEnum() {
+        return Result.sharedError(errorCode);
+    }
+
+    @Benchmark
+    public VoidResult<ErrorCode> voidResultSharedErrorEnum() {
+        return VoidResult.sharedError(errorCode);
+    }
+
+    @Benchmark
+    public Result<String, String> resultSharedErrorRegistered() {
+        return Result.sharedError(registered);
+    }
+
+    @Benchmark
+    public Result<String, String> resultSharedErrorUnregistered() {
+        return Result.sharedError(unregistered);
+    }
+}
@@ -0,0 +1,76 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.Result;
+import no.gorandalum.fluentresult.SingleFlight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sixteen threads loading the same hot key from a backend which answers in
+ * {@code latencyMicros} and serves at most {@code backendConcurrency} loads
+ * at a time. {@code direct} calls the backend for every load,
+ * {@code singleFlight} lets concurrent loads of the key share one backend
+ * call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class SingleFlightBenchmark {
+
+    @Param({"1000"})
+    public int latencyMicros;
+
+    @Param({"4"})
+    public int backendConcurrency;
+
+    private Semaphore backend;
+    private SingleFlight<String, String, String> flight;
+
+    @Setup
+    public void setup() {
+        backend = new Semaphore(backendConcurrency);
+        flight = SingleFlight.of(this::fetch);
+    }
+
+    @Benchmark
+    public Result<String, String> direct() {
+        return fetch("Key");
+    }
+
+    @Benchmark
+    public Result<String, String> singleFlight() {
+        return flight.load("Key");
+    }
+
+    private Result<String, String> fetch(String key) {
+        try {
+            backend.acquire();
+            try {
+                TimeUnit.MICROSECONDS.sleep(latencyMicros);
+            } finally {
+                backend.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.error("Interrupted");
+        }
+        return Result.success(key);
+    }
+}
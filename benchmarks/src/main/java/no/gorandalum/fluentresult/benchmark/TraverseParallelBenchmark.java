@@ -0,0 +1,84 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Result.traverse} against {@code Result.traverseParallel} over 100 000
+ * items, with a validation function burning a fixed amount of CPU per item.
+ * The {@code parallelism} parameter sets the size of the {@code ForkJoinPool},
+ * so the scaling across core counts can be read from a single run. With
+ * {@code errorAt} set to {@code -1} all items are valid, otherwise the item at
+ * that index is invalid.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TraverseParallelBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param({"-1", "50000"})
+    public int errorAt;
+
+    @Param({"0"})
+    public int threshold;
+
+    private List<Integer> items;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(i);
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private Result<Integer, String> validate(Integer item) {
+        Blackhole.consumeCPU(50);
+        return item == errorAt ? Result.error("Invalid " + item) : Result.success(item);
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> traverse() {
+        return Result.traverse(items, this::validate);
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> traverseParallel() {
+        return threshold > 0 ?
+                Result.traverseParallel(items, this::validate, pool, threshold) :
+                Result.traverseParallel(items, this::validate, pool);
+    }
+}
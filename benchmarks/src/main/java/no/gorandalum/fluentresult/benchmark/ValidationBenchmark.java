@@ -0,0 +1,70 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.Result;
+import no.gorandalum.fluentresult.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collecting every failing check of a form. {@code resultPerCheck} is the
+ * workaround with {@code Result}, running each check as its own chain and
+ * gathering the errors in a list, {@code validation} accumulates them in a
+ * single {@code Validation} chain and {@code validationCombine} merges
+ * independent field validations. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm} for the valid and invalid input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    @Param({"Jane Doe", "x"})
+    public String name;
+
+    @Benchmark
+    public List<String> resultPerCheck() {
+        Result<String, String> result = Result.success(name);
+        List<String> errors = new ArrayList<>();
+        result.verify(val -> val.length() > 2, () -> "Too short").consumeError(errors::add);
+        result.verify(val -> val.length() < 40, () -> "Too long").consumeError(errors::add);
+        result.verify(val -> val.indexOf(' ') > 0, () -> "No surname").consumeError(errors::add);
+        result.verify(val -> Character.isUpperCase(val.charAt(0)), () -> "Not capitalized").consumeError(errors::add);
+        return errors;
+    }
+
+    @Benchmark
+    public List<String> validation() {
+        return Validation.<String, String>valid(name)
+                .verify(val -> val.length() > 2, () -> "Too short")
+                .verify(val -> val.length() < 40, () -> "Too long")
+                .verify(val -> val.indexOf(' ') > 0, () -> "No surname")
+                .verify(val -> Character.isUpperCase(val.charAt(0)), () -> "Not capitalized")
+                .errors();
+    }
+
+    @Benchmark
+    public Validation<String, String> validationCombine() {
+        Validation<String, String> length = Validation.<String, String>valid(name)
+                .verify(val -> val.length() > 2, () -> "Too short")
+                .verify(val -> val.length() < 40, () -> "Too long");
+        Validation<String, String> form = Validation.<String, String>valid(name)
+                .verify(val -> val.indexOf(' ') > 0, () -> "No surname")
+                .verify(val -> Character.isUpperCase(val.charAt(0)), () -> "Not capitalized");
+        return length.combine(form, (a, b) -> a);
+    }
+}
@@ -0,0 +1,82 @@
+package no.gorandalum.fluentresult.benchmark;
+
+import no.gorandalum.fluentresult.OptionalResult;
+import no.gorandalum.fluentresult.Result;
+import no.gorandalum.fluentresult.VoidResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@code VoidResult} combinators, measured on both the success
+ * path and the error path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VoidResultBenchmark {
+
+    @Param({"success", "error"})
+    public String state;
+
+    private VoidResult<String> result;
+
+    @Setup
+    public void setup() {
+        result = "success".equals(state) ? VoidResult.success() : VoidResult.error("error");
+    }
+
+    @Benchmark
+    public VoidResult<Integer> mapError() {
+        return result.mapError(String::length);
+    }
+
+    @Benchmark
+    public Result<String, String> replace() {
+        return result.replace(() -> "value");
+    }
+
+    @Benchmark
+    public Result<String, String> flatReplace() {
+        return result.flatReplace(() -> Result.success("value"));
+    }
+
+    @Benchmark
+    public VoidResult<String> flatRunIfSuccess() {
+        return result.flatRunIfSuccess(VoidResult::success);
+    }
+
+    @Benchmark
+    public VoidResult<String> runIfError(Blackhole blackhole) {
+        return result.runIfError(() -> blackhole.consume(1));
+    }
+
+    @Benchmark
+    public VoidResult<String> recover() {
+        return result.recover();
+    }
+
+    @Benchmark
+    public Integer fold() {
+        return result.fold(() -> 1, err -> -1);
+    }
+
+    @Benchmark
+    public OptionalResult<String, String> toOptionalResult() {
+        return result.toOptionalResult();
+    }
+}
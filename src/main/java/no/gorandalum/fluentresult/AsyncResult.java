@@ -0,0 +1,345 @@
+package no.gorandalum.fluentresult;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * An asynchronous result which, when completed, holds a {@code Result} in
+ * either success state or error state. The combinators mirror those of
+ * {@link Result}, and are applied when the {@code Result} is available
+ * without blocking the calling thread.
+ * <p>
+ * The functions given to the combinators are run by the thread completing
+ * the previous step, or by the calling thread if the previous step already
+ * is completed. If a function throws an exception, the returned
+ * {@code AsyncResult} completes exceptionally with that exception, and
+ * {@link #join()} throws it wrapped in a {@code CompletionException}.
+ * <p>
+ * A variable whose type is {@code AsyncResult} should never itself be
+ * {@code null}, it should always point to an {@code AsyncResult} instance.
+ *
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ */
+public final class AsyncResult<T, E> {
+
+    private final CompletableFuture<Result<T, E>> future;
+
+    private AsyncResult(CompletableFuture<Result<T, E>> future) {
+        this.future = future;
+    }
+
+    /**
+     * Returns a completed {@code AsyncResult} holding a {@code Result} in
+     * success state containing the given non-{@code null} value as success
+     * value.
+     *
+     * @param value the success value, which must be non-{@code null}
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return a completed {@code AsyncResult} in success state containing the
+     * given success value
+     * @throws NullPointerException if given success value is {@code null}
+     */
+    public static <T, E> AsyncResult<T, E> success(T value) {
+        return of(Result.success(value));
+    }
+
+    /**
+     * Returns a completed {@code AsyncResult} holding a {@code Result} in
+     * error state containing the given non-{@code null} value as error value.
+     *
+     * @param value the error value, which must be non-{@code null}
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return a completed {@code AsyncResult} in error state containing the
+     * given error value
+     * @throws NullPointerException if given error value is {@code null}
+     */
+    public static <T, E> AsyncResult<T, E> error(E value) {
+        return of(Result.error(value));
+    }
+
+    /**
+     * Returns a completed {@code AsyncResult} holding the given
+     * {@code Result}.
+     *
+     * @param result the {@code Result}, which must be non-{@code null}
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return a completed {@code AsyncResult} holding the given {@code Result}
+     * @throws NullPointerException if given {@code Result} is {@code null}
+     */
+    public static <T, E> AsyncResult<T, E> of(Result<T, E> result) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(Objects.requireNonNull(result)));
+    }
+
+    /**
+     * Returns an {@code AsyncResult} holding the {@code Result} the given
+     * {@code CompletionStage} completes with. If the stage completes with
+     * {@code null}, the {@code AsyncResult} completes exceptionally with a
+     * {@code NullPointerException}. If the stage completes exceptionally, so
+     * does the {@code AsyncResult}.
+     *
+     * @param stage the {@code CompletionStage} providing the {@code Result}
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return an {@code AsyncResult} holding the {@code Result} of the given
+     * stage
+     * @throws NullPointerException if given stage is {@code null}
+     */
+    public static <T, E> AsyncResult<T, E> fromCompletionStage(
+            CompletionStage<? extends Result<T, E>> stage) {
+        Objects.requireNonNull(stage);
+        return new AsyncResult<>(stage.<Result<T, E>>thenApply(Objects::requireNonNull)
+                .toCompletableFuture());
+    }
+
+    /**
+     * Handle the given {@code Callable} asynchronously by running it with the
+     * given {@code Executor}. If the {@code Callable} executes successfully,
+     * the {@code AsyncResult} will be in success state containing the returned
+     * value. If the {@code Callable} throws an exception, the
+     * {@code AsyncResult} will be in error state containing the thrown
+     * exception. If the {@code Callable} returns {@code null}, the
+     * {@code AsyncResult} completes exceptionally with a
+     * {@code NullPointerException}.
+     *
+     * @param callable the {@code Callable} to handle
+     * @param executor the {@code Executor} running the {@code Callable}
+     * @param <T> type of the return value of the {@code Callable}
+     * @return an {@code AsyncResult} either in success state containing the
+     * value from the {@code Callable}, or in error state containing the
+     * exception thrown by the {@code Callable}
+     * @throws NullPointerException if the given callable or executor is
+     * {@code null}
+     */
+    public static <T> AsyncResult<T, Exception> handle(Callable<T> callable,
+                                                       Executor executor) {
+        Objects.requireNonNull(callable);
+        Objects.requireNonNull(executor);
+        return new AsyncResult<>(CompletableFuture.supplyAsync(() -> Result.handle(callable), executor));
+    }
+
+    /**
+     * Handle the given {@code Callable} asynchronously by running it with the
+     * given {@code Executor}. If the {@code Callable} executes successfully,
+     * the {@code AsyncResult} will be in success state containing the returned
+     * value. If the {@code Callable} throws an exception, the
+     * {@code AsyncResult} will be in error state containing the result after
+     * mapping the exception with the given exception mapper function. If the
+     * {@code Callable} or the exception mapper function returns {@code null},
+     * the {@code AsyncResult} completes exceptionally with a
+     * {@code NullPointerException}.
+     *
+     * @param callable the {@code Callable} to handle
+     * @param exceptionMapper the function mapping a thrown exception to the
+     * error value
+     * @param executor the {@code Executor} running the {@code Callable}
+     * @param <T> type of the return value of the {@code Callable}
+     * @param <E> type of the error value after mapping a thrown exception
+     * @return an {@code AsyncResult} either in success state containing the
+     * value from the {@code Callable}, or in error state containing the result
+     * after mapping the exception thrown by the {@code Callable}
+     * @throws NullPointerException if the given callable, exception mapper
+     * function or executor is {@code null}
+     */
+    public static <T, E> AsyncResult<T, E> handle(Callable<T> callable,
+                                                  Function<Exception, E> exceptionMapper,
+                                                  Executor executor) {
+        Objects.requireNonNull(callable);
+        Objects.requireNonNull(exceptionMapper);
+        Objects.requireNonNull(executor);
+        return new AsyncResult<>(CompletableFuture.supplyAsync(
+                () -> Result.handle(callable, exceptionMapper), executor));
+    }
+
+    /**
+     * Returns an {@code AsyncResult} which, if this {@code AsyncResult}
+     * completes in success state, contains the result of applying the given
+     * mapping function to the success value, otherwise the unaltered error
+     * value.
+     *
+     * @param function the mapping function to apply to the success value, if
+     * success state
+     * @param <N> the type of the value returned from the mapping function
+     * @return an {@code AsyncResult} containing the result of applying the
+     * mapping function to the success value, if success state, otherwise the
+     * error value of this {@code AsyncResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     * @see Result#map(Function)
+     */
+    public <N> AsyncResult<N, E> map(Function<? super T, ? extends N> function) {
+        Objects.requireNonNull(function);
+        return new AsyncResult<>(future.thenApply(res -> res.map(function)));
+    }
+
+    /**
+     * Returns an {@code AsyncResult} which, if this {@code AsyncResult}
+     * completes in success state, completes with the {@code AsyncResult}
+     * returned from applying the given function to the success value,
+     * otherwise with the unaltered error value. The function is not applied
+     * if in error state.
+     *
+     * @param function the function to apply to the success value, if success
+     * state
+     * @param <N> the type of success value which may be present in the
+     * {@code AsyncResult} returned by the function
+     * @return an {@code AsyncResult} completing with the {@code AsyncResult}
+     * returned from the function, if success state, otherwise with the error
+     * value of this {@code AsyncResult}
+     * @throws NullPointerException if the given function is {@code null}
+     * @see Result#flatMap(Function)
+     */
+    public <N> AsyncResult<N, E> flatMap(
+            Function<? super T, ? extends AsyncResult<? extends N, ? extends E>> function) {
+        Objects.requireNonNull(function);
+        return new AsyncResult<>(future.thenCompose(res -> flatMap(res, function)));
+    }
+
+    private static <T, E, N> CompletableFuture<Result<N, E>> flatMap(
+            Result<T, E> result,
+            Function<? super T, ? extends AsyncResult<? extends N, ? extends E>> function) {
+        if (!result.isSuccess()) {
+            @SuppressWarnings("unchecked")
+            Result<N, E> error = (Result<N, E>) (Result<?, ?>) result;
+            return CompletableFuture.completedFuture(error);
+        }
+        AsyncResult<? extends N, ? extends E> next = Objects.requireNonNull(function.apply(result.value()));
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Result<N, E>> nextFuture = (CompletableFuture<Result<N, E>>) (CompletableFuture<?>) next.future;
+        return nextFuture;
+    }
+
+    /**
+     * Returns an {@code AsyncResult} which, if this {@code AsyncResult}
+     * completes in error state, contains the result of applying the given
+     * mapping function to the error value, otherwise the unaltered success
+     * value.
+     *
+     * @param function the mapping function to apply to the error value, if
+     * error state
+     * @param <N> the type of the value returned from the mapping function
+     * @return an {@code AsyncResult} containing the result of applying the
+     * mapping function to the error value, if error state, otherwise the
+     * success value of this {@code AsyncResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     * @see Result#mapError(Function)
+     */
+    public <N> AsyncResult<T, N> mapError(Function<? super E, ? extends N> function) {
+        Objects.requireNonNull(function);
+        return new AsyncResult<>(future.thenApply(res -> res.mapError(function)));
+    }
+
+    /**
+     * Returns an {@code AsyncResult} which, if this {@code AsyncResult}
+     * completes in error state, is in success state containing the result of
+     * applying the given function to the error value, otherwise the unaltered
+     * success value.
+     *
+     * @param function the function to apply to the error value, if error state
+     * @return an {@code AsyncResult} in success state containing either the
+     * success value of this {@code AsyncResult} or the value recovered from
+     * the error value
+     * @throws NullPointerException if the given function is {@code null}
+     * @see Result#recover(Function)
+     */
+    public AsyncResult<T, E> recover(Function<E, T> function) {
+        Objects.requireNonNull(function);
+        return new AsyncResult<>(future.thenApply(res -> res.recover(function)));
+    }
+
+    /**
+     * Returns an {@code AsyncResult} which, if this {@code AsyncResult}
+     * completes in success state, verifies the success value by testing it
+     * with the given predicate. If the predicate evaluates to false, the
+     * returned {@code AsyncResult} is in error state containing the error
+     * value provided by the given error supplier.
+     *
+     * @param predicate the predicate used to verify the success value, if
+     * success state
+     * @param errorSupplier supplier providing the error if predicate evaluates
+     * to false
+     * @return an {@code AsyncResult} with the result of verifying this
+     * {@code AsyncResult}
+     * @throws NullPointerException if the given predicate or error supplier is
+     * {@code null}
+     * @see Result#verify(Predicate, Supplier)
+     */
+    public AsyncResult<T, E> verify(Predicate<? super T> predicate,
+                                    Supplier<? extends E> errorSupplier) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(errorSupplier);
+        return new AsyncResult<>(future.thenApply(res -> res.verify(predicate, errorSupplier)));
+    }
+
+    /**
+     * Returns an {@code AsyncResult} which, if this {@code AsyncResult}
+     * completes in success state, verifies the success value by mapping it to
+     * a {@code VoidResult}. If the returned {@code VoidResult} is in error
+     * state, the returned {@code AsyncResult} is in error state containing its
+     * error value.
+     *
+     * @param function the function applied to the success value, if success
+     * state
+     * @return an {@code AsyncResult} with the result of verifying this
+     * {@code AsyncResult}
+     * @throws NullPointerException if the given function is {@code null}
+     * @see Result#verify(Function)
+     */
+    public AsyncResult<T, E> verify(Function<? super T, ? extends VoidResult<? extends E>> function) {
+        Objects.requireNonNull(function);
+        return new AsyncResult<>(future.thenApply(res -> res.verify(function)));
+    }
+
+    /**
+     * Returns an {@code AsyncResult} which, if this {@code AsyncResult}
+     * completes in success state, passes the success value to the given
+     * consumer before completing with the same {@code Result}.
+     *
+     * @param consumer the consumer of the success value, if success state
+     * @return an {@code AsyncResult} completing with the same {@code Result}
+     * after the consumer has been run
+     * @throws NullPointerException if the given consumer is {@code null}
+     * @see Result#consume(Consumer)
+     */
+    public AsyncResult<T, E> consume(Consumer<? super T> consumer) {
+        Objects.requireNonNull(consumer);
+        return new AsyncResult<>(future.thenApply(res -> res.consume(consumer)));
+    }
+
+    /**
+     * Returns a new {@code CompletableFuture} completing with the
+     * {@code Result} of this {@code AsyncResult}. Completing the returned
+     * future does not affect this {@code AsyncResult}.
+     *
+     * @return a {@code CompletableFuture} completing with the {@code Result}
+     */
+    public CompletableFuture<Result<T, E>> toCompletableFuture() {
+        return future.thenApply(Function.identity());
+    }
+
+    /**
+     * Waits if necessary for this {@code AsyncResult} to complete, and returns
+     * its {@code Result}.
+     *
+     * @return the {@code Result} of this {@code AsyncResult}
+     * @throws CompletionException if a function or {@code Callable} of this
+     * {@code AsyncResult} threw an unhandled exception
+     * @throws java.util.concurrent.CancellationException if the underlying
+     * computation was cancelled
+     */
+    public Result<T, E> join() {
+        return future.join();
+    }
+}
@@ -1,62 +1,42 @@
 package no.gorandalum.fluentresult;
 
 import java.util.Objects;
-import java.util.Optional;
 
+/**
+ * Common base of the result classes. Each result class has one concrete
+ * subclass for success state and one for error state, so an instance only
+ * holds the payload of its own state.
+ */
 abstract class BaseResult<T, E> {
 
-    private final T value;
-    private final E error;
-    private final Class clazz;
-
-    BaseResult(T value, E error, Class clazz) {
-        this.value = value;
-        this.error = error;
-        this.clazz = clazz;
+    BaseResult() {
     }
 
-    T value() {
-        return value;
-    }
+    abstract T value();
 
-    Optional<T> valueOpt() {
-        return Optional.ofNullable(value);
-    }
+    abstract E error();
 
-    E error() {
-        return error;
-    }
-
-    Optional<E> errorOpt() {
-        return Optional.ofNullable(error);
-    }
-
-    boolean isSuccess() {
-        return error == null;
-    }
+    abstract boolean isSuccess();
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (!(o instanceof BaseResult)) return false;
+        if (o == null || getClass() != o.getClass()) return false;
         BaseResult<?, ?> that = (BaseResult<?, ?>) o;
-        return Objects.equals(value, that.value) &&
-                Objects.equals(error, that.error) &&
-                Objects.equals(clazz, that.clazz);
+        return Objects.equals(value(), that.value()) &&
+                Objects.equals(error(), that.error());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value, error, clazz);
+        return Objects.hash(value(), error(), getClass());
     }
 
     @Override
     public String toString() {
-        return errorOpt()
-                .map(err -> String.format(
-                        "%s[%s: %s]", clazz.getSimpleName(), "Error", err))
-                .orElseGet(() -> String.format(
-                        "%s[%s: %s]", clazz.getSimpleName(), "Value", value));
+        String name = getClass().getSuperclass().getSimpleName();
+        return isSuccess() ?
+                String.format("%s[%s: %s]", name, "Value", value()) :
+                String.format("%s[%s: %s]", name, "Error", error());
     }
 }
-
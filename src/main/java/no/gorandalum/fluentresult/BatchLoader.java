@@ -0,0 +1,335 @@
+package no.gorandalum.fluentresult;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * A loader collecting the keys of single lookups into batches, and loading
+ * each batch with one call to a bulk function. A batch is loaded when it
+ * holds the maximum number of keys, or when the batch window has passed
+ * since its first key was added, whichever comes first. Loading the same
+ * key more than once in a batch adds it to the bulk call once.
+ * <p>
+ * The bulk function returns a {@code Result} containing a map from the
+ * found keys to their values. Each lookup gets an {@code OptionalResult} in
+ * success state containing the value of its key, or an empty
+ * {@code OptionalResult} if the map has no value for the key. If the bulk
+ * function returns a {@code Result} in error state, every lookup of the
+ * batch gets an {@code OptionalResult} in error state containing the error
+ * value, shared by all the lookups. If the bulk function throws an
+ * exception, every lookup of the batch completes with that exception.
+ * <p>
+ * A batch filled up by {@link #load(Object)} is loaded on the thread of that
+ * lookup, as it waits for the batch anyway. A batch filled up by
+ * {@link #loadAsync(Object)}, or whose window has passed, is loaded on the
+ * executor of the loader, which by default runs each batch on a new virtual
+ * thread when available, otherwise on the shared pool of daemon platform
+ * threads also running {@code Result.handleAll}. A lookup waiting on a thread
+ * of that pool loads its batch itself if no thread of the pool has started
+ * it when the window passes, so lookups nested in {@code handleAll} can not
+ * deadlock the pool.
+ * <p>
+ * A loader holds the batch being collected, and is meant to be configured
+ * once and shared by all the lookups to batch together. Each of the
+ * configuring methods returns a new loader with no batch in progress.
+ * <p>
+ * A variable whose type is {@code BatchLoader} should never itself be
+ * {@code null}, it should always point to a {@code BatchLoader} instance.
+ *
+ * @param <K> the type of the keys
+ * @param <T> the type of the values
+ * @param <E> the type of the error value
+ */
+public final class BatchLoader<K, T, E> {
+
+    static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    static final Duration DEFAULT_WINDOW = Duration.ofMillis(1);
+
+    private final Function<? super Set<K>, ? extends Result<? extends Map<K, ? extends T>, ? extends E>> bulkFunction;
+    private final int maxBatchSize;
+    private final Duration window;
+    private final Executor executor;
+
+    private Batch<K, T, E> current;
+
+    private BatchLoader(
+            Function<? super Set<K>, ? extends Result<? extends Map<K, ? extends T>, ? extends E>> bulkFunction,
+            int maxBatchSize,
+            Duration window,
+            Executor executor) {
+        this.bulkFunction = bulkFunction;
+        this.maxBatchSize = maxBatchSize;
+        this.window = window;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns a {@code BatchLoader} loading batches of keys with the given
+     * bulk function. The loader collects at most 100 keys in a batch, within
+     * a window of 1 millisecond.
+     *
+     * @param bulkFunction the function loading the values of a set of keys
+     * @param <K> the type of the keys
+     * @param <T> the type of the values
+     * @param <E> the type of the error value
+     * @return a {@code BatchLoader} calling the given bulk function
+     * @throws NullPointerException if the given bulk function is {@code null}
+     */
+    public static <K, T, E> BatchLoader<K, T, E> of(
+            Function<? super Set<K>, ? extends Result<? extends Map<K, ? extends T>, ? extends E>> bulkFunction) {
+        Objects.requireNonNull(bulkFunction);
+        return new BatchLoader<>(bulkFunction, DEFAULT_MAX_BATCH_SIZE, DEFAULT_WINDOW, BulkHandle.defaultExecutor());
+    }
+
+    /**
+     * Returns a new {@code BatchLoader} like this one, loading a batch as soon
+     * as it holds the given number of distinct keys.
+     *
+     * @param maxBatchSize the maximum number of keys in a batch
+     * @return a new {@code BatchLoader} with the given maximum batch size
+     * @throws IllegalArgumentException if the given batch size is not
+     * positive
+     */
+    public BatchLoader<K, T, E> withMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be positive, was " + maxBatchSize);
+        }
+        return new BatchLoader<>(bulkFunction, maxBatchSize, window, executor);
+    }
+
+    /**
+     * Returns a new {@code BatchLoader} like this one, loading a batch when
+     * the given window has passed since its first key was added, unless it is
+     * already full.
+     *
+     * @param window the time to collect keys for a batch
+     * @return a new {@code BatchLoader} with the given batch window
+     * @throws NullPointerException if the given window is {@code null}
+     * @throws IllegalArgumentException if the given window is not positive
+     */
+    public BatchLoader<K, T, E> withWindow(Duration window) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Window must be positive, was " + window);
+        }
+        return new BatchLoader<>(bulkFunction, maxBatchSize, window, executor);
+    }
+
+    /**
+     * Returns a new {@code BatchLoader} like this one, loading the batches
+     * whose window has passed, or filled up by {@link #loadAsync(Object)}, on
+     * the given {@code Executor}.
+     *
+     * @param executor the {@code Executor} to load the batches on
+     * @return a new {@code BatchLoader} with the given executor
+     * @throws NullPointerException if the given executor is {@code null}
+     */
+    public BatchLoader<K, T, E> withExecutor(Executor executor) {
+        Objects.requireNonNull(executor);
+        return new BatchLoader<>(bulkFunction, maxBatchSize, window, executor);
+    }
+
+    /**
+     * Looks up the given key in the next batch, and waits for the batch to be
+     * loaded.
+     *
+     * @param key the key to look up, which must be non-{@code null}
+     * @return an {@code OptionalResult} either in success state containing the
+     * value of the key if found, in empty success state if not found, or in
+     * error state containing the error value of the bulk function
+     * @throws NullPointerException if the given key is {@code null}, or the
+     * bulk function returns {@code null}
+     */
+    public OptionalResult<T, E> load(K key) {
+        try {
+            return add(key, false).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Looks up the given key in the next batch, without waiting for the batch
+     * to be loaded. A batch filled up by the key is handed to the executor of
+     * the loader. If the bulk function throws an exception, or returns
+     * {@code null}, or the executor rejects the batch, the returned
+     * {@code CompletableFuture} completes exceptionally.
+     *
+     * @param key the key to look up, which must be non-{@code null}
+     * @return a {@code CompletableFuture} completing with an
+     * {@code OptionalResult} either in success state containing the value of
+     * the key if found, in empty success state if not found, or in error state
+     * containing the error value of the bulk function
+     * @throws NullPointerException if the given key is {@code null}
+     */
+    public CompletableFuture<OptionalResult<T, E>> loadAsync(K key) {
+        return add(key, true).thenApply(Function.identity());
+    }
+
+    /**
+     * Adds the key to the current batch. A batch filled up by the key is
+     * loaded on the calling thread, or handed to the executor if
+     * {@code async}. A lookup which is not {@code async}, made on a thread of
+     * the fallback pool, waits for the window of its batch to pass, and loads
+     * the batch if no other thread has started it.
+     */
+    private CompletableFuture<OptionalResult<T, E>> add(K key, boolean async) {
+        Objects.requireNonNull(key);
+        Batch<K, T, E> batch;
+        boolean started;
+        boolean full = false;
+        CompletableFuture<OptionalResult<T, E>> lookup;
+        synchronized (this) {
+            started = current == null;
+            if (started) {
+                current = new Batch<>();
+            }
+            batch = current;
+            lookup = batch.lookups.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (batch.lookups.size() >= maxBatchSize) {
+                full = true;
+                current = null;
+            }
+        }
+        if (full) {
+            batch.close();
+            if (async) {
+                execute(batch);
+            } else {
+                loadIfUnclaimed(batch);
+            }
+        } else {
+            if (started) {
+                batch.scheduleWindow(this);
+            }
+            if (!async && BulkHandle.onPoolThread() && batch.awaitClosed()) {
+                loadIfUnclaimed(batch);
+            }
+        }
+        return lookup;
+    }
+
+    private long windowNanos() {
+        try {
+            return window.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private void windowPassed(Batch<K, T, E> batch) {
+        synchronized (this) {
+            if (current != batch) {
+                return;
+            }
+            current = null;
+        }
+        batch.close();
+        execute(batch);
+    }
+
+    private void execute(Batch<K, T, E> batch) {
+        try {
+            executor.execute(() -> loadIfUnclaimed(batch));
+        } catch (RuntimeException e) {
+            batch.lookups.values().forEach(lookup -> lookup.completeExceptionally(e));
+        }
+    }
+
+    private void loadIfUnclaimed(Batch<K, T, E> batch) {
+        if (batch.claim()) {
+            load(batch);
+        }
+    }
+
+    private void load(Batch<K, T, E> batch) {
+        Map<K, CompletableFuture<OptionalResult<T, E>>> lookups = batch.lookups;
+        Result<? extends Map<K, ? extends T>, ? extends E> result;
+        try {
+            result = Objects.requireNonNull(bulkFunction.apply(Collections.unmodifiableSet(lookups.keySet())));
+        } catch (RuntimeException | Error e) {
+            lookups.values().forEach(lookup -> lookup.completeExceptionally(e));
+            return;
+        }
+        if (!result.isSuccess()) {
+            OptionalResult<T, E> error = OptionalResult.error(result.error());
+            lookups.values().forEach(lookup -> lookup.complete(error));
+            return;
+        }
+        Map<K, ? extends T> values = result.value();
+        lookups.forEach((key, lookup) -> lookup.complete(OptionalResult.successNullable(values.get(key))));
+    }
+
+    /**
+     * The keys of a batch and the lookups waiting for them. The keys are only
+     * added while the batch is the current batch of the loader, guarded by
+     * the loader, and only read once the batch is closed. A closed batch is
+     * loaded once, by the first thread claiming it.
+     */
+    private static final class Batch<K, T, E> {
+
+        final Map<K, CompletableFuture<OptionalResult<T, E>>> lookups = new LinkedHashMap<>();
+
+        private ScheduledFuture<?> timer;
+        private boolean closed;
+        private boolean claimed;
+
+        synchronized void scheduleWindow(BatchLoader<K, T, E> loader) {
+            if (!closed) {
+                timer = Scheduler.shared().schedule(
+                        () -> loader.windowPassed(this), loader.windowNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        /**
+         * Marks the batch as no longer current, cancelling its window.
+         */
+        synchronized void close() {
+            closed = true;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            notifyAll();
+        }
+
+        /**
+         * Waits for the batch to be closed, returning {@code false} if the
+         * calling thread is interrupted first, with its interrupt status set.
+         */
+        synchronized boolean awaitClosed() {
+            while (!closed) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        synchronized boolean claim() {
+            if (claimed) {
+                return false;
+            }
+            claimed = true;
+            return true;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package no.gorandalum.fluentresult;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
@@ -7,6 +9,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
 
 /**
  * A result object which either is in success state containing a
@@ -19,22 +22,27 @@ import java.util.function.Supplier;
  * @param <E> the type of the error value
  */
 @SuppressWarnings("WeakerAccess")
-public final class BooleanResult<E> extends BaseResult<Boolean, E> {
+public abstract class BooleanResult<E> extends BaseResult<Boolean, E> {
 
     /**
      * Common instance for true {@code BooleanResult}.
      */
     private static final BooleanResult<?> RESULT_TRUE =
-            new BooleanResult<>(true, null);
+            new Success<>(true);
 
     /**
      * Common instance for false {@code BooleanResult}.
      */
     private static final BooleanResult<?> RESULT_FALSE =
-            new BooleanResult<>(false, null);
+            new Success<>(false);
 
-    private BooleanResult(Boolean value, E error) {
-        super(value, error, BooleanResult.class);
+    /**
+     * Shared error instances for enum constants and registered error values.
+     */
+    private static final ErrorCache<BooleanResult<?>> ERROR_CACHE =
+            new ErrorCache<>(Failure::new);
+
+    private BooleanResult() {
     }
 
     /**
@@ -92,7 +100,25 @@ public final class BooleanResult<E> extends BaseResult<Boolean, E> {
      * @throws NullPointerException if given error value is {@code null}
      */
     public static <E> BooleanResult<E> error(E value) {
-        return new BooleanResult<>(null, Objects.requireNonNull(value));
+        return new Failure<>(Objects.requireNonNull(value));
+    }
+
+    /**
+     * Returns a {@code BooleanResult} in error state containing the given
+     * non-{@code null} value as error value. If the error value is an enum
+     * constant or registered with {@link SharedErrors#register(Object)}, a
+     * shared instance is returned instead of a new one.
+     *
+     * @param value the error value, which must be non-{@code null}
+     * @param <E> the type of the error value
+     * @return a {@code BooleanResult} in error state containing the given error
+     * value
+     * @throws NullPointerException if given error value is {@code null}
+     */
+    public static <E> BooleanResult<E> sharedError(E value) {
+        @SuppressWarnings("unchecked")
+        BooleanResult<E> res = (BooleanResult<E>) ERROR_CACHE.get(value);
+        return res;
     }
 
     /**
@@ -728,9 +754,9 @@ public final class BooleanResult<E> extends BaseResult<Boolean, E> {
      * containing the error value from this {@code BooleanResult}
      */
     public OptionalResult<Boolean, E> toOptionalResult() {
-        return errorOpt()
-                .map(OptionalResult::<Boolean, E>error)
-                .orElseGet(() -> OptionalResult.success(value()));
+        return isSuccess() ?
+                OptionalResult.successBoolean(value()) :
+                OptionalResult.error(error());
     }
 
     /**
@@ -743,9 +769,7 @@ public final class BooleanResult<E> extends BaseResult<Boolean, E> {
      * containing the error value from this {@code BooleanResult}
      */
     public VoidResult<E> toVoidResult() {
-        return errorOpt()
-                .map(VoidResult::error)
-                .orElseGet(VoidResult::success);
+        return isSuccess() ? VoidResult.success() : VoidResult.error(error());
     }
 
     /**
@@ -795,5 +819,142 @@ public final class BooleanResult<E> extends BaseResult<Boolean, E> {
         Objects.requireNonNull(exceptionMapper);
         return handle(callable).mapError(exceptionMapper);
     }
-}
 
+    /**
+     * Transforms the given boolean results to a {@code Result} containing a
+     * list of their boolean success values. If all the boolean results are in
+     * success state, the returned {@code Result} will be in success state
+     * containing the boolean success values in iteration order. Otherwise the
+     * returned {@code Result} will be in error state containing the error value
+     * of the first boolean result in error state, and the remaining boolean
+     * results will not be iterated.
+     *
+     * @param results the boolean results to transform
+     * @param <E> the type of the error value
+     * @return a {@code Result} either in success state containing the
+     * unmodifiable list of boolean success values, or in error state containing
+     * the first error value
+     * @throws NullPointerException if the given boolean results or any of the
+     * iterated boolean results are {@code null}
+     */
+    public static <E> Result<List<Boolean>, E> sequence(
+            Iterable<? extends BooleanResult<? extends E>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Applies the given function to each of the given items and transforms
+     * the returned boolean results to a {@code Result} containing a list of
+     * their boolean success values. If all the boolean results are in success
+     * state, the returned {@code Result} will be in success state containing
+     * the boolean success values in iteration order. Otherwise the returned
+     * {@code Result} will be in error state containing the error value of the
+     * first boolean result in error state, and the function will not be
+     * applied to the remaining items.
+     *
+     * @param items the items to apply the function to
+     * @param function the function to apply to each item
+     * @param <A> the type of the items
+     * @param <E> the type of the error value
+     * @return a {@code Result} either in success state containing the
+     * unmodifiable list of boolean success values, or in error state containing
+     * the first error value
+     * @throws NullPointerException if the given items or function are
+     * {@code null}, or if the function returns {@code null}
+     */
+    public static <A, E> Result<List<Boolean>, E> traverse(
+            Iterable<? extends A> items,
+            Function<? super A, ? extends BooleanResult<? extends E>> function) {
+        Objects.requireNonNull(function);
+        List<Boolean> values = Sequences.newList(items);
+        for (A item : items) {
+            BooleanResult<? extends E> result = Objects.requireNonNull(function.apply(item));
+            if (!result.isSuccess()) {
+                return Result.error(result.error());
+            }
+            values.add(result.value());
+        }
+        return Result.success(Collections.unmodifiableList(values));
+    }
+
+    /**
+     * Returns a {@code Collector} transforming a stream of boolean results to a
+     * {@code Result} containing an unmodifiable list of their boolean success
+     * values. If all the boolean results are in success state, the
+     * {@code Result} will be in success state containing the boolean success
+     * values in encounter order. Otherwise the {@code Result} will be in error
+     * state containing the error value of the first boolean result in error
+     * state, in encounter order also for parallel streams.
+     * <p>
+     * A collector can not stop the stream, so success values after the first
+     * error are discarded as they are consumed. Use
+     * {@link #sequence(Iterable)} with {@code stream::iterator} to stop
+     * consuming at the first error.
+     *
+     * @param <E> the type of the error value
+     * @return a {@code Collector} collecting boolean results to a
+     * {@code Result} containing a list of boolean success values or the first
+     * error value
+     */
+    public static <E> Collector<BooleanResult<? extends E>, ?, Result<List<Boolean>, E>> sequenceCollector() {
+        return Collector.<BooleanResult<? extends E>, Sequences.Accumulator<Boolean, E>, Result<List<Boolean>, E>>of(
+                Sequences.Accumulator::new,
+                (acc, result) -> {
+                    if (result.isSuccess()) {
+                        acc.add(result.value());
+                    } else {
+                        acc.fail(result.error());
+                    }
+                },
+                Sequences.Accumulator::combine,
+                acc -> acc.finish(Result::success, Result::error));
+    }
+
+    private static final class Success<E> extends BooleanResult<E> {
+
+        private final boolean value;
+
+        Success(boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        Boolean value() {
+            return value;
+        }
+
+        @Override
+        E error() {
+            return null;
+        }
+
+        @Override
+        boolean isSuccess() {
+            return true;
+        }
+    }
+
+    private static final class Failure<E> extends BooleanResult<E> {
+
+        private final E error;
+
+        Failure(E error) {
+            this.error = error;
+        }
+
+        @Override
+        Boolean value() {
+            return null;
+        }
+
+        @Override
+        E error() {
+            return error;
+        }
+
+        @Override
+        boolean isSuccess() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package no.gorandalum.fluentresult;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Runs callables concurrently for {@code Result.handleAll}. On a JVM with
+ * virtual threads each callable is started on its own virtual thread,
+ * otherwise the callables share a bounded pool of daemon platform threads.
+ * The virtual thread factory is looked up reflectively, so the library can
+ * still be compiled for and run on Java 8.
+ * <p>
+ * The pool runs at most {@link #FALLBACK_THREADS} callables at a time, the
+ * others wait in its queue. A call made from a thread of the pool runs the
+ * callables of its own call not yet started on its own thread while it
+ * waits, so a callable waiting for a nested call never waits for a task
+ * queued behind it, and nested calls cannot deadlock the pool.
+ */
+final class BulkHandle {
+
+    static final int FALLBACK_THREADS = 64;
+
+    private BulkHandle() {
+    }
+
+    static <T, E> List<Result<T, E>> handleAll(List<? extends Callable<? extends T>> callables,
+                                               Function<Exception, E> exceptionMapper) {
+        return handleAll(callables, exceptionMapper, defaultExecutor());
+    }
+
+    static <T, E> List<Result<T, E>> handleAll(List<? extends Callable<? extends T>> callables,
+                                               Function<Exception, E> exceptionMapper,
+                                               Executor executor) {
+        Objects.requireNonNull(exceptionMapper);
+        List<Callable<? extends T>> tasks = new ArrayList<>(callables);
+        tasks.forEach(Objects::requireNonNull);
+        List<FutureTask<Result<T, E>>> futures = new ArrayList<>(tasks.size());
+        for (Callable<? extends T> task : tasks) {
+            FutureTask<Result<T, E>> future = new FutureTask<>(
+                    () -> Result.<T, E>handle(task::call, exceptionMapper));
+            futures.add(future);
+            executor.execute(future);
+        }
+        boolean onPool = onPoolThread();
+        List<Result<T, E>> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            FutureTask<Result<T, E>> future = futures.get(i);
+            if (onPool && !Thread.currentThread().isInterrupted()) {
+                future.run();
+            }
+            try {
+                results.add(get(future));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelRemaining(futures.subList(i, futures.size()), results, exceptionMapper.apply(e));
+                return results;
+            } catch (RuntimeException | Error e) {
+                cancel(futures.subList(i + 1, futures.size()));
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Cancels the callables not yet completed, interrupting those running.
+     * Each of them gets a result in error state containing the given error,
+     * while callables completing before they could be cancelled keep their
+     * own result.
+     */
+    private static <T, E> void cancelRemaining(List<FutureTask<Result<T, E>>> futures,
+                                               List<Result<T, E>> results,
+                                               E interruptedError) {
+        cancel(futures);
+        for (FutureTask<Result<T, E>> future : futures) {
+            if (future.isCancelled()) {
+                results.add(Result.error(interruptedError));
+            } else {
+                try {
+                    results.add(get(future));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException("A completed task does not wait", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Cancels the callables not yet completed, interrupting those running, so
+     * none of them is left running once the call has returned or thrown.
+     */
+    private static void cancel(List<? extends FutureTask<?>> futures) {
+        for (FutureTask<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private static <T, E> Result<T, E> get(FutureTask<Result<T, E>> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (RuntimeException) cause;
+        }
+    }
+
+    /**
+     * Returns whether the calling thread is a thread of the fallback pool.
+     */
+    static boolean onPoolThread() {
+        return Thread.currentThread() instanceof PoolThread;
+    }
+
+    /**
+     * Returns the executor running each task on a new virtual thread when
+     * available, otherwise on the shared pool of platform threads.
+     */
+    static Executor defaultExecutor() {
+        return Default.EXECUTOR;
+    }
+
+    static Executor executor(Executor virtualThreadExecutor) {
+        if (virtualThreadExecutor != null) {
+            return virtualThreadExecutor;
+        }
+        return FallbackPool.POOL;
+    }
+
+    /**
+     * Returns an executor starting each task on a new virtual thread through
+     * the static {@code startVirtualThread(Runnable)} method of the given
+     * class, or {@code null} if the class has no such method.
+     */
+    static Executor virtualThreadExecutor(Class<?> threadClass) {
+        final Method startVirtualThread;
+        try {
+            startVirtualThread = threadClass.getMethod("startVirtualThread", Runnable.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        return task -> start(startVirtualThread, task);
+    }
+
+    private static void start(Method startVirtualThread, Runnable task) {
+        try {
+            startVirtualThread.invoke(null, task);
+        } catch (ReflectiveOperationException e) {
+            throw new RejectedExecutionException(e);
+        }
+    }
+
+    static ThreadPoolExecutor newFallbackPool(int threads) {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                task -> {
+                    Thread thread = new PoolThread(task);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * A thread of the fallback pool, marking calls made from the pool.
+     */
+    private static final class PoolThread extends Thread {
+
+        PoolThread(Runnable task) {
+            super(task, "fluent-result-handle-all");
+        }
+    }
+
+    private static final class Default {
+
+        static final Executor EXECUTOR = executor(virtualThreadExecutor(Thread.class));
+    }
+
+    private static final class FallbackPool {
+
+        static final Executor POOL = newFallbackPool(FALLBACK_THREADS);
+    }
+}
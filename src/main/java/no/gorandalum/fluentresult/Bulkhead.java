@@ -0,0 +1,381 @@
+package no.gorandalum.fluentresult;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * A bulkhead limiting the number of concurrent calls, typically blocking
+ * calls to another service. While the limit is reached, the calls are not
+ * made but return a result in error state containing a fixed error value at
+ * once, so callers do not pile up waiting for a slow service. The
+ * {@code handle} methods correspond to the {@code handle} factory methods of
+ * the result classes.
+ * <p>
+ * By default the limit is fixed. With
+ * {@link #withAdaptiveLimit(int, Duration)} the limit adapts to the outcome
+ * of the calls: it is decreased by a tenth when a call fails or is slower
+ * than the latency threshold, and increased by one for about each limit
+ * number of good calls made while at least half of the limit is in use. A
+ * failing call started before the previous decrease does not decrease the
+ * limit again, so a burst of calls failing together counts once. A call is counted as failed if it returns a result in error state
+ * whose error value matches the predicate given to
+ * {@link #recordFailureIf(Predicate)}, by default any error value.
+ * <p>
+ * A bulkhead holds the state of the calls it guards, and is meant to be
+ * configured once and shared by all these calls. Each of the configuring
+ * methods returns a new bulkhead with no calls in progress.
+ * <p>
+ * A variable whose type is {@code Bulkhead} should never itself be
+ * {@code null}, it should always point to a {@code Bulkhead} instance.
+ *
+ * @param <E> the type of the error value
+ */
+public final class Bulkhead<E> {
+
+    static final double DECREASE = 0.9;
+
+    /**
+     * The minimum limit of a bulkhead with a fixed limit, which does not time
+     * or count the calls.
+     */
+    private static final int FIXED = 0;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<Bulkhead> IN_FLIGHT =
+            AtomicIntegerFieldUpdater.newUpdater(Bulkhead.class, "inFlight");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<Bulkhead> LIMIT =
+            AtomicLongFieldUpdater.newUpdater(Bulkhead.class, "limitBits");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<Bulkhead> LAST_DECREASE =
+            AtomicLongFieldUpdater.newUpdater(Bulkhead.class, "lastDecreaseNanos");
+
+    private final E rejectedError;
+    private final int maxLimit;
+    private final int minLimit;
+    private final long latencyThresholdNanos;
+    private final Predicate<? super E> failurePredicate;
+    private final LongSupplier clock;
+
+    private final Result<?, E> rejectedResult;
+    private final OptionalResult<?, E> rejectedOptionalResult;
+    private final BooleanResult<E> rejectedBooleanResult;
+    private final VoidResult<E> rejectedVoidResult;
+
+    private volatile int inFlight;
+    private volatile long limitBits;
+    private volatile long lastDecreaseNanos;
+
+    private Bulkhead(E rejectedError, int maxLimit, int minLimit, long latencyThresholdNanos,
+                     Predicate<? super E> failurePredicate, LongSupplier clock) {
+        this.rejectedError = rejectedError;
+        this.maxLimit = maxLimit;
+        this.minLimit = minLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.failurePredicate = failurePredicate;
+        this.clock = clock;
+        this.rejectedResult = Result.error(rejectedError);
+        this.rejectedOptionalResult = OptionalResult.error(rejectedError);
+        this.rejectedBooleanResult = BooleanResult.error(rejectedError);
+        this.rejectedVoidResult = VoidResult.error(rejectedError);
+        this.limitBits = Double.doubleToRawLongBits(maxLimit);
+        this.lastDecreaseNanos = start();
+    }
+
+    /**
+     * Returns a {@code Bulkhead} making at most the given number of calls at
+     * the same time, and returning results in error state containing the
+     * given error value for calls exceeding the limit.
+     *
+     * @param maxConcurrentCalls the maximum number of concurrent calls
+     * @param rejectedError the error value of the results returned for
+     * rejected calls, which must be non-{@code null}
+     * @param <E> the type of the error value
+     * @return a {@code Bulkhead} with the given limit
+     * @throws NullPointerException if the given error value is {@code null}
+     * @throws IllegalArgumentException if the given number of calls is not
+     * positive
+     */
+    public static <E> Bulkhead<E> maxConcurrentCalls(int maxConcurrentCalls, E rejectedError) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException(
+                    "Max concurrent calls must be positive, was " + maxConcurrentCalls);
+        }
+        Objects.requireNonNull(rejectedError);
+        return new Bulkhead<>(rejectedError, maxConcurrentCalls, FIXED, 0, err -> true, System::nanoTime);
+    }
+
+    /**
+     * Returns a new {@code Bulkhead} like this one, adapting its limit to the
+     * outcome of the calls. The limit starts at the maximum number of
+     * concurrent calls, and is kept between the given minimum and the
+     * maximum. Each call which fails or takes longer than the given latency
+     * threshold decreases the limit by a tenth, unless it started before the
+     * previous decrease. Each good call made while at least half of the limit
+     * is in use increases it by one divided by the limit.
+     *
+     * @param minConcurrentCalls the lowest limit
+     * @param latencyThreshold the latency above which a call decreases the
+     * limit
+     * @return a new {@code Bulkhead} with an adaptive limit
+     * @throws NullPointerException if the given latency threshold is
+     * {@code null}
+     * @throws IllegalArgumentException if the given minimum is not positive or
+     * above the maximum number of concurrent calls, or the latency threshold
+     * is not positive
+     */
+    public Bulkhead<E> withAdaptiveLimit(int minConcurrentCalls, Duration latencyThreshold) {
+        if (minConcurrentCalls < 1 || minConcurrentCalls > maxLimit) {
+            throw new IllegalArgumentException("Min concurrent calls must be between 1 and "
+                    + maxLimit + ", was " + minConcurrentCalls);
+        }
+        if (latencyThreshold.isNegative() || latencyThreshold.isZero()) {
+            throw new IllegalArgumentException("Latency threshold must be positive, was " + latencyThreshold);
+        }
+        return new Bulkhead<>(rejectedError, maxLimit, minConcurrentCalls, latencyThreshold.toNanos(),
+                failurePredicate, clock);
+    }
+
+    /**
+     * Returns a new {@code Bulkhead} like this one, only counting a call
+     * returning an error value as failed if the error value matches the given
+     * predicate. Failed calls decrease an adaptive limit.
+     *
+     * @param predicate the predicate telling whether an error value is a
+     * failure
+     * @return a new {@code Bulkhead} with the given predicate
+     * @throws NullPointerException if the given predicate is {@code null}
+     */
+    public Bulkhead<E> recordFailureIf(Predicate<? super E> predicate) {
+        Objects.requireNonNull(predicate);
+        return new Bulkhead<>(rejectedError, maxLimit, minLimit, latencyThresholdNanos, predicate, clock);
+    }
+
+    Bulkhead<E> withClock(LongSupplier clock) {
+        return new Bulkhead<>(rejectedError, maxLimit, minLimit, latencyThresholdNanos, failurePredicate, clock);
+    }
+
+    /**
+     * Returns the current limit of concurrent calls. A fixed limit is always
+     * the maximum number of concurrent calls.
+     *
+     * @return the current limit
+     */
+    public int limit() {
+        return (int) currentLimit();
+    }
+
+    double currentLimit() {
+        return Double.longBitsToDouble(limitBits);
+    }
+
+    /**
+     * Handle the given {@code Callable} as by
+     * {@link Result#handle(Callable, Function)}, if the limit of concurrent
+     * calls is not reached. Otherwise the {@code Callable} is not called, and
+     * a {@code Result} in error state containing the error value of this
+     * bulkhead is returned.
+     *
+     * @param callable the {@code Callable} to handle
+     * @param exceptionMapper the function mapping a thrown exception to the
+     * error value
+     * @param <T> type of the return value of the {@code Callable}
+     * @return the {@code Result} of handling the {@code Callable}, or a
+     * {@code Result} in error state containing the error value of this
+     * bulkhead if the limit is reached
+     * @throws NullPointerException if the given callable or exception mapper
+     * function is {@code null}, or the callable or the exception mapper
+     * function returns {@code null}
+     */
+    public <T> Result<T, E> handle(Callable<T> callable, Function<Exception, E> exceptionMapper) {
+        Objects.requireNonNull(callable);
+        Objects.requireNonNull(exceptionMapper);
+        if (!tryAcquire()) {
+            @SuppressWarnings("unchecked")
+            Result<T, E> rejected = (Result<T, E>) rejectedResult;
+            return rejected;
+        }
+        long start = start();
+        Result<T, E> result = null;
+        try {
+            result = Result.handle(callable, exceptionMapper);
+            return result;
+        } finally {
+            release(result, start);
+        }
+    }
+
+    /**
+     * Handle the given {@code Callable} as by
+     * {@link OptionalResult#handle(Callable, Function)}, if the limit of
+     * concurrent calls is not reached. Otherwise the {@code Callable} is not
+     * called, and an {@code OptionalResult} in error state containing the
+     * error value of this bulkhead is returned.
+     *
+     * @param callable the {@code Callable} to handle
+     * @param exceptionMapper the function mapping a thrown exception to the
+     * error value
+     * @param <T> type of the value which may be present in the
+     * {@code Optional} returned by the {@code Callable}
+     * @return the {@code OptionalResult} of handling the {@code Callable}, or
+     * an {@code OptionalResult} in error state containing the error value of
+     * this bulkhead if the limit is reached
+     * @throws NullPointerException if the given callable or exception mapper
+     * function is {@code null}, or the callable or the exception mapper
+     * function returns {@code null}
+     */
+    public <T> OptionalResult<T, E> handleOptionalResult(Callable<Optional<T>> callable,
+                                                         Function<Exception, E> exceptionMapper) {
+        Objects.requireNonNull(callable);
+        Objects.requireNonNull(exceptionMapper);
+        if (!tryAcquire()) {
+            @SuppressWarnings("unchecked")
+            OptionalResult<T, E> rejected = (OptionalResult<T, E>) rejectedOptionalResult;
+            return rejected;
+        }
+        long start = start();
+        OptionalResult<T, E> result = null;
+        try {
+            result = OptionalResult.handle(callable, exceptionMapper);
+            return result;
+        } finally {
+            release(result, start);
+        }
+    }
+
+    /**
+     * Handle the given {@code Callable} as by
+     * {@link BooleanResult#handle(Callable, Function)}, if the limit of
+     * concurrent calls is not reached. Otherwise the {@code Callable} is not
+     * called, and a {@code BooleanResult} in error state containing the error
+     * value of this bulkhead is returned.
+     *
+     * @param callable the {@code Callable} to handle
+     * @param exceptionMapper the function mapping a thrown exception to the
+     * error value
+     * @return the {@code BooleanResult} of handling the {@code Callable}, or a
+     * {@code BooleanResult} in error state containing the error value of this
+     * bulkhead if the limit is reached
+     * @throws NullPointerException if the given callable or exception mapper
+     * function is {@code null}, or the callable or the exception mapper
+     * function returns {@code null}
+     */
+    public BooleanResult<E> handleBooleanResult(Callable<Boolean> callable,
+                                                Function<Exception, E> exceptionMapper) {
+        Objects.requireNonNull(callable);
+        Objects.requireNonNull(exceptionMapper);
+        if (!tryAcquire()) {
+            return rejectedBooleanResult;
+        }
+        long start = start();
+        BooleanResult<E> result = null;
+        try {
+            result = BooleanResult.handle(callable, exceptionMapper);
+            return result;
+        } finally {
+            release(result, start);
+        }
+    }
+
+    /**
+     * Handle the given {@code CheckedRunnable} as by
+     * {@link VoidResult#handle(CheckedRunnable, Function)}, if the limit of
+     * concurrent calls is not reached. Otherwise the {@code CheckedRunnable}
+     * is not called, and a {@code VoidResult} in error state containing the
+     * error value of this bulkhead is returned.
+     *
+     * @param runnable the {@code CheckedRunnable} to handle
+     * @param exceptionMapper the function mapping a thrown exception to the
+     * error value
+     * @return the {@code VoidResult} of handling the {@code CheckedRunnable},
+     * or a {@code VoidResult} in error state containing the error value of
+     * this bulkhead if the limit is reached
+     * @throws NullPointerException if the given runnable or exception mapper
+     * function is {@code null}, or the exception mapper function returns
+     * {@code null}
+     */
+    public VoidResult<E> handleVoidResult(CheckedRunnable runnable,
+                                          Function<Exception, E> exceptionMapper) {
+        Objects.requireNonNull(runnable);
+        Objects.requireNonNull(exceptionMapper);
+        if (!tryAcquire()) {
+            return rejectedVoidResult;
+        }
+        long start = start();
+        VoidResult<E> result = null;
+        try {
+            result = VoidResult.handle(runnable, exceptionMapper);
+            return result;
+        } finally {
+            release(result, start);
+        }
+    }
+
+    private long start() {
+        return minLimit == FIXED ? 0 : clock.getAsLong();
+    }
+
+    /**
+     * Releases the permit of a completed call, after adapting the limit of an
+     * adaptive bulkhead to it. The result is {@code null} if the call threw.
+     */
+    private void release(BaseResult<?, E> result, long start) {
+        try {
+            if (minLimit != FIXED) {
+                boolean failed = result == null || !result.isSuccess() && failurePredicate.test(result.error());
+                adjust(failed, start, clock.getAsLong());
+            }
+        } finally {
+            IN_FLIGHT.decrementAndGet(this);
+        }
+    }
+
+    private boolean tryAcquire() {
+        int limit = limit();
+        while (true) {
+            int current = inFlight;
+            if (current >= limit) {
+                return false;
+            }
+            if (IN_FLIGHT.compareAndSet(this, current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Adapts the limit of an adaptive bulkhead to a completed call. A call
+     * started before the previous decrease has overlapped the calls causing
+     * it, so it does not decrease the limit again.
+     */
+    private void adjust(boolean failed, long start, long end) {
+        if (failed || end - start > latencyThresholdNanos) {
+            long last = lastDecreaseNanos;
+            if (start - last < 0 || !LAST_DECREASE.compareAndSet(this, last, end)) {
+                return;
+            }
+        }
+        while (true) {
+            long bits = limitBits;
+            double limit = Double.longBitsToDouble(bits);
+            double next;
+            if (failed || end - start > latencyThresholdNanos) {
+                next = Math.max(minLimit, limit * DECREASE);
+            } else if (inFlight * 2 >= limit) {
+                next = Math.min(maxLimit, limit + 1 / limit);
+            } else {
+                return;
+            }
+            if (LIMIT.compareAndSet(this, bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+}
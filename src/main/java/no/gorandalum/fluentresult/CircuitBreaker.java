@@ -0,0 +1,401 @@
+package no.gorandalum.fluentresult;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A circuit breaker guarding calls which return a result, typically a call
+ * to another service. While the breaker is closed, the calls are made and
+ * their outcomes counted. When the share of failures in the recent calls
+ * reaches a threshold, the breaker opens, and the following calls are not
+ * made but return a result in error state containing a fixed error value.
+ * After a while one trial call is let through. If it succeeds the breaker
+ * closes, otherwise it stays open for another while.
+ * <p>
+ * A call is counted as failed if it returns a result in error state whose
+ * error value matches the predicate given to
+ * {@link #recordFailureIf(Predicate)}, by default any error value, or if it
+ * throws an exception. The outcomes are counted in a sliding window of the
+ * last 10 seconds by default, split in 10 buckets. Each bucket holds striped
+ * counters, so concurrent calls do not contend on a shared counter, and the
+ * state of the breaker is read without locking. The counts are approximate
+ * when calls race with a bucket being reused.
+ * <p>
+ * A breaker holds the state of the calls it guards, and is meant to be
+ * configured once and shared by all these calls. Each of the configuring
+ * methods returns a new breaker in closed state with no counted calls.
+ * <p>
+ * A variable whose type is {@code CircuitBreaker} should never itself be
+ * {@code null}, it should always point to a {@code CircuitBreaker}
+ * instance.
+ *
+ * @param <E> the type of the error value
+ */
+public final class CircuitBreaker<E> {
+
+    /**
+     * The state of a {@code CircuitBreaker}.
+     */
+    public enum State {
+
+        /**
+         * Calls are made and their outcomes counted.
+         */
+        CLOSED,
+
+        /**
+         * Calls are not made, until the open duration has passed and a trial
+         * call is let through.
+         */
+        OPEN,
+
+        /**
+         * A trial call is in progress, other calls are not made.
+         */
+        HALF_OPEN
+    }
+
+    static final int BUCKETS = 10;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CircuitBreaker, State> STATE =
+            AtomicReferenceFieldUpdater.newUpdater(CircuitBreaker.class, State.class, "state");
+
+    private final E openError;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long windowNanos;
+    private final long openNanos;
+    private final Predicate<? super E> failurePredicate;
+    private final LongSupplier clock;
+
+    private final Result<?, E> openResult;
+    private final OptionalResult<?, E> openOptionalResult;
+    private final BooleanResult<E> openBooleanResult;
+    private final VoidResult<E> openVoidResult;
+
+    private final long bucketNanos;
+    private final long originNanos;
+    private final Bucket[] buckets = new Bucket[BUCKETS + 1];
+    private volatile State state = State.CLOSED;
+    private volatile long openedAtNanos;
+
+    private CircuitBreaker(E openError, double failureRateThreshold, int minimumCalls, long windowNanos,
+                           long openNanos, Predicate<? super E> failurePredicate, LongSupplier clock) {
+        this.openError = openError;
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.windowNanos = windowNanos;
+        this.openNanos = openNanos;
+        this.failurePredicate = failurePredicate;
+        this.clock = clock;
+        this.openResult = Result.error(openError);
+        this.openOptionalResult = OptionalResult.error(openError);
+        this.openBooleanResult = BooleanResult.error(openError);
+        this.openVoidResult = VoidResult.error(openError);
+        this.bucketNanos = (windowNanos + BUCKETS - 1) / BUCKETS;
+        this.originNanos = clock.getAsLong();
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * Returns a closed {@code CircuitBreaker} which, when open, returns
+     * results in error state containing the given error value. The breaker
+     * opens when at least half of at least 10 calls within the last 10
+     * seconds have failed, and lets a trial call through after 10 seconds.
+     *
+     * @param openError the error value of the results returned when open,
+     * which must be non-{@code null}
+     * @param <E> the type of the error value
+     * @return a closed {@code CircuitBreaker} with the given error value
+     * @throws NullPointerException if the given error value is {@code null}
+     */
+    public static <E> CircuitBreaker<E> openError(E openError) {
+        Objects.requireNonNull(openError);
+        return new CircuitBreaker<>(openError, 0.5, 10, 10_000_000_000L, 10_000_000_000L,
+                err -> true, System::nanoTime);
+    }
+
+    /**
+     * Returns a new closed {@code CircuitBreaker} like this one, opening when
+     * the share of failed calls within the window reaches the given
+     * threshold.
+     *
+     * @param threshold the share of failed calls opening the breaker, greater
+     * than {@code 0} and at most {@code 1}
+     * @return a new {@code CircuitBreaker} with the given threshold
+     * @throws IllegalArgumentException if the threshold is not greater than
+     * {@code 0} and at most {@code 1}
+     */
+    public CircuitBreaker<E> withFailureRateThreshold(double threshold) {
+        if (!(threshold > 0 && threshold <= 1)) {
+            throw new IllegalArgumentException(
+                    "Failure rate threshold must be greater than 0 and at most 1, was " + threshold);
+        }
+        return new CircuitBreaker<>(openError, threshold, minimumCalls, windowNanos, openNanos,
+                failurePredicate, clock);
+    }
+
+    /**
+     * Returns a new closed {@code CircuitBreaker} like this one, not opening
+     * before the given number of calls have been counted within the window.
+     *
+     * @param minimumCalls the number of calls needed within the window before
+     * the breaker may open
+     * @return a new {@code CircuitBreaker} with the given minimum number of
+     * calls
+     * @throws IllegalArgumentException if the given number of calls is not
+     * positive
+     */
+    public CircuitBreaker<E> withMinimumCalls(int minimumCalls) {
+        if (minimumCalls < 1) {
+            throw new IllegalArgumentException("Minimum calls must be positive, was " + minimumCalls);
+        }
+        return new CircuitBreaker<>(openError, failureRateThreshold, minimumCalls, windowNanos, openNanos,
+                failurePredicate, clock);
+    }
+
+    /**
+     * Returns a new closed {@code CircuitBreaker} like this one, counting the
+     * calls within the given sliding window. The window is split in 10
+     * buckets, and moves one bucket at a time.
+     *
+     * @param window the duration of the sliding window
+     * @return a new {@code CircuitBreaker} with the given window
+     * @throws NullPointerException if the given window is {@code null}
+     * @throws IllegalArgumentException if the given window is not positive
+     */
+    public CircuitBreaker<E> withWindow(Duration window) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Window must be positive, was " + window);
+        }
+        return new CircuitBreaker<>(openError, failureRateThreshold, minimumCalls, window.toNanos(), openNanos,
+                failurePredicate, clock);
+    }
+
+    /**
+     * Returns a new closed {@code CircuitBreaker} like this one, staying open
+     * for the given duration before letting a trial call through.
+     *
+     * @param openDuration the duration to stay open before a trial call
+     * @return a new {@code CircuitBreaker} with the given open duration
+     * @throws NullPointerException if the given duration is {@code null}
+     * @throws IllegalArgumentException if the given duration is not positive
+     */
+    public CircuitBreaker<E> withOpenDuration(Duration openDuration) {
+        if (openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("Open duration must be positive, was " + openDuration);
+        }
+        return new CircuitBreaker<>(openError, failureRateThreshold, minimumCalls, windowNanos,
+                openDuration.toNanos(), failurePredicate, clock);
+    }
+
+    /**
+     * Returns a new closed {@code CircuitBreaker} like this one, only
+     * counting a call returning an error value as failed if the error value
+     * matches the given predicate. Calls returning other error values are
+     * counted as successful, for example errors caused by invalid input
+     * rather than by the called service.
+     *
+     * @param predicate the predicate telling whether an error value is a
+     * failure
+     * @return a new {@code CircuitBreaker} with the given predicate
+     * @throws NullPointerException if the given predicate is {@code null}
+     */
+    public CircuitBreaker<E> recordFailureIf(Predicate<? super E> predicate) {
+        Objects.requireNonNull(predicate);
+        return new CircuitBreaker<>(openError, failureRateThreshold, minimumCalls, windowNanos, openNanos,
+                predicate, clock);
+    }
+
+    CircuitBreaker<E> withClock(LongSupplier clock) {
+        return new CircuitBreaker<>(openError, failureRateThreshold, minimumCalls, windowNanos, openNanos,
+                failurePredicate, clock);
+    }
+
+    /**
+     * Returns the current state of this {@code CircuitBreaker}. An open
+     * breaker stays open after the open duration has passed, until the next
+     * call is made as a trial call.
+     *
+     * @return the current state
+     */
+    public State state() {
+        return state;
+    }
+
+    /**
+     * Calls the given supplier if this {@code CircuitBreaker} permits it, and
+     * counts the outcome. If the breaker is open, the supplier is not called,
+     * and a {@code Result} in error state containing the error value of the
+     * breaker is returned.
+     *
+     * @param supplier the supplier making the call
+     * @param <T> the type of the success value
+     * @return the {@code Result} returned by the supplier, or a {@code Result}
+     * in error state containing the error value of the breaker if open
+     * @throws NullPointerException if the given supplier is {@code null} or
+     * returns {@code null}
+     */
+    public <T> Result<T, E> call(Supplier<? extends Result<T, E>> supplier) {
+        @SuppressWarnings("unchecked")
+        Result<T, E> open = (Result<T, E>) openResult;
+        return run(supplier, open);
+    }
+
+    /**
+     * Calls the given supplier if this {@code CircuitBreaker} permits it, and
+     * counts the outcome. An empty {@code OptionalResult} is in success
+     * state. If the breaker is open, the supplier is not called, and an
+     * {@code OptionalResult} in error state containing the error value of the
+     * breaker is returned.
+     *
+     * @param supplier the supplier making the call
+     * @param <T> the type of the success value
+     * @return the {@code OptionalResult} returned by the supplier, or an
+     * {@code OptionalResult} in error state containing the error value of the
+     * breaker if open
+     * @throws NullPointerException if the given supplier is {@code null} or
+     * returns {@code null}
+     */
+    public <T> OptionalResult<T, E> callOptionalResult(Supplier<? extends OptionalResult<T, E>> supplier) {
+        @SuppressWarnings("unchecked")
+        OptionalResult<T, E> open = (OptionalResult<T, E>) openOptionalResult;
+        return run(supplier, open);
+    }
+
+    /**
+     * Calls the given supplier if this {@code CircuitBreaker} permits it, and
+     * counts the outcome. If the breaker is open, the supplier is not called,
+     * and a {@code BooleanResult} in error state containing the error value
+     * of the breaker is returned.
+     *
+     * @param supplier the supplier making the call
+     * @return the {@code BooleanResult} returned by the supplier, or a
+     * {@code BooleanResult} in error state containing the error value of the
+     * breaker if open
+     * @throws NullPointerException if the given supplier is {@code null} or
+     * returns {@code null}
+     */
+    public BooleanResult<E> callBooleanResult(Supplier<? extends BooleanResult<E>> supplier) {
+        return run(supplier, openBooleanResult);
+    }
+
+    /**
+     * Calls the given supplier if this {@code CircuitBreaker} permits it, and
+     * counts the outcome. If the breaker is open, the supplier is not called,
+     * and a {@code VoidResult} in error state containing the error value of
+     * the breaker is returned.
+     *
+     * @param supplier the supplier making the call
+     * @return the {@code VoidResult} returned by the supplier, or a
+     * {@code VoidResult} in error state containing the error value of the
+     * breaker if open
+     * @throws NullPointerException if the given supplier is {@code null} or
+     * returns {@code null}
+     */
+    public VoidResult<E> callVoidResult(Supplier<? extends VoidResult<E>> supplier) {
+        return run(supplier, openVoidResult);
+    }
+
+    private <R extends BaseResult<?, E>> R run(Supplier<? extends R> supplier, R open) {
+        Objects.requireNonNull(supplier);
+        boolean trial = state != State.CLOSED;
+        if (trial && !startTrial()) {
+            return open;
+        }
+        boolean failed = true;
+        try {
+            R result = Objects.requireNonNull(supplier.get());
+            failed = !result.isSuccess() && failurePredicate.test(result.error());
+            return result;
+        } finally {
+            if (trial) {
+                endTrial(failed);
+            } else {
+                record(failed);
+            }
+        }
+    }
+
+    private boolean startTrial() {
+        return clock.getAsLong() - openedAtNanos >= openNanos
+                && STATE.compareAndSet(this, State.OPEN, State.HALF_OPEN);
+    }
+
+    private void endTrial(boolean failed) {
+        if (failed) {
+            openedAtNanos = clock.getAsLong();
+            state = State.OPEN;
+            return;
+        }
+        for (Bucket bucket : buckets) {
+            bucket.reset();
+        }
+        state = State.CLOSED;
+    }
+
+    private void record(boolean failed) {
+        long now = clock.getAsLong();
+        long slot = (now - originNanos) / bucketNanos;
+        Bucket current = buckets[(int) (slot % buckets.length)];
+        current.moveTo(slot);
+        if (!failed) {
+            current.successes.increment();
+            return;
+        }
+        current.failures.increment();
+        long failures = 0;
+        long calls = 0;
+        for (Bucket bucket : buckets) {
+            if (slot - bucket.slot < BUCKETS) {
+                long bucketFailures = bucket.failures.sum();
+                failures += bucketFailures;
+                calls += bucketFailures + bucket.successes.sum();
+            }
+        }
+        if (calls >= minimumCalls && failures >= failureRateThreshold * calls
+                && STATE.compareAndSet(this, State.CLOSED, State.HALF_OPEN)) {
+            // Calls are rejected while half open, until the opening time is
+            // written and the breaker is open.
+            openedAtNanos = now;
+            state = State.OPEN;
+        }
+    }
+
+    /**
+     * The counted outcomes of the calls within one slot of the sliding
+     * window. The buckets are reused in a ring with one bucket more than the
+     * window, so the oldest bucket may be moved to a new slot while the
+     * others are read.
+     */
+    private static final class Bucket {
+
+        private static final AtomicLongFieldUpdater<Bucket> SLOT =
+                AtomicLongFieldUpdater.newUpdater(Bucket.class, "slot");
+
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private volatile long slot;
+
+        void moveTo(long newSlot) {
+            long oldSlot = slot;
+            if (oldSlot < newSlot && SLOT.compareAndSet(this, oldSlot, newSlot)) {
+                reset();
+            }
+        }
+
+        void reset() {
+            successes.reset();
+            failures.reset();
+        }
+    }
+}
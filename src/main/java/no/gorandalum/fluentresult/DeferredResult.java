@@ -0,0 +1,209 @@
+package no.gorandalum.fluentresult;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A deferred result which describes a computation producing a
+ * {@code Result}, evaluated when {@link #toResult()} is called.
+ * <p>
+ * The steps added with {@link #flatMap(Function)} and {@link #map(Function)},
+ * and the computations suspended with {@link #defer(Supplier)}, are not run
+ * when added, but by a loop in {@code toResult()}. The loop keeps the
+ * remaining steps in a heap allocated stack instead of the call stack, so
+ * arbitrarily long or deeply recursive chains are evaluated in constant
+ * stack space. A recursive method can return a {@code DeferredResult} which
+ * calls itself inside {@code flatMap} or {@code defer}, without risking a
+ * {@code StackOverflowError}.
+ * <p>
+ * As with {@code Result}, evaluation stops at the first step in error state,
+ * and the remaining steps are not run. The steps are run again on each call
+ * to {@code toResult()}.
+ * <p>
+ * A variable whose type is {@code DeferredResult} should never itself be
+ * {@code null}, it should always point to a {@code DeferredResult} instance.
+ *
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ */
+public abstract class DeferredResult<T, E> {
+
+    private DeferredResult() {
+    }
+
+    /**
+     * Returns a {@code DeferredResult} evaluating to a {@code Result} in
+     * success state containing the given non-{@code null} value as success
+     * value.
+     *
+     * @param value the success value, which must be non-{@code null}
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return a {@code DeferredResult} evaluating to a {@code Result} in
+     * success state containing the given success value
+     * @throws NullPointerException if given success value is {@code null}
+     */
+    public static <T, E> DeferredResult<T, E> success(T value) {
+        return new Done<>(Result.success(value));
+    }
+
+    /**
+     * Returns a {@code DeferredResult} evaluating to a {@code Result} in error
+     * state containing the given non-{@code null} value as error value.
+     *
+     * @param value the error value, which must be non-{@code null}
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return a {@code DeferredResult} evaluating to a {@code Result} in error
+     * state containing the given error value
+     * @throws NullPointerException if given error value is {@code null}
+     */
+    public static <T, E> DeferredResult<T, E> error(E value) {
+        return new Done<>(Result.error(value));
+    }
+
+    /**
+     * Returns a {@code DeferredResult} evaluating to the given
+     * {@code Result}.
+     *
+     * @param result the {@code Result}, which must be non-{@code null}
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return a {@code DeferredResult} evaluating to the given {@code Result}
+     * @throws NullPointerException if given {@code Result} is {@code null}
+     */
+    public static <T, E> DeferredResult<T, E> of(Result<T, E> result) {
+        return new Done<>(Objects.requireNonNull(result));
+    }
+
+    /**
+     * Returns a {@code DeferredResult} evaluating to the
+     * {@code DeferredResult} returned by the given supplier. The supplier is
+     * not called until the returned {@code DeferredResult} is evaluated, and
+     * is called by the evaluation loop, so a recursive method may call itself
+     * from the supplier.
+     *
+     * @param supplier the supplier of the {@code DeferredResult}
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return a {@code DeferredResult} evaluating to the
+     * {@code DeferredResult} returned by the supplier
+     * @throws NullPointerException if given supplier is {@code null}
+     */
+    public static <T, E> DeferredResult<T, E> defer(
+            Supplier<? extends DeferredResult<T, E>> supplier) {
+        return new Suspend<>(Objects.requireNonNull(supplier));
+    }
+
+    /**
+     * Returns a {@code DeferredResult} which, if this {@code DeferredResult}
+     * evaluates to success state, continues with the {@code DeferredResult}
+     * returned from applying the given function to the success value,
+     * otherwise evaluates to the unaltered error value. The function is
+     * applied during evaluation, not when called.
+     *
+     * @param function the function to apply to the success value, if success
+     * state
+     * @param <N> the type of success value of the {@code DeferredResult}
+     * returned by the function
+     * @return a {@code DeferredResult} continuing with the
+     * {@code DeferredResult} returned from the function, if success state,
+     * otherwise evaluating to the error value of this {@code DeferredResult}
+     * @throws NullPointerException if the given function is {@code null}
+     */
+    public <N> DeferredResult<N, E> flatMap(
+            Function<? super T, ? extends DeferredResult<N, E>> function) {
+        return new Bind<>(this, Objects.requireNonNull(function));
+    }
+
+    /**
+     * Returns a {@code DeferredResult} which, if this {@code DeferredResult}
+     * evaluates to success state, evaluates to the result of applying the
+     * given mapping function to the success value, otherwise to the unaltered
+     * error value. The function is applied during evaluation, not when
+     * called.
+     *
+     * @param function the mapping function to apply to the success value, if
+     * success state
+     * @param <N> the type of the value returned from the mapping function
+     * @return a {@code DeferredResult} evaluating to the result of applying
+     * the mapping function to the success value, if success state, otherwise
+     * to the error value of this {@code DeferredResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     */
+    public <N> DeferredResult<N, E> map(Function<? super T, ? extends N> function) {
+        Objects.requireNonNull(function);
+        return flatMap(val -> success(function.apply(val)));
+    }
+
+    /**
+     * Evaluates this {@code DeferredResult} in constant stack space and
+     * returns the resulting {@code Result}. The steps of this
+     * {@code DeferredResult} are run on each call.
+     *
+     * @return the {@code Result} this {@code DeferredResult} evaluates to
+     * @throws NullPointerException if a supplier or function of this
+     * {@code DeferredResult} returns {@code null}, or a mapping function
+     * returns {@code null}
+     */
+    public Result<T, E> toResult() {
+        Deque<Function<Object, ? extends DeferredResult<?, E>>> continuations = new ArrayDeque<>();
+        DeferredResult<?, E> current = this;
+        while (true) {
+            if (current instanceof Bind) {
+                Bind<?, ?, E> bind = (Bind<?, ?, E>) current;
+                continuations.push(bind.continuation());
+                current = bind.source;
+            } else if (current instanceof Suspend) {
+                current = Objects.requireNonNull(((Suspend<?, E>) current).supplier.get());
+            } else {
+                Result<?, E> result = ((Done<?, E>) current).result;
+                if (!result.isSuccess() || continuations.isEmpty()) {
+                    @SuppressWarnings("unchecked")
+                    Result<T, E> res = (Result<T, E>) result;
+                    return res;
+                }
+                current = Objects.requireNonNull(continuations.pop().apply(result.value()));
+            }
+        }
+    }
+
+    private static final class Done<T, E> extends DeferredResult<T, E> {
+
+        private final Result<T, E> result;
+
+        Done(Result<T, E> result) {
+            this.result = result;
+        }
+    }
+
+    private static final class Suspend<T, E> extends DeferredResult<T, E> {
+
+        private final Supplier<? extends DeferredResult<T, E>> supplier;
+
+        Suspend(Supplier<? extends DeferredResult<T, E>> supplier) {
+            this.supplier = supplier;
+        }
+    }
+
+    private static final class Bind<S, T, E> extends DeferredResult<T, E> {
+
+        private final DeferredResult<S, E> source;
+        private final Function<? super S, ? extends DeferredResult<T, E>> function;
+
+        Bind(DeferredResult<S, E> source,
+             Function<? super S, ? extends DeferredResult<T, E>> function) {
+            this.source = source;
+            this.function = function;
+        }
+
+        @SuppressWarnings("unchecked")
+        Function<Object, ? extends DeferredResult<?, E>> continuation() {
+            return (Function<Object, ? extends DeferredResult<?, E>>) (Function<?, ?>) function;
+        }
+    }
+}
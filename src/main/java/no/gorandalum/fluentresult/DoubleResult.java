@@ -0,0 +1,785 @@
+package no.gorandalum.fluentresult;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A result object which either is in success state containing a double value,
+ * or in error state containing a non-{@code null} error value.
+ * <p>
+ * The double success value is stored unboxed, so creating, mapping and
+ * retrieving the success value of a {@code DoubleResult} does not allocate a
+ * {@code Double}. Boxing only happens when converting to a generic result
+ * type, for instance through {@link #toResult()}.
+ * <p>
+ * A variable whose type is {@code DoubleResult} should never itself be
+ * {@code null}, it should always point to a {@code DoubleResult} instance.
+ *
+ * @param <E> the type of the error value
+ */
+@SuppressWarnings("WeakerAccess")
+public abstract class DoubleResult<E> extends BaseResult<Double, E> {
+
+    /**
+     * Shared error instances for enum constants and registered error values.
+     */
+    private static final ErrorCache<DoubleResult<?>> ERROR_CACHE =
+            new ErrorCache<>(Failure::new);
+
+    private DoubleResult() {
+    }
+
+    /**
+     * Returns the double success value. Must only be called in success state.
+     *
+     * @return the double success value
+     * @throws NoSuchElementException if in error state
+     */
+    abstract double getAsDouble();
+
+    /**
+     * Returns a {@code DoubleResult} in success state containing the given double
+     * value as success value.
+     *
+     * @param value the double success value
+     * @param <E> the type of the error value
+     * @return a {@code DoubleResult} in success state containing the given double
+     * success value
+     */
+    public static <E> DoubleResult<E> success(double value) {
+        return new Success<>(value);
+    }
+
+    /**
+     * Returns a {@code DoubleResult} in error state containing the given
+     * non-{@code null} value as error value.
+     *
+     * @param value the error value, which must be non-{@code null}
+     * @param <E> the type of the error value
+     * @return a {@code DoubleResult} in error state containing the given error
+     * value
+     * @throws NullPointerException if given error value is {@code null}
+     */
+    public static <E> DoubleResult<E> error(E value) {
+        return new Failure<>(Objects.requireNonNull(value));
+    }
+
+    /**
+     * Returns a {@code DoubleResult} in error state containing the given
+     * non-{@code null} value as error value. If the error value is an enum
+     * constant or registered with {@link SharedErrors#register(Object)}, a
+     * shared instance is returned instead of a new one.
+     *
+     * @param value the error value, which must be non-{@code null}
+     * @param <E> the type of the error value
+     * @return a {@code DoubleResult} in error state containing the given error
+     * value
+     * @throws NullPointerException if given error value is {@code null}
+     */
+    public static <E> DoubleResult<E> sharedError(E value) {
+        @SuppressWarnings("unchecked")
+        DoubleResult<E> res = (DoubleResult<E>) ERROR_CACHE.get(value);
+        return res;
+    }
+
+    /**
+     * If in success state, returns a {@code Result} containing the result of
+     * applying the given mapping function to the double success value,
+     * otherwise returns a {@code Result} containing the error value of this
+     * {@code DoubleResult}.
+     *
+     * @param function the mapping function to apply to the double success
+     * value, if success state
+     * @param <N> the type of the value returned from the mapping function
+     * @return a {@code Result} containing the result of applying the mapping
+     * function to the double success value of this {@code DoubleResult}, if in
+     * success state, otherwise a {@code Result} containing the error value
+     * of this {@code DoubleResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public <N> Result<N, E> map(DoubleFunction<? extends N> function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ?
+                Result.success(function.apply(getAsDouble())) :
+                Result.error(error());
+    }
+
+    /**
+     * If in success state, returns a {@code OptionalResult} containing the
+     * result of applying the given mapping function to the double success
+     * value, otherwise returns a {@code OptionalResult} containing the error
+     * value of this {@code DoubleResult}.
+     *
+     * @param function the mapping function to apply to the double success
+     * value, if success state
+     * @param <N> the type of the success value which may be present in the
+     * {@code Optional} returned from the mapping function
+     * @return a {@code OptionalResult} containing the result of applying the
+     * mapping function to the double success value of this {@code DoubleResult}, if
+     * in success state, otherwise a {@code OptionalResult} containing the
+     * error value of this {@code DoubleResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public <N> OptionalResult<N, E> mapToOptional(
+            DoubleFunction<? extends Optional<? extends N>> function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ?
+                OptionalResult.success(function.apply(getAsDouble())) :
+                OptionalResult.error(error());
+    }
+
+    /**
+     * If in success state, returns a {@code BooleanResult} containing the
+     * result of applying the given predicate to the double success value,
+     * otherwise returns a {@code BooleanResult} containing the error value of
+     * this {@code DoubleResult}.
+     *
+     * @param predicate the predicate to apply to the double success value, if
+     * success state
+     * @return a {@code BooleanResult} containing the result of applying the
+     * predicate to the double success value of this {@code DoubleResult}, if in
+     * success state, otherwise a {@code BooleanResult} containing the error
+     * value of this {@code DoubleResult}
+     * @throws NullPointerException if the given predicate is {@code null}
+     */
+    public BooleanResult<E> mapToBoolean(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return isSuccess() ?
+                BooleanResult.success(predicate.test(getAsDouble())) :
+                BooleanResult.error(error());
+    }
+
+    /**
+     * If in success state, returns an {@code IntResult} containing the
+     * result of applying the given mapping function to the double success value,
+     * otherwise returns an {@code IntResult} containing the error value
+     * of this {@code DoubleResult}.
+     *
+     * @param function the mapping function to apply to the double success
+     * value, if success state
+     * @return an {@code IntResult} containing the result of applying the
+     * mapping function to the double success value of this {@code DoubleResult}, if in
+     * success state, otherwise an {@code IntResult} containing the error
+     * value of this {@code DoubleResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     */
+    public IntResult<E> mapToInt(DoubleToIntFunction function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ?
+                IntResult.success(function.applyAsInt(getAsDouble())) :
+                IntResult.error(error());
+    }
+
+    /**
+     * If in success state, returns a {@code LongResult} containing the
+     * result of applying the given mapping function to the double success value,
+     * otherwise returns a {@code LongResult} containing the error value
+     * of this {@code DoubleResult}.
+     *
+     * @param function the mapping function to apply to the double success
+     * value, if success state
+     * @return a {@code LongResult} containing the result of applying the
+     * mapping function to the double success value of this {@code DoubleResult}, if in
+     * success state, otherwise a {@code LongResult} containing the error
+     * value of this {@code DoubleResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     */
+    public LongResult<E> mapToLong(DoubleToLongFunction function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ?
+                LongResult.success(function.applyAsLong(getAsDouble())) :
+                LongResult.error(error());
+    }
+
+    /**
+     * If in success state, returns a {@code DoubleResult} containing the
+     * result of applying the given mapping function to the double success value,
+     * otherwise returns a {@code DoubleResult} containing the error value
+     * of this {@code DoubleResult}.
+     *
+     * @param function the mapping function to apply to the double success
+     * value, if success state
+     * @return a {@code DoubleResult} containing the result of applying the
+     * mapping function to the double success value of this {@code DoubleResult}, if in
+     * success state, otherwise a {@code DoubleResult} containing the error
+     * value of this {@code DoubleResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     */
+    public DoubleResult<E> mapToDouble(DoubleUnaryOperator function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ?
+                DoubleResult.success(function.applyAsDouble(getAsDouble())) :
+                this;
+    }
+
+    /**
+     * If in error state, returns a {@code DoubleResult} containing the result of
+     * applying the given mapping function to the error value, otherwise
+     * returns the unaltered {@code DoubleResult} in success state.
+     *
+     * @param function the mapping function to apply to the error value, if
+     * error state
+     * @param <N> the type of the value returned from the mapping function
+     * @return a {@code DoubleResult} containing the result of applying the
+     * mapping function to the error value of this {@code DoubleResult}, if in
+     * error state, otherwise the unaltered {@code DoubleResult} in success state
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public <N> DoubleResult<N> mapError(Function<? super E, ? extends N> function) {
+        return Implementations.mapError(function, DoubleResult::error, this);
+    }
+
+    /**
+     * If in success state, returns the {@code Result} from applying the given
+     * mapping function to the double success value, otherwise returns a
+     * {@code Result} containing the error value of this {@code DoubleResult}.
+     *
+     * @param <N> the type of success value which may be present in the
+     * {@code Result} returned by the mapping function
+     * @param function the mapping function to apply to the double success
+     * value, if success state
+     * @return the {@code Result} returned from the mapping function, if in
+     * success state, otherwise a {@code Result} containing the error value of
+     * this {@code DoubleResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public <N> Result<N, E> flatMap(
+            DoubleFunction<? extends Result<? extends N, ? extends E>> function) {
+        Objects.requireNonNull(function);
+        if (!isSuccess()) {
+            return Result.error(error());
+        }
+        @SuppressWarnings("unchecked")
+        Result<N, E> res = (Result<N, E>) Objects.requireNonNull(function.apply(getAsDouble()));
+        return res;
+    }
+
+    /**
+     * If in success state, returns the {@code OptionalResult} from applying
+     * the given mapping function to the double success value, otherwise returns
+     * a {@code OptionalResult} containing the error value of this
+     * {@code DoubleResult}.
+     *
+     * @param <N> the type of success value which may be present in the
+     * {@code OptionalResult} returned by the mapping function
+     * @param function the mapping function to apply to the double success
+     * value, if success state
+     * @return the {@code OptionalResult} returned from the mapping function,
+     * if in success state, otherwise a {@code OptionalResult} containing the
+     * error value of this {@code DoubleResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public <N> OptionalResult<N, E> flatMapToOptionalResult(
+            DoubleFunction<? extends OptionalResult<? extends N, ? extends E>> function) {
+        Objects.requireNonNull(function);
+        if (!isSuccess()) {
+            return OptionalResult.error(error());
+        }
+        @SuppressWarnings("unchecked")
+        OptionalResult<N, E> res = (OptionalResult<N, E>) Objects.requireNonNull(
+                function.apply(getAsDouble()));
+        return res;
+    }
+
+    /**
+     * If in success state, returns the {@code BooleanResult} from applying
+     * the given mapping function to the double success value, otherwise returns
+     * a {@code BooleanResult} containing the error value of this
+     * {@code DoubleResult}.
+     *
+     * @param function the mapping function to apply to the double success
+     * value, if success state
+     * @return the {@code BooleanResult} returned from the mapping function,
+     * if in success state, otherwise a {@code BooleanResult} containing the
+     * error value of this {@code DoubleResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public BooleanResult<E> flatMapToBooleanResult(
+            DoubleFunction<? extends BooleanResult<? extends E>> function) {
+        Objects.requireNonNull(function);
+        if (!isSuccess()) {
+            return BooleanResult.error(error());
+        }
+        @SuppressWarnings("unchecked")
+        BooleanResult<E> res = (BooleanResult<E>) Objects.requireNonNull(
+                function.apply(getAsDouble()));
+        return res;
+    }
+
+    /**
+     * If in success state, returns the {@code DoubleResult} from applying the
+     * given mapping function to the double success value, otherwise returns the
+     * unaltered {@code DoubleResult} in error state.
+     *
+     * @param function the mapping function to apply to the double success
+     * value, if success state
+     * @return the {@code DoubleResult} returned from the mapping function, if in
+     * success state, otherwise the unaltered {@code DoubleResult} in error state
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public DoubleResult<E> flatMapToDoubleResult(
+            DoubleFunction<? extends DoubleResult<? extends E>> function) {
+        Objects.requireNonNull(function);
+        if (!isSuccess()) {
+            return this;
+        }
+        @SuppressWarnings("unchecked")
+        DoubleResult<E> res = (DoubleResult<E>) Objects.requireNonNull(function.apply(getAsDouble()));
+        return res;
+    }
+
+    /**
+     * If in success state, returns the {@code VoidResult} from applying the
+     * given mapping function to the double success value, otherwise returns a
+     * {@code VoidResult} containing the error value of this
+     * {@code DoubleResult}.
+     *
+     * @param function the mapping function to apply to the double success
+     * value, if success state
+     * @return the {@code VoidResult} returned from the mapping function, if in
+     * success state, otherwise a {@code VoidResult} containing the error value
+     * of this {@code DoubleResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public VoidResult<E> flatMapToVoidResult(
+            DoubleFunction<? extends VoidResult<? extends E>> function) {
+        Objects.requireNonNull(function);
+        if (!isSuccess()) {
+            return VoidResult.error(error());
+        }
+        @SuppressWarnings("unchecked")
+        VoidResult<E> res = (VoidResult<E>) Objects.requireNonNull(function.apply(getAsDouble()));
+        return res;
+    }
+
+    /**
+     * If in error state, returns a {@code DoubleResult} with the success value
+     * from applying the given mapping function to the error value, otherwise
+     * returns the unaltered {@code DoubleResult} in success state.
+     *
+     * @param function the mapping function to apply to the error value to
+     * convert to a new double success value, if error state
+     * @return A {@code DoubleResult} containing the value from the mapping
+     * function, if in error state, otherwise the unaltered {@code DoubleResult} in
+     * success state
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     */
+    public DoubleResult<E> recover(ToDoubleFunction<? super E> function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ? this : success(function.applyAsDouble(error()));
+    }
+
+    /**
+     * If in error state, returns the {@code DoubleResult} from applying the given
+     * mapping function to the error value, otherwise returns the unaltered
+     * {@code DoubleResult} in success state.
+     *
+     * @param function the mapping function to apply to the error value to
+     * convert to a new {@code DoubleResult}, if error state
+     * @return the {@code DoubleResult} returned from the mapping function, if in
+     * error state, otherwise the unaltered {@code DoubleResult} in success state
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     */
+    public DoubleResult<E> flatRecover(
+            Function<? super E, ? extends DoubleResult<? extends E>> function) {
+        @SuppressWarnings("unchecked")
+        DoubleResult<E> res = (DoubleResult<E>) Implementations.flatRecover(function, this);
+        return res;
+    }
+
+    /**
+     * If in success state, applies the double success value to the given
+     * consumer, otherwise does nothing.
+     *
+     * @param consumer the consumer which accepts the double success value
+     * @return the original {@code DoubleResult} unaltered
+     * @throws NullPointerException if the given consumer is {@code null}
+     */
+    public DoubleResult<E> consume(DoubleConsumer consumer) {
+        Objects.requireNonNull(consumer);
+        if (isSuccess()) {
+            consumer.accept(getAsDouble());
+        }
+        return this;
+    }
+
+    /**
+     * If in error state, applies the error value to the given consumer,
+     * otherwise does nothing.
+     *
+     * @param errorConsumer the consumer which accepts the error value
+     * @return the original {@code DoubleResult} unaltered
+     * @throws NullPointerException if the given consumer is {@code null}
+     */
+    public DoubleResult<E> consumeError(Consumer<? super E> errorConsumer) {
+        return Implementations.consumeError(errorConsumer, this);
+    }
+
+    /**
+     * If in success state, applies the double success value to the given value
+     * consumer. If in error state, applies the error value to the given error
+     * consumer.
+     *
+     * @param valueConsumer the consumer which accepts the double success value
+     * @param errorConsumer the consumer which accepts the error value
+     * @return the original {@code DoubleResult} unaltered
+     * @throws NullPointerException if one of the given consumers is
+     * {@code null}
+     */
+    public DoubleResult<E> consumeEither(
+            DoubleConsumer valueConsumer,
+            Consumer<? super E> errorConsumer) {
+        Objects.requireNonNull(valueConsumer);
+        Objects.requireNonNull(errorConsumer);
+        if (isSuccess()) {
+            valueConsumer.accept(getAsDouble());
+        } else {
+            errorConsumer.accept(error());
+        }
+        return this;
+    }
+
+    /**
+     * If in success state, applies the double success value to the given
+     * function. If the function returns a {@code VoidResult} in success
+     * state, the original {@code DoubleResult} is returned unaltered. If the
+     * function returns a {@code VoidResult} in error state, a
+     * {@code DoubleResult} containing the error value is returned. If in error
+     * state, the original {@code DoubleResult} is returned unaltered.
+     *
+     * @param function the function which accepts the double success value
+     * @return the original {@code DoubleResult} unaltered if the given function
+     * returns success or the original {@code DoubleResult} is in error state,
+     * otherwise a {@code DoubleResult} containing the error value from the
+     * function result
+     * @throws NullPointerException if the given function is {@code null} or
+     * returns {@code null}
+     */
+    public DoubleResult<E> flatConsume(
+            DoubleFunction<? extends VoidResult<? extends E>> function) {
+        Objects.requireNonNull(function);
+        if (!isSuccess()) {
+            return this;
+        }
+        VoidResult<? extends E> res = function.apply(getAsDouble());
+        return res.isSuccess() ? this : error(res.error());
+    }
+
+    /**
+     * If in success state, runs the given runnable, otherwise does nothing.
+     *
+     * @param runnable the runnable to run if success state
+     * @return the original {@code DoubleResult} unaltered
+     * @throws NullPointerException if the given runnable is {@code null}
+     */
+    public DoubleResult<E> runIfSuccess(Runnable runnable) {
+        return Implementations.runIfSuccess(runnable, this);
+    }
+
+    /**
+     * If in error state, runs the given runnable, otherwise does nothing.
+     *
+     * @param runnable the runnable to run if error state
+     * @return the original {@code DoubleResult} unaltered
+     * @throws NullPointerException if the given runnable is {@code null}
+     */
+    public DoubleResult<E> runIfError(Runnable runnable) {
+        return Implementations.runIfError(runnable, this);
+    }
+
+    /**
+     * If in success state, runs the given success runnable. If in error state,
+     * runs the given error runnable.
+     *
+     * @param successRunnable the runnable to run if success state
+     * @param errorRunnable the runnable to run if error state
+     * @return the original {@code DoubleResult} unaltered
+     * @throws NullPointerException if one of the given runnables is
+     * {@code null}
+     */
+    public DoubleResult<E> runEither(Runnable successRunnable, Runnable errorRunnable) {
+        return Implementations.runEither(successRunnable, errorRunnable, this);
+    }
+
+    /**
+     * Runs the given runnable, no matter the state.
+     *
+     * @param runnable the runnable to run
+     * @return the original {@code DoubleResult} unaltered
+     * @throws NullPointerException if the given runnable is {@code null}
+     */
+    public DoubleResult<E> runAlways(Runnable runnable) {
+        return Implementations.runAlways(runnable, this);
+    }
+
+    /**
+     * If in success state, runs the given supplier. If the supplier returns a
+     * {@code VoidResult} in success state, the original {@code DoubleResult} is
+     * returned unaltered. If the supplier returns a {@code VoidResult} in
+     * error state, a {@code DoubleResult} containing the error value is returned.
+     * If in error state, the original {@code DoubleResult} is returned unaltered.
+     *
+     * @param supplier the supplier to run
+     * @return the original {@code DoubleResult} unaltered if the given supplier
+     * returns success or the original {@code DoubleResult} is in error state,
+     * otherwise a {@code DoubleResult} containing the error value from the
+     * supplier result
+     * @throws NullPointerException if the given supplier is {@code null} or
+     * returns {@code null}
+     */
+    public DoubleResult<E> flatRunIfSuccess(Supplier<? extends VoidResult<? extends E>> supplier) {
+        return Implementations.flatRunIfSuccess(supplier, DoubleResult::error, this);
+    }
+
+    /**
+     * If in success state, verifies the double success value of this
+     * {@code DoubleResult} by testing it with the given predicate. If the
+     * predicate evaluates to false, a new {@code DoubleResult} is returned
+     * containing the error value provided by the given error supplier. If the
+     * predicate evaluates to true, or the {@code DoubleResult} already was in
+     * error state, the original {@code DoubleResult} is returned unaltered.
+     *
+     * @param predicate the predicate used to verify the double success value,
+     * if success state
+     * @param errorSupplier supplier providing the error if predicate evaluates
+     * to false
+     * @return the original {@code DoubleResult} unaltered, unless the predicate
+     * evaluates to false, then a new {@code DoubleResult} in error state is
+     * returned containing the supplied error value
+     * @throws NullPointerException if the given predicate is {@code null}, or
+     * the given error supplier is {@code null} or returns {@code null}
+     */
+    public DoubleResult<E> verify(
+            DoublePredicate predicate,
+            Supplier<? extends E> errorSupplier) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(errorSupplier);
+        if (!isSuccess() || predicate.test(getAsDouble())) {
+            return this;
+        }
+        return error(errorSupplier.get());
+    }
+
+    /**
+     * If in success state, verifies the double success value of this
+     * {@code DoubleResult} by mapping it to a {@code VoidResult}. If the returned
+     * {@code VoidResult} is in error state, a new {@code DoubleResult} is returned
+     * containing the error value of the {@code VoidResult}. If the
+     * {@code VoidResult} is in success state, or the {@code DoubleResult} already
+     * was in error state, the original {@code DoubleResult} is returned unaltered.
+     *
+     * @param function the function applied to the double success value, if
+     * success state
+     * @return the original {@code DoubleResult} unaltered, unless the
+     * {@code VoidResult} returned by the mapping function is in error state,
+     * then a new {@code DoubleResult} in error state is returned containing the
+     * error value from the {@code VoidResult}
+     * @throws NullPointerException if the given function is {@code null} or
+     * returns {@code null}
+     */
+    public DoubleResult<E> verify(DoubleFunction<? extends VoidResult<? extends E>> function) {
+        return flatConsume(function);
+    }
+
+    /**
+     * Retrieve a value from this {@code DoubleResult} by folding the states. If in
+     * success state, return the value of applying the value function to the
+     * double success value. If in error state, return the value of applying the
+     * error function to the error value.
+     *
+     * @param <N> the type of the retrieved value
+     * @param valueFunction the mapping function to apply to the double success
+     * value, if success state, may return {@code null}
+     * @param errorFunction the mapping function to apply to the error value, if
+     * error state, may return {@code null}
+     * @return the folded value mapped from either the success value or error
+     * value, may be {@code null}
+     * @throws NullPointerException if one of the given functions is
+     * {@code null}
+     */
+    public <N> N fold(DoubleFunction<? extends N> valueFunction,
+                      Function<? super E, ? extends N> errorFunction) {
+        Objects.requireNonNull(valueFunction);
+        Objects.requireNonNull(errorFunction);
+        return isSuccess() ?
+                valueFunction.apply(getAsDouble()) :
+                errorFunction.apply(error());
+    }
+
+    /**
+     * If in success state, returns the double success value, otherwise returns
+     * {@code other}.
+     *
+     * @param other the value to be returned, if not in success state
+     * @return the double success value, if success state, otherwise
+     * {@code other}
+     */
+    public double orElse(double other) {
+        return isSuccess() ? getAsDouble() : other;
+    }
+
+    /**
+     * If in success state, returns the double success value, otherwise returns
+     * the value returned from the given function.
+     *
+     * @param function the mapping function to apply to the error value, if
+     * not in success state
+     * @return the double success value, if success state, otherwise the result
+     * returned from the given function
+     * @throws NullPointerException if the given function is {@code null}
+     */
+    public double orElseGet(ToDoubleFunction<? super E> function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ? getAsDouble() : function.applyAsDouble(error());
+    }
+
+    /**
+     * If in success state, returns the double success value, otherwise throws
+     * the exception returned by the given function.
+     *
+     * @param <X> type of the exception to be thrown
+     * @param function the mapping function producing an exception by applying
+     * the error value, if not in success state
+     * @return the double success value, if success state
+     * @throws X if in error state
+     * @throws NullPointerException if the given function is {@code null} or
+     * returns {@code null}
+     */
+    public <X extends Throwable> double orElseThrow(
+            Function<? super E, ? extends X> function) throws X {
+        Objects.requireNonNull(function);
+        if (isSuccess()) {
+            return getAsDouble();
+        }
+        throw function.apply(error());
+    }
+
+    /**
+     * Transforms this {@code DoubleResult} to a {@code Result}. If in success
+     * state, the {@code Result} will be in success state containing the boxed
+     * double success value from this {@code DoubleResult}. If in error state, the
+     * {@code Result} will be in error state containing the error value from
+     * this {@code DoubleResult}.
+     *
+     * @return a {@code Result} in success state containing the boxed double
+     * success value from this {@code DoubleResult} or in error state containing
+     * the error value from this {@code DoubleResult}
+     */
+    public Result<Double, E> toResult() {
+        return isSuccess() ? Result.success(getAsDouble()) : Result.error(error());
+    }
+
+    /**
+     * Transforms this {@code DoubleResult} to an {@code OptionalResult}. If in
+     * success state, the {@code OptionalResult} will be in success state
+     * containing the boxed double success value from this {@code DoubleResult}. If in
+     * error state, the {@code OptionalResult} will be in error state
+     * containing the error value from this {@code DoubleResult}.
+     * <p>
+     * The returned {@code OptionalResult} will never be empty.
+     *
+     * @return an {@code OptionalResult} in success state containing the boxed
+     * double success value from this {@code DoubleResult} or in error state
+     * containing the error value from this {@code DoubleResult}
+     */
+    public OptionalResult<Double, E> toOptionalResult() {
+        return isSuccess() ?
+                OptionalResult.success(getAsDouble()) :
+                OptionalResult.error(error());
+    }
+
+    /**
+     * Transforms this {@code DoubleResult} to a {@code VoidResult}. If in success
+     * state, the {@code VoidResult} will be in success state. If in error
+     * state, the {@code VoidResult} will be in error state containing the
+     * error value from this {@code DoubleResult}.
+     *
+     * @return a {@code VoidResult} either in success state or in error state
+     * containing the error value from this {@code DoubleResult}
+     */
+    public VoidResult<E> toVoidResult() {
+        return isSuccess() ? VoidResult.success() : VoidResult.error(error());
+    }
+
+    private static final class Success<E> extends DoubleResult<E> {
+
+        private final double value;
+
+        Success(double value) {
+            this.value = value;
+        }
+
+        @Override
+        double getAsDouble() {
+            return value;
+        }
+
+        @Override
+        Double value() {
+            return value;
+        }
+
+        @Override
+        E error() {
+            return null;
+        }
+
+        @Override
+        boolean isSuccess() {
+            return true;
+        }
+    }
+
+    private static final class Failure<E> extends DoubleResult<E> {
+
+        private final E error;
+
+        Failure(E error) {
+            this.error = error;
+        }
+
+        @Override
+        double getAsDouble() {
+            throw new NoSuchElementException("No value present");
+        }
+
+        @Override
+        Double value() {
+            return null;
+        }
+
+        @Override
+        E error() {
+            return error;
+        }
+
+        @Override
+        boolean isSuccess() {
+            return false;
+        }
+    }
+}
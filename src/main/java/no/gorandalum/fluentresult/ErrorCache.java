@@ -0,0 +1,54 @@
+package no.gorandalum.fluentresult;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Shared error instances of one result class. Enum constants are looked up by
+ * ordinal in a table created once per enum class, registered error values in a
+ * map filled on first use.
+ *
+ * @param <R> the result class
+ */
+final class ErrorCache<R> {
+
+    private final Function<Object, ? extends R> constructor;
+
+    private final ClassValue<Object[]> enumTables = new ClassValue<Object[]>() {
+        @Override
+        protected Object[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            Object[] results = new Object[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                results[i] = constructor.apply(constants[i]);
+            }
+            return results;
+        }
+    };
+
+    private final ConcurrentMap<Object, R> registered = new ConcurrentHashMap<>();
+
+    ErrorCache(Function<Object, ? extends R> constructor) {
+        this.constructor = constructor;
+    }
+
+    R get(Object error) {
+        Objects.requireNonNull(error);
+        if (error instanceof Enum) {
+            Enum<?> constant = (Enum<?>) error;
+            @SuppressWarnings("unchecked")
+            R res = (R) enumTables.get(constant.getDeclaringClass())[constant.ordinal()];
+            return res;
+        }
+        R shared = registered.get(error);
+        if (shared != null) {
+            return shared;
+        }
+        if (SharedErrors.isRegistered(error)) {
+            return registered.computeIfAbsent(error, constructor);
+        }
+        return constructor.apply(error);
+    }
+}
@@ -0,0 +1,240 @@
+package no.gorandalum.fluentresult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Races alternative suppliers for {@code firstSuccess}. The alternatives are
+ * started on an executor, either all at once or one at a time with a hedge
+ * delay between them, and the calling thread waits for their results on a
+ * queue. The first result in success state is returned, and the alternatives
+ * still running are cancelled by interrupting their threads. If the calling
+ * thread is interrupted while waiting, the alternatives are cancelled and a
+ * {@code CancellationException} is thrown, as there is no error value for
+ * the interruption.
+ * <p>
+ * A call made from a thread of the fallback pool of {@code handleAll} runs
+ * the alternatives it has started, but which are still waiting in the queue
+ * of the pool, on its own thread instead of waiting for them. So a race
+ * nested in {@code handleAll} can not deadlock the pool.
+ */
+final class FirstSuccess {
+
+    private FirstSuccess() {
+    }
+
+    static <T, E> Result<T, List<E>> result(
+            List<? extends Supplier<? extends Result<? extends T, ? extends E>>> alternatives,
+            Duration hedgeDelay,
+            Executor executor) {
+        List<E> errors = new ArrayList<>(alternatives.size());
+        Result<? extends T, ? extends E> winner = race(alternatives, hedgeDelay, executor, errors);
+        if (winner == null) {
+            return Result.error(errors);
+        }
+        @SuppressWarnings("unchecked")
+        Result<T, List<E>> res = (Result<T, List<E>>) (Result<?, ?>) winner;
+        return res;
+    }
+
+    static <T, E> OptionalResult<T, List<E>> optionalResult(
+            List<? extends Supplier<? extends OptionalResult<? extends T, ? extends E>>> alternatives,
+            Duration hedgeDelay,
+            Executor executor) {
+        List<E> errors = new ArrayList<>(alternatives.size());
+        OptionalResult<? extends T, ? extends E> winner = race(alternatives, hedgeDelay, executor, errors);
+        if (winner == null) {
+            return OptionalResult.error(errors);
+        }
+        @SuppressWarnings("unchecked")
+        OptionalResult<T, List<E>> res = (OptionalResult<T, List<E>>) (OptionalResult<?, ?>) winner;
+        return res;
+    }
+
+    /**
+     * Returns the first result in success state, or {@code null} after adding
+     * the error values of the failed alternatives to the given list, in the
+     * order of the alternatives.
+     */
+    private static <R extends BaseResult<?, ? extends E>, E> R race(
+            List<? extends Supplier<? extends R>> alternatives,
+            Duration hedgeDelay,
+            Executor executor,
+            List<E> errors) {
+        Objects.requireNonNull(executor);
+        if (hedgeDelay.isNegative()) {
+            throw new IllegalArgumentException("Hedge delay must not be negative, was " + hedgeDelay);
+        }
+        List<Supplier<? extends R>> suppliers = new ArrayList<>(alternatives);
+        suppliers.forEach(Objects::requireNonNull);
+        if (suppliers.isEmpty()) {
+            throw new IllegalArgumentException("Alternatives must not be empty");
+        }
+        long delayNanos = toNanos(hedgeDelay);
+        BlockingQueue<Attempt<R>> completed = new LinkedBlockingQueue<>();
+        List<Attempt<R>> attempts = new ArrayList<>(suppliers.size());
+        List<E> errorsByIndex = new ArrayList<>(suppliers.size());
+        for (int i = 0; i < suppliers.size(); i++) {
+            errorsByIndex.add(null);
+        }
+        boolean onPool = BulkHandle.onPoolThread();
+        try {
+            do {
+                start(suppliers, attempts, completed, executor);
+            } while (delayNanos == 0 && attempts.size() < suppliers.size());
+            int failed = 0;
+            while (true) {
+                if (onPool && !Thread.currentThread().isInterrupted()) {
+                    runWaiting(attempts);
+                }
+                Attempt<R> attempt = attempts.size() < suppliers.size() ?
+                        completed.poll(delayNanos, TimeUnit.NANOSECONDS) :
+                        completed.take();
+                if (attempt == null) {
+                    start(suppliers, attempts, completed, executor);
+                    continue;
+                }
+                R result = attempt.result();
+                if (result.isSuccess()) {
+                    return result;
+                }
+                errorsByIndex.set(attempt.index, result.error());
+                if (++failed == suppliers.size()) {
+                    errors.addAll(errorsByIndex);
+                    return null;
+                }
+                if (attempts.size() < suppliers.size()) {
+                    start(suppliers, attempts, completed, executor);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            CancellationException cancelled = new CancellationException("Interrupted while waiting for an alternative");
+            cancelled.initCause(e);
+            throw cancelled;
+        } finally {
+            attempts.forEach(Attempt::cancel);
+        }
+    }
+
+    private static <R> void start(List<Supplier<? extends R>> suppliers,
+                                  List<Attempt<R>> attempts,
+                                  BlockingQueue<Attempt<R>> completed,
+                                  Executor executor) {
+        int index = attempts.size();
+        Attempt<R> attempt = new Attempt<>(index, suppliers.get(index), completed);
+        attempts.add(attempt);
+        executor.execute(attempt);
+    }
+
+    /**
+     * Runs the first started attempt not yet run by the executor on the
+     * calling thread, if any.
+     */
+    private static <R> void runWaiting(List<Attempt<R>> attempts) {
+        for (Attempt<R> attempt : attempts) {
+            if (attempt.claim()) {
+                attempt.runClaimed();
+                return;
+            }
+        }
+    }
+
+    private static long toNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Runs one alternative and puts itself on the queue of completed attempts.
+     * Cancelling an attempt which has not started prevents it from running,
+     * cancelling a running attempt interrupts its thread. The interrupt is
+     * cleared before the thread is given back to the executor. An attempt runs
+     * at most once, either by the executor or by the calling thread.
+     */
+    private static final class Attempt<R> implements Runnable {
+
+        final int index;
+        private final Supplier<? extends R> supplier;
+        private final BlockingQueue<Attempt<R>> completed;
+
+        private Thread thread;
+        private boolean claimed;
+        private boolean cancelled;
+
+        private R result;
+        private Throwable failure;
+
+        Attempt(int index, Supplier<? extends R> supplier, BlockingQueue<Attempt<R>> completed) {
+            this.index = index;
+            this.supplier = supplier;
+            this.completed = completed;
+        }
+
+        @Override
+        public void run() {
+            if (claim()) {
+                runClaimed();
+            }
+        }
+
+        /**
+         * Claims this attempt for the current thread, returning {@code false}
+         * if it is cancelled or already claimed.
+         */
+        synchronized boolean claim() {
+            if (cancelled || claimed) {
+                return false;
+            }
+            claimed = true;
+            thread = Thread.currentThread();
+            return true;
+        }
+
+        void runClaimed() {
+            try {
+                result = Objects.requireNonNull(supplier.get());
+            } catch (RuntimeException | Error e) {
+                failure = e;
+            } finally {
+                synchronized (this) {
+                    thread = null;
+                    if (cancelled) {
+                        Thread.interrupted();
+                    }
+                }
+            }
+            completed.add(this);
+        }
+
+        synchronized void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                if (thread != null) {
+                    thread.interrupt();
+                }
+            }
+        }
+
+        R result() {
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+            return result;
+        }
+    }
+}
@@ -12,13 +12,13 @@ final class Implementations {
     }
 
     static <T, E, R extends BaseResult<T, E>> T orElse(T other, R instance) {
-        return instance.errorOpt().map(err -> other).orElse(instance.value());
+        return instance.isSuccess() ? instance.value() : other;
     }
 
     static <T, E, R extends BaseResult<T, E>> T orElseGet(
             Function<? super E, ? extends T> function, R instance) {
         Objects.requireNonNull(function);
-        return instance.errorOpt().map(err -> (T) function.apply(err)).orElse(instance.value());
+        return instance.isSuccess() ? instance.value() : function.apply(instance.error());
     }
 
     static <T, E, R extends BaseResult<T, E>, X extends Throwable> T orElseThrow(
@@ -83,7 +83,9 @@ final class Implementations {
     static <T, E, R extends BaseResult<T, E>> R runIfError(Runnable runnable,
                                                            R instance) {
         Objects.requireNonNull(runnable);
-        instance.errorOpt().ifPresent(err -> runnable.run());
+        if (!instance.isSuccess()) {
+            runnable.run();
+        }
         return instance;
     }
 
@@ -112,12 +114,11 @@ final class Implementations {
             Function<E, R> errorConstructor,
             R instance) {
         Objects.requireNonNull(supplier);
-        return instance.errorOpt()
-                .map(err -> instance)
-                .orElseGet(() -> {
-                    BaseResult<Void, ? extends E> res = supplier.get();
-                    return res.isSuccess() ? instance : errorConstructor.apply(res.error());
-                });
+        if (!instance.isSuccess()) {
+            return instance;
+        }
+        BaseResult<Void, ? extends E> res = supplier.get();
+        return res.isSuccess() ? instance : errorConstructor.apply(res.error());
     }
 
     static <T, E, R extends BaseResult<T, E>> R verify(Predicate<? super T> predicate,
@@ -126,10 +127,10 @@ final class Implementations {
                                                        R instance) {
         Objects.requireNonNull(predicate);
         Objects.requireNonNull(errorSupplier);
-        return instance.errorOpt()
-                .map(err -> instance)
-                .orElseGet(() -> predicate.test(instance.value()) ?
-                        instance : errorConstructor.apply(errorSupplier.get()));
+        if (!instance.isSuccess() || predicate.test(instance.value())) {
+            return instance;
+        }
+        return errorConstructor.apply(errorSupplier.get());
     }
 
     static <T, E, R extends BaseResult<T, E>> R flatConsume(
@@ -137,12 +138,11 @@ final class Implementations {
             Function<E, R> errorConstructor,
             R instance) {
         Objects.requireNonNull(function);
-        return instance.errorOpt()
-                .map(err -> instance)
-                .orElseGet(() -> {
-                    BaseResult<Void, ? extends E> res = function.apply(instance.value());
-                    return res.isSuccess() ? instance : errorConstructor.apply(res.error());
-                });
+        if (!instance.isSuccess()) {
+            return instance;
+        }
+        BaseResult<Void, ? extends E> res = function.apply(instance.value());
+        return res.isSuccess() ? instance : errorConstructor.apply(res.error());
     }
 
     static <T, E, N, NR, R extends BaseResult<T, E>> NR map(
@@ -173,9 +173,12 @@ final class Implementations {
     static <T, E, N, NR extends BaseResult<? extends N, ? extends E>, R extends BaseResult<T, E>> NR flatMap(
             Function<? super T, ? extends NR> function, R instance) {
         Objects.requireNonNull(function);
+        if (instance.isSuccess()) {
+            return Objects.requireNonNull(function.apply(instance.value()));
+        }
         @SuppressWarnings("unchecked")
         NR res = (NR) instance;
-        return flatMap(function, instance, err -> res);
+        return res;
     }
 
     static <T, E, N, NR extends BaseResult<? extends N, ? extends E>, R extends BaseResult<T, E>> NR flatMap(
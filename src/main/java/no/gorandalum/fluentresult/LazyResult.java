@@ -0,0 +1,422 @@
+package no.gorandalum.fluentresult;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A lazy result which computes its {@code Result} on first use, and then
+ * keeps it. The combinators mirror those of {@link Result}, but only add a
+ * pending step. Neither the supplier nor the steps are run until a terminal
+ * method like {@link #fold(Function, Function)}, {@link #orElse(Object)},
+ * {@link #orElseThrow(Function)} or {@link #toResult()} is called, so a
+ * {@code LazyResult} which is never inspected costs no more than the
+ * objects describing it.
+ * <p>
+ * The {@code Result} is computed at most once, also when used from several
+ * threads at the same time, and each step keeps its own {@code Result}, so
+ * two {@code LazyResult}s derived from the same {@code LazyResult} share the
+ * computation of the steps they have in common. Each {@code LazyResult}
+ * holds the {@code LazyResult} it was derived from and its own pending step,
+ * and the pending steps of a chain are computed in a loop, so a long chain
+ * uses no more stack than a short one. If the supplier or a step throws an
+ * exception, nothing is kept for that step and the steps after it, and the
+ * exception is thrown again by the next terminal call, which runs the
+ * computation again from that step.
+ * <p>
+ * A variable whose type is {@code LazyResult} should never itself be
+ * {@code null}, it should always point to a {@code LazyResult} instance.
+ *
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ */
+public final class LazyResult<T, E> {
+
+    private volatile Result<T, E> result;
+    private Supplier<? extends Result<T, E>> supplier;
+    private LazyResult<?, ?> source;
+    private Function<Object, ? extends Result<T, E>> step;
+
+    private LazyResult(Result<T, E> result, Supplier<? extends Result<T, E>> supplier) {
+        this.result = result;
+        this.supplier = supplier;
+    }
+
+    private LazyResult(LazyResult<?, ?> source, Function<Object, ? extends Result<T, E>> step) {
+        this.source = source;
+        this.step = step;
+    }
+
+    /**
+     * Returns an evaluated {@code LazyResult} holding a {@code Result} in
+     * success state containing the given non-{@code null} value as success
+     * value.
+     *
+     * @param value the success value, which must be non-{@code null}
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return an evaluated {@code LazyResult} in success state containing the
+     * given success value
+     * @throws NullPointerException if given success value is {@code null}
+     */
+    public static <T, E> LazyResult<T, E> success(T value) {
+        return new LazyResult<>(Result.success(value), null);
+    }
+
+    /**
+     * Returns an evaluated {@code LazyResult} holding a {@code Result} in
+     * error state containing the given non-{@code null} value as error value.
+     *
+     * @param value the error value, which must be non-{@code null}
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return an evaluated {@code LazyResult} in error state containing the
+     * given error value
+     * @throws NullPointerException if given error value is {@code null}
+     */
+    public static <T, E> LazyResult<T, E> error(E value) {
+        return new LazyResult<>(Result.error(value), null);
+    }
+
+    /**
+     * Returns a {@code LazyResult} holding the {@code Result} returned by the
+     * given supplier. The supplier is called on the first terminal call, and
+     * not again once it has returned.
+     *
+     * @param supplier the supplier of the {@code Result}
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return a {@code LazyResult} holding the {@code Result} of the supplier
+     * @throws NullPointerException if given supplier is {@code null}
+     */
+    public static <T, E> LazyResult<T, E> of(Supplier<? extends Result<T, E>> supplier) {
+        return new LazyResult<>(null, Objects.requireNonNull(supplier));
+    }
+
+    /**
+     * Handle the given {@code Callable} lazily. The {@code Callable} is called
+     * on the first terminal call. If it executes successfully, the
+     * {@code LazyResult} will be in success state containing the returned
+     * value. If it throws an exception, the {@code LazyResult} will be in
+     * error state containing the thrown exception.
+     *
+     * @param callable the {@code Callable} to handle
+     * @param <T> type of the return value of the {@code Callable}
+     * @return a {@code LazyResult} either in success state containing the
+     * value from the {@code Callable}, or in error state containing the
+     * exception thrown by the {@code Callable}
+     * @throws NullPointerException if the given callable is {@code null}
+     * @see Result#handle(Callable)
+     */
+    public static <T> LazyResult<T, Exception> handle(Callable<T> callable) {
+        Objects.requireNonNull(callable);
+        return of(() -> Result.handle(callable));
+    }
+
+    /**
+     * Handle the given {@code Callable} lazily. The {@code Callable} is called
+     * on the first terminal call. If it executes successfully, the
+     * {@code LazyResult} will be in success state containing the returned
+     * value. If it throws an exception, the {@code LazyResult} will be in
+     * error state containing the result after mapping the exception with the
+     * given exception mapper function.
+     *
+     * @param callable the {@code Callable} to handle
+     * @param exceptionMapper the function mapping a thrown exception to the
+     * error value
+     * @param <T> type of the return value of the {@code Callable}
+     * @param <E> type of the error value after mapping a thrown exception
+     * @return a {@code LazyResult} either in success state containing the
+     * value from the {@code Callable}, or in error state containing the result
+     * after mapping the exception thrown by the {@code Callable}
+     * @throws NullPointerException if the given callable or exception mapper
+     * function is {@code null}
+     * @see Result#handle(Callable, Function)
+     */
+    public static <T, E> LazyResult<T, E> handle(Callable<T> callable,
+                                                 Function<Exception, E> exceptionMapper) {
+        Objects.requireNonNull(callable);
+        Objects.requireNonNull(exceptionMapper);
+        return of(() -> Result.handle(callable, exceptionMapper));
+    }
+
+    /**
+     * Returns a {@code LazyResult} which, if this {@code LazyResult} is in
+     * success state, contains the result of applying the given mapping
+     * function to the success value, otherwise the unaltered error value. The
+     * function is applied on the first terminal call of the returned
+     * {@code LazyResult}.
+     *
+     * @param function the mapping function to apply to the success value, if
+     * success state
+     * @param <N> the type of the value returned from the mapping function
+     * @return a {@code LazyResult} containing the result of applying the
+     * mapping function to the success value, if success state, otherwise the
+     * error value of this {@code LazyResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     * @see Result#map(Function)
+     */
+    public <N> LazyResult<N, E> map(Function<? super T, ? extends N> function) {
+        Objects.requireNonNull(function);
+        return then(res -> res.map(function));
+    }
+
+    /**
+     * Returns a {@code LazyResult} which, if this {@code LazyResult} is in
+     * success state, holds the {@code Result} returned from applying the given
+     * function to the success value, otherwise the unaltered error value. The
+     * function is applied on the first terminal call of the returned
+     * {@code LazyResult}.
+     *
+     * @param function the function to apply to the success value, if success
+     * state
+     * @param <N> the type of success value which may be present in the
+     * {@code Result} returned by the function
+     * @return a {@code LazyResult} holding the {@code Result} returned from
+     * the function, if success state, otherwise the error value of this
+     * {@code LazyResult}
+     * @throws NullPointerException if the given function is {@code null}
+     * @see Result#flatMap(Function)
+     */
+    public <N> LazyResult<N, E> flatMap(
+            Function<? super T, ? extends Result<? extends N, ? extends E>> function) {
+        Objects.requireNonNull(function);
+        return then(res -> res.flatMap(function));
+    }
+
+    /**
+     * Returns a {@code LazyResult} which, if this {@code LazyResult} is in
+     * error state, contains the result of applying the given mapping function
+     * to the error value, otherwise the unaltered success value. The function
+     * is applied on the first terminal call of the returned
+     * {@code LazyResult}.
+     *
+     * @param function the mapping function to apply to the error value, if
+     * error state
+     * @param <N> the type of the value returned from the mapping function
+     * @return a {@code LazyResult} containing the result of applying the
+     * mapping function to the error value, if error state, otherwise the
+     * success value of this {@code LazyResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     * @see Result#mapError(Function)
+     */
+    public <N> LazyResult<T, N> mapError(Function<? super E, ? extends N> function) {
+        Objects.requireNonNull(function);
+        return then(res -> res.mapError(function));
+    }
+
+    /**
+     * Returns a {@code LazyResult} which, if this {@code LazyResult} is in
+     * error state, is in success state containing the result of applying the
+     * given function to the error value, otherwise the unaltered success
+     * value. The function is applied on the first terminal call of the
+     * returned {@code LazyResult}.
+     *
+     * @param function the function to apply to the error value, if error state
+     * @return a {@code LazyResult} in success state containing either the
+     * success value of this {@code LazyResult} or the value recovered from the
+     * error value
+     * @throws NullPointerException if the given function is {@code null}
+     * @see Result#recover(Function)
+     */
+    public LazyResult<T, E> recover(Function<E, T> function) {
+        Objects.requireNonNull(function);
+        return then(res -> res.recover(function));
+    }
+
+    /**
+     * Returns a {@code LazyResult} which, if this {@code LazyResult} is in
+     * success state, verifies the success value by testing it with the given
+     * predicate. If the predicate evaluates to false, the returned
+     * {@code LazyResult} is in error state containing the error value provided
+     * by the given error supplier. The predicate is tested on the first
+     * terminal call of the returned {@code LazyResult}.
+     *
+     * @param predicate the predicate used to verify the success value, if
+     * success state
+     * @param errorSupplier supplier providing the error if predicate evaluates
+     * to false
+     * @return a {@code LazyResult} with the result of verifying this
+     * {@code LazyResult}
+     * @throws NullPointerException if the given predicate or error supplier is
+     * {@code null}
+     * @see Result#verify(Predicate, Supplier)
+     */
+    public LazyResult<T, E> verify(Predicate<? super T> predicate,
+                                   Supplier<? extends E> errorSupplier) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(errorSupplier);
+        return then(res -> res.verify(predicate, errorSupplier));
+    }
+
+    /**
+     * Returns a {@code LazyResult} which, if this {@code LazyResult} is in
+     * success state, verifies the success value by mapping it to a
+     * {@code VoidResult}. If the returned {@code VoidResult} is in error
+     * state, the returned {@code LazyResult} is in error state containing its
+     * error value. The function is applied on the first terminal call of the
+     * returned {@code LazyResult}.
+     *
+     * @param function the function applied to the success value, if success
+     * state
+     * @return a {@code LazyResult} with the result of verifying this
+     * {@code LazyResult}
+     * @throws NullPointerException if the given function is {@code null}
+     * @see Result#verify(Function)
+     */
+    public LazyResult<T, E> verify(Function<? super T, ? extends VoidResult<? extends E>> function) {
+        Objects.requireNonNull(function);
+        return then(res -> res.verify(function));
+    }
+
+    /**
+     * Returns {@code true} if the {@code Result} of this {@code LazyResult}
+     * has been computed, otherwise {@code false}.
+     *
+     * @return {@code true} if computed, otherwise {@code false}
+     */
+    public boolean isEvaluated() {
+        return result != null;
+    }
+
+    /**
+     * Returns the {@code Result} of this {@code LazyResult}, computing it if
+     * this is the first terminal call.
+     *
+     * @return the {@code Result} of this {@code LazyResult}
+     * @throws NullPointerException if the supplier or a function of this
+     * {@code LazyResult} returns {@code null}
+     */
+    public Result<T, E> toResult() {
+        Result<T, E> res = result;
+        if (res == null) {
+            res = evaluate();
+        }
+        return res;
+    }
+
+    /**
+     * Computes the pending steps from the first one not yet computed down to
+     * this one. The chain is walked up to collect them, and they are then
+     * computed in order, each under its own lock, so neither the stack nor
+     * the locks held grow with the length of the chain.
+     */
+    private Result<T, E> evaluate() {
+        Deque<LazyResult<?, ?>> pending = new ArrayDeque<>();
+        LazyResult<?, ?> node = this;
+        while (node != null && node.result == null) {
+            pending.push(node);
+            node = node.source;
+        }
+        Result<?, ?> previous = null;
+        while (!pending.isEmpty()) {
+            previous = pending.pop().evaluate(previous);
+        }
+        return result;
+    }
+
+    private synchronized Result<T, E> evaluate(Result<?, ?> sourceResult) {
+        if (result == null) {
+            Result<T, E> res = supplier != null ?
+                    supplier.get() :
+                    step.apply(sourceResult != null ? sourceResult : source.result);
+            result = Objects.requireNonNull(res);
+            supplier = null;
+            source = null;
+            step = null;
+        }
+        return result;
+    }
+
+    private <N, F> LazyResult<N, F> then(Function<Result<T, E>, ? extends Result<N, F>> step) {
+        @SuppressWarnings("unchecked")
+        Function<Object, ? extends Result<N, F>> untyped =
+                (Function<Object, ? extends Result<N, F>>) (Function<?, ?>) step;
+        return new LazyResult<>(this, untyped);
+    }
+
+    /**
+     * Retrieve a value from this {@code LazyResult} by folding the states of
+     * its {@code Result}, computing it if this is the first terminal call.
+     *
+     * @param <N> the type of retrieved value
+     * @param valueFunction the mapping function to apply to the success value,
+     * if success state, may return {@code null}
+     * @param errorFunction the mapping function to apply to the error value, if
+     * error state, may return {@code null}
+     * @return the folded value mapped from either the success value or error
+     * value, may be {@code null}
+     * @throws NullPointerException if one of the given functions is
+     * {@code null}
+     * @see Result#fold(Function, Function)
+     */
+    public <N> N fold(Function<? super T, ? extends N> valueFunction,
+                      Function<? super E, ? extends N> errorFunction) {
+        Objects.requireNonNull(valueFunction);
+        Objects.requireNonNull(errorFunction);
+        return toResult().fold(valueFunction, errorFunction);
+    }
+
+    /**
+     * If in success state, returns the success value, otherwise returns
+     * {@code other}. Computes the {@code Result} if this is the first
+     * terminal call.
+     *
+     * @param other the value to be returned, if not in success state, may be
+     * {@code null}
+     * @return the success value, if success state, otherwise {@code other}
+     * @see Result#orElse(Object)
+     */
+    public T orElse(T other) {
+        return toResult().orElse(other);
+    }
+
+    /**
+     * If in success state, returns the success value, otherwise returns the
+     * value returned from the given function. Computes the {@code Result} if
+     * this is the first terminal call.
+     *
+     * @param function the mapping function to apply to the error value, if not
+     * in success state, it may return {@code null}
+     * @return the success value, if success state, otherwise the result
+     * returned from the given function
+     * @throws NullPointerException if the given function is {@code null}
+     * @see Result#orElseGet(Function)
+     */
+    public T orElseGet(Function<? super E, ? extends T> function) {
+        Objects.requireNonNull(function);
+        return toResult().orElseGet(function);
+    }
+
+    /**
+     * If in success state, returns the success value, otherwise throws the
+     * exception returned by the given function. Computes the {@code Result} if
+     * this is the first terminal call.
+     *
+     * @param <X> type of the exception to be thrown
+     * @param function the mapping function producing an exception by applying
+     * the error value, if not in success state
+     * @return the success value, if success state
+     * @throws X if in error state
+     * @throws NullPointerException if the given function is {@code null} or
+     * returns {@code null}
+     * @see Result#orElseThrow(Function)
+     */
+    public <X extends Throwable> T orElseThrow(
+            Function<? super E, ? extends X> function) throws X {
+        Objects.requireNonNull(function);
+        return toResult().orElseThrow(function);
+    }
+
+    @Override
+    public String toString() {
+        Result<T, E> res = result;
+        return res == null ? "LazyResult[Not evaluated]" : "Lazy" + res;
+    }
+}
@@ -0,0 +1,785 @@
+package no.gorandalum.fluentresult;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * A result object which either is in success state containing a long value,
+ * or in error state containing a non-{@code null} error value.
+ * <p>
+ * The long success value is stored unboxed, so creating, mapping and
+ * retrieving the success value of a {@code LongResult} does not allocate a
+ * {@code Long}. Boxing only happens when converting to a generic result
+ * type, for instance through {@link #toResult()}.
+ * <p>
+ * A variable whose type is {@code LongResult} should never itself be
+ * {@code null}, it should always point to a {@code LongResult} instance.
+ *
+ * @param <E> the type of the error value
+ */
+@SuppressWarnings("WeakerAccess")
+public abstract class LongResult<E> extends BaseResult<Long, E> {
+
+    /**
+     * Shared error instances for enum constants and registered error values.
+     */
+    private static final ErrorCache<LongResult<?>> ERROR_CACHE =
+            new ErrorCache<>(Failure::new);
+
+    private LongResult() {
+    }
+
+    /**
+     * Returns the long success value. Must only be called in success state.
+     *
+     * @return the long success value
+     * @throws NoSuchElementException if in error state
+     */
+    abstract long getAsLong();
+
+    /**
+     * Returns a {@code LongResult} in success state containing the given long
+     * value as success value.
+     *
+     * @param value the long success value
+     * @param <E> the type of the error value
+     * @return a {@code LongResult} in success state containing the given long
+     * success value
+     */
+    public static <E> LongResult<E> success(long value) {
+        return new Success<>(value);
+    }
+
+    /**
+     * Returns a {@code LongResult} in error state containing the given
+     * non-{@code null} value as error value.
+     *
+     * @param value the error value, which must be non-{@code null}
+     * @param <E> the type of the error value
+     * @return a {@code LongResult} in error state containing the given error
+     * value
+     * @throws NullPointerException if given error value is {@code null}
+     */
+    public static <E> LongResult<E> error(E value) {
+        return new Failure<>(Objects.requireNonNull(value));
+    }
+
+    /**
+     * Returns a {@code LongResult} in error state containing the given
+     * non-{@code null} value as error value. If the error value is an enum
+     * constant or registered with {@link SharedErrors#register(Object)}, a
+     * shared instance is returned instead of a new one.
+     *
+     * @param value the error value, which must be non-{@code null}
+     * @param <E> the type of the error value
+     * @return a {@code LongResult} in error state containing the given error
+     * value
+     * @throws NullPointerException if given error value is {@code null}
+     */
+    public static <E> LongResult<E> sharedError(E value) {
+        @SuppressWarnings("unchecked")
+        LongResult<E> res = (LongResult<E>) ERROR_CACHE.get(value);
+        return res;
+    }
+
+    /**
+     * If in success state, returns a {@code Result} containing the result of
+     * applying the given mapping function to the long success value,
+     * otherwise returns a {@code Result} containing the error value of this
+     * {@code LongResult}.
+     *
+     * @param function the mapping function to apply to the long success
+     * value, if success state
+     * @param <N> the type of the value returned from the mapping function
+     * @return a {@code Result} containing the result of applying the mapping
+     * function to the long success value of this {@code LongResult}, if in
+     * success state, otherwise a {@code Result} containing the error value
+     * of this {@code LongResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public <N> Result<N, E> map(LongFunction<? extends N> function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ?
+                Result.success(function.apply(getAsLong())) :
+                Result.error(error());
+    }
+
+    /**
+     * If in success state, returns a {@code OptionalResult} containing the
+     * result of applying the given mapping function to the long success
+     * value, otherwise returns a {@code OptionalResult} containing the error
+     * value of this {@code LongResult}.
+     *
+     * @param function the mapping function to apply to the long success
+     * value, if success state
+     * @param <N> the type of the success value which may be present in the
+     * {@code Optional} returned from the mapping function
+     * @return a {@code OptionalResult} containing the result of applying the
+     * mapping function to the long success value of this {@code LongResult}, if
+     * in success state, otherwise a {@code OptionalResult} containing the
+     * error value of this {@code LongResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public <N> OptionalResult<N, E> mapToOptional(
+            LongFunction<? extends Optional<? extends N>> function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ?
+                OptionalResult.success(function.apply(getAsLong())) :
+                OptionalResult.error(error());
+    }
+
+    /**
+     * If in success state, returns a {@code BooleanResult} containing the
+     * result of applying the given predicate to the long success value,
+     * otherwise returns a {@code BooleanResult} containing the error value of
+     * this {@code LongResult}.
+     *
+     * @param predicate the predicate to apply to the long success value, if
+     * success state
+     * @return a {@code BooleanResult} containing the result of applying the
+     * predicate to the long success value of this {@code LongResult}, if in
+     * success state, otherwise a {@code BooleanResult} containing the error
+     * value of this {@code LongResult}
+     * @throws NullPointerException if the given predicate is {@code null}
+     */
+    public BooleanResult<E> mapToBoolean(LongPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return isSuccess() ?
+                BooleanResult.success(predicate.test(getAsLong())) :
+                BooleanResult.error(error());
+    }
+
+    /**
+     * If in success state, returns an {@code IntResult} containing the
+     * result of applying the given mapping function to the long success value,
+     * otherwise returns an {@code IntResult} containing the error value
+     * of this {@code LongResult}.
+     *
+     * @param function the mapping function to apply to the long success
+     * value, if success state
+     * @return an {@code IntResult} containing the result of applying the
+     * mapping function to the long success value of this {@code LongResult}, if in
+     * success state, otherwise an {@code IntResult} containing the error
+     * value of this {@code LongResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     */
+    public IntResult<E> mapToInt(LongToIntFunction function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ?
+                IntResult.success(function.applyAsInt(getAsLong())) :
+                IntResult.error(error());
+    }
+
+    /**
+     * If in success state, returns a {@code LongResult} containing the
+     * result of applying the given mapping function to the long success value,
+     * otherwise returns a {@code LongResult} containing the error value
+     * of this {@code LongResult}.
+     *
+     * @param function the mapping function to apply to the long success
+     * value, if success state
+     * @return a {@code LongResult} containing the result of applying the
+     * mapping function to the long success value of this {@code LongResult}, if in
+     * success state, otherwise a {@code LongResult} containing the error
+     * value of this {@code LongResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     */
+    public LongResult<E> mapToLong(LongUnaryOperator function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ?
+                LongResult.success(function.applyAsLong(getAsLong())) :
+                this;
+    }
+
+    /**
+     * If in success state, returns a {@code DoubleResult} containing the
+     * result of applying the given mapping function to the long success value,
+     * otherwise returns a {@code DoubleResult} containing the error value
+     * of this {@code LongResult}.
+     *
+     * @param function the mapping function to apply to the long success
+     * value, if success state
+     * @return a {@code DoubleResult} containing the result of applying the
+     * mapping function to the long success value of this {@code LongResult}, if in
+     * success state, otherwise a {@code DoubleResult} containing the error
+     * value of this {@code LongResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     */
+    public DoubleResult<E> mapToDouble(LongToDoubleFunction function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ?
+                DoubleResult.success(function.applyAsDouble(getAsLong())) :
+                DoubleResult.error(error());
+    }
+
+    /**
+     * If in error state, returns a {@code LongResult} containing the result of
+     * applying the given mapping function to the error value, otherwise
+     * returns the unaltered {@code LongResult} in success state.
+     *
+     * @param function the mapping function to apply to the error value, if
+     * error state
+     * @param <N> the type of the value returned from the mapping function
+     * @return a {@code LongResult} containing the result of applying the
+     * mapping function to the error value of this {@code LongResult}, if in
+     * error state, otherwise the unaltered {@code LongResult} in success state
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public <N> LongResult<N> mapError(Function<? super E, ? extends N> function) {
+        return Implementations.mapError(function, LongResult::error, this);
+    }
+
+    /**
+     * If in success state, returns the {@code Result} from applying the given
+     * mapping function to the long success value, otherwise returns a
+     * {@code Result} containing the error value of this {@code LongResult}.
+     *
+     * @param <N> the type of success value which may be present in the
+     * {@code Result} returned by the mapping function
+     * @param function the mapping function to apply to the long success
+     * value, if success state
+     * @return the {@code Result} returned from the mapping function, if in
+     * success state, otherwise a {@code Result} containing the error value of
+     * this {@code LongResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public <N> Result<N, E> flatMap(
+            LongFunction<? extends Result<? extends N, ? extends E>> function) {
+        Objects.requireNonNull(function);
+        if (!isSuccess()) {
+            return Result.error(error());
+        }
+        @SuppressWarnings("unchecked")
+        Result<N, E> res = (Result<N, E>) Objects.requireNonNull(function.apply(getAsLong()));
+        return res;
+    }
+
+    /**
+     * If in success state, returns the {@code OptionalResult} from applying
+     * the given mapping function to the long success value, otherwise returns
+     * a {@code OptionalResult} containing the error value of this
+     * {@code LongResult}.
+     *
+     * @param <N> the type of success value which may be present in the
+     * {@code OptionalResult} returned by the mapping function
+     * @param function the mapping function to apply to the long success
+     * value, if success state
+     * @return the {@code OptionalResult} returned from the mapping function,
+     * if in success state, otherwise a {@code OptionalResult} containing the
+     * error value of this {@code LongResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public <N> OptionalResult<N, E> flatMapToOptionalResult(
+            LongFunction<? extends OptionalResult<? extends N, ? extends E>> function) {
+        Objects.requireNonNull(function);
+        if (!isSuccess()) {
+            return OptionalResult.error(error());
+        }
+        @SuppressWarnings("unchecked")
+        OptionalResult<N, E> res = (OptionalResult<N, E>) Objects.requireNonNull(
+                function.apply(getAsLong()));
+        return res;
+    }
+
+    /**
+     * If in success state, returns the {@code BooleanResult} from applying
+     * the given mapping function to the long success value, otherwise returns
+     * a {@code BooleanResult} containing the error value of this
+     * {@code LongResult}.
+     *
+     * @param function the mapping function to apply to the long success
+     * value, if success state
+     * @return the {@code BooleanResult} returned from the mapping function,
+     * if in success state, otherwise a {@code BooleanResult} containing the
+     * error value of this {@code LongResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public BooleanResult<E> flatMapToBooleanResult(
+            LongFunction<? extends BooleanResult<? extends E>> function) {
+        Objects.requireNonNull(function);
+        if (!isSuccess()) {
+            return BooleanResult.error(error());
+        }
+        @SuppressWarnings("unchecked")
+        BooleanResult<E> res = (BooleanResult<E>) Objects.requireNonNull(
+                function.apply(getAsLong()));
+        return res;
+    }
+
+    /**
+     * If in success state, returns the {@code LongResult} from applying the
+     * given mapping function to the long success value, otherwise returns the
+     * unaltered {@code LongResult} in error state.
+     *
+     * @param function the mapping function to apply to the long success
+     * value, if success state
+     * @return the {@code LongResult} returned from the mapping function, if in
+     * success state, otherwise the unaltered {@code LongResult} in error state
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public LongResult<E> flatMapToLongResult(
+            LongFunction<? extends LongResult<? extends E>> function) {
+        Objects.requireNonNull(function);
+        if (!isSuccess()) {
+            return this;
+        }
+        @SuppressWarnings("unchecked")
+        LongResult<E> res = (LongResult<E>) Objects.requireNonNull(function.apply(getAsLong()));
+        return res;
+    }
+
+    /**
+     * If in success state, returns the {@code VoidResult} from applying the
+     * given mapping function to the long success value, otherwise returns a
+     * {@code VoidResult} containing the error value of this
+     * {@code LongResult}.
+     *
+     * @param function the mapping function to apply to the long success
+     * value, if success state
+     * @return the {@code VoidResult} returned from the mapping function, if in
+     * success state, otherwise a {@code VoidResult} containing the error value
+     * of this {@code LongResult}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public VoidResult<E> flatMapToVoidResult(
+            LongFunction<? extends VoidResult<? extends E>> function) {
+        Objects.requireNonNull(function);
+        if (!isSuccess()) {
+            return VoidResult.error(error());
+        }
+        @SuppressWarnings("unchecked")
+        VoidResult<E> res = (VoidResult<E>) Objects.requireNonNull(function.apply(getAsLong()));
+        return res;
+    }
+
+    /**
+     * If in error state, returns a {@code LongResult} with the success value
+     * from applying the given mapping function to the error value, otherwise
+     * returns the unaltered {@code LongResult} in success state.
+     *
+     * @param function the mapping function to apply to the error value to
+     * convert to a new long success value, if error state
+     * @return A {@code LongResult} containing the value from the mapping
+     * function, if in error state, otherwise the unaltered {@code LongResult} in
+     * success state
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     */
+    public LongResult<E> recover(ToLongFunction<? super E> function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ? this : success(function.applyAsLong(error()));
+    }
+
+    /**
+     * If in error state, returns the {@code LongResult} from applying the given
+     * mapping function to the error value, otherwise returns the unaltered
+     * {@code LongResult} in success state.
+     *
+     * @param function the mapping function to apply to the error value to
+     * convert to a new {@code LongResult}, if error state
+     * @return the {@code LongResult} returned from the mapping function, if in
+     * error state, otherwise the unaltered {@code LongResult} in success state
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     */
+    public LongResult<E> flatRecover(
+            Function<? super E, ? extends LongResult<? extends E>> function) {
+        @SuppressWarnings("unchecked")
+        LongResult<E> res = (LongResult<E>) Implementations.flatRecover(function, this);
+        return res;
+    }
+
+    /**
+     * If in success state, applies the long success value to the given
+     * consumer, otherwise does nothing.
+     *
+     * @param consumer the consumer which accepts the long success value
+     * @return the original {@code LongResult} unaltered
+     * @throws NullPointerException if the given consumer is {@code null}
+     */
+    public LongResult<E> consume(LongConsumer consumer) {
+        Objects.requireNonNull(consumer);
+        if (isSuccess()) {
+            consumer.accept(getAsLong());
+        }
+        return this;
+    }
+
+    /**
+     * If in error state, applies the error value to the given consumer,
+     * otherwise does nothing.
+     *
+     * @param errorConsumer the consumer which accepts the error value
+     * @return the original {@code LongResult} unaltered
+     * @throws NullPointerException if the given consumer is {@code null}
+     */
+    public LongResult<E> consumeError(Consumer<? super E> errorConsumer) {
+        return Implementations.consumeError(errorConsumer, this);
+    }
+
+    /**
+     * If in success state, applies the long success value to the given value
+     * consumer. If in error state, applies the error value to the given error
+     * consumer.
+     *
+     * @param valueConsumer the consumer which accepts the long success value
+     * @param errorConsumer the consumer which accepts the error value
+     * @return the original {@code LongResult} unaltered
+     * @throws NullPointerException if one of the given consumers is
+     * {@code null}
+     */
+    public LongResult<E> consumeEither(
+            LongConsumer valueConsumer,
+            Consumer<? super E> errorConsumer) {
+        Objects.requireNonNull(valueConsumer);
+        Objects.requireNonNull(errorConsumer);
+        if (isSuccess()) {
+            valueConsumer.accept(getAsLong());
+        } else {
+            errorConsumer.accept(error());
+        }
+        return this;
+    }
+
+    /**
+     * If in success state, applies the long success value to the given
+     * function. If the function returns a {@code VoidResult} in success
+     * state, the original {@code LongResult} is returned unaltered. If the
+     * function returns a {@code VoidResult} in error state, a
+     * {@code LongResult} containing the error value is returned. If in error
+     * state, the original {@code LongResult} is returned unaltered.
+     *
+     * @param function the function which accepts the long success value
+     * @return the original {@code LongResult} unaltered if the given function
+     * returns success or the original {@code LongResult} is in error state,
+     * otherwise a {@code LongResult} containing the error value from the
+     * function result
+     * @throws NullPointerException if the given function is {@code null} or
+     * returns {@code null}
+     */
+    public LongResult<E> flatConsume(
+            LongFunction<? extends VoidResult<? extends E>> function) {
+        Objects.requireNonNull(function);
+        if (!isSuccess()) {
+            return this;
+        }
+        VoidResult<? extends E> res = function.apply(getAsLong());
+        return res.isSuccess() ? this : error(res.error());
+    }
+
+    /**
+     * If in success state, runs the given runnable, otherwise does nothing.
+     *
+     * @param runnable the runnable to run if success state
+     * @return the original {@code LongResult} unaltered
+     * @throws NullPointerException if the given runnable is {@code null}
+     */
+    public LongResult<E> runIfSuccess(Runnable runnable) {
+        return Implementations.runIfSuccess(runnable, this);
+    }
+
+    /**
+     * If in error state, runs the given runnable, otherwise does nothing.
+     *
+     * @param runnable the runnable to run if error state
+     * @return the original {@code LongResult} unaltered
+     * @throws NullPointerException if the given runnable is {@code null}
+     */
+    public LongResult<E> runIfError(Runnable runnable) {
+        return Implementations.runIfError(runnable, this);
+    }
+
+    /**
+     * If in success state, runs the given success runnable. If in error state,
+     * runs the given error runnable.
+     *
+     * @param successRunnable the runnable to run if success state
+     * @param errorRunnable the runnable to run if error state
+     * @return the original {@code LongResult} unaltered
+     * @throws NullPointerException if one of the given runnables is
+     * {@code null}
+     */
+    public LongResult<E> runEither(Runnable successRunnable, Runnable errorRunnable) {
+        return Implementations.runEither(successRunnable, errorRunnable, this);
+    }
+
+    /**
+     * Runs the given runnable, no matter the state.
+     *
+     * @param runnable the runnable to run
+     * @return the original {@code LongResult} unaltered
+     * @throws NullPointerException if the given runnable is {@code null}
+     */
+    public LongResult<E> runAlways(Runnable runnable) {
+        return Implementations.runAlways(runnable, this);
+    }
+
+    /**
+     * If in success state, runs the given supplier. If the supplier returns a
+     * {@code VoidResult} in success state, the original {@code LongResult} is
+     * returned unaltered. If the supplier returns a {@code VoidResult} in
+     * error state, a {@code LongResult} containing the error value is returned.
+     * If in error state, the original {@code LongResult} is returned unaltered.
+     *
+     * @param supplier the supplier to run
+     * @return the original {@code LongResult} unaltered if the given supplier
+     * returns success or the original {@code LongResult} is in error state,
+     * otherwise a {@code LongResult} containing the error value from the
+     * supplier result
+     * @throws NullPointerException if the given supplier is {@code null} or
+     * returns {@code null}
+     */
+    public LongResult<E> flatRunIfSuccess(Supplier<? extends VoidResult<? extends E>> supplier) {
+        return Implementations.flatRunIfSuccess(supplier, LongResult::error, this);
+    }
+
+    /**
+     * If in success state, verifies the long success value of this
+     * {@code LongResult} by testing it with the given predicate. If the
+     * predicate evaluates to false, a new {@code LongResult} is returned
+     * containing the error value provided by the given error supplier. If the
+     * predicate evaluates to true, or the {@code LongResult} already was in
+     * error state, the original {@code LongResult} is returned unaltered.
+     *
+     * @param predicate the predicate used to verify the long success value,
+     * if success state
+     * @param errorSupplier supplier providing the error if predicate evaluates
+     * to false
+     * @return the original {@code LongResult} unaltered, unless the predicate
+     * evaluates to false, then a new {@code LongResult} in error state is
+     * returned containing the supplied error value
+     * @throws NullPointerException if the given predicate is {@code null}, or
+     * the given error supplier is {@code null} or returns {@code null}
+     */
+    public LongResult<E> verify(
+            LongPredicate predicate,
+            Supplier<? extends E> errorSupplier) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(errorSupplier);
+        if (!isSuccess() || predicate.test(getAsLong())) {
+            return this;
+        }
+        return error(errorSupplier.get());
+    }
+
+    /**
+     * If in success state, verifies the long success value of this
+     * {@code LongResult} by mapping it to a {@code VoidResult}. If the returned
+     * {@code VoidResult} is in error state, a new {@code LongResult} is returned
+     * containing the error value of the {@code VoidResult}. If the
+     * {@code VoidResult} is in success state, or the {@code LongResult} already
+     * was in error state, the original {@code LongResult} is returned unaltered.
+     *
+     * @param function the function applied to the long success value, if
+     * success state
+     * @return the original {@code LongResult} unaltered, unless the
+     * {@code VoidResult} returned by the mapping function is in error state,
+     * then a new {@code LongResult} in error state is returned containing the
+     * error value from the {@code VoidResult}
+     * @throws NullPointerException if the given function is {@code null} or
+     * returns {@code null}
+     */
+    public LongResult<E> verify(LongFunction<? extends VoidResult<? extends E>> function) {
+        return flatConsume(function);
+    }
+
+    /**
+     * Retrieve a value from this {@code LongResult} by folding the states. If in
+     * success state, return the value of applying the value function to the
+     * long success value. If in error state, return the value of applying the
+     * error function to the error value.
+     *
+     * @param <N> the type of the retrieved value
+     * @param valueFunction the mapping function to apply to the long success
+     * value, if success state, may return {@code null}
+     * @param errorFunction the mapping function to apply to the error value, if
+     * error state, may return {@code null}
+     * @return the folded value mapped from either the success value or error
+     * value, may be {@code null}
+     * @throws NullPointerException if one of the given functions is
+     * {@code null}
+     */
+    public <N> N fold(LongFunction<? extends N> valueFunction,
+                      Function<? super E, ? extends N> errorFunction) {
+        Objects.requireNonNull(valueFunction);
+        Objects.requireNonNull(errorFunction);
+        return isSuccess() ?
+                valueFunction.apply(getAsLong()) :
+                errorFunction.apply(error());
+    }
+
+    /**
+     * If in success state, returns the long success value, otherwise returns
+     * {@code other}.
+     *
+     * @param other the value to be returned, if not in success state
+     * @return the long success value, if success state, otherwise
+     * {@code other}
+     */
+    public long orElse(long other) {
+        return isSuccess() ? getAsLong() : other;
+    }
+
+    /**
+     * If in success state, returns the long success value, otherwise returns
+     * the value returned from the given function.
+     *
+     * @param function the mapping function to apply to the error value, if
+     * not in success state
+     * @return the long success value, if success state, otherwise the result
+     * returned from the given function
+     * @throws NullPointerException if the given function is {@code null}
+     */
+    public long orElseGet(ToLongFunction<? super E> function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ? getAsLong() : function.applyAsLong(error());
+    }
+
+    /**
+     * If in success state, returns the long success value, otherwise throws
+     * the exception returned by the given function.
+     *
+     * @param <X> type of the exception to be thrown
+     * @param function the mapping function producing an exception by applying
+     * the error value, if not in success state
+     * @return the long success value, if success state
+     * @throws X if in error state
+     * @throws NullPointerException if the given function is {@code null} or
+     * returns {@code null}
+     */
+    public <X extends Throwable> long orElseThrow(
+            Function<? super E, ? extends X> function) throws X {
+        Objects.requireNonNull(function);
+        if (isSuccess()) {
+            return getAsLong();
+        }
+        throw function.apply(error());
+    }
+
+    /**
+     * Transforms this {@code LongResult} to a {@code Result}. If in success
+     * state, the {@code Result} will be in success state containing the boxed
+     * long success value from this {@code LongResult}. If in error state, the
+     * {@code Result} will be in error state containing the error value from
+     * this {@code LongResult}.
+     *
+     * @return a {@code Result} in success state containing the boxed long
+     * success value from this {@code LongResult} or in error state containing
+     * the error value from this {@code LongResult}
+     */
+    public Result<Long, E> toResult() {
+        return isSuccess() ? Result.success(getAsLong()) : Result.error(error());
+    }
+
+    /**
+     * Transforms this {@code LongResult} to an {@code OptionalResult}. If in
+     * success state, the {@code OptionalResult} will be in success state
+     * containing the boxed long success value from this {@code LongResult}. If in
+     * error state, the {@code OptionalResult} will be in error state
+     * containing the error value from this {@code LongResult}.
+     * <p>
+     * The returned {@code OptionalResult} will never be empty.
+     *
+     * @return an {@code OptionalResult} in success state containing the boxed
+     * long success value from this {@code LongResult} or in error state
+     * containing the error value from this {@code LongResult}
+     */
+    public OptionalResult<Long, E> toOptionalResult() {
+        return isSuccess() ?
+                OptionalResult.success(getAsLong()) :
+                OptionalResult.error(error());
+    }
+
+    /**
+     * Transforms this {@code LongResult} to a {@code VoidResult}. If in success
+     * state, the {@code VoidResult} will be in success state. If in error
+     * state, the {@code VoidResult} will be in error state containing the
+     * error value from this {@code LongResult}.
+     *
+     * @return a {@code VoidResult} either in success state or in error state
+     * containing the error value from this {@code LongResult}
+     */
+    public VoidResult<E> toVoidResult() {
+        return isSuccess() ? VoidResult.success() : VoidResult.error(error());
+    }
+
+    private static final class Success<E> extends LongResult<E> {
+
+        private final long value;
+
+        Success(long value) {
+            this.value = value;
+        }
+
+        @Override
+        long getAsLong() {
+            return value;
+        }
+
+        @Override
+        Long value() {
+            return value;
+        }
+
+        @Override
+        E error() {
+            return null;
+        }
+
+        @Override
+        boolean isSuccess() {
+            return true;
+        }
+    }
+
+    private static final class Failure<E> extends LongResult<E> {
+
+        private final E error;
+
+        Failure(E error) {
+            this.error = error;
+        }
+
+        @Override
+        long getAsLong() {
+            throw new NoSuchElementException("No value present");
+        }
+
+        @Override
+        Long value() {
+            return null;
+        }
+
+        @Override
+        E error() {
+            return error;
+        }
+
+        @Override
+        boolean isSuccess() {
+            return false;
+        }
+    }
+}
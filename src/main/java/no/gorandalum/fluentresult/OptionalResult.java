@@ -1,18 +1,30 @@
 package no.gorandalum.fluentresult;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
 
 /**
  * A result object which either is in success state, where it may contain a
  * non-{@code null} success value or be empty, or it may be in error state
  * containing a non-{@code null} error value.
  * <p>
+ * The success value is stored as is, and an {@code Optional} is only created
+ * when one is passed to a caller, like in {@link #consume(Consumer)} or
+ * {@link #orElse(Optional)}. The methods working on the success value
+ * directly, like {@link #mapValue(Function)} and
+ * {@link #valueOrElse(Object)}, do not allocate an {@code Optional}.
+ * <p>
  * A variable whose type is {@code OptionalResult} should never itself be
  * {@code null}, it should always point to an {@code OptionalResult} instance.
  *
@@ -20,18 +32,42 @@ import java.util.function.Supplier;
  * @param <E> the type of the error value
  */
 @SuppressWarnings({"WeakerAccess", "OptionalUsedAsFieldOrParameterType"})
-public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
+public abstract class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
 
     /**
      * Common instance for empty {@code OptionalResult}.
      */
     private static final OptionalResult<?, ?> RESULT_EMPTY =
-            new OptionalResult<>(Optional.empty(), null);
+            new Success<>(null);
+
+    /**
+     * Common instance for {@code OptionalResult} containing {@code true}.
+     */
+    private static final OptionalResult<?, ?> RESULT_TRUE =
+            new Success<>(true);
+
+    /**
+     * Common instance for {@code OptionalResult} containing {@code false}.
+     */
+    private static final OptionalResult<?, ?> RESULT_FALSE =
+            new Success<>(false);
 
-    private OptionalResult(Optional<T> value, E error) {
-        super(value, error, OptionalResult.class);
+    /**
+     * Shared error instances for enum constants and registered error values.
+     */
+    private static final ErrorCache<OptionalResult<?, ?>> ERROR_CACHE =
+            new ErrorCache<>(Failure::new);
+
+    private OptionalResult() {
     }
 
+    /**
+     * Returns the success value, or {@code null} if empty or in error state.
+     *
+     * @return the success value, or {@code null} if there is none
+     */
+    abstract T valueOrNull();
+
     /**
      * Returns an {@code OptionalResult} in success state containing the given
      * non-{@code null} value as success value.
@@ -46,9 +82,10 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      * @throws NullPointerException if given {@code Optional} is {@code null}
      */
     public static <T, E> OptionalResult<T, E> success(Optional<? extends T> maybeValue) {
-        @SuppressWarnings("unchecked")
-        Optional<T> t = (Optional<T>) Objects.requireNonNull(maybeValue);
-        return t.map(OptionalResult::<T, E>success).orElse(empty());
+        if (maybeValue.isPresent()) {
+            return new Success<>(maybeValue.get());
+        }
+        return empty();
     }
 
     /**
@@ -63,7 +100,28 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      * @throws NullPointerException if given success value is {@code null}
      */
     public static <T, E> OptionalResult<T, E> success(T value) {
-        return new OptionalResult<>(Optional.of(value), null);
+        return new Success<>(Objects.requireNonNull(value));
+    }
+
+    /**
+     * Returns an {@code OptionalResult} in success state containing the given
+     * non-{@code null} value as success value. If the success value is an
+     * integer or long between -128 and 127, a boolean, the empty string, one of
+     * the empty collections of {@link java.util.Collections} or registered with
+     * {@link SharedValues#register(Object)}, a shared instance is returned
+     * instead of a new one.
+     *
+     * @param value the success value, which must be non-{@code null}
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return an {@code OptionalResult} in success state containing the given
+     * success value
+     * @throws NullPointerException if given success value is {@code null}
+     */
+    public static <T, E> OptionalResult<T, E> sharedSuccess(T value) {
+        @SuppressWarnings("unchecked")
+        OptionalResult<T, E> res = (OptionalResult<T, E>) SharedSuccess.CACHE.get(value);
+        return res;
     }
 
     /**
@@ -80,7 +138,7 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
         if (value == null) {
             return empty();
         }
-        return new OptionalResult<>(Optional.of(value), null);
+        return new Success<>(value);
     }
 
     /**
@@ -97,6 +155,21 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
         return res;
     }
 
+    /**
+     * Returns the common {@code OptionalResult} in success state containing
+     * the given boolean value as success value.
+     *
+     * @param value the boolean success value
+     * @param <E> the type of the error value
+     * @return an {@code OptionalResult} in success state containing the given
+     * boolean success value
+     */
+    static <E> OptionalResult<Boolean, E> successBoolean(boolean value) {
+        @SuppressWarnings("unchecked")
+        OptionalResult<Boolean, E> res = (OptionalResult<Boolean, E>)(value ? RESULT_TRUE : RESULT_FALSE);
+        return res;
+    }
+
     /**
      * Returns an {@code OptionalResult} in error state containing the given
      * non-{@code null} value as error value.
@@ -109,7 +182,26 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      * @throws NullPointerException if given error value is {@code null}
      */
     public static <T, E> OptionalResult<T, E> error(E value) {
-        return new OptionalResult<>(null, Objects.requireNonNull(value));
+        return new Failure<>(Objects.requireNonNull(value));
+    }
+
+    /**
+     * Returns an {@code OptionalResult} in error state containing the given
+     * non-{@code null} value as error value. If the error value is an enum
+     * constant or registered with {@link SharedErrors#register(Object)}, a
+     * shared instance is returned instead of a new one.
+     *
+     * @param value the error value, which must be non-{@code null}
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return an {@code OptionalResult} in error state containing the given
+     * error value
+     * @throws NullPointerException if given error value is {@code null}
+     */
+    public static <T, E> OptionalResult<T, E> sharedError(E value) {
+        @SuppressWarnings("unchecked")
+        OptionalResult<T, E> res = (OptionalResult<T, E>) ERROR_CACHE.get(value);
+        return res;
     }
 
     /**
@@ -219,11 +311,9 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      */
     public <N> OptionalResult<N, E> mapValue(
             Function<? super T, ? extends N> function) {
-        return Implementations.map(
-                maybeVal -> maybeVal.map(val -> (N) function.apply(val)),
-                OptionalResult::success,
-                OptionalResult::error,
-                this);
+        Objects.requireNonNull(function);
+        T val = valueOrNull();
+        return val != null ? successNullable(function.apply(val)) : retype();
     }
 
     /**
@@ -251,11 +341,9 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      */
     public <N> OptionalResult<N, E> mapValueToOptional(
             Function<? super T, Optional<N>> function) {
-        return Implementations.map(
-                maybeVal -> maybeVal.flatMap(function),
-                OptionalResult::success,
-                OptionalResult::error,
-                this);
+        Objects.requireNonNull(function);
+        T val = valueOrNull();
+        return val != null ? success(function.apply(val)) : retype();
     }
 
     /**
@@ -320,11 +408,11 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      */
     public <N> OptionalResult<N, E> flatReplaceEmpty(
             Supplier<OptionalResult<N, E>> supplier) {
-        @SuppressWarnings("unchecked")
-        OptionalResult<N, E> res = Implementations.flatMap(
-                t -> t.map(value -> OptionalResult.<N, E>success((N)value)).orElseGet(supplier),
-                this);
-        return res;
+        Objects.requireNonNull(supplier);
+        if (isSuccess() && valueOrNull() == null) {
+            return Objects.requireNonNull(supplier.get());
+        }
+        return retype();
     }
 
     /**
@@ -342,11 +430,13 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      */
     public <N> Result<N, E> flatReplaceEmptyWithResult(
             Supplier<Result<N, E>> supplier) {
+        Objects.requireNonNull(supplier);
+        if (!isSuccess()) {
+            return Result.error(error());
+        }
         @SuppressWarnings("unchecked")
-        Result<N, E> res = Implementations.flatMap(
-                t -> t.map(value -> Result.<N, E>success((N)value)).orElseGet(supplier),
-                this, Result::error);
-        return res;
+        N val = (N) valueOrNull();
+        return val != null ? Result.success(val) : Objects.requireNonNull(supplier.get());
     }
 
     /**
@@ -417,13 +507,14 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      */
     public <N> OptionalResult<N, E> flatMapValueWithResult(
             Function<? super T, Result<? extends N, ? extends E>> function) {
+        Objects.requireNonNull(function);
+        T val = valueOrNull();
+        if (val == null) {
+            return retype();
+        }
         @SuppressWarnings("unchecked")
-        OptionalResult<N, E> res = (OptionalResult<N, E>) Implementations.flatMap(
-                maybeVal -> maybeVal
-                        .map(val -> Objects.requireNonNull(function.apply(val)))
-                        .map(Result::toOptionalResult)
-                        .orElseGet(OptionalResult::empty),
-                this);
+        OptionalResult<N, E> res = (OptionalResult<N, E>)
+                Objects.requireNonNull(function.apply(val)).toOptionalResult();
         return res;
     }
 
@@ -445,13 +536,13 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      */
     public <N> OptionalResult<N, E> flatMapValueWithOptionalResult(
             Function<? super T, OptionalResult<? extends N, ? extends E>> function) {
+        Objects.requireNonNull(function);
+        T val = valueOrNull();
+        if (val == null) {
+            return retype();
+        }
         @SuppressWarnings("unchecked")
-        OptionalResult<N, E> res = (OptionalResult<N, E>) Implementations.flatMap(
-                maybeVal -> maybeVal
-                        .map(val -> Objects.requireNonNull(function.apply(val)))
-                        .orElseGet(OptionalResult::empty),
-                this
-        );
+        OptionalResult<N, E> res = (OptionalResult<N, E>) Objects.requireNonNull(function.apply(val));
         return res;
     }
 
@@ -478,13 +569,14 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      */
     public OptionalResult<Boolean, E> flatMapValueWithBooleanResult(
             Function<? super T, BooleanResult<? extends E>> function) {
+        Objects.requireNonNull(function);
+        T val = valueOrNull();
+        if (val == null) {
+            return retype();
+        }
         @SuppressWarnings("unchecked")
-        OptionalResult<Boolean, E> res = (OptionalResult<Boolean, E>) Implementations.flatMap(
-                maybeVal -> maybeVal
-                        .map(val -> Objects.requireNonNull(function.apply(val)))
-                        .map(BooleanResult::toOptionalResult)
-                        .orElseGet(OptionalResult::empty),
-                this);
+        OptionalResult<Boolean, E> res = (OptionalResult<Boolean, E>)
+                Objects.requireNonNull(function.apply(val)).toOptionalResult();
         return res;
     }
 
@@ -548,7 +640,10 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      */
     public OptionalResult<T, E> consumeValue(Consumer<T> consumer) {
         Objects.requireNonNull(consumer);
-        valueOpt().ifPresent(maybeVal -> maybeVal.ifPresent(consumer));
+        T val = valueOrNull();
+        if (val != null) {
+            consumer.accept(val);
+        }
         return this;
     }
 
@@ -604,18 +699,18 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
             Consumer<? super E> errorConsumer) {
         Objects.requireNonNull(valueConsumer);
         Objects.requireNonNull(emptyRunnable);
-
-        return Implementations.consumeEither(
-                maybeVal -> {
-                    if (maybeVal.isPresent()) {
-                        valueConsumer.accept(maybeVal.get());
-                    } else {
-                        emptyRunnable.run();
-                    }
-                },
-                errorConsumer,
-                this
-        );
+        Objects.requireNonNull(errorConsumer);
+        if (!isSuccess()) {
+            errorConsumer.accept(error());
+            return this;
+        }
+        T val = valueOrNull();
+        if (val != null) {
+            valueConsumer.accept(val);
+        } else {
+            emptyRunnable.run();
+        }
+        return this;
     }
 
     /**
@@ -656,15 +751,14 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      * returns {@code null}
      */
     public OptionalResult<T, E> flatConsumeValue(
-            Function<T, ? extends VoidResult<? extends E>> function) {
+            Function<? super T, ? extends VoidResult<? extends E>> function) {
         Objects.requireNonNull(function);
-        @SuppressWarnings("unchecked")
-        OptionalResult<T, E> result = Implementations.flatConsume(
-                maybeVal -> maybeVal
-                        .map(val -> (VoidResult<E>) Objects.requireNonNull(function.apply(val)))
-                        .orElseGet(VoidResult::success)
-                , OptionalResult::error, this);
-        return result;
+        T val = valueOrNull();
+        if (val == null) {
+            return this;
+        }
+        VoidResult<? extends E> res = Objects.requireNonNull(function.apply(val));
+        return res.isSuccess() ? this : error(res.error());
     }
 
     /**
@@ -688,7 +782,9 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      */
     public OptionalResult<T, E> runIfValue(Runnable runnable) {
         Objects.requireNonNull(runnable);
-        valueOpt().ifPresent(maybeVal -> maybeVal.ifPresent(val -> runnable.run()));
+        if (valueOrNull() != null) {
+            runnable.run();
+        }
         return this;
     }
 
@@ -715,11 +811,9 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      */
     public OptionalResult<T, E> runIfEmpty(Runnable runnable) {
         Objects.requireNonNull(runnable);
-        valueOpt().ifPresent(maybeVal -> {
-            if (!maybeVal.isPresent()) {
-                runnable.run();
-            }
-        });
+        if (isSuccess() && valueOrNull() == null) {
+            runnable.run();
+        }
         return this;
     }
 
@@ -767,7 +861,7 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
         Objects.requireNonNull(emptyRunnable);
         return Implementations.runEither(
                 () -> {
-                    if (value().isPresent()) {
+                    if (valueOrNull() != null) {
                         valueRunnable.run();
                     } else {
                         emptyRunnable.run();
@@ -840,16 +934,11 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
     public OptionalResult<T, E> flatRunIfValue(
             Supplier<? extends VoidResult<? extends E>> supplier) {
         Objects.requireNonNull(supplier);
-        return Implementations.flatRunIfSuccess(
-                () -> {
-                    if (value() != null && value().isPresent()) {
-                        return supplier.get();
-                    } else {
-                        return VoidResult.success();
-                    }
-                },
-                OptionalResult::error,
-                this);
+        if (valueOrNull() == null) {
+            return this;
+        }
+        VoidResult<? extends E> res = Objects.requireNonNull(supplier.get());
+        return res.isSuccess() ? this : error(res.error());
     }
 
     /**
@@ -926,11 +1015,13 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      */
     public OptionalResult<T, E> verifyValue(Predicate<? super T> predicate,
                                             Supplier<? extends E> errorSupplier) {
-        return Implementations.verify(
-                maybeValue -> maybeValue.map(predicate::test).orElse(true),
-                errorSupplier,
-                OptionalResult::error,
-                this);
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(errorSupplier);
+        T val = valueOrNull();
+        if (val == null || predicate.test(val)) {
+            return this;
+        }
+        return error(errorSupplier.get());
     }
 
     /**
@@ -953,14 +1044,7 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      */
     public OptionalResult<T, E> verifyValue(
             Function<? super T, ? extends VoidResult<? extends E>> function) {
-        @SuppressWarnings("unchecked")
-        OptionalResult<T, E> result = Implementations.flatConsume(
-                maybeValue -> maybeValue
-                        .map(val -> (VoidResult<E>) Objects.requireNonNull(function.apply(val)))
-                        .orElseGet(VoidResult::success),
-                OptionalResult::error,
-                this);
-        return result;
+        return flatConsumeValue(function);
     }
 
     /**
@@ -1009,12 +1093,11 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
         Objects.requireNonNull(valueFunction);
         Objects.requireNonNull(emptySupplier);
         Objects.requireNonNull(errorFunction);
-        return Implementations.fold(
-                maybeVal -> maybeVal.isPresent() ?
-                        valueFunction.apply(maybeVal.get()) :
-                        emptySupplier.get(),
-                errorFunction,
-                this);
+        if (!isSuccess()) {
+            return errorFunction.apply(error());
+        }
+        T val = valueOrNull();
+        return val != null ? valueFunction.apply(val) : emptySupplier.get();
     }
 
     /**
@@ -1041,7 +1124,8 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      * otherwise {@code other}
      */
     public T valueOrElse(T other) {
-        return valueOpt().flatMap(Function.identity()).orElse(other);
+        T val = valueOrNull();
+        return val != null ? val : other;
     }
 
     /**
@@ -1071,7 +1155,8 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      */
     public T valueOrElseGet(Supplier<? extends T> supplier) {
         Objects.requireNonNull(supplier);
-        return valueOpt().flatMap(Function.identity()).orElseGet(supplier);
+        T val = valueOrNull();
+        return val != null ? val : supplier.get();
     }
 
     /**
@@ -1106,7 +1191,11 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
     public <X extends Throwable> T valueOrElseThrow(
             Supplier<? extends X> supplier) throws X {
         Objects.requireNonNull(supplier);
-        return valueOpt().flatMap(Function.identity()).orElseThrow(supplier);
+        T val = valueOrNull();
+        if (val != null) {
+            return val;
+        }
+        throw supplier.get();
     }
 
     /**
@@ -1129,7 +1218,11 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      */
     public Result<T, E> toResult(Supplier<? extends E> errorSupplier) {
         Objects.requireNonNull(errorSupplier);
-        return fold(Result::success, () -> Result.error(errorSupplier.get()), Result::error);
+        if (!isSuccess()) {
+            return Result.error(error());
+        }
+        T val = valueOrNull();
+        return val != null ? Result.success(val) : Result.error(errorSupplier.get());
     }
 
     /**
@@ -1142,9 +1235,7 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
      * containing the error value from this {@code OptionalResult}
      */
     public VoidResult<E> toVoidResult() {
-        return errorOpt()
-                .map(VoidResult::error)
-                .orElseGet(VoidResult::success);
+        return isSuccess() ? VoidResult.success() : VoidResult.error(error());
     }
 
     /**
@@ -1196,5 +1287,302 @@ public final class OptionalResult<T, E> extends BaseResult<Optional<T>, E> {
         Objects.requireNonNull(exceptionMapper);
         return handle(callable).mapError(exceptionMapper);
     }
-}
 
+    /**
+     * Runs the given alternatives in parallel and returns the first
+     * {@code OptionalResult} in success state. Otherwise behaves as
+     * {@link #firstSuccess(List, Duration, Executor)}, starting all the
+     * alternatives at once on a new virtual thread each on a Java runtime with
+     * virtual threads, or on a shared pool of 64 daemon platform threads on
+     * older runtimes.
+     *
+     * @param alternatives the suppliers of alternative results
+     * @param <T> the type of the success value
+     * @param <E> the type of the error values
+     * @return the first {@code OptionalResult} in success state, or an {@code OptionalResult} in
+     * error state containing the error values of all the alternatives
+     * @throws NullPointerException if the given list or any of the
+     * alternatives is {@code null}, or an alternative returns {@code null}
+     * @throws IllegalArgumentException if the given list is empty
+     * @throws CancellationException if the calling thread is interrupted
+     * while waiting
+     */
+    public static <T, E> OptionalResult<T, List<E>> firstSuccess(
+            List<? extends Supplier<? extends OptionalResult<? extends T, ? extends E>>> alternatives) {
+        return firstSuccess(alternatives, Duration.ZERO);
+    }
+
+    /**
+     * Runs the given alternatives in parallel on the given {@code Executor}
+     * and returns the first {@code OptionalResult} in success state. Otherwise behaves as
+     * {@link #firstSuccess(List, Duration, Executor)}, starting all the
+     * alternatives at once.
+     *
+     * @param alternatives the suppliers of alternative results
+     * @param executor the {@code Executor} to run the alternatives on
+     * @param <T> the type of the success value
+     * @param <E> the type of the error values
+     * @return the first {@code OptionalResult} in success state, or an {@code OptionalResult} in
+     * error state containing the error values of all the alternatives
+     * @throws NullPointerException if the given list, any of the alternatives
+     * or the executor is {@code null}, or an alternative returns
+     * {@code null}
+     * @throws IllegalArgumentException if the given list is empty
+     * @throws CancellationException if the calling thread is interrupted
+     * while waiting
+     */
+    public static <T, E> OptionalResult<T, List<E>> firstSuccess(
+            List<? extends Supplier<? extends OptionalResult<? extends T, ? extends E>>> alternatives,
+            Executor executor) {
+        return firstSuccess(alternatives, Duration.ZERO, executor);
+    }
+
+    /**
+     * Runs the given alternatives, each started after the given hedge delay
+     * unless an earlier one has succeeded, and returns the first
+     * {@code OptionalResult} in success state. Otherwise behaves as
+     * {@link #firstSuccess(List, Duration, Executor)}, running the
+     * alternatives on a new virtual thread each on a Java runtime with virtual
+     * threads, or on a shared pool of 64 daemon platform threads on older
+     * runtimes.
+     *
+     * @param alternatives the suppliers of alternative results
+     * @param hedgeDelay the time to wait for a success before starting the
+     * next alternative, where zero starts all the alternatives at once
+     * @param <T> the type of the success value
+     * @param <E> the type of the error values
+     * @return the first {@code OptionalResult} in success state, or an {@code OptionalResult} in
+     * error state containing the error values of all the alternatives
+     * @throws NullPointerException if the given list, any of the alternatives
+     * or the hedge delay is {@code null}, or an alternative returns
+     * {@code null}
+     * @throws IllegalArgumentException if the given list is empty, or the
+     * hedge delay is negative
+     * @throws CancellationException if the calling thread is interrupted
+     * while waiting
+     */
+    public static <T, E> OptionalResult<T, List<E>> firstSuccess(
+            List<? extends Supplier<? extends OptionalResult<? extends T, ? extends E>>> alternatives,
+            Duration hedgeDelay) {
+        return firstSuccess(alternatives, hedgeDelay, BulkHandle.defaultExecutor());
+    }
+
+    /**
+     * Runs the given alternatives on the given {@code Executor}, and returns
+     * the first {@code OptionalResult} in success state, whether empty or
+     * not. The first alternative is started at once. Each of the next
+     * alternatives is started when the given hedge delay has passed since the
+     * previous one was started without any success, or at once when a running
+     * alternative returns a result in error state. A hedge delay of zero
+     * starts all the alternatives at once.
+     * <p>
+     * When an alternative returns a result in success state, that result is
+     * returned, the alternatives not yet started are skipped, and the threads
+     * of the alternatives still running are interrupted. If all the
+     * alternatives return results in error state, the returned
+     * {@code OptionalResult} will be in error state containing a list of their error
+     * values, in the order of the alternatives. If an alternative throws an
+     * exception, the other alternatives are cancelled and the exception is
+     * rethrown.
+     * <p>
+     * If the calling thread is interrupted while waiting, the running
+     * alternatives are cancelled, and a {@code CancellationException} is
+     * thrown, with the interrupt status of the calling thread set.
+     *
+     * @param alternatives the suppliers of alternative results
+     * @param hedgeDelay the time to wait for a success before starting the
+     * next alternative, where zero starts all the alternatives at once
+     * @param executor the {@code Executor} to run the alternatives on
+     * @param <T> the type of the success value
+     * @param <E> the type of the error values
+     * @return the first {@code OptionalResult} in success state, or an {@code OptionalResult} in
+     * error state containing the error values of all the alternatives
+     * @throws NullPointerException if the given list, any of the
+     * alternatives, the hedge delay or the executor is {@code null}, or an
+     * alternative returns {@code null}
+     * @throws IllegalArgumentException if the given list is empty, or the
+     * hedge delay is negative
+     * @throws CancellationException if the calling thread is interrupted
+     * while waiting
+     */
+    public static <T, E> OptionalResult<T, List<E>> firstSuccess(
+            List<? extends Supplier<? extends OptionalResult<? extends T, ? extends E>>> alternatives,
+            Duration hedgeDelay,
+            Executor executor) {
+        return FirstSuccess.optionalResult(alternatives, hedgeDelay, executor);
+    }
+
+    /**
+     * Transforms the given optional results to a {@code Result} containing a
+     * list of their present success values. If all the optional results are
+     * in success state, the returned {@code Result} will be in success state
+     * containing the present success values in iteration order, leaving out
+     * the empty ones. Otherwise the returned {@code Result} will be in error
+     * state containing the error value of the first optional result in error
+     * state, and the remaining optional results will not be iterated.
+     *
+     * @param results the optional results to transform
+     * @param <T> the type of the success values
+     * @param <E> the type of the error value
+     * @return a {@code Result} either in success state containing the
+     * unmodifiable list of present success values, or in error state containing
+     * the first error value
+     * @throws NullPointerException if the given optional results or any of
+     * the iterated optional results are {@code null}
+     */
+    public static <T, E> Result<List<T>, E> sequence(
+            Iterable<? extends OptionalResult<? extends T, ? extends E>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Applies the given function to each of the given items and transforms
+     * the returned optional results to a {@code Result} containing a list of
+     * their present success values. If all the optional results are in success
+     * state, the returned {@code Result} will be in success state containing
+     * the present success values in iteration order, leaving out the empty
+     * ones. Otherwise the returned {@code Result} will be in error state
+     * containing the error value of the first optional result in error state,
+     * and the function will not be applied to the remaining items.
+     *
+     * @param items the items to apply the function to
+     * @param function the function to apply to each item
+     * @param <A> the type of the items
+     * @param <T> the type of the success values
+     * @param <E> the type of the error value
+     * @return a {@code Result} either in success state containing the
+     * unmodifiable list of present success values, or in error state containing
+     * the first error value
+     * @throws NullPointerException if the given items or function are
+     * {@code null}, or if the function returns {@code null}
+     */
+    public static <A, T, E> Result<List<T>, E> traverse(
+            Iterable<? extends A> items,
+            Function<? super A, ? extends OptionalResult<? extends T, ? extends E>> function) {
+        Objects.requireNonNull(function);
+        List<T> values = Sequences.newList(items);
+        for (A item : items) {
+            OptionalResult<? extends T, ? extends E> result = Objects.requireNonNull(function.apply(item));
+            if (!result.isSuccess()) {
+                return Result.error(result.error());
+            }
+            T val = result.valueOrNull();
+            if (val != null) {
+                values.add(val);
+            }
+        }
+        return Result.success(Collections.unmodifiableList(values));
+    }
+
+    /**
+     * Returns a {@code Collector} transforming a stream of optional results to
+     * a {@code Result} containing an unmodifiable list of their present success
+     * values. If all the optional results are in success state, the
+     * {@code Result} will be in success state containing the present success
+     * values in encounter order, leaving out the empty ones. Otherwise the
+     * {@code Result} will be in error state containing the error value of the
+     * first optional result in error state, in encounter order also for
+     * parallel streams.
+     * <p>
+     * A collector can not stop the stream, so success values after the first
+     * error are discarded as they are consumed. Use
+     * {@link #sequence(Iterable)} with {@code stream::iterator} to stop
+     * consuming at the first error.
+     *
+     * @param <T> the type of the success values
+     * @param <E> the type of the error value
+     * @return a {@code Collector} collecting optional results to a
+     * {@code Result} containing a list of present success values or the first
+     * error value
+     */
+    public static <T, E> Collector<OptionalResult<? extends T, ? extends E>, ?, Result<List<T>, E>> sequenceCollector() {
+        return Collector.<OptionalResult<? extends T, ? extends E>, Sequences.Accumulator<T, E>, Result<List<T>, E>>of(
+                Sequences.Accumulator::new,
+                (acc, result) -> {
+                    if (!result.isSuccess()) {
+                        acc.fail(result.error());
+                    } else if (result.valueOrNull() != null) {
+                        acc.add(result.valueOrNull());
+                    }
+                },
+                Sequences.Accumulator::combine,
+                acc -> acc.finish(Result::success, Result::error));
+    }
+
+    /**
+     * Returns this {@code OptionalResult}, which must be empty or in error
+     * state, with the success value type changed.
+     */
+    private <N> OptionalResult<N, E> retype() {
+        @SuppressWarnings("unchecked")
+        OptionalResult<N, E> res = (OptionalResult<N, E>) this;
+        return res;
+    }
+
+    /**
+     * Holder of the shared success instances, initialized on first use of
+     * {@link #sharedSuccess(Object)}.
+     */
+    private static final class SharedSuccess {
+
+        static final ValueCache<OptionalResult<?, ?>> CACHE = new ValueCache<>(Success::new);
+    }
+
+    private static final class Success<T, E> extends OptionalResult<T, E> {
+
+        private final T value;
+
+        Success(T value) {
+            this.value = value;
+        }
+
+        @Override
+        T valueOrNull() {
+            return value;
+        }
+
+        @Override
+        Optional<T> value() {
+            return Optional.ofNullable(value);
+        }
+
+        @Override
+        E error() {
+            return null;
+        }
+
+        @Override
+        boolean isSuccess() {
+            return true;
+        }
+    }
+
+    private static final class Failure<T, E> extends OptionalResult<T, E> {
+
+        private final E error;
+
+        Failure(E error) {
+            this.error = error;
+        }
+
+        @Override
+        T valueOrNull() {
+            return null;
+        }
+
+        @Override
+        Optional<T> value() {
+            return null;
+        }
+
+        @Override
+        E error() {
+            return error;
+        }
+
+        @Override
+        boolean isSuccess() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package no.gorandalum.fluentresult;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Fork-join task behind {@link Result#traverseParallel}. The input is copied
+ * to an array once, and each slot is overwritten with the success value, or
+ * the result in error state, of applying the function to the item in the
+ * slot. The index after the first known error is shared by all tasks, so
+ * tasks starting after it return without applying the function, and running
+ * tasks stop at the first of their items after it. The error
+ * returned is therefore always the one of the first item in input order which
+ * maps to an error, like for the sequential {@link Result#traverse}.
+ *
+ * @param <A> the type of the items
+ * @param <T> the type of the success values
+ * @param <E> the type of the error value
+ */
+final class ParallelTraverse<A, T, E> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] slots;
+    private final Function<? super A, ? extends Result<? extends T, ? extends E>> function;
+    private final AtomicInteger limit;
+    private final int threshold;
+    private final int from;
+    private final int to;
+
+    private ParallelTraverse(Object[] slots,
+                             Function<? super A, ? extends Result<? extends T, ? extends E>> function,
+                             AtomicInteger limit,
+                             int threshold,
+                             int from,
+                             int to) {
+        this.slots = slots;
+        this.function = function;
+        this.limit = limit;
+        this.threshold = threshold;
+        this.from = from;
+        this.to = to;
+    }
+
+    static <A, T, E> Result<List<T>, E> traverse(
+            Collection<? extends A> items,
+            Function<? super A, ? extends Result<? extends T, ? extends E>> function,
+            ForkJoinPool pool,
+            int threshold) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(pool);
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive, was " + threshold);
+        }
+        Object[] slots = items.toArray();
+        AtomicInteger limit = new AtomicInteger(slots.length + 1);
+        pool.invoke(new ParallelTraverse<>(slots, function, limit, threshold, 0, slots.length));
+        int errorIndex = limit.get() - 1;
+        if (errorIndex < slots.length) {
+            @SuppressWarnings("unchecked")
+            Result<List<T>, E> res = (Result<List<T>, E>) slots[errorIndex];
+            return res;
+        }
+        @SuppressWarnings("unchecked")
+        List<T> values = (List<T>) Collections.unmodifiableList(Arrays.asList(slots));
+        return Result.success(values);
+    }
+
+    static int defaultThreshold(int size, int parallelism) {
+        return Math.max(1, size / (parallelism * 4));
+    }
+
+    @Override
+    protected void compute() {
+        if (from >= limit.get()) {
+            return;
+        }
+        if (to - from <= threshold) {
+            for (int i = from; i < to && i < limit.get(); i++) {
+                @SuppressWarnings("unchecked")
+                A item = (A) slots[i];
+                Result<? extends T, ? extends E> result = Objects.requireNonNull(function.apply(item));
+                if (!result.isSuccess()) {
+                    slots[i] = result;
+                    limit.accumulateAndGet(i + 1, Math::min);
+                    return;
+                }
+                slots[i] = result.value();
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        invokeAll(new ParallelTraverse<>(slots, function, limit, threshold, from, mid),
+                new ParallelTraverse<>(slots, function, limit, threshold, mid, to));
+    }
+}
@@ -1,12 +1,23 @@
 package no.gorandalum.fluentresult;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
 
 /**
  * A result object which either is in success state containing a
@@ -19,10 +30,15 @@ import java.util.function.Supplier;
  * @param <T> the type of the success value
  * @param <E> the type of the error value
  */
-public final class Result<T, E> extends BaseResult<T, E> {
+public abstract class Result<T, E> extends BaseResult<T, E> {
 
-    private Result(T value, E error) {
-        super(value, error, Result.class);
+    /**
+     * Shared error instances for enum constants and registered error values.
+     */
+    private static final ErrorCache<Result<?, ?>> ERROR_CACHE =
+            new ErrorCache<>(Failure::new);
+
+    private Result() {
     }
 
     /**
@@ -37,7 +53,28 @@ public final class Result<T, E> extends BaseResult<T, E> {
      * @throws NullPointerException if given success value is {@code null}
      */
     public static <T, E> Result<T, E> success(T value) {
-        return new Result<>(Objects.requireNonNull(value), null);
+        return new Success<>(Objects.requireNonNull(value));
+    }
+
+    /**
+     * Returns a {@code Result} in success state containing the given
+     * non-{@code null} value as success value. If the success value is an
+     * integer or long between -128 and 127, a boolean, the empty string, one of
+     * the empty collections of {@link java.util.Collections} or registered with
+     * {@link SharedValues#register(Object)}, a shared instance is returned
+     * instead of a new one.
+     *
+     * @param value the success value, which must be non-{@code null}
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return a {@code Result} in success state containing the given success
+     * value
+     * @throws NullPointerException if given success value is {@code null}
+     */
+    public static <T, E> Result<T, E> sharedSuccess(T value) {
+        @SuppressWarnings("unchecked")
+        Result<T, E> res = (Result<T, E>) SharedSuccess.CACHE.get(value);
+        return res;
     }
 
     /**
@@ -51,7 +88,25 @@ public final class Result<T, E> extends BaseResult<T, E> {
      * @throws NullPointerException if given error value is {@code null}
      */
     public static <T, E> Result<T, E> error(E value) {
-        return new Result<>(null, Objects.requireNonNull(value));
+        return new Failure<>(Objects.requireNonNull(value));
+    }
+
+    /**
+     * Returns a {@code Result} in error state containing the given
+     * non-{@code null} value as error value. If the error value is an enum
+     * constant or registered with {@link SharedErrors#register(Object)}, a
+     * shared instance is returned instead of a new one.
+     *
+     * @param value the error value, which must be non-{@code null}
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return a {@code Result} in error state containing the given error value
+     * @throws NullPointerException if given error value is {@code null}
+     */
+    public static <T, E> Result<T, E> sharedError(E value) {
+        @SuppressWarnings("unchecked")
+        Result<T, E> res = (Result<T, E>) ERROR_CACHE.get(value);
+        return res;
     }
 
     /**
@@ -120,6 +175,72 @@ public final class Result<T, E> extends BaseResult<T, E> {
                 this);
     }
 
+    /**
+     * If in success state, returns an {@code IntResult} containing the
+     * result of applying the given mapping function to the success value,
+     * otherwise returns an {@code IntResult} containing the error value of
+     * this {@code Result}.
+     *
+     * @param function the mapping function to apply to the success value, if
+     * success state
+     * @return an {@code IntResult} containing the int result of applying the
+     * mapping function to the success value of this {@code Result}, if in
+     * success state, otherwise an {@code IntResult} containing the error
+     * value of this {@code Result}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     */
+    public IntResult<E> mapToInt(ToIntFunction<? super T> function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ?
+                IntResult.success(function.applyAsInt(value())) :
+                IntResult.error(error());
+    }
+
+    /**
+     * If in success state, returns a {@code LongResult} containing the
+     * result of applying the given mapping function to the success value,
+     * otherwise returns a {@code LongResult} containing the error value of
+     * this {@code Result}.
+     *
+     * @param function the mapping function to apply to the success value, if
+     * success state
+     * @return a {@code LongResult} containing the long result of applying the
+     * mapping function to the success value of this {@code Result}, if in
+     * success state, otherwise a {@code LongResult} containing the error
+     * value of this {@code Result}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     */
+    public LongResult<E> mapToLong(ToLongFunction<? super T> function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ?
+                LongResult.success(function.applyAsLong(value())) :
+                LongResult.error(error());
+    }
+
+    /**
+     * If in success state, returns a {@code DoubleResult} containing the
+     * result of applying the given mapping function to the success value,
+     * otherwise returns a {@code DoubleResult} containing the error value of
+     * this {@code Result}.
+     *
+     * @param function the mapping function to apply to the success value, if
+     * success state
+     * @return a {@code DoubleResult} containing the double result of applying the
+     * mapping function to the success value of this {@code Result}, if in
+     * success state, otherwise a {@code DoubleResult} containing the error
+     * value of this {@code Result}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     */
+    public DoubleResult<E> mapToDouble(ToDoubleFunction<? super T> function) {
+        Objects.requireNonNull(function);
+        return isSuccess() ?
+                DoubleResult.success(function.applyAsDouble(value())) :
+                DoubleResult.error(error());
+    }
+
     /**
      * If in error state, returns a {@code Result} containing the result of
      * applying the given mapping function to the error value, otherwise
@@ -215,6 +336,60 @@ public final class Result<T, E> extends BaseResult<T, E> {
         return Implementations.flatMap(function, this, VoidResult::error);
     }
 
+    /**
+     * If in success state, returns the {@code IntResult} from applying the
+     * given mapping function to the success value, otherwise returns a
+     * {@code IntResult} containing the error value of this {@code Result}.
+     *
+     * @param function the mapping function to apply to the success value, if
+     * success state
+     * @return the {@code IntResult} returned from the mapping function, if in
+     * success state, otherwise a {@code IntResult} containing the error value
+     * of this {@code Result}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public IntResult<E> flatMapToIntResult(
+            Function<? super T, IntResult<E>> function) {
+        return Implementations.flatMap(function, this, IntResult::error);
+    }
+
+    /**
+     * If in success state, returns the {@code LongResult} from applying the
+     * given mapping function to the success value, otherwise returns a
+     * {@code LongResult} containing the error value of this {@code Result}.
+     *
+     * @param function the mapping function to apply to the success value, if
+     * success state
+     * @return the {@code LongResult} returned from the mapping function, if in
+     * success state, otherwise a {@code LongResult} containing the error value
+     * of this {@code Result}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public LongResult<E> flatMapToLongResult(
+            Function<? super T, LongResult<E>> function) {
+        return Implementations.flatMap(function, this, LongResult::error);
+    }
+
+    /**
+     * If in success state, returns the {@code DoubleResult} from applying the
+     * given mapping function to the success value, otherwise returns a
+     * {@code DoubleResult} containing the error value of this {@code Result}.
+     *
+     * @param function the mapping function to apply to the success value, if
+     * success state
+     * @return the {@code DoubleResult} returned from the mapping function, if in
+     * success state, otherwise a {@code DoubleResult} containing the error value
+     * of this {@code Result}
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public DoubleResult<E> flatMapToDoubleResult(
+            Function<? super T, DoubleResult<E>> function) {
+        return Implementations.flatMap(function, this, DoubleResult::error);
+    }
+
     /**
      * If in error state, returns a {@code Result} with the success value from
      * applying the given mapping function to the error value, otherwise returns
@@ -512,9 +687,9 @@ public final class Result<T, E> extends BaseResult<T, E> {
      * value from this {@code Result}
      */
     public OptionalResult<T, E> toOptionalResult() {
-        return errorOpt()
-                .map(OptionalResult::<T, E>error)
-                .orElseGet(() -> OptionalResult.success(value()));
+        return isSuccess() ?
+                OptionalResult.success(value()) :
+                OptionalResult.error(error());
     }
 
     /**
@@ -527,9 +702,21 @@ public final class Result<T, E> extends BaseResult<T, E> {
      * containing the error value from this {@code Result}
      */
     public VoidResult<E> toVoidResult() {
-        return errorOpt()
-                .map(VoidResult::error)
-                .orElseGet(VoidResult::success);
+        return isSuccess() ? VoidResult.success() : VoidResult.error(error());
+    }
+
+    /**
+     * Transforms this {@code Result} to a {@code Validation}. If in success
+     * state, the {@code Validation} will be valid containing the success value
+     * from this {@code Result}. If in error state, the {@code Validation} will
+     * be invalid containing the error value from this {@code Result} as its
+     * only error value.
+     *
+     * @return a {@code Validation} either valid containing the success value
+     * or invalid containing the error value from this {@code Result}
+     */
+    public Validation<T, E> toValidation() {
+        return isSuccess() ? Validation.valid(value()) : Validation.invalid(error());
     }
 
     /**
@@ -579,5 +766,510 @@ public final class Result<T, E> extends BaseResult<T, E> {
         Objects.requireNonNull(exceptionMapper);
         return handle(callable).mapError(exceptionMapper);
     }
-}
 
+    /**
+     * Handle the given {@code Callable}, bounded by the given timeout. The
+     * {@code Callable} is run on the calling thread. If it executes
+     * successfully within the timeout, the {@code Result} will be in success
+     * state containing the returned value. If it throws an exception within
+     * the timeout, the {@code Result} will be in error state containing the
+     * thrown exception.
+     * <p>
+     * If the {@code Callable} has not completed when the timeout expires, the
+     * calling thread is interrupted, and the {@code Result} will be in error
+     * state containing a {@code TimeoutException}, whether the {@code Callable}
+     * then returns or throws. The interrupt is cleared before returning, unless
+     * the thread was already interrupted from elsewhere when the timeout
+     * expired. A {@code Callable} which does not respond to interruption keeps
+     * running until it completes. The timeouts are checked by a timer shared by
+     * all calls, with a precision of 10 milliseconds, so arming and cancelling
+     * a timeout is cheap even with many concurrent calls.
+     *
+     * @param callable the {@code Callable} to handle
+     * @param timeout the maximum time to wait for the {@code Callable} to
+     * complete, which must be positive
+     * @param <T> type of the return value of the {@code Callable}
+     * @return a {@code Result} either in success state containing the value
+     * from the {@code Callable}, or in error state containing the exception
+     * thrown by the {@code Callable} or a {@code TimeoutException}
+     * @throws NullPointerException if the given callable or timeout is
+     * {@code null}, or the callable returns {@code null} within the timeout
+     * @throws IllegalArgumentException if the given timeout is zero or
+     * negative
+     */
+    public static <T> Result<T, Exception> handleWithTimeout(Callable<T> callable, Duration timeout) {
+        return TimedHandle.handle(callable, timeout, Function.identity());
+    }
+
+    /**
+     * Handle the given {@code Callable}, bounded by the given timeout, as by
+     * {@link #handleWithTimeout(Callable, Duration)}. If the {@code Callable}
+     * throws an exception within the timeout, or does not complete within the
+     * timeout, the {@code Result} will be in error state containing the result
+     * after mapping the thrown exception or the {@code TimeoutException} with
+     * the given exception mapper function.
+     *
+     * @param callable the {@code Callable} to handle
+     * @param timeout the maximum time to wait for the {@code Callable} to
+     * complete, which must be positive
+     * @param exceptionMapper the function mapping a thrown exception or a
+     * {@code TimeoutException} to the error value
+     * @param <T> type of the return value of the {@code Callable}
+     * @param <E> type of the error value after mapping an exception
+     * @return a {@code Result} either in success state containing the value
+     * from the {@code Callable}, or in error state containing the result after
+     * mapping the exception thrown by the {@code Callable} or a
+     * {@code TimeoutException}
+     * @throws NullPointerException if the given callable or timeout is
+     * {@code null}, or the callable returns {@code null} within the timeout,
+     * or if the given exception mapper function is {@code null} or returns
+     * {@code null}
+     * @throws IllegalArgumentException if the given timeout is zero or
+     * negative
+     */
+    public static <T, E> Result<T, E> handleWithTimeout(Callable<T> callable,
+                                                        Duration timeout,
+                                                        Function<Exception, E> exceptionMapper) {
+        return TimedHandle.handle(callable, timeout, exceptionMapper);
+    }
+
+    /**
+     * Handle the given {@code Callable}s concurrently, and wait for all of
+     * them to complete. Each {@code Callable} is handled as by
+     * {@link #handle(Callable)}, and the results are returned in the order of
+     * the given list.
+     * <p>
+     * On a Java runtime with virtual threads, each {@code Callable} is run on
+     * its own virtual thread. On older runtimes the {@code Callable}s are run
+     * on a shared pool of 64 daemon platform threads, so at most 64
+     * {@code Callable}s of all calls run at a time and the others wait in a
+     * queue. A call made from a {@code Callable} running on the pool runs the
+     * {@code Callable}s of its own call not yet started on its own thread
+     * while it waits, so nested calls do not deadlock the pool.
+     * <p>
+     * If the calling thread is interrupted while waiting, the
+     * {@code Callable}s not yet completed are cancelled, interrupting those
+     * running, and not started if still waiting. Their results are in error
+     * state containing the {@code InterruptedException}, and the interrupt
+     * status of the calling thread is kept.
+     *
+     * @param callables the {@code Callable}s to handle
+     * @param <T> type of the return values of the {@code Callable}s
+     * @return a list containing a {@code Result} for each {@code Callable},
+     * either in success state containing the returned value or in error state
+     * containing the thrown exception
+     * @throws NullPointerException if the given list, any of the
+     * {@code Callable}s, or any of the returned values is {@code null}
+     */
+    public static <T> List<Result<T, Exception>> handleAll(
+            List<? extends Callable<? extends T>> callables) {
+        return BulkHandle.handleAll(callables, Function.identity());
+    }
+
+    /**
+     * Handle the given {@code Callable}s concurrently, and wait for all of
+     * them to complete. Each {@code Callable} is handled as by
+     * {@link #handle(Callable, Function)}, and the results are returned in the
+     * order of the given list.
+     * <p>
+     * On a Java runtime with virtual threads, each {@code Callable} is run on
+     * its own virtual thread. On older runtimes the {@code Callable}s are run
+     * on a shared pool of 64 daemon platform threads, so at most 64
+     * {@code Callable}s of all calls run at a time and the others wait in a
+     * queue. A call made from a {@code Callable} running on the pool runs the
+     * {@code Callable}s of its own call not yet started on its own thread
+     * while it waits, so nested calls do not deadlock the pool.
+     * <p>
+     * If the calling thread is interrupted while waiting, the
+     * {@code Callable}s not yet completed are cancelled, interrupting those
+     * running, and not started if still waiting. Their results are in error
+     * state containing the result after mapping the
+     * {@code InterruptedException}, and the interrupt status of the calling
+     * thread is kept.
+     *
+     * @param callables the {@code Callable}s to handle
+     * @param exceptionMapper the function mapping a thrown exception to the
+     * error value
+     * @param <T> type of the return values of the {@code Callable}s
+     * @param <E> type of the error value after mapping a thrown exception
+     * @return a list containing a {@code Result} for each {@code Callable},
+     * either in success state containing the returned value or in error state
+     * containing the result after mapping the thrown exception
+     * @throws NullPointerException if the given list, any of the
+     * {@code Callable}s, or any of the returned values is {@code null}, or if
+     * the given exception mapper function is {@code null} or returns
+     * {@code null}
+     */
+    public static <T, E> List<Result<T, E>> handleAll(
+            List<? extends Callable<? extends T>> callables,
+            Function<Exception, E> exceptionMapper) {
+        return BulkHandle.handleAll(callables, exceptionMapper);
+    }
+
+    /**
+     * Runs the given alternatives in parallel and returns the first
+     * {@code Result} in success state. Otherwise behaves as
+     * {@link #firstSuccess(List, Duration, Executor)}, starting all the
+     * alternatives at once on a new virtual thread each on a Java runtime with
+     * virtual threads, or on a shared pool of 64 daemon platform threads on
+     * older runtimes.
+     *
+     * @param alternatives the suppliers of alternative results
+     * @param <T> the type of the success value
+     * @param <E> the type of the error values
+     * @return the first {@code Result} in success state, or a {@code Result} in
+     * error state containing the error values of all the alternatives
+     * @throws NullPointerException if the given list or any of the
+     * alternatives is {@code null}, or an alternative returns {@code null}
+     * @throws IllegalArgumentException if the given list is empty
+     * @throws CancellationException if the calling thread is interrupted
+     * while waiting
+     */
+    public static <T, E> Result<T, List<E>> firstSuccess(
+            List<? extends Supplier<? extends Result<? extends T, ? extends E>>> alternatives) {
+        return firstSuccess(alternatives, Duration.ZERO);
+    }
+
+    /**
+     * Runs the given alternatives in parallel on the given {@code Executor}
+     * and returns the first {@code Result} in success state. Otherwise behaves as
+     * {@link #firstSuccess(List, Duration, Executor)}, starting all the
+     * alternatives at once.
+     *
+     * @param alternatives the suppliers of alternative results
+     * @param executor the {@code Executor} to run the alternatives on
+     * @param <T> the type of the success value
+     * @param <E> the type of the error values
+     * @return the first {@code Result} in success state, or a {@code Result} in
+     * error state containing the error values of all the alternatives
+     * @throws NullPointerException if the given list, any of the alternatives
+     * or the executor is {@code null}, or an alternative returns
+     * {@code null}
+     * @throws IllegalArgumentException if the given list is empty
+     * @throws CancellationException if the calling thread is interrupted
+     * while waiting
+     */
+    public static <T, E> Result<T, List<E>> firstSuccess(
+            List<? extends Supplier<? extends Result<? extends T, ? extends E>>> alternatives,
+            Executor executor) {
+        return firstSuccess(alternatives, Duration.ZERO, executor);
+    }
+
+    /**
+     * Runs the given alternatives, each started after the given hedge delay
+     * unless an earlier one has succeeded, and returns the first
+     * {@code Result} in success state. Otherwise behaves as
+     * {@link #firstSuccess(List, Duration, Executor)}, running the
+     * alternatives on a new virtual thread each on a Java runtime with virtual
+     * threads, or on a shared pool of 64 daemon platform threads on older
+     * runtimes.
+     *
+     * @param alternatives the suppliers of alternative results
+     * @param hedgeDelay the time to wait for a success before starting the
+     * next alternative, where zero starts all the alternatives at once
+     * @param <T> the type of the success value
+     * @param <E> the type of the error values
+     * @return the first {@code Result} in success state, or a {@code Result} in
+     * error state containing the error values of all the alternatives
+     * @throws NullPointerException if the given list, any of the alternatives
+     * or the hedge delay is {@code null}, or an alternative returns
+     * {@code null}
+     * @throws IllegalArgumentException if the given list is empty, or the
+     * hedge delay is negative
+     * @throws CancellationException if the calling thread is interrupted
+     * while waiting
+     */
+    public static <T, E> Result<T, List<E>> firstSuccess(
+            List<? extends Supplier<? extends Result<? extends T, ? extends E>>> alternatives,
+            Duration hedgeDelay) {
+        return firstSuccess(alternatives, hedgeDelay, BulkHandle.defaultExecutor());
+    }
+
+    /**
+     * Runs the given alternatives on the given {@code Executor}, and returns
+     * the first {@code Result} in success state. The first alternative is
+     * started at once. Each of the next alternatives is started when the
+     * given hedge delay has passed since the previous one was started without
+     * any success, or at once when a running alternative returns a result in
+     * error state. A hedge delay of zero starts all the alternatives at once.
+     * <p>
+     * When an alternative returns a result in success state, that result is
+     * returned, the alternatives not yet started are skipped, and the threads
+     * of the alternatives still running are interrupted. If all the
+     * alternatives return results in error state, the returned
+     * {@code Result} will be in error state containing a list of their error
+     * values, in the order of the alternatives. If an alternative throws an
+     * exception, the other alternatives are cancelled and the exception is
+     * rethrown.
+     * <p>
+     * If the calling thread is interrupted while waiting, the running
+     * alternatives are cancelled, and a {@code CancellationException} is
+     * thrown, with the interrupt status of the calling thread set.
+     *
+     * @param alternatives the suppliers of alternative results
+     * @param hedgeDelay the time to wait for a success before starting the
+     * next alternative, where zero starts all the alternatives at once
+     * @param executor the {@code Executor} to run the alternatives on
+     * @param <T> the type of the success value
+     * @param <E> the type of the error values
+     * @return the first {@code Result} in success state, or a {@code Result} in
+     * error state containing the error values of all the alternatives
+     * @throws NullPointerException if the given list, any of the
+     * alternatives, the hedge delay or the executor is {@code null}, or an
+     * alternative returns {@code null}
+     * @throws IllegalArgumentException if the given list is empty, or the
+     * hedge delay is negative
+     * @throws CancellationException if the calling thread is interrupted
+     * while waiting
+     */
+    public static <T, E> Result<T, List<E>> firstSuccess(
+            List<? extends Supplier<? extends Result<? extends T, ? extends E>>> alternatives,
+            Duration hedgeDelay,
+            Executor executor) {
+        return FirstSuccess.result(alternatives, hedgeDelay, executor);
+    }
+
+    /**
+     * Transforms the given results to a {@code Result} containing a list of
+     * their success values. If all the results are in success state, the
+     * returned {@code Result} will be in success state containing the success
+     * values in iteration order. Otherwise the returned {@code Result} will be
+     * in error state containing the error value of the first result in error
+     * state, and the remaining results will not be iterated.
+     *
+     * @param results the results to transform
+     * @param <T> the type of the success values
+     * @param <E> the type of the error value
+     * @return a {@code Result} either in success state containing the
+     * unmodifiable list of success values, or in error state containing the
+     * first error value
+     * @throws NullPointerException if the given results or any of the iterated
+     * results are {@code null}
+     */
+    public static <T, E> Result<List<T>, E> sequence(
+            Iterable<? extends Result<? extends T, ? extends E>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Applies the given function to each of the given items and transforms
+     * the returned results to a {@code Result} containing a list of their
+     * success values. If all the results are in success state, the returned
+     * {@code Result} will be in success state containing the success values in
+     * iteration order. Otherwise the returned {@code Result} will be in error
+     * state containing the error value of the first result in error state, and
+     * the function will not be applied to the remaining items.
+     *
+     * @param items the items to apply the function to
+     * @param function the function to apply to each item
+     * @param <A> the type of the items
+     * @param <T> the type of the success values
+     * @param <E> the type of the error value
+     * @return a {@code Result} either in success state containing the
+     * unmodifiable list of success values, or in error state containing the
+     * first error value
+     * @throws NullPointerException if the given items or function are
+     * {@code null}, or if the function returns {@code null}
+     */
+    public static <A, T, E> Result<List<T>, E> traverse(
+            Iterable<? extends A> items,
+            Function<? super A, ? extends Result<? extends T, ? extends E>> function) {
+        Objects.requireNonNull(function);
+        List<T> values = Sequences.newList(items);
+        for (A item : items) {
+            Result<? extends T, ? extends E> result = Objects.requireNonNull(function.apply(item));
+            if (!result.isSuccess()) {
+                @SuppressWarnings("unchecked")
+                Result<List<T>, E> res = (Result<List<T>, E>) (Result<?, ?>) result;
+                return res;
+            }
+            values.add(result.value());
+        }
+        return success(Collections.unmodifiableList(values));
+    }
+
+    /**
+     * Applies the given function in parallel to the given items, using the
+     * common {@code ForkJoinPool}, and transforms the returned results to a
+     * {@code Result} containing a list of their success values. Otherwise
+     * behaves as {@link #traverseParallel(Collection, Function, ForkJoinPool,
+     * int)}, with a split threshold based on the number of items and the
+     * parallelism of the pool.
+     *
+     * @param items the items to apply the function to
+     * @param function the function to apply to each item
+     * @param <A> the type of the items
+     * @param <T> the type of the success values
+     * @param <E> the type of the error value
+     * @return a {@code Result} either in success state containing the list of
+     * success values in input order, or in error state containing the error
+     * value of the first item in input order mapping to an error
+     * @throws NullPointerException if the given items or function are
+     * {@code null}, or if the function returns {@code null}
+     */
+    public static <A, T, E> Result<List<T>, E> traverseParallel(
+            Collection<? extends A> items,
+            Function<? super A, ? extends Result<? extends T, ? extends E>> function) {
+        return traverseParallel(items, function, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies the given function in parallel to the given items, using the
+     * given {@code ForkJoinPool}, and transforms the returned results to a
+     * {@code Result} containing a list of their success values. Otherwise
+     * behaves as {@link #traverseParallel(Collection, Function, ForkJoinPool,
+     * int)}, with a split threshold based on the number of items and the
+     * parallelism of the pool.
+     *
+     * @param items the items to apply the function to
+     * @param function the function to apply to each item
+     * @param pool the {@code ForkJoinPool} to apply the function in
+     * @param <A> the type of the items
+     * @param <T> the type of the success values
+     * @param <E> the type of the error value
+     * @return a {@code Result} either in success state containing the list of
+     * success values in input order, or in error state containing the error
+     * value of the first item in input order mapping to an error
+     * @throws NullPointerException if the given items, function or pool are
+     * {@code null}, or if the function returns {@code null}
+     */
+    public static <A, T, E> Result<List<T>, E> traverseParallel(
+            Collection<? extends A> items,
+            Function<? super A, ? extends Result<? extends T, ? extends E>> function,
+            ForkJoinPool pool) {
+        return traverseParallel(items, function, pool,
+                ParallelTraverse.defaultThreshold(items.size(), pool.getParallelism()));
+    }
+
+    /**
+     * Applies the given function in parallel to the given items, using the
+     * given {@code ForkJoinPool}, and transforms the returned results to a
+     * {@code Result} containing a list of their success values. The items are
+     * split in halves until a part has no more items than the given threshold,
+     * and the function is applied to the items of each part in order.
+     * <p>
+     * If all the results are in success state, the returned {@code Result}
+     * will be in success state containing an unmodifiable list of the success
+     * values in input order. Otherwise the returned {@code Result} will be in
+     * error state containing the error value of the first item in input order
+     * mapping to an error, the same as for {@link #traverse(Iterable,
+     * Function)}. Once an error is found, parts after it which are not yet
+     * started are skipped, and running parts stop before their next item
+     * after it, while parts before it still run to find any earlier error.
+     * <p>
+     * The function may be applied from several threads at the same time, and
+     * to items after the first error.
+     *
+     * @param items the items to apply the function to
+     * @param function the function to apply to each item
+     * @param pool the {@code ForkJoinPool} to apply the function in
+     * @param threshold the highest number of items in a part which is not
+     * split further, must be positive
+     * @param <A> the type of the items
+     * @param <T> the type of the success values
+     * @param <E> the type of the error value
+     * @return a {@code Result} either in success state containing the list of
+     * success values in input order, or in error state containing the error
+     * value of the first item in input order mapping to an error
+     * @throws NullPointerException if the given items, function or pool are
+     * {@code null}, or if the function returns {@code null}
+     * @throws IllegalArgumentException if the given threshold is not positive
+     */
+    public static <A, T, E> Result<List<T>, E> traverseParallel(
+            Collection<? extends A> items,
+            Function<? super A, ? extends Result<? extends T, ? extends E>> function,
+            ForkJoinPool pool,
+            int threshold) {
+        return ParallelTraverse.traverse(items, function, pool, threshold);
+    }
+
+    /**
+     * Returns a {@code Collector} transforming a stream of results to a
+     * {@code Result} containing an unmodifiable list of their success values.
+     * If all the results are in success state, the {@code Result} will be in
+     * success state containing the success values in encounter order. Otherwise
+     * the {@code Result} will be in error state containing the error value of
+     * the first result in error state, in encounter order also for parallel
+     * streams.
+     * <p>
+     * A collector can not stop the stream, so success values after the first
+     * error are discarded as they are consumed. Use
+     * {@link #sequence(Iterable)} with {@code stream::iterator} to stop
+     * consuming at the first error.
+     *
+     * @param <T> the type of the success values
+     * @param <E> the type of the error value
+     * @return a {@code Collector} collecting results to a {@code Result}
+     * containing a list of success values or the first error value
+     */
+    public static <T, E> Collector<Result<? extends T, ? extends E>, ?, Result<List<T>, E>> sequenceCollector() {
+        return Collector.<Result<? extends T, ? extends E>, Sequences.Accumulator<T, E>, Result<List<T>, E>>of(
+                Sequences.Accumulator::new,
+                (acc, result) -> {
+                    if (result.isSuccess()) {
+                        acc.add(result.value());
+                    } else {
+                        acc.fail(result.error());
+                    }
+                },
+                Sequences.Accumulator::combine,
+                acc -> acc.finish(Result::success, Result::error));
+    }
+
+    /**
+     * Holder of the shared success instances, initialized on first use of
+     * {@link #sharedSuccess(Object)}.
+     */
+    private static final class SharedSuccess {
+
+        static final ValueCache<Result<?, ?>> CACHE = new ValueCache<>(Success::new);
+    }
+
+    private static final class Success<T, E> extends Result<T, E> {
+
+        private final T value;
+
+        Success(T value) {
+            this.value = value;
+        }
+
+        @Override
+        T value() {
+            return value;
+        }
+
+        @Override
+        E error() {
+            return null;
+        }
+
+        @Override
+        boolean isSuccess() {
+            return true;
+        }
+    }
+
+    private static final class Failure<T, E> extends Result<T, E> {
+
+        private final E error;
+
+        Failure(E error) {
+            this.error = error;
+        }
+
+        @Override
+        T value() {
+            return null;
+        }
+
+        @Override
+        E error() {
+            return error;
+        }
+
+        @Override
+        boolean isSuccess() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package no.gorandalum.fluentresult;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A cache of the results of a {@code Result} returning loader. Results in
+ * success state and results in error state are kept for separate times to
+ * live, so errors can be kept briefly to spare the loader from repeated
+ * failing calls, while successes are kept for longer. By default successes
+ * are kept until evicted, and errors are not kept at all.
+ * <p>
+ * The cache holds at most its maximum number of results, 10 000 by default.
+ * The keys are spread over up to 16 segments, each holding its share of the
+ * maximum in least recently used order behind its own lock, so lookups of
+ * keys in different segments do not contend. When a segment is full, its
+ * least recently used result is evicted. An expired result is removed when
+ * its key is next looked up, or when it is evicted.
+ * <p>
+ * Concurrent lookups of a key missing from the cache share one call to the
+ * loader, as by {@link SingleFlight}. The loader is called without holding
+ * the lock of any segment. If the loader throws an exception, nothing is
+ * cached and the exception is thrown to the callers waiting for the load.
+ * A load in progress while its key, or another key of the same segment, is
+ * invalidated returns its result to the callers waiting for it, but does not
+ * cache it.
+ * <p>
+ * The numbers of hits, misses and evictions are counted with striped
+ * counters. A cache is meant to be configured once and shared. Each of the
+ * configuring methods returns a new, empty cache with its own counters.
+ * <p>
+ * A variable whose type is {@code ResultCache} should never itself be
+ * {@code null}, it should always point to a {@code ResultCache} instance.
+ *
+ * @param <K> the type of the keys
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ */
+public final class ResultCache<K, T, E> {
+
+    static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    static final int MAX_SEGMENTS = 16;
+
+    private static final long NOT_CACHED = 0;
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final Function<? super K, ? extends Result<? extends T, ? extends E>> loader;
+    private final int maximumSize;
+    private final long successTtlNanos;
+    private final long errorTtlNanos;
+    private final LongSupplier clock;
+
+    private final Segment<K, T, E>[] segments;
+    private final SingleFlight<K, T, E> flight;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private ResultCache(Function<? super K, ? extends Result<? extends T, ? extends E>> loader,
+                        int maximumSize,
+                        long successTtlNanos,
+                        long errorTtlNanos,
+                        LongSupplier clock) {
+        this.loader = loader;
+        this.maximumSize = maximumSize;
+        this.successTtlNanos = successTtlNanos;
+        this.errorTtlNanos = errorTtlNanos;
+        this.clock = clock;
+        this.segments = newSegments(maximumSize);
+        this.flight = SingleFlight.of(this::loadAndStore);
+    }
+
+    /**
+     * Returns a {@code ResultCache} caching the results of the given loader.
+     * The cache holds at most 10 000 results, keeps results in success state
+     * until evicted, and does not keep results in error state.
+     *
+     * @param loader the function loading the {@code Result} for a key
+     * @param <K> the type of the keys
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return a {@code ResultCache} caching the results of the given loader
+     * @throws NullPointerException if the given loader is {@code null}
+     */
+    public static <K, T, E> ResultCache<K, T, E> of(
+            Function<? super K, ? extends Result<? extends T, ? extends E>> loader) {
+        Objects.requireNonNull(loader);
+        return new ResultCache<>(loader, DEFAULT_MAXIMUM_SIZE, NO_EXPIRY, NOT_CACHED, System::nanoTime);
+    }
+
+    /**
+     * Returns a new {@code ResultCache} like this one, holding at most the
+     * given number of results.
+     *
+     * @param maximumSize the maximum number of cached results
+     * @return a new {@code ResultCache} with the given maximum size
+     * @throws IllegalArgumentException if the given size is not positive
+     */
+    public ResultCache<K, T, E> withMaximumSize(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive, was " + maximumSize);
+        }
+        return new ResultCache<>(loader, maximumSize, successTtlNanos, errorTtlNanos, clock);
+    }
+
+    /**
+     * Returns a new {@code ResultCache} like this one, keeping results in
+     * success state for the given time after they were loaded. A time of
+     * zero does not keep them at all.
+     *
+     * @param ttl the time to live of results in success state
+     * @return a new {@code ResultCache} with the given time to live for
+     * successes
+     * @throws NullPointerException if the given time to live is {@code null}
+     * @throws IllegalArgumentException if the given time to live is negative
+     */
+    public ResultCache<K, T, E> withSuccessTtl(Duration ttl) {
+        return new ResultCache<>(loader, maximumSize, toNanos(ttl), errorTtlNanos, clock);
+    }
+
+    /**
+     * Returns a new {@code ResultCache} like this one, keeping results in
+     * error state for the given time after they were loaded. A time of zero
+     * does not keep them at all.
+     *
+     * @param ttl the time to live of results in error state
+     * @return a new {@code ResultCache} with the given time to live for
+     * errors
+     * @throws NullPointerException if the given time to live is {@code null}
+     * @throws IllegalArgumentException if the given time to live is negative
+     */
+    public ResultCache<K, T, E> withErrorTtl(Duration ttl) {
+        return new ResultCache<>(loader, maximumSize, successTtlNanos, toNanos(ttl), clock);
+    }
+
+    ResultCache<K, T, E> withClock(LongSupplier clock) {
+        return new ResultCache<>(loader, maximumSize, successTtlNanos, errorTtlNanos, clock);
+    }
+
+    /**
+     * Returns the cached {@code Result} for the given key if present and not
+     * expired. Otherwise loads the {@code Result} with the loader, caches it
+     * if its time to live is positive, and returns it.
+     *
+     * @param key the key to look up, which must be non-{@code null}
+     * @return the cached or loaded {@code Result} for the given key
+     * @throws NullPointerException if the given key is {@code null}, or the
+     * loader returns {@code null}
+     */
+    public Result<T, E> get(K key) {
+        Objects.requireNonNull(key);
+        Segment<K, T, E> segment = segmentFor(key);
+        long now = clock.getAsLong();
+        synchronized (segment) {
+            Cached<T, E> cached = segment.get(key);
+            if (cached != null) {
+                if (!isExpired(cached, now)) {
+                    hits.increment();
+                    return cached.result;
+                }
+                segment.remove(key);
+            }
+        }
+        misses.increment();
+        return flight.load(key);
+    }
+
+    /**
+     * Removes the cached {@code Result} for the given key, if any. A load of
+     * the key in progress does not cache its result.
+     *
+     * @param key the key to remove, which must be non-{@code null}
+     * @throws NullPointerException if the given key is {@code null}
+     */
+    public void invalidate(K key) {
+        Objects.requireNonNull(key);
+        Segment<K, T, E> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.remove(key);
+            segment.invalidations++;
+        }
+    }
+
+    /**
+     * Removes all the cached results. The loads in progress do not cache
+     * their results.
+     */
+    public void invalidateAll() {
+        for (Segment<K, T, E> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+                segment.invalidations++;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached results, including expired results not
+     * yet removed.
+     *
+     * @return the number of cached results
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, T, E> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of lookups which found a cached result.
+     *
+     * @return the number of hits
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups which found no cached result, or an
+     * expired one, and loaded the result or waited for a load in progress.
+     *
+     * @return the number of misses
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of results removed to keep the cache within its
+     * maximum size. Expired and invalidated results are not counted.
+     *
+     * @return the number of evictions
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Loads the result for the given key and caches it, unless the segment
+     * of the key was invalidated while loading, as the loaded result may
+     * then be older than the invalidation.
+     */
+    private Result<T, E> loadAndStore(K key) {
+        Segment<K, T, E> segment = segmentFor(key);
+        long invalidations;
+        synchronized (segment) {
+            invalidations = segment.invalidations;
+        }
+        long loadedNanos = clock.getAsLong();
+        @SuppressWarnings("unchecked")
+        Result<T, E> result = (Result<T, E>) Objects.requireNonNull(loader.apply(key));
+        if (ttlNanos(result) != NOT_CACHED) {
+            synchronized (segment) {
+                if (segment.invalidations == invalidations) {
+                    segment.put(key, new Cached<>(result, loadedNanos));
+                }
+            }
+        }
+        return result;
+    }
+
+    private long ttlNanos(Result<T, E> result) {
+        return result.isSuccess() ? successTtlNanos : errorTtlNanos;
+    }
+
+    private boolean isExpired(Cached<T, E> cached, long now) {
+        return now - cached.loadedNanos >= ttlNanos(cached.result);
+    }
+
+    private Segment<K, T, E> segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * Creates the highest power of two number of segments not above the
+     * maximum size or {@link #MAX_SEGMENTS}, sharing the maximum size so
+     * that the capacities add up to it exactly.
+     */
+    private Segment<K, T, E>[] newSegments(int maximumSize) {
+        int count = Integer.highestOneBit(Math.min(maximumSize, MAX_SEGMENTS));
+        @SuppressWarnings("unchecked")
+        Segment<K, T, E>[] created = (Segment<K, T, E>[]) new Segment<?, ?, ?>[count];
+        for (int i = 0; i < count; i++) {
+            created[i] = new Segment<>(maximumSize / count + (i < maximumSize % count ? 1 : 0), this);
+        }
+        return created;
+    }
+
+    private static long toNanos(Duration ttl) {
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("Time to live must not be negative, was " + ttl);
+        }
+        try {
+            return ttl.toNanos();
+        } catch (ArithmeticException e) {
+            return NO_EXPIRY;
+        }
+    }
+
+    private static final class Cached<T, E> {
+
+        final Result<T, E> result;
+        final long loadedNanos;
+
+        Cached(Result<T, E> result, long loadedNanos) {
+            this.result = result;
+            this.loadedNanos = loadedNanos;
+        }
+    }
+
+    /**
+     * A map of cached results in least recently used order, evicting the
+     * least recently used result when above its capacity. Guarded by its own lock.
+     * The number of invalidations lets a load tell whether the segment was
+     * invalidated while it was in progress. Removing an expired result to
+     * stay within the capacity is not counted as an eviction.
+     */
+    private static final class Segment<K, T, E> extends LinkedHashMap<K, Cached<T, E>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+        private final transient ResultCache<K, T, E> cache;
+
+        long invalidations;
+
+        Segment(int capacity, ResultCache<K, T, E> cache) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.cache = cache;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Cached<T, E>> eldest) {
+            if (size() > capacity) {
+                if (!cache.isExpired(eldest.getValue(), cache.clock.getAsLong())) {
+                    cache.evictions.increment();
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+}
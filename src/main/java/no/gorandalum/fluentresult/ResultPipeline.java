@@ -0,0 +1,318 @@
+package no.gorandalum.fluentresult;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A reusable pipeline of {@code Result} steps, built once and applied to
+ * many inputs. The steps mirror the combinators of {@link Result}, and
+ * applying a pipeline gives the same {@code Result} as calling the
+ * corresponding combinators one after another.
+ * <p>
+ * Where a chain of combinators creates a {@code Result} for every step, the
+ * pipeline passes the plain values or errors from step to step, and only
+ * creates the final {@code Result}. The steps are linked when the pipeline is
+ * built, each step calling the next directly, so applying a pipeline creates
+ * no other object than the final {@code Result}. This holds also where the JIT
+ * compiler can not remove the intermediate {@code Result}s of a chain, but a
+ * chain which is fully inlined may still run somewhat faster.
+ * <p>
+ * A {@code ResultPipeline} is immutable. Adding a step returns a new
+ * pipeline and leaves the original unaltered, so a pipeline may be shared
+ * and applied from several threads, as long as its functions allow it.
+ * <p>
+ * A variable whose type is {@code ResultPipeline} should never itself be
+ * {@code null}, it should always point to a {@code ResultPipeline}
+ * instance.
+ *
+ * @param <T> the type of the input value
+ * @param <N> the type of the success value of the final {@code Result}
+ * @param <E> the type of the error value of the final {@code Result}
+ */
+public final class ResultPipeline<T, N, E> implements Function<T, Result<N, E>> {
+
+    private static final Step[] NO_STEPS = new Step[0];
+
+    private final Step[] steps;
+    private final Stage first;
+
+    private ResultPipeline(Step[] steps) {
+        this.steps = steps;
+        Stage stage = Last.INSTANCE;
+        for (int i = steps.length - 1; i >= 0; i--) {
+            stage = steps[i].link(stage);
+        }
+        this.first = stage;
+    }
+
+    /**
+     * Returns a {@code ResultPipeline} without steps, which applied to a value
+     * gives a {@code Result} in success state containing the value.
+     *
+     * @param <T> the type of the input value
+     * @param <E> the type of the error value
+     * @return a {@code ResultPipeline} without steps
+     */
+    public static <T, E> ResultPipeline<T, T, E> identity() {
+        return new ResultPipeline<>(NO_STEPS);
+    }
+
+    /**
+     * Returns a {@code ResultPipeline} starting with the given mapping
+     * function.
+     *
+     * @param function the mapping function to apply to the input value
+     * @param <T> the type of the input value
+     * @param <N> the type of the value returned from the mapping function
+     * @param <E> the type of the error value
+     * @return a {@code ResultPipeline} applying the mapping function
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     * @see Result#map(Function)
+     */
+    public static <T, N, E> ResultPipeline<T, N, E> of(Function<? super T, ? extends N> function) {
+        return ResultPipeline.<T, E>identity().map(function);
+    }
+
+    /**
+     * Returns a {@code ResultPipeline} which, if in success state, applies the
+     * given mapping function to the success value.
+     *
+     * @param function the mapping function to apply to the success value, if
+     * success state
+     * @param <R> the type of the value returned from the mapping function
+     * @return a new {@code ResultPipeline} with the mapping step added
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     * @see Result#map(Function)
+     */
+    public <R> ResultPipeline<T, R, E> map(Function<? super N, ? extends R> function) {
+        Objects.requireNonNull(function);
+        return with(next -> new Stage(next) {
+            @Override
+            Result<?, ?> success(Object value) {
+                @SuppressWarnings("unchecked")
+                N val = (N) value;
+                return next.success(Objects.requireNonNull(function.apply(val)));
+            }
+        });
+    }
+
+    /**
+     * Returns a {@code ResultPipeline} which, if in success state, continues
+     * with the {@code Result} returned from applying the given function to the
+     * success value.
+     *
+     * @param function the function to apply to the success value, if success
+     * state
+     * @param <R> the type of success value which may be present in the
+     * {@code Result} returned by the function
+     * @return a new {@code ResultPipeline} with the step added
+     * @throws NullPointerException if the given function is {@code null}
+     * @see Result#flatMap(Function)
+     */
+    public <R> ResultPipeline<T, R, E> flatMap(
+            Function<? super N, ? extends Result<? extends R, ? extends E>> function) {
+        Objects.requireNonNull(function);
+        return with(next -> new Stage(next) {
+            @Override
+            Result<?, ?> success(Object value) {
+                @SuppressWarnings("unchecked")
+                N val = (N) value;
+                Result<? extends R, ? extends E> res = Objects.requireNonNull(function.apply(val));
+                if (res.isSuccess()) {
+                    return next.success(res.value());
+                }
+                return next.error(res.error());
+            }
+        });
+    }
+
+    /**
+     * Returns a {@code ResultPipeline} which, if in error state, applies the
+     * given mapping function to the error value.
+     *
+     * @param function the mapping function to apply to the error value, if
+     * error state
+     * @param <F> the type of the value returned from the mapping function
+     * @return a new {@code ResultPipeline} with the mapping step added
+     * @throws NullPointerException if the given mapping function is
+     * {@code null}
+     * @see Result#mapError(Function)
+     */
+    public <F> ResultPipeline<T, N, F> mapError(Function<? super E, ? extends F> function) {
+        Objects.requireNonNull(function);
+        return with(next -> new Stage(next) {
+            @Override
+            Result<?, ?> error(Object error) {
+                @SuppressWarnings("unchecked")
+                E err = (E) error;
+                return next.error(Objects.requireNonNull(function.apply(err)));
+            }
+        });
+    }
+
+    /**
+     * Returns a {@code ResultPipeline} which, if in error state, continues in
+     * success state with the value returned from applying the given function
+     * to the error value.
+     *
+     * @param function the function to apply to the error value, if error state
+     * @return a new {@code ResultPipeline} with the step added
+     * @throws NullPointerException if the given function is {@code null}
+     * @see Result#recover(Function)
+     */
+    public ResultPipeline<T, N, E> recover(Function<E, N> function) {
+        Objects.requireNonNull(function);
+        return with(next -> new Stage(next) {
+            @Override
+            Result<?, ?> error(Object error) {
+                @SuppressWarnings("unchecked")
+                E err = (E) error;
+                return next.success(Objects.requireNonNull(function.apply(err)));
+            }
+        });
+    }
+
+    /**
+     * Returns a {@code ResultPipeline} which, if in success state, verifies
+     * the success value by testing it with the given predicate. If the
+     * predicate evaluates to false, the pipeline continues in error state with
+     * the error value provided by the given error supplier.
+     *
+     * @param predicate the predicate used to verify the success value, if
+     * success state
+     * @param errorSupplier supplier providing the error if predicate evaluates
+     * to false
+     * @return a new {@code ResultPipeline} with the verifying step added
+     * @throws NullPointerException if the given predicate or error supplier is
+     * {@code null}
+     * @see Result#verify(Predicate, Supplier)
+     */
+    public ResultPipeline<T, N, E> verify(Predicate<? super N> predicate,
+                                          Supplier<? extends E> errorSupplier) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(errorSupplier);
+        return with(next -> new Stage(next) {
+            @Override
+            Result<?, ?> success(Object value) {
+                @SuppressWarnings("unchecked")
+                N val = (N) value;
+                if (predicate.test(val)) {
+                    return next.success(value);
+                }
+                return next.error(Objects.requireNonNull(errorSupplier.get()));
+            }
+        });
+    }
+
+    /**
+     * Returns a {@code ResultPipeline} which, if in success state, verifies
+     * the success value by mapping it to a {@code VoidResult}. If the returned
+     * {@code VoidResult} is in error state, the pipeline continues in error
+     * state with its error value.
+     *
+     * @param function the function applied to the success value, if success
+     * state
+     * @return a new {@code ResultPipeline} with the verifying step added
+     * @throws NullPointerException if the given function is {@code null}
+     * @see Result#verify(Function)
+     */
+    public ResultPipeline<T, N, E> verify(
+            Function<? super N, ? extends VoidResult<? extends E>> function) {
+        Objects.requireNonNull(function);
+        return with(next -> new Stage(next) {
+            @Override
+            Result<?, ?> success(Object value) {
+                @SuppressWarnings("unchecked")
+                N val = (N) value;
+                VoidResult<? extends E> res = Objects.requireNonNull(function.apply(val));
+                if (res.isSuccess()) {
+                    return next.success(value);
+                }
+                return next.error(res.error());
+            }
+        });
+    }
+
+    /**
+     * Applies this pipeline to the given input value, and returns the
+     * resulting {@code Result}.
+     *
+     * @param value the input value, which must be non-{@code null}
+     * @return the {@code Result} of applying the steps of this pipeline to a
+     * {@code Result} in success state containing the input value
+     * @throws NullPointerException if the given value is {@code null}, or a
+     * function of this pipeline returns {@code null}
+     */
+    @Override
+    public Result<N, E> apply(T value) {
+        @SuppressWarnings("unchecked")
+        Result<N, E> res = (Result<N, E>) first.success(Objects.requireNonNull(value));
+        return res;
+    }
+
+    private <R, F> ResultPipeline<T, R, F> with(Step step) {
+        Step[] added = Arrays.copyOf(steps, steps.length + 1);
+        added[steps.length] = step;
+        return new ResultPipeline<>(added);
+    }
+
+    /**
+     * A step of the pipeline, linking its stage in front of the stage of the
+     * following steps.
+     */
+    @FunctionalInterface
+    private interface Step {
+
+        Stage link(Stage next);
+    }
+
+    /**
+     * The stage of a step in a built pipeline, given the value in success
+     * state or the error value in error state, and returning the final
+     * {@code Result} of the pipeline. By default a stage passes both on to the
+     * next stage unaltered.
+     */
+    private abstract static class Stage {
+
+        final Stage next;
+
+        Stage(Stage next) {
+            this.next = next;
+        }
+
+        Result<?, ?> success(Object value) {
+            return next.success(value);
+        }
+
+        Result<?, ?> error(Object error) {
+            return next.error(error);
+        }
+    }
+
+    /**
+     * The stage after the last step, creating the final {@code Result}.
+     */
+    private static final class Last extends Stage {
+
+        static final Last INSTANCE = new Last();
+
+        private Last() {
+            super(null);
+        }
+
+        @Override
+        Result<?, ?> success(Object value) {
+            return Result.success(value);
+        }
+
+        @Override
+        Result<?, ?> error(Object error) {
+            return Result.error(error);
+        }
+    }
+}
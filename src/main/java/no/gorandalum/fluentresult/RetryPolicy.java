@@ -0,0 +1,334 @@
+package no.gorandalum.fluentresult;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A policy for retrying operations which return a result in error state,
+ * typically results from the {@code handle} factory methods wrapping a flaky
+ * call. A policy is immutable, and is meant to be built once, for example as
+ * a constant, and shared by all calls it applies to.
+ * <p>
+ * An operation is attempted until it returns a result in success state, the
+ * maximum number of attempts is reached, or the error value does not match
+ * the predicate given to {@link #retryIf(Predicate)}. The last result is
+ * returned. Between the attempts the policy waits an exponentially growing
+ * delay, configured with {@link #withBackoff(Duration, double, Duration)},
+ * which may be shortened by a random jitter configured with
+ * {@link #withJitter(double)}.
+ * <p>
+ * The synchronous {@code retry} methods wait in the calling thread. The
+ * asynchronous {@link #retryAsync(Supplier)} does not block any thread while
+ * waiting, a shared scheduler thread hands the next attempt to an executor
+ * when the delay has passed.
+ * <p>
+ * A variable whose type is {@code RetryPolicy} should never itself be
+ * {@code null}, it should always point to a {@code RetryPolicy} instance.
+ *
+ * @param <E> the type of the error value
+ */
+public final class RetryPolicy<E> {
+
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final double multiplier;
+    private final long maxDelayNanos;
+    private final double jitter;
+    private final Predicate<? super E> retryPredicate;
+
+    private RetryPolicy(int maxAttempts, long initialDelayNanos, double multiplier,
+                        long maxDelayNanos, double jitter, Predicate<? super E> retryPredicate) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelayNanos = initialDelayNanos;
+        this.multiplier = multiplier;
+        this.maxDelayNanos = maxDelayNanos;
+        this.jitter = jitter;
+        this.retryPredicate = retryPredicate;
+    }
+
+    /**
+     * Returns a {@code RetryPolicy} making at most the given number of
+     * attempts, retrying on any error value, without delay between the
+     * attempts.
+     *
+     * @param maxAttempts the maximum number of attempts, including the first
+     * @param <E> the type of the error value
+     * @return a {@code RetryPolicy} making at most the given number of
+     * attempts
+     * @throws IllegalArgumentException if the given number of attempts is not
+     * positive
+     */
+    public static <E> RetryPolicy<E> maxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be positive, was " + maxAttempts);
+        }
+        return new RetryPolicy<>(maxAttempts, 0, 1, 0, 0, err -> true);
+    }
+
+    /**
+     * Returns a copy of this {@code RetryPolicy} waiting between the attempts.
+     * The first retry waits the initial delay, and each following retry waits
+     * the previous delay multiplied by the multiplier, but never longer than
+     * the maximum delay. A multiplier of {@code 1} gives a fixed delay.
+     *
+     * @param initialDelay the delay before the first retry
+     * @param multiplier the factor the delay grows by for each retry, at least
+     * {@code 1}
+     * @param maxDelay the maximum delay between two attempts
+     * @return a copy of this {@code RetryPolicy} with the given backoff
+     * @throws NullPointerException if one of the given durations is
+     * {@code null}
+     * @throws IllegalArgumentException if one of the given durations is
+     * negative, the maximum delay is shorter than the initial delay, or the
+     * multiplier is less than {@code 1}
+     */
+    public RetryPolicy<E> withBackoff(Duration initialDelay, double multiplier, Duration maxDelay) {
+        long initial = initialDelay.toNanos();
+        long max = maxDelay.toNanos();
+        if (initial < 0 || max < initial) {
+            throw new IllegalArgumentException(
+                    "Delays must satisfy 0 <= initial <= max, was " + initialDelay + " and " + maxDelay);
+        }
+        if (!(multiplier >= 1)) {
+            throw new IllegalArgumentException("Multiplier must be at least 1, was " + multiplier);
+        }
+        return new RetryPolicy<>(maxAttempts, initial, multiplier, max, jitter, retryPredicate);
+    }
+
+    /**
+     * Returns a copy of this {@code RetryPolicy} shortening each delay by a
+     * random part of up to the given fraction of it. A jitter of {@code 0.5}
+     * gives delays between half and all of the backoff delay. Jitter spreads
+     * out the retries of callers which failed at the same time.
+     *
+     * @param jitter the largest fraction of a delay to remove, between
+     * {@code 0} and {@code 1}
+     * @return a copy of this {@code RetryPolicy} with the given jitter
+     * @throws IllegalArgumentException if the jitter is not between {@code 0}
+     * and {@code 1}
+     */
+    public RetryPolicy<E> withJitter(double jitter) {
+        if (!(jitter >= 0 && jitter <= 1)) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1, was " + jitter);
+        }
+        return new RetryPolicy<>(maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, retryPredicate);
+    }
+
+    /**
+     * Returns a copy of this {@code RetryPolicy} only retrying when the error
+     * value matches the given predicate. A result with an error value not
+     * matching the predicate is returned without further attempts.
+     *
+     * @param predicate the predicate telling whether an error value should be
+     * retried
+     * @return a copy of this {@code RetryPolicy} with the given predicate
+     * @throws NullPointerException if the given predicate is {@code null}
+     */
+    public RetryPolicy<E> retryIf(Predicate<? super E> predicate) {
+        Objects.requireNonNull(predicate);
+        return new RetryPolicy<>(maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, predicate);
+    }
+
+    /**
+     * Calls the given supplier until it returns a {@code Result} in success
+     * state or this policy stops retrying, waiting in the calling thread
+     * between the attempts. If the thread is interrupted while waiting, no
+     * more attempts are made, and the last {@code Result} is returned with the
+     * interrupt status of the thread set.
+     *
+     * @param attempt the supplier making one attempt, for example by calling
+     * {@link Result#handle(java.util.concurrent.Callable, java.util.function.Function)}
+     * @param <T> the type of the success value
+     * @return the {@code Result} of the last attempt
+     * @throws NullPointerException if the given supplier is {@code null} or
+     * returns {@code null}
+     */
+    public <T> Result<T, E> retry(Supplier<? extends Result<T, E>> attempt) {
+        return run(attempt);
+    }
+
+    /**
+     * Calls the given supplier until it returns an {@code OptionalResult} in
+     * success state or this policy stops retrying, waiting in the calling
+     * thread between the attempts. An empty {@code OptionalResult} is in
+     * success state. If the thread is interrupted while waiting, no more
+     * attempts are made, and the last {@code OptionalResult} is returned with
+     * the interrupt status of the thread set.
+     *
+     * @param attempt the supplier making one attempt, for example by calling
+     * {@link OptionalResult#handle(java.util.concurrent.Callable, java.util.function.Function)}
+     * @param <T> the type of the success value
+     * @return the {@code OptionalResult} of the last attempt
+     * @throws NullPointerException if the given supplier is {@code null} or
+     * returns {@code null}
+     */
+    public <T> OptionalResult<T, E> retryOptionalResult(Supplier<? extends OptionalResult<T, E>> attempt) {
+        return run(attempt);
+    }
+
+    /**
+     * Calls the given supplier until it returns a {@code BooleanResult} in
+     * success state or this policy stops retrying, waiting in the calling
+     * thread between the attempts. If the thread is interrupted while
+     * waiting, no more attempts are made, and the last {@code BooleanResult}
+     * is returned with the interrupt status of the thread set.
+     *
+     * @param attempt the supplier making one attempt, for example by calling
+     * {@link BooleanResult#handle(java.util.concurrent.Callable, java.util.function.Function)}
+     * @return the {@code BooleanResult} of the last attempt
+     * @throws NullPointerException if the given supplier is {@code null} or
+     * returns {@code null}
+     */
+    public BooleanResult<E> retryBooleanResult(Supplier<? extends BooleanResult<E>> attempt) {
+        return run(attempt);
+    }
+
+    /**
+     * Calls the given supplier until it returns a {@code VoidResult} in
+     * success state or this policy stops retrying, waiting in the calling
+     * thread between the attempts. If the thread is interrupted while
+     * waiting, no more attempts are made, and the last {@code VoidResult} is
+     * returned with the interrupt status of the thread set.
+     *
+     * @param attempt the supplier making one attempt, for example by calling
+     * {@link VoidResult#handle(CheckedRunnable, java.util.function.Function)}
+     * @return the {@code VoidResult} of the last attempt
+     * @throws NullPointerException if the given supplier is {@code null} or
+     * returns {@code null}
+     */
+    public VoidResult<E> retryVoidResult(Supplier<? extends VoidResult<E>> attempt) {
+        return run(attempt);
+    }
+
+    /**
+     * Calls the given supplier until the {@code AsyncResult} it returns
+     * completes in success state or this policy stops retrying. No thread is
+     * blocked while waiting between the attempts. The first attempt is made
+     * by the calling thread. When the delay has passed, the following attempts
+     * are made on a new virtual thread when available, otherwise by the pool
+     * of daemon threads also running {@code Result.handleAll}.
+     * <p>
+     * If an attempt completes exceptionally, or the supplier or the retry
+     * predicate throws an exception, no more attempts are made and the
+     * returned {@code AsyncResult} completes exceptionally.
+     *
+     * @param attempt the supplier starting one attempt
+     * @param <T> the type of the success value
+     * @return an {@code AsyncResult} completing with the {@code Result} of the
+     * last attempt
+     * @throws NullPointerException if the given supplier is {@code null}
+     */
+    public <T> AsyncResult<T, E> retryAsync(Supplier<? extends AsyncResult<T, E>> attempt) {
+        return retryAsync(attempt, BulkHandle.defaultExecutor());
+    }
+
+    /**
+     * Calls the given supplier until the {@code AsyncResult} it returns
+     * completes in success state or this policy stops retrying. No thread is
+     * blocked while waiting between the attempts. The first attempt is made
+     * by the calling thread, the following attempts by the given
+     * {@code Executor} when the delay has passed.
+     * <p>
+     * If an attempt completes exceptionally, the supplier or the retry
+     * predicate throws an exception, or the executor rejects an attempt, no
+     * more attempts are made and the returned {@code AsyncResult} completes
+     * exceptionally.
+     *
+     * @param attempt the supplier starting one attempt
+     * @param executor the {@code Executor} making the attempts following the
+     * first
+     * @param <T> the type of the success value
+     * @return an {@code AsyncResult} completing with the {@code Result} of the
+     * last attempt
+     * @throws NullPointerException if the given supplier or executor is
+     * {@code null}
+     */
+    public <T> AsyncResult<T, E> retryAsync(Supplier<? extends AsyncResult<T, E>> attempt,
+                                            Executor executor) {
+        Objects.requireNonNull(attempt);
+        Objects.requireNonNull(executor);
+        CompletableFuture<Result<T, E>> promise = new CompletableFuture<>();
+        attemptAsync(attempt, executor, 1, promise);
+        return AsyncResult.fromCompletionStage(promise);
+    }
+
+    private <R extends BaseResult<?, E>> R run(Supplier<? extends R> attempt) {
+        Objects.requireNonNull(attempt);
+        for (int attempts = 1; ; attempts++) {
+            R result = Objects.requireNonNull(attempt.get());
+            if (isDone(result, attempts)) {
+                return result;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(delayNanos(attempts, ThreadLocalRandom.current().nextDouble()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return result;
+            }
+        }
+    }
+
+    private <T> void attemptAsync(Supplier<? extends AsyncResult<T, E>> attempt,
+                                  Executor executor,
+                                  int attempts,
+                                  CompletableFuture<Result<T, E>> promise) {
+        try {
+            Objects.requireNonNull(attempt.get()).toCompletableFuture().whenComplete((result, failure) -> {
+                if (failure != null) {
+                    promise.completeExceptionally(failure);
+                    return;
+                }
+                try {
+                    if (isDone(result, attempts)) {
+                        promise.complete(result);
+                        return;
+                    }
+                    Scheduler.shared().schedule(
+                            () -> retryLater(attempt, executor, attempts + 1, promise),
+                            delayNanos(attempts, ThreadLocalRandom.current().nextDouble()),
+                            TimeUnit.NANOSECONDS);
+                } catch (RuntimeException e) {
+                    promise.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            promise.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Hands the next attempt to the executor, so neither the supplier nor the
+     * stages of its {@code AsyncResult} run on the scheduler thread.
+     */
+    private <T> void retryLater(Supplier<? extends AsyncResult<T, E>> attempt,
+                                Executor executor,
+                                int attempts,
+                                CompletableFuture<Result<T, E>> promise) {
+        try {
+            executor.execute(() -> attemptAsync(attempt, executor, attempts, promise));
+        } catch (RuntimeException e) {
+            promise.completeExceptionally(e);
+        }
+    }
+
+    private boolean isDone(BaseResult<?, E> result, int attempts) {
+        return result.isSuccess() || attempts >= maxAttempts || !retryPredicate.test(result.error());
+    }
+
+    /**
+     * Returns the delay before the retry following the given number of
+     * attempts, shortened by the jitter times the given random number between
+     * {@code 0} and {@code 1}.
+     */
+    long delayNanos(int attempts, double random) {
+        double backoff = initialDelayNanos * Math.pow(multiplier, attempts - 1);
+        double delay = Math.min(backoff, maxDelayNanos);
+        return (long) (delay * (1 - jitter * random));
+    }
+}
@@ -0,0 +1,41 @@
+package no.gorandalum.fluentresult;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * The timer thread of the library, shared by all the tasks the library runs
+ * after a delay, so at most one timer thread is started however many of its
+ * features are used. The daemon thread is started on first use. The tasks
+ * run on it only hand work on or interrupt a thread, as a slow task would
+ * delay all the others.
+ */
+final class Scheduler {
+
+    static final String THREAD_NAME = "fluent-result-timer";
+
+    private Scheduler() {
+    }
+
+    /**
+     * Returns the scheduler shared by the library.
+     */
+    static ScheduledExecutorService shared() {
+        return Shared.INSTANCE;
+    }
+
+    static ScheduledExecutorService newScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, task -> {
+            Thread thread = new Thread(task, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    private static final class Shared {
+
+        static final ScheduledExecutorService INSTANCE = newScheduler();
+    }
+}
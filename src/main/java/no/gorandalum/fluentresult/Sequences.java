@@ -0,0 +1,69 @@
+package no.gorandalum.fluentresult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+final class Sequences {
+
+    private Sequences() {
+    }
+
+    static <T> List<T> newList(Iterable<?> items) {
+        return items instanceof Collection ?
+                new ArrayList<>(((Collection<?>) items).size()) :
+                new ArrayList<>();
+    }
+
+    /**
+     * Mutable container used by the sequence collectors. Keeps the success
+     * values until the first error value, after which values are discarded.
+     * Combining keeps the first error value in encounter order, so the
+     * collectors give the same result for sequential and parallel streams.
+     *
+     * @param <T> the type of the success values
+     * @param <E> the type of the error value
+     */
+    static final class Accumulator<T, E> {
+
+        private List<T> values = new ArrayList<>();
+        private E error;
+
+        void add(T value) {
+            if (error == null) {
+                values.add(value);
+            }
+        }
+
+        void fail(E error) {
+            if (this.error == null) {
+                this.error = error;
+                values = null;
+            }
+        }
+
+        Accumulator<T, E> combine(Accumulator<T, E> other) {
+            if (other.error != null) {
+                fail(other.error);
+            } else {
+                add(other.values);
+            }
+            return this;
+        }
+
+        private void add(List<T> otherValues) {
+            if (error == null) {
+                values.addAll(otherValues);
+            }
+        }
+
+        <R> R finish(Function<? super List<T>, ? extends R> successFunction,
+                     Function<? super E, ? extends R> errorFunction) {
+            return error == null ?
+                    successFunction.apply(Collections.unmodifiableList(values)) :
+                    errorFunction.apply(error);
+        }
+    }
+}
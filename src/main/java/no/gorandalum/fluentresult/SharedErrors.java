@@ -0,0 +1,46 @@
+package no.gorandalum.fluentresult;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of error values for which the {@code sharedError} factory methods
+ * of the result classes return shared instances instead of new ones.
+ * <p>
+ * Enum constants are always shared and need no registration. Other error
+ * values, like constant strings or immutable error objects, are shared once
+ * registered. Registered values are matched using {@code equals} and are never
+ * removed, so only a limited number of immutable constants should be
+ * registered.
+ */
+public final class SharedErrors {
+
+    private static final Set<Object> REGISTERED = ConcurrentHashMap.newKeySet();
+
+    private SharedErrors() {
+    }
+
+    /**
+     * Registers the given error value, so that the {@code sharedError} factory
+     * methods of the result classes return shared instances for it.
+     *
+     * @param error the error value to register, which must be
+     * non-{@code null}
+     * @throws NullPointerException if given error value is {@code null}
+     */
+    public static void register(Object error) {
+        REGISTERED.add(Objects.requireNonNull(error));
+    }
+
+    /**
+     * Returns whether the given error value is registered.
+     *
+     * @param error the error value
+     * @return {@code true} if the given error value is registered, otherwise
+     * {@code false}
+     */
+    static boolean isRegistered(Object error) {
+        return REGISTERED.contains(error);
+    }
+}
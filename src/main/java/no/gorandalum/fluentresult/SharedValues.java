@@ -0,0 +1,47 @@
+package no.gorandalum.fluentresult;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of success values for which the {@code sharedSuccess} factory
+ * methods of {@link Result} and {@link OptionalResult} return shared instances
+ * instead of new ones.
+ * <p>
+ * Small integers, booleans, the empty string and the immutable empty
+ * collections of {@link java.util.Collections} are always shared and need no
+ * registration. Registered values are matched using {@code equals} and are
+ * never removed, so only a limited number of immutable constants should be
+ * registered.
+ */
+public final class SharedValues {
+
+    private static final Set<Object> REGISTERED = ConcurrentHashMap.newKeySet();
+
+    private SharedValues() {
+    }
+
+    /**
+     * Registers the given success value, so that the {@code sharedSuccess}
+     * factory methods return shared instances for it.
+     *
+     * @param value the success value to register, which must be
+     * non-{@code null}
+     * @throws NullPointerException if given success value is {@code null}
+     */
+    public static void register(Object value) {
+        REGISTERED.add(Objects.requireNonNull(value));
+    }
+
+    /**
+     * Returns whether the given success value is registered.
+     *
+     * @param value the success value
+     * @return {@code true} if the given success value is registered, otherwise
+     * {@code false}
+     */
+    static boolean isRegistered(Object value) {
+        return REGISTERED.contains(value);
+    }
+}
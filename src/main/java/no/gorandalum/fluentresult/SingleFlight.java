@@ -0,0 +1,174 @@
+package no.gorandalum.fluentresult;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent loads of the same key, so that the loader is called
+ * once per key at a time. The first caller loading a key calls the loader,
+ * and callers loading the same key before the loader returns wait for and
+ * get the same {@code Result}, in success state or in error state. The load
+ * is forgotten as soon as the loader returns, so a later call loads the key
+ * again. A {@code SingleFlight} does not cache results, it only removes the
+ * duplicate calls made while a load is in progress.
+ * <p>
+ * The loads in progress are kept in a {@code ConcurrentHashMap}, where a
+ * caller joining a load only does a lookup, and each load adds one entry
+ * which is removed when the loader returns. If the loader throws an
+ * exception, the exception is thrown to all the callers waiting for the
+ * load. A loader must not load the same key again from the same
+ * {@code SingleFlight}, as it would then wait for itself.
+ * <p>
+ * A variable whose type is {@code SingleFlight} should never itself be
+ * {@code null}, it should always point to a {@code SingleFlight} instance.
+ *
+ * @param <K> the type of the keys
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ */
+public final class SingleFlight<K, T, E> {
+
+    private final Function<? super K, ? extends Result<? extends T, ? extends E>> loader;
+    private final ConcurrentMap<K, CompletableFuture<Result<T, E>>> inFlight = new ConcurrentHashMap<>();
+
+    private SingleFlight(Function<? super K, ? extends Result<? extends T, ? extends E>> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Returns a {@code SingleFlight} coalescing concurrent calls to the given
+     * loader for the same key.
+     *
+     * @param loader the function loading the {@code Result} for a key
+     * @param <K> the type of the keys
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return a {@code SingleFlight} calling the given loader
+     * @throws NullPointerException if the given loader is {@code null}
+     */
+    public static <K, T, E> SingleFlight<K, T, E> of(
+            Function<? super K, ? extends Result<? extends T, ? extends E>> loader) {
+        Objects.requireNonNull(loader);
+        return new SingleFlight<>(loader);
+    }
+
+    /**
+     * Loads the given key, blocking until the {@code Result} is available.
+     * If a load of the key is already in progress, waits for it and returns
+     * its {@code Result}. Otherwise calls the loader on the calling thread.
+     *
+     * @param key the key to load, which must be non-{@code null}
+     * @return the {@code Result} of the loader for the given key
+     * @throws NullPointerException if the given key is {@code null}, or the
+     * loader returns {@code null}
+     */
+    public Result<T, E> load(K key) {
+        CompletableFuture<Result<T, E>> existing = inFlight.get(key);
+        if (existing == null) {
+            CompletableFuture<Result<T, E>> load = new CompletableFuture<>();
+            existing = inFlight.putIfAbsent(key, load);
+            if (existing == null) {
+                return run(key, load);
+            }
+        }
+        return join(existing);
+    }
+
+    /**
+     * Loads the given key without blocking. If a load of the key is already
+     * in progress, returns an {@code AsyncResult} completing with its
+     * {@code Result}. Otherwise the loader is called with the given
+     * {@code Executor}. If the loader throws an exception, the returned
+     * {@code AsyncResult} completes exceptionally with that exception.
+     *
+     * @param key the key to load, which must be non-{@code null}
+     * @param executor the {@code Executor} calling the loader if no load of
+     * the key is in progress
+     * @return an {@code AsyncResult} holding the {@code Result} of the loader
+     * for the given key
+     * @throws NullPointerException if the given key or executor is
+     * {@code null}
+     */
+    public AsyncResult<T, E> loadAsync(K key, Executor executor) {
+        Objects.requireNonNull(executor);
+        CompletableFuture<Result<T, E>> existing = inFlight.get(key);
+        if (existing == null) {
+            CompletableFuture<Result<T, E>> load = new CompletableFuture<>();
+            existing = inFlight.putIfAbsent(key, load);
+            if (existing == null) {
+                try {
+                    executor.execute(() -> {
+                        try {
+                            run(key, load);
+                        } catch (RuntimeException e) {
+                            // Passed on to the callers by the future
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    inFlight.remove(key, load);
+                    load.completeExceptionally(e);
+                    throw e;
+                }
+                existing = load;
+            }
+        }
+        return AsyncResult.fromCompletionStage(existing);
+    }
+
+    /**
+     * Returns the number of keys currently being loaded.
+     */
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Returns the number of callers waiting for the load of the given key in
+     * progress, or zero if no load of the key is in progress.
+     */
+    int waiting(K key) {
+        CompletableFuture<Result<T, E>> load = inFlight.get(key);
+        return load == null ? 0 : load.getNumberOfDependents();
+    }
+
+    /**
+     * Calls the loader for a key this caller has claimed. The entry is removed
+     * before the waiting callers are released, so a call arriving after the
+     * loader returned always starts a new load.
+     */
+    private Result<T, E> run(K key, CompletableFuture<Result<T, E>> load) {
+        Result<T, E> result;
+        try {
+            @SuppressWarnings("unchecked")
+            Result<T, E> res = (Result<T, E>) Objects.requireNonNull(loader.apply(key));
+            result = res;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, load);
+            load.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, load);
+        load.complete(result);
+        return result;
+    }
+
+    private static <T, E> Result<T, E> join(CompletableFuture<Result<T, E>> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package no.gorandalum.fluentresult;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Runs a callable on the calling thread for {@code Result.handleWithTimeout}.
+ * The timeout is armed on a timer wheel shared by the whole JVM and advanced
+ * by the timer thread of the library, which interrupts the calling thread if
+ * the callable is still running when the timeout expires. Arming and
+ * cancelling a timeout on the wheel is cheap, so many concurrent calls may be
+ * bounded by a timeout.
+ */
+final class TimedHandle {
+
+    static final long TICK_NANOS = 10_000_000L;
+    static final int WHEEL_SIZE = 512;
+
+    private TimedHandle() {
+    }
+
+    static <T, E> Result<T, E> handle(Callable<T> callable,
+                                      Duration timeout,
+                                      Function<Exception, E> exceptionMapper) {
+        Objects.requireNonNull(callable);
+        Objects.requireNonNull(exceptionMapper);
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive, was " + timeout);
+        }
+        Interrupter interrupter = new Interrupter(Thread.currentThread());
+        long timeoutNanos;
+        try {
+            timeoutNanos = timeout.toNanos();
+        } catch (ArithmeticException e) {
+            timeoutNanos = Long.MAX_VALUE;
+        }
+        TimerWheel.Timeout armed = Shared.WHEEL.arm(timeoutNanos, interrupter);
+        Result<T, Exception> result;
+        boolean expired;
+        try {
+            result = Result.handle(callable);
+        } finally {
+            expired = interrupter.disarm(armed);
+        }
+        if (expired) {
+            return Result.error(exceptionMapper.apply(
+                    new TimeoutException("Callable did not complete within " + timeout)));
+        }
+        return result.mapError(exceptionMapper);
+    }
+
+    /**
+     * Interrupts the calling thread when the timeout expires, unless the
+     * callable has already completed. A thread already interrupted from
+     * elsewhere is left as it is, so that interrupt is not lost when the
+     * interrupt of the timeout is cleared.
+     */
+    private static final class Interrupter implements Runnable {
+
+        private final Thread thread;
+        private boolean done;
+        private boolean fired;
+        private boolean interruptedElsewhere;
+
+        Interrupter(Thread thread) {
+            this.thread = thread;
+        }
+
+        @Override
+        public synchronized void run() {
+            if (!done) {
+                fired = true;
+                if (thread.isInterrupted()) {
+                    interruptedElsewhere = true;
+                } else {
+                    thread.interrupt();
+                }
+            }
+        }
+
+        /**
+         * Prevents a later interrupt, and clears the interrupt of the timeout
+         * if it has already expired. Returns whether the timeout expired.
+         */
+        synchronized boolean disarm(TimerWheel.Timeout timeout) {
+            done = true;
+            timeout.cancel();
+            if (fired && !interruptedElsewhere) {
+                Thread.interrupted();
+            }
+            return fired;
+        }
+    }
+
+    private static final class Shared {
+
+        static final TimerWheel WHEEL = TimerWheel.startedOn(Scheduler.shared(), TICK_NANOS, WHEEL_SIZE);
+    }
+}
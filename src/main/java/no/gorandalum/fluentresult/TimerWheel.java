@@ -0,0 +1,159 @@
+package no.gorandalum.fluentresult;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A hashed timer wheel running tasks after a delay, with a precision of one
+ * tick. Arming a timeout only creates the timeout and adds it to a lock-free
+ * queue, and cancelling it is a single compare-and-set, so both stay cheap
+ * with many outstanding timeouts.
+ * <p>
+ * The wheel has a power of two number of buckets. Once per tick the worker
+ * thread, the single thread of the scheduler advancing the wheel, moves the
+ * newly armed timeouts to the bucket of their deadline tick, and runs the
+ * timeouts of the current bucket which are due. Timeouts cancelled before
+ * the worker sees them never enter a bucket, the others are removed when the
+ * worker next visits their bucket. Only the worker thread touches the
+ * buckets.
+ */
+final class TimerWheel {
+
+    private static final long MAX_DELAY_NANOS = Long.MAX_VALUE / 4;
+
+    private final long tickNanos;
+    private final long startNanos;
+    private final Timeout[] buckets;
+    private final int mask;
+    private final Queue<Timeout> armed = new ConcurrentLinkedQueue<>();
+    private long currentTick;
+
+    TimerWheel(long tickNanos, int wheelSize) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two, was " + wheelSize);
+        }
+        this.tickNanos = tickNanos;
+        this.startNanos = System.nanoTime();
+        this.buckets = new Timeout[wheelSize];
+        this.mask = wheelSize - 1;
+    }
+
+    /**
+     * Returns a new wheel whose ticks are advanced by the given scheduler,
+     * until the scheduler is shut down. The scheduler must run its tasks on
+     * a single thread.
+     */
+    static TimerWheel startedOn(ScheduledExecutorService scheduler, long tickNanos, int wheelSize) {
+        TimerWheel wheel = new TimerWheel(tickNanos, wheelSize);
+        scheduler.scheduleAtFixedRate(wheel::advance, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+        return wheel;
+    }
+
+    /**
+     * Arms a timeout running the given task on the worker thread once the
+     * given delay has passed, unless the timeout is cancelled first.
+     */
+    Timeout arm(long delayNanos, Runnable task) {
+        long deadline = System.nanoTime() + Math.min(delayNanos, MAX_DELAY_NANOS);
+        Timeout timeout = new Timeout(deadline, task);
+        armed.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Expires the next tick. A scheduler running late catches up by running
+     * the missed ticks back to back.
+     */
+    private void advance() {
+        expire(++currentTick);
+    }
+
+    /**
+     * Moves the armed timeouts to their buckets, and runs the timeouts of the
+     * bucket of the given tick which are due. Only called by the worker
+     * thread, with increasing ticks.
+     */
+    void expire(long tick) {
+        Timeout added;
+        while ((added = armed.poll()) != null) {
+            if (added.isPending()) {
+                added.tick = Math.max(deadlineTick(added.deadline), tick);
+                int index = (int) (added.tick & mask);
+                added.next = buckets[index];
+                buckets[index] = added;
+            }
+        }
+        int index = (int) (tick & mask);
+        Timeout previous = null;
+        Timeout timeout = buckets[index];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.isPending() && timeout.tick > tick) {
+                previous = timeout;
+            } else {
+                if (previous == null) {
+                    buckets[index] = next;
+                } else {
+                    previous.next = next;
+                }
+                timeout.next = null;
+                timeout.fire();
+            }
+            timeout = next;
+        }
+    }
+
+    private long deadlineTick(long deadline) {
+        return (deadline - startNanos) / tickNanos + 1;
+    }
+
+    /**
+     * A timeout armed on a {@code TimerWheel}.
+     */
+    static final class Timeout {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final long deadline;
+        private final Runnable task;
+        private volatile int state;
+        private long tick;
+        private Timeout next;
+
+        Timeout(long deadline, Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        /**
+         * Cancels this timeout, returning {@code true} if it was cancelled
+         * before its task was run.
+         */
+        boolean cancel() {
+            return STATE.compareAndSet(this, PENDING, CANCELLED);
+        }
+
+        boolean isPending() {
+            return state == PENDING;
+        }
+
+        private void fire() {
+            if (STATE.compareAndSet(this, PENDING, EXPIRED)) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    // A failing task must not stop the worker from running
+                    // the other timeouts
+                }
+            }
+        }
+    }
+}
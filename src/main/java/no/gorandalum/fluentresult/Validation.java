@@ -0,0 +1,427 @@
+package no.gorandalum.fluentresult;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A validation object which either is valid containing a non-{@code null}
+ * value, or invalid containing one or more non-{@code null} error values.
+ * <p>
+ * Unlike {@link Result#verify(Predicate, Supplier)}, verifying a
+ * {@code Validation} does not stop at the first failing check. An invalid
+ * {@code Validation} created by {@code verify} keeps the value under
+ * validation, so the following checks are still run and their errors are
+ * appended. Independent validations are merged with
+ * {@link #combine(Validation, BiFunction)}, which keeps the errors of both.
+ * <p>
+ * The first error value is stored inline, the errors following it are
+ * stored in an array which is only allocated when a second error appears.
+ * The array grows geometrically and is shared along a chain of checks, so
+ * accumulating errors takes amortized constant time per error. A
+ * {@code Validation} branching off an earlier point of the chain copies the
+ * errors it holds into an array of its own.
+ * <p>
+ * A variable whose type is {@code Validation} should never itself be
+ * {@code null}, it should always point to a {@code Validation} instance.
+ *
+ * @param <T> the type of the value
+ * @param <E> the type of the error values
+ */
+public abstract class Validation<T, E> {
+
+    private static final int INITIAL_CAPACITY = 2;
+
+    private Validation() {
+    }
+
+    /**
+     * Returns a valid {@code Validation} containing the given
+     * non-{@code null} value.
+     *
+     * @param value the value, which must be non-{@code null}
+     * @param <T> the type of the value
+     * @param <E> the type of the error values
+     * @return a valid {@code Validation} containing the given value
+     * @throws NullPointerException if given value is {@code null}
+     */
+    public static <T, E> Validation<T, E> valid(T value) {
+        return new Valid<>(Objects.requireNonNull(value));
+    }
+
+    /**
+     * Returns an invalid {@code Validation} containing the given
+     * non-{@code null} value as its only error value.
+     *
+     * @param error the error value, which must be non-{@code null}
+     * @param <T> the type of the value
+     * @param <E> the type of the error values
+     * @return an invalid {@code Validation} containing the given error value
+     * @throws NullPointerException if given error value is {@code null}
+     */
+    public static <T, E> Validation<T, E> invalid(E error) {
+        return new Invalid<>(null, Objects.requireNonNull(error));
+    }
+
+    /**
+     * Returns {@code true} if this {@code Validation} is valid, otherwise
+     * {@code false}.
+     *
+     * @return {@code true} if valid, otherwise {@code false}
+     */
+    public abstract boolean isValid();
+
+    abstract T value();
+
+    @SuppressWarnings("unchecked")
+    private Invalid<T, E> asInvalid() {
+        return (Invalid<T, E>) this;
+    }
+
+    /**
+     * Returns the error values of this {@code Validation} in the order they
+     * were added. The returned list is unmodifiable, and empty if valid.
+     *
+     * @return the error values of this {@code Validation}
+     */
+    public List<E> errors() {
+        if (isValid()) {
+            return Collections.emptyList();
+        }
+        Invalid<T, E> invalid = asInvalid();
+        int moreCount = invalid.moreCount();
+        Object[] all = new Object[moreCount + 1];
+        all[0] = invalid.error;
+        if (moreCount > 0) {
+            System.arraycopy(invalid.moreErrors(), 0, all, 1, moreCount);
+        }
+        @SuppressWarnings("unchecked")
+        List<E> errors = (List<E>) Arrays.asList(all);
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * If valid, returns a valid {@code Validation} containing the result of
+     * applying the given mapping function to the value, otherwise returns an
+     * invalid {@code Validation} containing the error values of this
+     * {@code Validation}.
+     *
+     * @param function the mapping function to apply to the value, if valid
+     * @param <N> the type of the value returned from the mapping function
+     * @return a {@code Validation} containing the result of applying the
+     * mapping function to the value of this {@code Validation}, if valid,
+     * otherwise an invalid {@code Validation} with the same error values
+     * @throws NullPointerException if the given mapping function is
+     * {@code null} or returns {@code null}
+     */
+    public <N> Validation<N, E> map(Function<? super T, ? extends N> function) {
+        Objects.requireNonNull(function);
+        if (isValid()) {
+            return valid(function.apply(value()));
+        }
+        return asInvalid().withValue(null);
+    }
+
+    /**
+     * If this {@code Validation} holds a value, verifies the value by testing
+     * it with the given predicate. If the predicate evaluates to false, an
+     * invalid {@code Validation} is returned containing the error values of
+     * this {@code Validation} followed by the error value provided by the
+     * given error supplier, and still holding the value for following checks.
+     * If the predicate evaluates to true, or this {@code Validation} holds no
+     * value, the original {@code Validation} is returned unaltered.
+     * <p>
+     * A {@code Validation} holds a value if it is valid, or if it became
+     * invalid by verifying a value.
+     *
+     * @param predicate the predicate used to verify the value, if present
+     * @param errorSupplier supplier providing the error if predicate evaluates
+     * to false
+     * @return the original {@code Validation} unaltered, unless the predicate
+     * evaluates to false, then an invalid {@code Validation} is returned with
+     * the supplied error value appended
+     * @throws NullPointerException if the given predicate is {@code null}, or
+     * the given error supplier is {@code null} or returns {@code null}
+     */
+    public Validation<T, E> verify(Predicate<? super T> predicate,
+                                   Supplier<? extends E> errorSupplier) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(errorSupplier);
+        T value = value();
+        if (value == null || predicate.test(value)) {
+            return this;
+        }
+        return withError(errorSupplier.get());
+    }
+
+    /**
+     * If this {@code Validation} holds a value, verifies the value by mapping
+     * it to a {@code VoidResult}. If the returned {@code VoidResult} is in
+     * error state, an invalid {@code Validation} is returned containing the
+     * error values of this {@code Validation} followed by the error value of
+     * the {@code VoidResult}, and still holding the value for following
+     * checks. If the {@code VoidResult} is in success state, or this
+     * {@code Validation} holds no value, the original {@code Validation} is
+     * returned unaltered.
+     * <p>
+     * A {@code Validation} holds a value if it is valid, or if it became
+     * invalid by verifying a value.
+     *
+     * @param function the function applied to the value, if present
+     * @return the original {@code Validation} unaltered, unless the
+     * {@code VoidResult} returned by the function is in error state, then an
+     * invalid {@code Validation} is returned with the error value from the
+     * {@code VoidResult} appended
+     * @throws NullPointerException if the given function is {@code null} or
+     * returns {@code null}
+     */
+    public Validation<T, E> verify(Function<? super T, ? extends VoidResult<? extends E>> function) {
+        Objects.requireNonNull(function);
+        T value = value();
+        if (value == null) {
+            return this;
+        }
+        VoidResult<? extends E> res = function.apply(value);
+        return res.isSuccess() ? this : withError(res.error());
+    }
+
+    /**
+     * Combines this {@code Validation} with another, independent
+     * {@code Validation}. If both are valid, returns a valid
+     * {@code Validation} containing the result of applying the given function
+     * to both values. Otherwise returns an invalid {@code Validation}
+     * containing the error values of this {@code Validation} followed by the
+     * error values of the other {@code Validation}.
+     * <p>
+     * The error values are copied once into the combined {@code Validation},
+     * no intermediate objects are created per combined {@code Validation}. If
+     * only one of them is invalid, its error storage is shared.
+     *
+     * @param other the other {@code Validation}
+     * @param function the function to apply to both values, if both are valid
+     * @param <U> the type of the value of the other {@code Validation}
+     * @param <N> the type of the value returned from the function
+     * @return a valid {@code Validation} containing the result of applying
+     * the function to both values, if both are valid, otherwise an invalid
+     * {@code Validation} containing the error values of both
+     * @throws NullPointerException if the other {@code Validation} is
+     * {@code null}, the given function is {@code null} or the function
+     * returns {@code null}
+     */
+    public <U, N> Validation<N, E> combine(
+            Validation<? extends U, ? extends E> other,
+            BiFunction<? super T, ? super U, ? extends N> function) {
+        Objects.requireNonNull(other);
+        Objects.requireNonNull(function);
+        if (isValid() && other.isValid()) {
+            return valid(function.apply(value(), other.value()));
+        }
+        if (other.isValid()) {
+            return asInvalid().withValue(null);
+        }
+        Invalid<? extends U, ? extends E> otherInvalid = other.asInvalid();
+        if (isValid()) {
+            return Invalid.of(null, otherInvalid.error, otherInvalid.moreErrors(), otherInvalid.moreCount());
+        }
+        Invalid<T, E> invalid = asInvalid();
+        int moreCount = invalid.moreCount();
+        int otherMoreCount = otherInvalid.moreCount();
+        Object[] combined = new Object[moreCount + 1 + otherMoreCount];
+        if (moreCount > 0) {
+            System.arraycopy(invalid.moreErrors(), 0, combined, 0, moreCount);
+        }
+        combined[moreCount] = otherInvalid.error;
+        if (otherMoreCount > 0) {
+            System.arraycopy(otherInvalid.moreErrors(), 0, combined, moreCount + 1, otherMoreCount);
+        }
+        return Invalid.of(null, invalid.error, combined, combined.length);
+    }
+
+    /**
+     * Retrieve a value from this {@code Validation} by folding the states. If
+     * valid, return the value of applying the value function to the value. If
+     * invalid, return the value of applying the errors function to the list
+     * of error values.
+     *
+     * @param <N> the type of retrieved value
+     * @param valueFunction the mapping function to apply to the value, if
+     * valid, may return {@code null}
+     * @param errorsFunction the mapping function to apply to the error
+     * values, if invalid, may return {@code null}
+     * @return the folded value mapped from either the value or the error
+     * values, may be {@code null}
+     * @throws NullPointerException if one of the given functions is
+     * {@code null}
+     */
+    public <N> N fold(Function<? super T, ? extends N> valueFunction,
+                      Function<? super List<E>, ? extends N> errorsFunction) {
+        Objects.requireNonNull(valueFunction);
+        Objects.requireNonNull(errorsFunction);
+        return isValid() ? valueFunction.apply(value()) : errorsFunction.apply(errors());
+    }
+
+    /**
+     * Transforms this {@code Validation} to a {@code Result}. If valid, the
+     * {@code Result} will be in success state containing the value. If
+     * invalid, the {@code Result} will be in error state containing the list
+     * of error values.
+     *
+     * @return a {@code Result} in success state containing the value of this
+     * {@code Validation}, or in error state containing its error values
+     */
+    public Result<T, List<E>> toResult() {
+        return isValid() ? Result.success(value()) : Result.error(errors());
+    }
+
+    private Validation<T, E> withError(E error) {
+        Objects.requireNonNull(error);
+        if (isValid()) {
+            return new Invalid<>(value(), error);
+        }
+        Invalid<T, E> invalid = asInvalid();
+        Object[] more = invalid.moreErrors();
+        int moreCount = invalid.moreCount();
+        if (!tryAppend(more, moreCount, error)) {
+            more = copyAndAppend(more, moreCount, error);
+        }
+        return Invalid.of(invalid.value, invalid.error, more, moreCount + 1);
+    }
+
+    /**
+     * Stores the error in the given slot of the shared array, unless the slot
+     * is outside the array or already taken by another validation branching
+     * off the same validation. The lock is only held for the check and the
+     * store, and is uncontended unless branches are appended concurrently.
+     */
+    private static boolean tryAppend(Object[] more, int index, Object error) {
+        if (more == null || index == more.length) {
+            return false;
+        }
+        synchronized (more) {
+            if (more[index] != null) {
+                return false;
+            }
+            more[index] = error;
+            return true;
+        }
+    }
+
+    private static Object[] copyAndAppend(Object[] more, int count, Object error) {
+        Object[] copy = new Object[Math.max(INITIAL_CAPACITY, count * 2)];
+        if (count > 0) {
+            System.arraycopy(more, 0, copy, 0, count);
+        }
+        copy[count] = error;
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Validation)) return false;
+        Validation<?, ?> that = (Validation<?, ?>) o;
+        if (isValid() != that.isValid()) return false;
+        return isValid() ? value().equals(that.value()) : errors().equals(that.errors());
+    }
+
+    @Override
+    public int hashCode() {
+        return isValid() ? value().hashCode() : errors().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ?
+                String.format("Validation[Value: %s]", value()) :
+                String.format("Validation[Errors: %s]", errors());
+    }
+
+    private static final class Valid<T, E> extends Validation<T, E> {
+
+        private final T value;
+
+        Valid(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        T value() {
+            return value;
+        }
+    }
+
+    /**
+     * An invalid {@code Validation} with a single error value. Invalid
+     * validations with more error values are {@link InvalidWithMore}, so a
+     * single error does not pay for the fields of the others.
+     */
+    private static class Invalid<T, E> extends Validation<T, E> {
+
+        final T value;
+        final E error;
+
+        Invalid(T value, E error) {
+            this.value = value;
+            this.error = error;
+        }
+
+        static <T, E> Invalid<T, E> of(T value, E error, Object[] moreErrors, int moreCount) {
+            return moreCount == 0 ?
+                    new Invalid<>(value, error) :
+                    new InvalidWithMore<>(value, error, moreErrors, moreCount);
+        }
+
+        Object[] moreErrors() {
+            return null;
+        }
+
+        int moreCount() {
+            return 0;
+        }
+
+        <N> Invalid<N, E> withValue(N value) {
+            return of(value, error, moreErrors(), moreCount());
+        }
+
+        @Override
+        public boolean isValid() {
+            return false;
+        }
+
+        @Override
+        T value() {
+            return value;
+        }
+    }
+
+    private static final class InvalidWithMore<T, E> extends Invalid<T, E> {
+
+        private final Object[] moreErrors;
+        private final int moreCount;
+
+        InvalidWithMore(T value, E error, Object[] moreErrors, int moreCount) {
+            super(value, error);
+            this.moreErrors = moreErrors;
+            this.moreCount = moreCount;
+        }
+
+        @Override
+        Object[] moreErrors() {
+            return moreErrors;
+        }
+
+        @Override
+        int moreCount() {
+            return moreCount;
+        }
+    }
+}
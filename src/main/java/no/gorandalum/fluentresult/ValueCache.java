@@ -0,0 +1,92 @@
+package no.gorandalum.fluentresult;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Shared success instances of one result class. Integers and longs in the
+ * range -128 to 127 are looked up in tables indexed by value, other registered
+ * success values in a map. Both are filled on first use of a value.
+ *
+ * @param <R> the result class
+ */
+final class ValueCache<R> {
+
+    private static final int LOW = -128;
+    private static final int HIGH = 127;
+
+    private final Function<Object, ? extends R> constructor;
+
+    private final AtomicReferenceArray<R> integers = new AtomicReferenceArray<>(HIGH - LOW + 1);
+    private final AtomicReferenceArray<R> longs = new AtomicReferenceArray<>(HIGH - LOW + 1);
+    private final R resultTrue;
+    private final R resultFalse;
+    private final R emptyString;
+    private final R emptyList;
+    private final R emptySet;
+    private final R emptyMap;
+
+    private final ConcurrentMap<Object, R> registered = new ConcurrentHashMap<>();
+
+    ValueCache(Function<Object, ? extends R> constructor) {
+        this.constructor = constructor;
+        resultTrue = constructor.apply(true);
+        resultFalse = constructor.apply(false);
+        emptyString = constructor.apply("");
+        emptyList = constructor.apply(Collections.emptyList());
+        emptySet = constructor.apply(Collections.emptySet());
+        emptyMap = constructor.apply(Collections.emptyMap());
+    }
+
+    R get(Object value) {
+        Objects.requireNonNull(value);
+        if (value instanceof Integer) {
+            int val = (Integer) value;
+            if (val >= LOW && val <= HIGH) {
+                return fromTable(integers, val - LOW, value);
+            }
+        }
+        if (value instanceof Long) {
+            long val = (Long) value;
+            if (val >= LOW && val <= HIGH) {
+                return fromTable(longs, (int) val - LOW, value);
+            }
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? resultTrue : resultFalse;
+        }
+        if ("".equals(value)) {
+            return emptyString;
+        }
+        if (value == Collections.emptyList()) {
+            return emptyList;
+        }
+        if (value == Collections.emptySet()) {
+            return emptySet;
+        }
+        if (value == Collections.emptyMap()) {
+            return emptyMap;
+        }
+        R shared = registered.get(value);
+        if (shared != null) {
+            return shared;
+        }
+        if (SharedValues.isRegistered(value)) {
+            return registered.computeIfAbsent(value, constructor);
+        }
+        return constructor.apply(value);
+    }
+
+    private R fromTable(AtomicReferenceArray<R> table, int index, Object value) {
+        R res = table.get(index);
+        if (res == null) {
+            table.compareAndSet(index, null, constructor.apply(value));
+            res = table.get(index);
+        }
+        return res;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
 
 /**
  * A result object which either is in success state with no value, or in error
@@ -16,16 +17,21 @@ import java.util.function.Supplier;
  * @param <E> the type of the error value
  */
 @SuppressWarnings("WeakerAccess")
-public final class VoidResult<E> extends BaseResult<Void, E> {
+public abstract class VoidResult<E> extends BaseResult<Void, E> {
 
     /**
      * Common instance for success {@code VoidResult}.
      */
     private static final VoidResult<?> RESULT_SUCCESS =
-            new VoidResult<>(null);
+            new Success<>();
 
-    private VoidResult(E error) {
-        super(null, error, VoidResult.class);
+    /**
+     * Shared error instances for enum constants and registered error values.
+     */
+    private static final ErrorCache<VoidResult<?>> ERROR_CACHE =
+            new ErrorCache<>(Failure::new);
+
+    private VoidResult() {
     }
 
     /**
@@ -51,7 +57,25 @@ public final class VoidResult<E> extends BaseResult<Void, E> {
      * @throws NullPointerException if given error value is {@code null}
      */
     public static <E> VoidResult<E> error(E value) {
-        return new VoidResult<>(Objects.requireNonNull(value));
+        return new Failure<>(Objects.requireNonNull(value));
+    }
+
+    /**
+     * Returns a {@code VoidResult} in error state containing the given
+     * non-{@code null} value as error value. If the error value is an enum
+     * constant or registered with {@link SharedErrors#register(Object)}, a
+     * shared instance is returned instead of a new one.
+     *
+     * @param value the error value, which must be non-{@code null}
+     * @param <E> the type of the error value
+     * @return a {@code VoidResult} in error state containing the given error
+     * value
+     * @throws NullPointerException if given error value is {@code null}
+     */
+    public static <E> VoidResult<E> sharedError(E value) {
+        @SuppressWarnings("unchecked")
+        VoidResult<E> res = (VoidResult<E>) ERROR_CACHE.get(value);
+        return res;
     }
 
     /**
@@ -431,9 +455,7 @@ public final class VoidResult<E> extends BaseResult<Void, E> {
      * state containing the error value from this {@code VoidResult}
      */
     public <N> OptionalResult<N, E> toOptionalResult() {
-        return errorOpt()
-                .map(OptionalResult::<N, E>error)
-                .orElseGet(OptionalResult::empty);
+        return isSuccess() ? OptionalResult.empty() : OptionalResult.error(error());
     }
 
     /**
@@ -484,5 +506,124 @@ public final class VoidResult<E> extends BaseResult<Void, E> {
         Objects.requireNonNull(exceptionMapper);
         return handle(runnable).mapError(exceptionMapper);
     }
-}
 
+    /**
+     * Transforms the given void results to a single {@code VoidResult}. If all
+     * the void results are in success state, the returned {@code VoidResult}
+     * will be in success state. Otherwise the returned {@code VoidResult} will
+     * be in error state containing the error value of the first void result in
+     * error state, and the remaining void results will not be iterated.
+     *
+     * @param results the void results to transform
+     * @param <E> the type of the error value
+     * @return a {@code VoidResult} either in success state, or in error state
+     * containing the first error value
+     * @throws NullPointerException if the given void results or any of the
+     * iterated void results are {@code null}
+     */
+    public static <E> VoidResult<E> sequence(
+            Iterable<? extends VoidResult<? extends E>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Applies the given function to each of the given items and transforms
+     * the returned void results to a single {@code VoidResult}. If all the void
+     * results are in success state, the returned {@code VoidResult} will be in
+     * success state. Otherwise the returned {@code VoidResult} will be in error
+     * state containing the error value of the first void result in error
+     * state, and the function will not be applied to the remaining items.
+     *
+     * @param items the items to apply the function to
+     * @param function the function to apply to each item
+     * @param <A> the type of the items
+     * @param <E> the type of the error value
+     * @return a {@code VoidResult} either in success state, or in error state
+     * containing the first error value
+     * @throws NullPointerException if the given items or function are
+     * {@code null}, or if the function returns {@code null}
+     */
+    public static <A, E> VoidResult<E> traverse(
+            Iterable<? extends A> items,
+            Function<? super A, ? extends VoidResult<? extends E>> function) {
+        Objects.requireNonNull(function);
+        for (A item : items) {
+            VoidResult<? extends E> result = Objects.requireNonNull(function.apply(item));
+            if (!result.isSuccess()) {
+                @SuppressWarnings("unchecked")
+                VoidResult<E> res = (VoidResult<E>) result;
+                return res;
+            }
+        }
+        return success();
+    }
+
+    /**
+     * Returns a {@code Collector} transforming a stream of void results to a
+     * single {@code VoidResult}. If all the void results are in success state,
+     * the {@code VoidResult} will be in success state. Otherwise the
+     * {@code VoidResult} will be in error state containing the error value of
+     * the first void result in error state, in encounter order also for
+     * parallel streams.
+     * <p>
+     * A collector can not stop the stream. Use {@link #sequence(Iterable)}
+     * with {@code stream::iterator} to stop consuming at the first error.
+     *
+     * @param <E> the type of the error value
+     * @return a {@code Collector} collecting void results to a
+     * {@code VoidResult} in success state or containing the first error value
+     */
+    public static <E> Collector<VoidResult<? extends E>, ?, VoidResult<E>> sequenceCollector() {
+        return Collector.<VoidResult<? extends E>, Sequences.Accumulator<Void, E>, VoidResult<E>>of(
+                Sequences.Accumulator::new,
+                (acc, result) -> {
+                    if (!result.isSuccess()) {
+                        acc.fail(result.error());
+                    }
+                },
+                Sequences.Accumulator::combine,
+                acc -> acc.finish(values -> success(), VoidResult::error));
+    }
+
+    private static final class Success<E> extends VoidResult<E> {
+
+        @Override
+        Void value() {
+            return null;
+        }
+
+        @Override
+        E error() {
+            return null;
+        }
+
+        @Override
+        boolean isSuccess() {
+            return true;
+        }
+    }
+
+    private static final class Failure<E> extends VoidResult<E> {
+
+        private final E error;
+
+        Failure(E error) {
+            this.error = error;
+        }
+
+        @Override
+        Void value() {
+            return null;
+        }
+
+        @Override
+        E error() {
+            return error;
+        }
+
+        @Override
+        boolean isSuccess() {
+            return false;
+        }
+    }
+}
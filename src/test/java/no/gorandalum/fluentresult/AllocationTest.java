@@ -0,0 +1,298 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AllocationTest {
+
+    private static final int ITERATIONS = 100_000;
+    private static final long MEASUREMENT_SLACK_BYTES = 1024;
+
+    private static final Result<String, String> SUCCESS = Result.success("Success");
+    private static final Result<String, String> ERROR = Result.error("Error");
+    private static final VoidResult<String> VOID_SUCCESS = VoidResult.success();
+    private static final BooleanResult<String> BOOLEAN_SUCCESS = BooleanResult.successTrue();
+    private static final OptionalResult<String, String> OPTIONAL_SUCCESS = OptionalResult.success("Success");
+    private static final OptionalResult<String, String> OPTIONAL_EMPTY = OptionalResult.empty();
+    private static final Optional<String> PRESENT = Optional.of("Success");
+    private static final IntResult<String> INT_SUCCESS = IntResult.success(1_000_000);
+    private static final LongResult<String> LONG_SUCCESS = LongResult.success(1_000_000L);
+    private static final DoubleResult<String> DOUBLE_SUCCESS = DoubleResult.success(0.5);
+    private static final Validation<String, String> VALID = Validation.valid("Valid");
+    private static final Validation<String, String> INVALID = Validation.invalid("Invalid");
+    private static final ResultPipeline<String, String, String> PIPELINE = ResultPipeline
+            .<String, String, String>of(String::trim)
+            .verify(val -> !val.isEmpty(), () -> "Empty")
+            .map(String::intern)
+            .verify(val -> VoidResult.success())
+            .mapError(err -> "Invalid");
+
+    private static Object sink;
+
+    @Test
+    void orElse_success_shouldNotAllocate() {
+        assertNoAllocation(() -> SUCCESS.orElse("Other"));
+    }
+
+    @Test
+    void orElse_error_shouldNotAllocate() {
+        assertNoAllocation(() -> ERROR.orElse("Other"));
+    }
+
+    @Test
+    void orElseGet_success_shouldNotAllocate() {
+        assertNoAllocation(() -> SUCCESS.orElseGet(err -> "Other"));
+    }
+
+    @Test
+    void orElseGet_error_shouldNotAllocate() {
+        assertNoAllocation(() -> ERROR.orElseGet(err -> "Other"));
+    }
+
+    @Test
+    void fold_success_shouldNotAllocate() {
+        assertNoAllocation(() -> SUCCESS.fold(val -> val, err -> err));
+    }
+
+    @Test
+    void consume_success_shouldNotAllocate() {
+        assertNoAllocation(() -> SUCCESS.consume(val -> {}));
+    }
+
+    @Test
+    void runIfError_success_shouldNotAllocate() {
+        assertNoAllocation(() -> SUCCESS.runIfError(() -> {}));
+    }
+
+    @Test
+    void runIfError_error_shouldNotAllocate() {
+        assertNoAllocation(() -> ERROR.runIfError(() -> {}));
+    }
+
+    @Test
+    void flatRunIfSuccess_success_shouldNotAllocate() {
+        assertNoAllocation(() -> SUCCESS.flatRunIfSuccess(VoidResult::success));
+    }
+
+    @Test
+    void flatRunIfSuccess_error_shouldNotAllocate() {
+        assertNoAllocation(() -> ERROR.flatRunIfSuccess(VoidResult::success));
+    }
+
+    @Test
+    void verify_success_shouldNotAllocate() {
+        assertNoAllocation(() -> SUCCESS.verify(val -> true, () -> "Invalid"));
+    }
+
+    @Test
+    void verify_error_shouldNotAllocate() {
+        assertNoAllocation(() -> ERROR.verify(val -> true, () -> "Invalid"));
+    }
+
+    @Test
+    void verifyWithVoidResult_success_shouldNotAllocate() {
+        assertNoAllocation(() -> SUCCESS.verify(val -> VOID_SUCCESS));
+    }
+
+    @Test
+    void flatConsume_success_shouldNotAllocate() {
+        assertNoAllocation(() -> SUCCESS.flatConsume(val -> VOID_SUCCESS));
+    }
+
+    @Test
+    void flatConsume_error_shouldNotAllocate() {
+        assertNoAllocation(() -> ERROR.flatConsume(val -> VOID_SUCCESS));
+    }
+
+    @Test
+    void mapError_success_shouldNotAllocate() {
+        assertNoAllocation(() -> SUCCESS.mapError(String::length));
+    }
+
+    @Test
+    void flatMap_success_shouldNotAllocate() {
+        assertNoAllocation(() -> SUCCESS.flatMap(val -> SUCCESS));
+    }
+
+    @Test
+    void recover_success_shouldNotAllocate() {
+        assertNoAllocation(() -> SUCCESS.recover(err -> "Recovered"));
+    }
+
+    @Test
+    void booleanResult_orElseFalse_success_shouldNotAllocate() {
+        assertNoAllocation(() -> BOOLEAN_SUCCESS.orElseFalse());
+    }
+
+    @Test
+    void optionalResult_valueOrElse_success_shouldNotAllocate() {
+        assertNoAllocation(() -> OPTIONAL_SUCCESS.valueOrElse("Other"));
+    }
+
+    @Test
+    void optionalResult_consumeValue_success_shouldNotAllocate() {
+        assertNoAllocation(() -> OPTIONAL_SUCCESS.consumeValue(val -> {}));
+    }
+
+    @Test
+    void optionalResult_verifyValue_success_shouldNotAllocate() {
+        assertNoAllocation(() -> OPTIONAL_SUCCESS.verifyValue(val -> true, () -> "Invalid"));
+    }
+
+    @Test
+    void optionalResult_mapValue_empty_shouldNotAllocate() {
+        assertNoAllocation(() -> OPTIONAL_EMPTY.mapValue(String::length));
+    }
+
+    @Test
+    void optionalResult_fold_3Args_success_shouldNotAllocate() {
+        assertNoAllocation(() -> OPTIONAL_SUCCESS.fold(val -> val, () -> "Empty", err -> err));
+    }
+
+    @Test
+    void optionalResult_successOfOptional_shouldOnlyAllocateResult() {
+        assertAllocationAtMost(16, () -> OptionalResult.success(PRESENT));
+    }
+
+    @Test
+    void toVoidResult_success_shouldNotAllocate() {
+        assertNoAllocation(() -> SUCCESS.toVoidResult());
+    }
+
+    @Test
+    void toVoidResult_error_shouldOnlyAllocateResult() {
+        assertAllocationAtMost(16, () -> ERROR.toVoidResult());
+    }
+
+    @Test
+    void toOptionalResult_error_shouldOnlyAllocateResult() {
+        assertAllocationAtMost(16, () -> ERROR.toOptionalResult());
+    }
+
+    @Test
+    void booleanResult_toOptionalResult_success_shouldNotAllocate() {
+        assertNoAllocation(() -> BOOLEAN_SUCCESS.toOptionalResult());
+    }
+
+    @Test
+    void voidResult_toOptionalResult_success_shouldNotAllocate() {
+        assertNoAllocation(() -> VOID_SUCCESS.toOptionalResult());
+    }
+
+    @Test
+    void flatMapToVoidResult_error_shouldOnlyAllocateResult() {
+        assertAllocationAtMost(16, () -> ERROR.flatMapToVoidResult(val -> VOID_SUCCESS));
+    }
+
+    @Test
+    void sharedError_enumConstant_shouldNotAllocate() {
+        assertNoAllocation(() -> Result.sharedError(Thread.State.BLOCKED));
+    }
+
+    @Test
+    void sharedError_registeredError_shouldNotAllocate() {
+        SharedErrors.register("Registered");
+        assertNoAllocation(() -> VoidResult.sharedError("Registered"));
+    }
+
+    @Test
+    void sharedSuccess_smallInteger_shouldNotAllocate() {
+        assertNoAllocation(() -> Result.sharedSuccess(42));
+    }
+
+    @Test
+    void sharedSuccess_emptyString_shouldNotAllocate() {
+        assertNoAllocation(() -> OptionalResult.sharedSuccess(""));
+    }
+
+    @Test
+    void intResult_consume_success_shouldNotBox() {
+        assertNoAllocation(() -> INT_SUCCESS.consume(val -> {}));
+    }
+
+    @Test
+    void intResult_verify_success_shouldNotBox() {
+        assertNoAllocation(() -> INT_SUCCESS.verify(val -> val > 0, () -> "Invalid"));
+    }
+
+    @Test
+    void longResult_consume_success_shouldNotBox() {
+        assertNoAllocation(() -> LONG_SUCCESS.consume(val -> {}));
+    }
+
+    @Test
+    void doubleResult_verify_success_shouldNotBox() {
+        assertNoAllocation(() -> DOUBLE_SUCCESS.verify(val -> val > 0, () -> "Invalid"));
+    }
+
+    @Test
+    void voidResult_runIfError_success_shouldNotAllocate() {
+        assertNoAllocation(() -> VOID_SUCCESS.runIfError(() -> {}));
+    }
+
+    @Test
+    void validation_verify_valid_shouldNotAllocate() {
+        assertNoAllocation(() -> VALID.verify(val -> !val.isEmpty(), () -> "Empty"));
+    }
+
+    @Test
+    void validation_verify_firstError_shouldOnlyAllocateValidation() {
+        assertAllocationAtMost(24, () -> VALID.verify(val -> val.isEmpty(), () -> "Not empty"));
+    }
+
+    @Test
+    void validation_combine_oneInvalid_shouldOnlyAllocateValidation() {
+        assertAllocationAtMost(24, () -> VALID.combine(INVALID, (a, b) -> a));
+    }
+
+    @Test
+    void resultPipeline_apply_success_shouldOnlyAllocateResult() {
+        assertAllocationAtMost(16, () -> PIPELINE.apply("Success"));
+    }
+
+    @Test
+    void resultPipeline_apply_error_shouldOnlyAllocateErrorHolderAndResult() {
+        assertAllocationAtMost(32, () -> PIPELINE.apply(""));
+    }
+
+    private static void assertNoAllocation(Supplier<?> supplier) {
+        assertAllocationAtMost(0, supplier);
+    }
+
+    private static void assertAllocationAtMost(long bytes, Supplier<?> supplier) {
+        Object threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+        assumeFalse(isCoverageInstrumented(), "Mutation coverage probes allocate on every call");
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = supplier.get();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = bean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = supplier.get();
+        }
+        long after = bean.getThreadAllocatedBytes(threadId);
+        assertThat(after - before)
+                .as("bytes allocated by %d calls", ITERATIONS)
+                .isLessThanOrEqualTo(bytes * ITERATIONS + MEASUREMENT_SLACK_BYTES);
+    }
+
+    private static boolean isCoverageInstrumented() {
+        try {
+            Class.forName("org.pitest.coverage.CoverageReceiver");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncResult_Consume_Test {
+
+    @Test
+    void consume_success_shouldRunConsumer() {
+        List<String> consumed = new ArrayList<>();
+        AsyncResult<String, String> result = AsyncResult.<String, String>success("Success")
+                .consume(consumed::add);
+        assertThat(result.join()).isEqualTo(Result.success("Success"));
+        assertThat(consumed).containsExactly("Success");
+    }
+
+    @Test
+    void consume_error_shouldNotRunConsumer() {
+        AsyncResult<String, String> result = AsyncResult.<String, String>error("Error")
+                .consume(val -> { throw new RuntimeException(); });
+        assertThat(result.join()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void consume_nullConsumerGivesNPE() {
+        AsyncResult<String, String> result = AsyncResult.success("Success");
+        assertThatThrownBy(() -> result.consume(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
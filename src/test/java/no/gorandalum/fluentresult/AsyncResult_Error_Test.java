@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncResult_Error_Test {
+
+    @Test
+    void error_shouldBeCompletedWithError() {
+        AsyncResult<String, String> result = AsyncResult.error("Error");
+        assertThat(result.toCompletableFuture()).isCompletedWithValue(Result.error("Error"));
+    }
+
+    @Test
+    void error_nullValueGivesNPE() {
+        assertThatThrownBy(() -> AsyncResult.error(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
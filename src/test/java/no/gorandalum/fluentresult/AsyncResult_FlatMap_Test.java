@@ -0,0 +1,58 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncResult_FlatMap_Test {
+
+    @Test
+    void flatMap_success_shouldCompleteWithReturnedSuccess() {
+        AsyncResult<Integer, String> result = AsyncResult.<String, String>success("Success")
+                .flatMap(val -> AsyncResult.success(val.length()));
+        assertThat(result.join()).isEqualTo(Result.success(7));
+    }
+
+    @Test
+    void flatMap_success_shouldCompleteWithReturnedError() {
+        AsyncResult<Integer, String> result = AsyncResult.<String, String>success("Success")
+                .flatMap(val -> AsyncResult.error("Error"));
+        assertThat(result.join()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void flatMap_error_shouldNotRunFunction() {
+        AsyncResult<Integer, String> result = AsyncResult.<String, String>error("Error")
+                .flatMap(val -> { throw new RuntimeException(); });
+        assertThat(result.join()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void flatMap_shouldWaitForReturnedAsyncResult() {
+        CompletableFuture<Result<Integer, String>> stage = new CompletableFuture<>();
+        AsyncResult<Integer, String> result = AsyncResult.<String, String>success("Success")
+                .flatMap(val -> AsyncResult.fromCompletionStage(stage));
+        assertThat(result.toCompletableFuture()).isNotDone();
+        stage.complete(Result.success(42));
+        assertThat(result.join()).isEqualTo(Result.success(42));
+    }
+
+    @Test
+    void flatMap_functionReturnsNull_shouldCompleteExceptionallyWithNPE() {
+        AsyncResult<Integer, String> result = AsyncResult.<String, String>success("Success")
+                .flatMap(val -> null);
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMap_nullFunctionGivesNPE() {
+        AsyncResult<String, String> result = AsyncResult.success("Success");
+        assertThatThrownBy(() -> result.flatMap(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncResult_FromCompletionStage_Test {
+
+    @Test
+    void fromCompletionStage_shouldCompleteWhenStageCompletes() {
+        CompletableFuture<Result<String, String>> stage = new CompletableFuture<>();
+        AsyncResult<String, String> result = AsyncResult.fromCompletionStage(stage);
+        assertThat(result.toCompletableFuture()).isNotDone();
+        stage.complete(Result.success("Success"));
+        assertThat(result.join()).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void fromCompletionStage_exceptionalStage_shouldCompleteExceptionally() {
+        CompletableFuture<Result<String, String>> stage = new CompletableFuture<>();
+        AsyncResult<String, String> result = AsyncResult.fromCompletionStage(stage);
+        stage.completeExceptionally(new IllegalStateException("Failed"));
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void fromCompletionStage_nullResult_shouldCompleteExceptionallyWithNPE() {
+        AsyncResult<String, String> result = AsyncResult.fromCompletionStage(
+                CompletableFuture.completedFuture(null));
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void fromCompletionStage_nullStageGivesNPE() {
+        assertThatThrownBy(() -> AsyncResult.fromCompletionStage(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,64 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncResult_Handle_Test {
+
+    @Test
+    void handle_callableReturns_shouldBeSuccess() {
+        AsyncResult<String, Exception> result = AsyncResult.handle(() -> "Success", Runnable::run);
+        assertThat(result.join()).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void handle_callableThrows_shouldBeErrorWithException() {
+        IOException exception = new IOException("Failed");
+        AsyncResult<String, Exception> result = AsyncResult.handle(() -> { throw exception; }, Runnable::run);
+        assertThat(result.join()).isEqualTo(Result.error(exception));
+    }
+
+    @Test
+    void handle_callableReturnsNull_shouldCompleteExceptionallyWithNPE() {
+        AsyncResult<String, Exception> result = AsyncResult.handle(() -> null, Runnable::run);
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handle_shouldRunCallableWithExecutorWithoutBlocking() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            AsyncResult<String, Exception> result = AsyncResult.handle(() -> {
+                latch.await();
+                return Thread.currentThread().getName();
+            }, executor);
+            assertThat(result.toCompletableFuture()).isNotDone();
+            latch.countDown();
+            assertThat(result.join().orElse("Error")).isNotEqualTo(Thread.currentThread().getName());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void handle_nullCallableGivesNPE() {
+        assertThatThrownBy(() -> AsyncResult.handle(null, Runnable::run))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handle_nullExecutorGivesNPE() {
+        assertThatThrownBy(() -> AsyncResult.handle(() -> "Success", null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
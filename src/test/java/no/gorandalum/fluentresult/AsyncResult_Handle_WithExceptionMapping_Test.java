@@ -0,0 +1,42 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncResult_Handle_WithExceptionMapping_Test {
+
+    @Test
+    void handle_callableReturns_shouldBeSuccess() {
+        AsyncResult<String, String> result = AsyncResult.handle(
+                () -> "Success", Exception::getMessage, Runnable::run);
+        assertThat(result.join()).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void handle_callableThrows_shouldBeErrorWithMappedException() {
+        AsyncResult<String, String> result = AsyncResult.handle(
+                () -> { throw new IOException("Failed"); }, Exception::getMessage, Runnable::run);
+        assertThat(result.join()).isEqualTo(Result.error("Failed"));
+    }
+
+    @Test
+    void handle_nullCallableGivesNPE() {
+        assertThatThrownBy(() -> AsyncResult.handle(null, Exception::getMessage, Runnable::run))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handle_nullExceptionMapperGivesNPE() {
+        assertThatThrownBy(() -> AsyncResult.handle(() -> "Success", null, Runnable::run))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handle_nullExecutorGivesNPE() {
+        assertThatThrownBy(() -> AsyncResult.handle(() -> "Success", Exception::getMessage, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
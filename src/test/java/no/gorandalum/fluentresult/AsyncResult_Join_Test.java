@@ -0,0 +1,25 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncResult_Join_Test {
+
+    @Test
+    void join_shouldWaitForResult() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncResult<String, Exception> result = AsyncResult.handle(() -> {
+                Thread.sleep(20);
+                return "Success";
+            }, executor);
+            assertThat(result.map(String::length).join()).isEqualTo(Result.success(7));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
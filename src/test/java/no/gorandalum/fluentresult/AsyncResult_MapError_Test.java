@@ -0,0 +1,29 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncResult_MapError_Test {
+
+    @Test
+    void mapError_error_shouldMapError() {
+        AsyncResult<String, Integer> result = AsyncResult.<String, String>error("Error")
+                .mapError(String::length);
+        assertThat(result.join()).isEqualTo(Result.error(5));
+    }
+
+    @Test
+    void mapError_success_shouldNotRunFunction() {
+        AsyncResult<String, Integer> result = AsyncResult.<String, String>success("Success")
+                .mapError(err -> { throw new RuntimeException(); });
+        assertThat(result.join()).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void mapError_nullFunctionGivesNPE() {
+        AsyncResult<String, String> result = AsyncResult.error("Error");
+        assertThatThrownBy(() -> result.mapError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
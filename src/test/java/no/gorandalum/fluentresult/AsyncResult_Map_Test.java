@@ -0,0 +1,51 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncResult_Map_Test {
+
+    @Test
+    void map_success_shouldMapValue() {
+        AsyncResult<Integer, String> result = AsyncResult.<String, String>success("Success")
+                .map(String::length);
+        assertThat(result.join()).isEqualTo(Result.success(7));
+    }
+
+    @Test
+    void map_error_shouldNotRunFunction() {
+        AsyncResult<Integer, String> result = AsyncResult.<String, String>error("Error")
+                .map(val -> { throw new RuntimeException(); });
+        assertThat(result.join()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void map_incomplete_shouldApplyWhenCompleted() {
+        CompletableFuture<Result<String, String>> stage = new CompletableFuture<>();
+        AsyncResult<Integer, String> result = AsyncResult.fromCompletionStage(stage)
+                .map(String::length);
+        assertThat(result.toCompletableFuture()).isNotDone();
+        stage.complete(Result.success("Success"));
+        assertThat(result.join()).isEqualTo(Result.success(7));
+    }
+
+    @Test
+    void map_functionThrows_shouldCompleteExceptionally() {
+        AsyncResult<Integer, String> result = AsyncResult.<String, String>success("Success")
+                .map(val -> { throw new IllegalStateException(); });
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void map_nullFunctionGivesNPE() {
+        AsyncResult<String, String> result = AsyncResult.success("Success");
+        assertThatThrownBy(() -> result.map(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncResult_Of_Test {
+
+    @Test
+    void of_shouldBeCompletedWithSameResult() {
+        Result<String, String> result = Result.success("Success");
+        assertThat(AsyncResult.of(result).join()).isSameAs(result);
+    }
+
+    @Test
+    void of_nullResultGivesNPE() {
+        assertThatThrownBy(() -> AsyncResult.of(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,29 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncResult_Recover_Test {
+
+    @Test
+    void recover_error_shouldBeSuccessWithRecoveredValue() {
+        AsyncResult<String, String> result = AsyncResult.<String, String>error("Error")
+                .recover(err -> "Recovered " + err);
+        assertThat(result.join()).isEqualTo(Result.success("Recovered Error"));
+    }
+
+    @Test
+    void recover_success_shouldNotRunFunction() {
+        AsyncResult<String, String> result = AsyncResult.<String, String>success("Success")
+                .recover(err -> { throw new RuntimeException(); });
+        assertThat(result.join()).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void recover_nullFunctionGivesNPE() {
+        AsyncResult<String, String> result = AsyncResult.error("Error");
+        assertThatThrownBy(() -> result.recover(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncResult_Success_Test {
+
+    @Test
+    void success_shouldBeCompletedWithSuccess() {
+        AsyncResult<String, String> result = AsyncResult.success("Success");
+        assertThat(result.toCompletableFuture()).isCompletedWithValue(Result.success("Success"));
+    }
+
+    @Test
+    void success_nullValueGivesNPE() {
+        assertThatThrownBy(() -> AsyncResult.success(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
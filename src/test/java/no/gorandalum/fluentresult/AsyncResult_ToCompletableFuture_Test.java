@@ -0,0 +1,25 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncResult_ToCompletableFuture_Test {
+
+    @Test
+    void toCompletableFuture_shouldCompleteWithResult() {
+        AsyncResult<String, String> result = AsyncResult.success("Success");
+        assertThat(result.toCompletableFuture()).isCompletedWithValue(Result.success("Success"));
+    }
+
+    @Test
+    void toCompletableFuture_completingReturnedFuture_shouldNotAffectAsyncResult() {
+        CompletableFuture<Result<String, String>> stage = new CompletableFuture<>();
+        AsyncResult<String, String> result = AsyncResult.fromCompletionStage(stage);
+        result.toCompletableFuture().complete(Result.error("Other"));
+        stage.complete(Result.success("Success"));
+        assertThat(result.join()).isEqualTo(Result.success("Success"));
+    }
+}
@@ -0,0 +1,43 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncResult_Verify_Predicate_Test {
+
+    @Test
+    void verify_success_predicateTrue_shouldKeepSuccess() {
+        AsyncResult<String, String> result = AsyncResult.<String, String>success("Success")
+                .verify(val -> val.startsWith("S"), () -> "Invalid");
+        assertThat(result.join()).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void verify_success_predicateFalse_shouldBeError() {
+        AsyncResult<String, String> result = AsyncResult.<String, String>success("Success")
+                .verify(val -> val.isEmpty(), () -> "Invalid");
+        assertThat(result.join()).isEqualTo(Result.error("Invalid"));
+    }
+
+    @Test
+    void verify_error_shouldNotRunPredicate() {
+        AsyncResult<String, String> result = AsyncResult.<String, String>error("Error")
+                .verify(val -> { throw new RuntimeException(); }, () -> "Invalid");
+        assertThat(result.join()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void verify_nullPredicateGivesNPE() {
+        AsyncResult<String, String> result = AsyncResult.success("Success");
+        assertThatThrownBy(() -> result.verify(null, () -> "Invalid"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void verify_nullErrorSupplierGivesNPE() {
+        AsyncResult<String, String> result = AsyncResult.success("Success");
+        assertThatThrownBy(() -> result.verify(val -> true, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,36 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncResult_Verify_VoidResult_Test {
+
+    @Test
+    void verify_success_successVoidResult_shouldKeepSuccess() {
+        AsyncResult<String, String> result = AsyncResult.<String, String>success("Success")
+                .verify(val -> VoidResult.success());
+        assertThat(result.join()).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void verify_success_errorVoidResult_shouldBeError() {
+        AsyncResult<String, String> result = AsyncResult.<String, String>success("Success")
+                .verify(val -> VoidResult.error("Invalid"));
+        assertThat(result.join()).isEqualTo(Result.error("Invalid"));
+    }
+
+    @Test
+    void verify_error_shouldNotRunFunction() {
+        AsyncResult<String, String> result = AsyncResult.<String, String>error("Error")
+                .verify(val -> { throw new RuntimeException(); });
+        assertThat(result.join()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void verify_nullFunctionGivesNPE() {
+        AsyncResult<String, String> result = AsyncResult.success("Success");
+        assertThatThrownBy(() -> result.verify(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BatchLoader_Configure_Test {
+
+    private final BatchLoader<String, String, String> loader =
+            BatchLoader.of(keys -> Result.success(Collections.emptyMap()));
+
+    @Test
+    void withMaxBatchSize_zeroGivesIAE() {
+        assertThatThrownBy(() -> loader.withMaxBatchSize(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Max batch size must be positive, was 0");
+    }
+
+    @Test
+    void withWindow_zeroGivesIAE() {
+        assertThatThrownBy(() -> loader.withWindow(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Window must be positive, was PT0S");
+    }
+
+    @Test
+    void withWindow_negativeGivesIAE() {
+        assertThatThrownBy(() -> loader.withWindow(Duration.ofMillis(-1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Window must be positive, was PT-0.001S");
+    }
+
+    @Test
+    void withWindow_nullGivesNPE() {
+        assertThatThrownBy(() -> loader.withWindow(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void withWindow_veryLong_shouldBeAccepted() {
+        BatchLoader<String, String, String> patient = loader
+                .withWindow(Duration.ofSeconds(Long.MAX_VALUE))
+                .withMaxBatchSize(2);
+        assertThat(patient.loadAsync("A")).isNotDone();
+        assertThat(patient.load("B")).isEqualTo(OptionalResult.empty());
+    }
+
+    @Test
+    void withExecutor_nullGivesNPE() {
+        assertThatThrownBy(() -> loader.withExecutor(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
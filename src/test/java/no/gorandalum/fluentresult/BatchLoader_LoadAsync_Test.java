@@ -0,0 +1,124 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BatchLoader_LoadAsync_Test {
+
+    private final List<Set<String>> batches = new CopyOnWriteArrayList<>();
+    private final BatchLoader<String, String, String> loader = BatchLoader.<String, String, String>of(keys -> {
+        batches.add(new TreeSet<>(keys));
+        Map<String, String> values = new HashMap<>();
+        for (String key : keys) {
+            values.put(key, key + "Value");
+        }
+        return Result.success(values);
+    }).withMaxBatchSize(3).withWindow(Duration.ofMinutes(1));
+
+    @Test
+    void loadAsync_shouldNotLoadBeforeBatchIsFull() {
+        CompletableFuture<OptionalResult<String, String>> first = loader.loadAsync("A");
+        CompletableFuture<OptionalResult<String, String>> second = loader.loadAsync("B");
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+        assertThat(batches).isEmpty();
+        CompletableFuture<OptionalResult<String, String>> third = loader.loadAsync("C");
+        assertThat(first.join()).isEqualTo(OptionalResult.success("AValue"));
+        assertThat(second.join()).isEqualTo(OptionalResult.success("BValue"));
+        assertThat(third.join()).isEqualTo(OptionalResult.success("CValue"));
+        assertThat(batches).containsExactly(new TreeSet<>(Arrays.asList("A", "B", "C")));
+    }
+
+    @Test
+    void loadAsync_sameKeyTwice_shouldAddKeyOnce() {
+        CompletableFuture<OptionalResult<String, String>> first = loader.loadAsync("A");
+        CompletableFuture<OptionalResult<String, String>> again = loader.loadAsync("A");
+        loader.loadAsync("B");
+        assertThat(again).isNotDone();
+        loader.loadAsync("C");
+        assertThat(first.join()).isEqualTo(OptionalResult.success("AValue"));
+        assertThat(again.join()).isEqualTo(OptionalResult.success("AValue"));
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    void loadAsync_fullBatch_shouldStartNewBatch() {
+        loader.loadAsync("A");
+        loader.loadAsync("B");
+        CompletableFuture<OptionalResult<String, String>> last = loader.loadAsync("C");
+        CompletableFuture<OptionalResult<String, String>> next = loader.loadAsync("D");
+        last.join();
+        assertThat(batches).hasSize(1);
+        assertThat(next).isNotDone();
+    }
+
+    @Test
+    void loadAsync_fullBatch_shouldLoadOnExecutor() {
+        List<Runnable> tasks = new CopyOnWriteArrayList<>();
+        BatchLoader<String, String, String> executing = loader.withExecutor(tasks::add);
+        executing.loadAsync("A");
+        executing.loadAsync("B");
+        CompletableFuture<OptionalResult<String, String>> last = executing.loadAsync("C");
+        assertThat(batches).isEmpty();
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+        assertThat(last.join()).isEqualTo(OptionalResult.success("CValue"));
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    void loadAsync_windowPassed_shouldLoadOnExecutor() {
+        List<Runnable> tasks = new CopyOnWriteArrayList<>();
+        BatchLoader<String, String, String> windowed = loader
+                .withWindow(Duration.ofMillis(5))
+                .withExecutor(tasks::add);
+        CompletableFuture<OptionalResult<String, String>> lookup = windowed.loadAsync("A");
+        while (tasks.isEmpty()) {
+            Thread.yield();
+        }
+        assertThat(lookup).isNotDone();
+        tasks.get(0).run();
+        assertThat(lookup.join()).isEqualTo(OptionalResult.success("AValue"));
+    }
+
+    @Test
+    void loadAsync_executorRejects_shouldCompleteExceptionally() {
+        BatchLoader<String, String, String> rejecting = loader
+                .withWindow(Duration.ofMillis(5))
+                .withExecutor(task -> {
+                    throw new RejectedExecutionException("Rejected");
+                });
+        assertThatThrownBy(() -> rejecting.loadAsync("A").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void loadAsync_bulkFunctionThrows_shouldCompleteExceptionally() {
+        BatchLoader<String, String, String> throwing = BatchLoader.<String, String, String>of(keys -> {
+            throw new IllegalStateException("Failed");
+        }).withMaxBatchSize(1);
+        assertThatThrownBy(() -> throwing.loadAsync("A").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void loadAsync_nullKeyGivesNPE() {
+        assertThatThrownBy(() -> loader.loadAsync(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,138 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class BatchLoader_Load_Test {
+
+    private final List<Set<String>> batches = new CopyOnWriteArrayList<>();
+    private final BatchLoader<String, String, String> loader = BatchLoader.<String, String, String>of(keys -> {
+        batches.add(new TreeSet<>(keys));
+        Map<String, String> values = new HashMap<>();
+        for (String key : keys) {
+            if (!key.startsWith("Missing")) {
+                values.put(key, key + "Value");
+            }
+        }
+        return Result.success(values);
+    }).withMaxBatchSize(3).withWindow(Duration.ofMinutes(1));
+
+    @Test
+    void load_fullBatch_shouldLoadKeysWithOneBulkCall() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<OptionalResult<String, String>>> futures = new ArrayList<>();
+            for (String key : new String[]{"A", "B", "C"}) {
+                futures.add(executor.submit(() -> loader.load(key)));
+            }
+            assertThat(futures.get(0).get(5, TimeUnit.SECONDS)).isEqualTo(OptionalResult.success("AValue"));
+            assertThat(futures.get(1).get(5, TimeUnit.SECONDS)).isEqualTo(OptionalResult.success("BValue"));
+            assertThat(futures.get(2).get(5, TimeUnit.SECONDS)).isEqualTo(OptionalResult.success("CValue"));
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactly("A", "B", "C");
+    }
+
+    @Test
+    void load_missingKey_shouldGiveEmpty() {
+        BatchLoader<String, String, String> single = loader.withMaxBatchSize(1);
+        assertThat(single.load("Missing")).isEqualTo(OptionalResult.empty());
+    }
+
+    @Test
+    void load_windowPassed_shouldLoadPartialBatch() {
+        BatchLoader<String, String, String> windowed = loader.withWindow(Duration.ofMillis(5));
+        assertThat(windowed.load("A")).isEqualTo(OptionalResult.success("AValue"));
+        assertThat(batches).containsExactly(Collections.singleton("A"));
+    }
+
+    @Test
+    void load_bulkError_shouldGiveSameErrorForEachKey() throws Exception {
+        BatchLoader<String, String, String> failing = BatchLoader.<String, String, String>of(
+                keys -> Result.error("Database down")).withMaxBatchSize(2).withWindow(Duration.ofMinutes(1));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<OptionalResult<String, String>> first = executor.submit(() -> failing.load("A"));
+            OptionalResult<String, String> second = failing.load("B");
+            assertThat(second).isEqualTo(OptionalResult.error("Database down"));
+            assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(second);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void load_nestedOnFullFallbackPool_shouldNotDeadlock() {
+        ThreadPoolExecutor pool = BulkHandle.newFallbackPool(1);
+        try {
+            BatchLoader<String, String, String> windowed = loader
+                    .withWindow(Duration.ofMillis(5))
+                    .withExecutor(pool);
+            List<Result<OptionalResult<String, String>, Exception>> results = assertTimeoutPreemptively(
+                    Duration.ofSeconds(10),
+                    () -> BulkHandle.handleAll(
+                            Arrays.<Callable<OptionalResult<String, String>>>asList(
+                                    () -> windowed.load("A"),
+                                    () -> windowed.load("B")),
+                            Function.identity(),
+                            pool));
+            assertThat(results).containsExactly(
+                    Result.success(OptionalResult.success("AValue")),
+                    Result.success(OptionalResult.success("BValue")));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void load_bulkFunctionThrows_shouldThrow() {
+        BatchLoader<String, String, String> throwing = BatchLoader.<String, String, String>of(keys -> {
+            throw new IllegalStateException("Failed");
+        }).withMaxBatchSize(1);
+        assertThatThrownBy(() -> throwing.load("A"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Failed");
+    }
+
+    @Test
+    void load_bulkFunctionReturnsNullGivesNPE() {
+        BatchLoader<String, String, String> nullReturning = BatchLoader.<String, String, String>of(keys -> null)
+                .withMaxBatchSize(1);
+        assertThatThrownBy(() -> nullReturning.load("A"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void load_nullKeyGivesNPE() {
+        assertThatThrownBy(() -> loader.load(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void of_nullBulkFunctionGivesNPE() {
+        assertThatThrownBy(() -> BatchLoader.of(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,52 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BooleanResult_SequenceCollector_Test {
+
+    @Test
+    void sequenceCollector_allSuccess_shouldContainValuesInOrder() {
+        Result<List<Boolean>, String> result = Stream.of(true, false, true)
+                .map(BooleanResult::<String>success)
+                .collect(BooleanResult.sequenceCollector());
+        assertThat(result).isEqualTo(Result.success(Arrays.asList(true, false, true)));
+    }
+
+    @Test
+    void sequenceCollector_error_shouldContainFirstError() {
+        Result<List<Boolean>, String> result = Stream.of(
+                BooleanResult.<String>successTrue(),
+                BooleanResult.<String>error("Error"),
+                BooleanResult.<String>error("Other error"))
+                .collect(BooleanResult.sequenceCollector());
+        assertThat(result).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void sequenceCollector_parallel_shouldContainFirstErrorInEncounterOrder() {
+        Result<List<Boolean>, String> result = IntStream.range(0, 10_000)
+                .parallel()
+                .mapToObj(val -> val % 1000 == 999 ?
+                        BooleanResult.<String>error("Error at " + val) :
+                        BooleanResult.<String>success(val % 2 == 0))
+                .collect(BooleanResult.sequenceCollector());
+        assertThat(result).isEqualTo(Result.error("Error at 999"));
+    }
+
+    @Test
+    void sequenceCollector_allSuccess_shouldContainUnmodifiableList() {
+        List<Boolean> values = Stream.of(true, false)
+                .map(BooleanResult::<String>success)
+                .collect(BooleanResult.sequenceCollector())
+                .orElseThrow(IllegalStateException::new);
+        assertThatThrownBy(() -> values.add(true))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
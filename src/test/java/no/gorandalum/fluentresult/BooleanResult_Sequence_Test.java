@@ -0,0 +1,37 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BooleanResult_Sequence_Test {
+
+    @Test
+    void sequence_allSuccess_shouldContainValuesInOrder() {
+        List<BooleanResult<String>> results = Arrays.asList(
+                BooleanResult.successTrue(),
+                BooleanResult.successFalse(),
+                BooleanResult.successTrue());
+        assertThat(BooleanResult.sequence(results))
+                .isEqualTo(Result.success(Arrays.asList(true, false, true)));
+    }
+
+    @Test
+    void sequence_error_shouldContainFirstErrorAndStopIterating() {
+        List<BooleanResult<String>> results = Arrays.asList(
+                BooleanResult.successTrue(),
+                BooleanResult.error("Error"),
+                null);
+        assertThat(BooleanResult.sequence(results)).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void sequence_nullResultGivesNPE() {
+        List<BooleanResult<String>> results = Arrays.asList(BooleanResult.successTrue(), null);
+        assertThatThrownBy(() -> BooleanResult.sequence(results))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BooleanResult_SharedError_Test {
+
+    enum ErrorCode {
+        NOT_FOUND,
+        FORBIDDEN,
+        CONFLICT {
+            @Override
+            public String toString() {
+                return "Conflict";
+            }
+        }
+    }
+
+    @Test
+    void sharedError_enumConstant_shouldReturnSharedInstance() {
+        BooleanResult<ErrorCode> result = BooleanResult.sharedError(ErrorCode.NOT_FOUND);
+        assertThat(result).isSameAs(BooleanResult.sharedError(ErrorCode.NOT_FOUND));
+        assertThat(result).isEqualTo(BooleanResult.error(ErrorCode.NOT_FOUND));
+    }
+
+    @Test
+    void sharedError_registeredError_shouldReturnSharedInstance() {
+        SharedErrors.register("Registered BooleanResult");
+        BooleanResult<String> result = BooleanResult.sharedError("Registered BooleanResult");
+        assertThat(result).isSameAs(BooleanResult.sharedError("Registered BooleanResult"));
+        assertThat(result).isEqualTo(BooleanResult.error("Registered BooleanResult"));
+    }
+
+    @Test
+    void sharedError_unregisteredError_shouldReturnNewInstance() {
+        BooleanResult<String> result = BooleanResult.sharedError("Unregistered BooleanResult");
+        assertThat(result).isNotSameAs(BooleanResult.sharedError("Unregistered BooleanResult"));
+        assertThat(result).isEqualTo(BooleanResult.error("Unregistered BooleanResult"));
+    }
+
+    @Test
+    void sharedError_nullErrorGivesNPE() {
+        assertThatThrownBy(() -> BooleanResult.sharedError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
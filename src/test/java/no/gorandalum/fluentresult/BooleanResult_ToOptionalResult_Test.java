@@ -0,0 +1,32 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BooleanResult_ToOptionalResult_Test {
+
+    @Test
+    void toOptionalResult_successTrue_shouldContainTrue() {
+        BooleanResult<String> result = BooleanResult.successTrue();
+        assertThat(result.toOptionalResult()).isEqualTo(OptionalResult.success(true));
+    }
+
+    @Test
+    void toOptionalResult_successFalse_shouldContainFalse() {
+        BooleanResult<String> result = BooleanResult.successFalse();
+        assertThat(result.toOptionalResult()).isEqualTo(OptionalResult.success(false));
+    }
+
+    @Test
+    void toOptionalResult_success_shouldReuseInstance() {
+        BooleanResult<String> result = BooleanResult.successTrue();
+        assertThat(result.toOptionalResult()).isSameAs(result.toOptionalResult());
+    }
+
+    @Test
+    void toOptionalResult_error_shouldKeepError() {
+        BooleanResult<String> result = BooleanResult.error("Error");
+        assertThat(result.toOptionalResult()).isEqualTo(OptionalResult.error("Error"));
+    }
+}
@@ -0,0 +1,58 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BooleanResult_Traverse_Test {
+
+    @Test
+    void traverse_allSuccess_shouldContainMappedValuesInOrder() {
+        Result<List<Boolean>, String> result = BooleanResult.traverse(
+                Arrays.asList("One", "", "Three"),
+                val -> BooleanResult.success(val.isEmpty()));
+        assertThat(result).isEqualTo(Result.success(Arrays.asList(false, true, false)));
+    }
+
+    @Test
+    void traverse_error_shouldContainFirstErrorAndStopApplying() {
+        List<String> applied = new ArrayList<>();
+        Result<List<Boolean>, String> result = BooleanResult.traverse(
+                Arrays.asList("One", "Error", "Three"),
+                val -> {
+                    applied.add(val);
+                    return val.equals("Error") ?
+                            BooleanResult.error("Error") :
+                            BooleanResult.successTrue();
+                });
+        assertThat(result).isEqualTo(Result.error("Error"));
+        assertThat(applied).containsExactly("One", "Error");
+    }
+
+    @Test
+    void traverse_nullFromFunctionGivesNPE() {
+        assertThatThrownBy(() -> BooleanResult.traverse(Arrays.asList("One"), val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void traverse_nullFunctionGivesNPE() {
+        assertThatThrownBy(() -> BooleanResult.traverse(Collections.emptyList(), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void traverse_allSuccess_shouldContainUnmodifiableList() {
+        Result<List<Boolean>, String> result = BooleanResult.traverse(
+                Arrays.asList("One", ""),
+                val -> BooleanResult.success(val.isEmpty()));
+        List<Boolean> values = result.orElseThrow(IllegalStateException::new);
+        assertThatThrownBy(() -> values.add(true))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
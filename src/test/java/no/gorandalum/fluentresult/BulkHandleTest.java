@@ -0,0 +1,250 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class BulkHandleTest {
+
+    @Test
+    void handleAll_givenExecutor_shouldRunCallablesWithExecutor() {
+        List<Result<String, Exception>> results = BulkHandle.handleAll(
+                Arrays.<Callable<String>>asList(() -> "First", () -> "Second"),
+                Function.identity(),
+                Runnable::run);
+        assertThat(results).containsExactly(Result.success("First"), Result.success("Second"));
+    }
+
+    @Test
+    void handleAll_callingThreadInterrupted_shouldInterruptRunningCallables() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Executor newThreadPerTask = task -> new Thread(task).start();
+        Thread caller = Thread.currentThread();
+        Thread interrupter = new Thread(() -> {
+            try {
+                started.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            caller.interrupt();
+        });
+        interrupter.start();
+        try {
+            List<Result<String, Exception>> results = BulkHandle.handleAll(
+                    Arrays.<Callable<String>>asList(() -> {
+                        started.countDown();
+                        try {
+                            new CountDownLatch(1).await();
+                        } catch (InterruptedException e) {
+                            interrupted.countDown();
+                            throw e;
+                        }
+                        return "Never";
+                    }),
+                    Function.identity(),
+                    newThreadPerTask);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            Exception error = results.get(0).fold(val -> null, err -> err);
+            assertThat(error).isInstanceOf(InterruptedException.class);
+        } finally {
+            Thread.interrupted();
+            interrupter.join();
+        }
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void handleAll_callingThreadInterrupted_shouldNotStartWaitingCallables() {
+        AtomicBoolean ran = new AtomicBoolean();
+        List<Runnable> queued = new ArrayList<>();
+        Thread.currentThread().interrupt();
+        try {
+            List<Result<String, Exception>> results = BulkHandle.handleAll(
+                    Arrays.<Callable<String>>asList(() -> {
+                        ran.set(true);
+                        return "Ran";
+                    }),
+                    Function.identity(),
+                    queued::add);
+            Exception error = results.get(0).fold(val -> null, err -> err);
+            assertThat(error).isInstanceOf(InterruptedException.class);
+        } finally {
+            Thread.interrupted();
+        }
+        queued.forEach(Runnable::run);
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    void handleAll_callableThrowsError_shouldCancelRemainingCallables() {
+        AtomicBoolean ran = new AtomicBoolean();
+        List<Runnable> queued = new ArrayList<>();
+        Executor runFirstOnly = task -> {
+            if (queued.isEmpty()) {
+                task.run();
+            }
+            queued.add(task);
+        };
+        assertThatThrownBy(() -> BulkHandle.handleAll(
+                Arrays.<Callable<String>>asList(
+                        () -> {
+                            throw new AssertionError("Failed");
+                        },
+                        () -> {
+                            ran.set(true);
+                            return "Ran";
+                        }),
+                Function.identity(),
+                runFirstOnly))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("Failed");
+        queued.forEach(Runnable::run);
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    void handleAll_exceptionMapperThrows_shouldCancelRemainingCallables() {
+        AtomicBoolean ran = new AtomicBoolean();
+        List<Runnable> queued = new ArrayList<>();
+        Executor runFirstOnly = task -> {
+            if (queued.isEmpty()) {
+                task.run();
+            }
+            queued.add(task);
+        };
+        assertThatThrownBy(() -> BulkHandle.handleAll(
+                Arrays.<Callable<String>>asList(
+                        () -> {
+                            throw new Exception("Failed");
+                        },
+                        () -> {
+                            ran.set(true);
+                            return "Ran";
+                        }),
+                e -> {
+                    throw new IllegalStateException(e.getMessage());
+                },
+                runFirstOnly))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Failed");
+        queued.forEach(Runnable::run);
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    void handleAll_nestedOnFullFallbackPool_shouldNotDeadlock() {
+        ThreadPoolExecutor pool = BulkHandle.newFallbackPool(1);
+        try {
+            List<Result<List<Result<String, Exception>>, Exception>> results = assertTimeoutPreemptively(
+                    Duration.ofSeconds(10),
+                    () -> BulkHandle.handleAll(
+                            Arrays.<Callable<List<Result<String, Exception>>>>asList(
+                                    () -> BulkHandle.handleAll(
+                                            Arrays.<Callable<String>>asList(() -> "First", () -> "Second"),
+                                            Function.identity(),
+                                            pool)),
+                            Function.identity(),
+                            pool));
+            assertThat(results).containsExactly(Result.success(
+                    Arrays.asList(Result.success("First"), Result.success("Second"))));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void executor_withVirtualThreadExecutor_shouldUseIt() {
+        Executor executor = Runnable::run;
+        assertThat(BulkHandle.executor(executor)).isSameAs(executor);
+    }
+
+    @Test
+    void executor_withoutVirtualThreadExecutor_shouldUseSharedFallbackPool() {
+        Executor executor = BulkHandle.executor(null);
+        assertThat(executor).isInstanceOf(ThreadPoolExecutor.class);
+        assertThat(((ThreadPoolExecutor) executor).getMaximumPoolSize()).isEqualTo(BulkHandle.FALLBACK_THREADS);
+        assertThat(BulkHandle.executor(null)).isSameAs(executor);
+    }
+
+    @Test
+    void virtualThreadExecutor_classWithoutFactory_shouldBeNull() {
+        assertThat(BulkHandle.virtualThreadExecutor(Object.class)).isNull();
+    }
+
+    @Test
+    void virtualThreadExecutor_classWithFactory_shouldStartTasksThroughFactory() {
+        Executor executor = BulkHandle.virtualThreadExecutor(FakeThreads.class);
+        assertThat(executor).isNotNull();
+        CompletableFuture<String> threadName = CompletableFuture.supplyAsync(
+                () -> Thread.currentThread().getName(), executor);
+        assertThat(threadName.join()).isEqualTo("fake-virtual");
+    }
+
+    @Test
+    void virtualThreadExecutor_factoryThrows_shouldRejectTask() {
+        Executor executor = BulkHandle.virtualThreadExecutor(FailingThreads.class);
+        assertThatThrownBy(() -> executor.execute(() -> {}))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void newFallbackPool_shouldBeBoundedAndTimeOutIdleThreads() {
+        ThreadPoolExecutor pool = BulkHandle.newFallbackPool(3);
+        try {
+            assertThat(pool.getCorePoolSize()).isEqualTo(3);
+            assertThat(pool.getMaximumPoolSize()).isEqualTo(3);
+            assertThat(pool.allowsCoreThreadTimeOut()).isTrue();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void newFallbackPool_shouldUseDaemonThreads() throws InterruptedException {
+        ThreadPoolExecutor pool = BulkHandle.newFallbackPool(1);
+        try {
+            AtomicReference<Thread> created = new AtomicReference<>();
+            Thread nonDaemon = new Thread(() -> created.set(pool.getThreadFactory().newThread(() -> {})));
+            nonDaemon.setDaemon(false);
+            nonDaemon.start();
+            nonDaemon.join();
+            assertThat(created.get().isDaemon()).isTrue();
+            assertThat(created.get().getName()).isEqualTo("fluent-result-handle-all");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    static final class FakeThreads {
+
+        public static Thread startVirtualThread(Runnable task) {
+            Thread thread = new Thread(task, "fake-virtual");
+            thread.start();
+            return thread;
+        }
+    }
+
+    static final class FailingThreads {
+
+        public static Thread startVirtualThread(Runnable task) {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Bulkhead_HandleBooleanResult_Test {
+
+    private final Bulkhead<String> bulkhead = Bulkhead.maxConcurrentCalls(1, "Rejected");
+
+    @Test
+    void handleBooleanResult_success_shouldContainValue() {
+        assertThat(bulkhead.handleBooleanResult(() -> true, Exception::getMessage)).isEqualTo(BooleanResult.success(true));
+    }
+
+    @Test
+    void handleBooleanResult_exception_shouldContainMappedException() {
+        BooleanResult<String> result = bulkhead.handleBooleanResult(
+                () -> {
+                    throw new IOException("Error");
+                },
+                Exception::getMessage);
+        assertThat(result).isEqualTo(BooleanResult.error("Error"));
+    }
+
+    @Test
+    void handleBooleanResult_limitReached_shouldReturnSharedRejectionWithoutCalling() {
+        AtomicInteger calls = new AtomicInteger();
+        bulkhead.handle(() -> {
+            BooleanResult<String> first = bulkhead.handleBooleanResult(
+                    () -> {
+                        calls.incrementAndGet();
+                        return true;
+                    },
+                    Exception::getMessage);
+            assertThat(first).isEqualTo(BooleanResult.error("Rejected"));
+            assertThat(bulkhead.handleBooleanResult(() -> true, Exception::getMessage)).isSameAs(first);
+            return "Outer";
+        }, Exception::getMessage);
+        assertThat(calls).hasValue(0);
+        assertThat(bulkhead.handleBooleanResult(() -> true, Exception::getMessage)).isEqualTo(BooleanResult.success(true));
+    }
+
+    @Test
+    void handleBooleanResult_nullCallableGivesNPE() {
+        assertThatThrownBy(() -> bulkhead.handleBooleanResult(null, Exception::getMessage))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handleBooleanResult_nullExceptionMapperGivesNPE() {
+        assertThatThrownBy(() -> bulkhead.handleBooleanResult(() -> true, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handleBooleanResult_nullFromCallableGivesNPE() {
+        assertThatThrownBy(() -> bulkhead.handleBooleanResult(() -> null, Exception::getMessage))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,65 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Bulkhead_HandleOptionalResult_Test {
+
+    private final Bulkhead<String> bulkhead = Bulkhead.maxConcurrentCalls(1, "Rejected");
+
+    @Test
+    void handleOptionalResult_success_shouldContainValue() {
+        assertThat(bulkhead.handleOptionalResult(() -> Optional.of("Success"), Exception::getMessage)).isEqualTo(OptionalResult.success("Success"));
+    }
+
+    @Test
+    void handleOptionalResult_exception_shouldContainMappedException() {
+        OptionalResult<String, String> result = bulkhead.handleOptionalResult(
+                () -> {
+                    throw new IOException("Error");
+                },
+                Exception::getMessage);
+        assertThat(result).isEqualTo(OptionalResult.error("Error"));
+    }
+
+    @Test
+    void handleOptionalResult_limitReached_shouldReturnSharedRejectionWithoutCalling() {
+        AtomicInteger calls = new AtomicInteger();
+        bulkhead.handle(() -> {
+            OptionalResult<String, String> first = bulkhead.handleOptionalResult(
+                    () -> {
+                        calls.incrementAndGet();
+                        return Optional.of("Success");
+                    },
+                    Exception::getMessage);
+            assertThat(first).isEqualTo(OptionalResult.error("Rejected"));
+            assertThat(bulkhead.handleOptionalResult(() -> Optional.of("Success"), Exception::getMessage)).isSameAs(first);
+            return "Outer";
+        }, Exception::getMessage);
+        assertThat(calls).hasValue(0);
+        assertThat(bulkhead.handleOptionalResult(() -> Optional.of("Success"), Exception::getMessage)).isEqualTo(OptionalResult.success("Success"));
+    }
+
+    @Test
+    void handleOptionalResult_nullCallableGivesNPE() {
+        assertThatThrownBy(() -> bulkhead.handleOptionalResult(null, Exception::getMessage))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handleOptionalResult_nullExceptionMapperGivesNPE() {
+        assertThatThrownBy(() -> bulkhead.handleOptionalResult(() -> Optional.of("Success"), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handleOptionalResult_nullFromCallableGivesNPE() {
+        assertThatThrownBy(() -> bulkhead.handleOptionalResult(() -> null, Exception::getMessage))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Bulkhead_HandleVoidResult_Test {
+
+    private final Bulkhead<String> bulkhead = Bulkhead.maxConcurrentCalls(1, "Rejected");
+
+    @Test
+    void handleVoidResult_success_shouldContainValue() {
+        assertThat(bulkhead.handleVoidResult(() -> { }, Exception::getMessage)).isEqualTo(VoidResult.success());
+    }
+
+    @Test
+    void handleVoidResult_exception_shouldContainMappedException() {
+        VoidResult<String> result = bulkhead.handleVoidResult(
+                () -> {
+                    throw new IOException("Error");
+                },
+                Exception::getMessage);
+        assertThat(result).isEqualTo(VoidResult.error("Error"));
+    }
+
+    @Test
+    void handleVoidResult_limitReached_shouldReturnSharedRejectionWithoutCalling() {
+        AtomicInteger calls = new AtomicInteger();
+        bulkhead.handle(() -> {
+            VoidResult<String> first = bulkhead.handleVoidResult(
+                    () -> calls.incrementAndGet(),
+                    Exception::getMessage);
+            assertThat(first).isEqualTo(VoidResult.error("Rejected"));
+            assertThat(bulkhead.handleVoidResult(() -> { }, Exception::getMessage)).isSameAs(first);
+            return "Outer";
+        }, Exception::getMessage);
+        assertThat(calls).hasValue(0);
+        assertThat(bulkhead.handleVoidResult(() -> { }, Exception::getMessage)).isEqualTo(VoidResult.success());
+    }
+
+    @Test
+    void handleVoidResult_nullRunnableGivesNPE() {
+        assertThatThrownBy(() -> bulkhead.handleVoidResult(null, Exception::getMessage))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handleVoidResult_nullExceptionMapperGivesNPE() {
+        assertThatThrownBy(() -> bulkhead.handleVoidResult(() -> { }, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
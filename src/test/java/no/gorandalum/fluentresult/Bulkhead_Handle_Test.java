@@ -0,0 +1,64 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Bulkhead_Handle_Test {
+
+    private final Bulkhead<String> bulkhead = Bulkhead.maxConcurrentCalls(1, "Rejected");
+
+    @Test
+    void handle_success_shouldContainValue() {
+        assertThat(bulkhead.handle(() -> "Success", Exception::getMessage)).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void handle_exception_shouldContainMappedException() {
+        Result<String, String> result = bulkhead.handle(
+                () -> {
+                    throw new IOException("Error");
+                },
+                Exception::getMessage);
+        assertThat(result).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void handle_limitReached_shouldReturnSharedRejectionWithoutCalling() {
+        AtomicInteger calls = new AtomicInteger();
+        bulkhead.handle(() -> {
+            Result<String, String> first = bulkhead.handle(
+                    () -> {
+                        calls.incrementAndGet();
+                        return "Success";
+                    },
+                    Exception::getMessage);
+            assertThat(first).isEqualTo(Result.error("Rejected"));
+            assertThat(bulkhead.handle(() -> "Success", Exception::getMessage)).isSameAs(first);
+            return "Outer";
+        }, Exception::getMessage);
+        assertThat(calls).hasValue(0);
+        assertThat(bulkhead.handle(() -> "Success", Exception::getMessage)).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void handle_nullCallableGivesNPE() {
+        assertThatThrownBy(() -> bulkhead.handle(null, Exception::getMessage))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handle_nullExceptionMapperGivesNPE() {
+        assertThatThrownBy(() -> bulkhead.handle(() -> "Success", null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handle_nullFromCallableGivesNPE() {
+        assertThatThrownBy(() -> bulkhead.handle(() -> null, Exception::getMessage))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,25 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Bulkhead_Limit_Test {
+
+    @Test
+    void limit_fixed_shouldBeMax() {
+        assertThat(Bulkhead.maxConcurrentCalls(7, "Rejected").limit()).isEqualTo(7);
+    }
+
+    @Test
+    void limit_adaptive_shouldBeRoundedDown() {
+        Bulkhead<String> bulkhead = Bulkhead.maxConcurrentCalls(7, "Rejected")
+                .withAdaptiveLimit(1, Duration.ofSeconds(1));
+        bulkhead.handle(() -> {
+            throw new IllegalStateException("Error");
+        }, Exception::getMessage);
+        assertThat(bulkhead.limit()).isEqualTo(6);
+    }
+}
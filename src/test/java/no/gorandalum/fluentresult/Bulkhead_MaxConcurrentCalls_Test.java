@@ -0,0 +1,107 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Bulkhead_MaxConcurrentCalls_Test {
+
+    private final AtomicLong time = new AtomicLong();
+    private final Bulkhead<String> bulkhead = Bulkhead.maxConcurrentCalls(2, "Rejected").withClock(time::get);
+
+    @Test
+    void maxConcurrentCalls_shouldHaveFixedLimit() {
+        assertThat(bulkhead.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void maxConcurrentCalls_limitReached_shouldReject() {
+        Result<Object, String> result = bulkhead.handle(
+                () -> bulkhead.handle(
+                        () -> bulkhead.handle(() -> "Third", Exception::getMessage),
+                        Exception::getMessage),
+                Exception::getMessage);
+        assertThat(result).isEqualTo(Result.success(Result.success(Result.error("Rejected"))));
+    }
+
+    @Test
+    void maxConcurrentCalls_belowLimit_shouldMakeCalls() {
+        Result<Object, String> result = bulkhead.handle(
+                () -> bulkhead.handle(() -> "Second", Exception::getMessage),
+                Exception::getMessage);
+        assertThat(result).isEqualTo(Result.success(Result.success("Second")));
+    }
+
+    @Test
+    void maxConcurrentCalls_completedCalls_shouldReleaseTheirPermits() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(bulkhead.handle(() -> "Success", Exception::getMessage)).isEqualTo(Result.success("Success"));
+            assertThat(bulkhead.handle(() -> {
+                throw new IllegalStateException("Error");
+            }, Exception::getMessage)).isEqualTo(Result.error("Error"));
+            assertThatThrownBy(() -> bulkhead.handle(() -> null, Exception::getMessage))
+                    .isInstanceOf(NullPointerException.class);
+        }
+        maxConcurrentCalls_belowLimit_shouldMakeCalls();
+    }
+
+    @Test
+    void maxConcurrentCalls_failedAndSlowCalls_shouldKeepLimit() {
+        for (int i = 0; i < 5; i++) {
+            bulkhead.handle(() -> {
+                time.addAndGet(TimeUnit.HOURS.toNanos(1));
+                throw new IllegalStateException("Error");
+            }, Exception::getMessage);
+        }
+        assertThat(bulkhead.currentLimit()).isEqualTo(2.0);
+    }
+
+    @Test
+    void maxConcurrentCalls_concurrentCalls_shouldRejectBeyondLimit() throws Exception {
+        Bulkhead<String> shared = Bulkhead.maxConcurrentCalls(2, "Rejected");
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Result<String, String>>> blocked = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                blocked.add(executor.submit(() -> shared.handle(() -> {
+                    started.countDown();
+                    release.await();
+                    return "Success";
+                }, Exception::getMessage)));
+            }
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(shared.handle(() -> "Success", Exception::getMessage)).isEqualTo(Result.error("Rejected"));
+            release.countDown();
+            for (Future<Result<String, String>> future : blocked) {
+                assertThat(future.get()).isEqualTo(Result.success("Success"));
+            }
+            assertThat(shared.handle(() -> "Success", Exception::getMessage)).isEqualTo(Result.success("Success"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void maxConcurrentCalls_zeroGivesIAE() {
+        assertThatThrownBy(() -> Bulkhead.maxConcurrentCalls(0, "Rejected"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Max concurrent calls must be positive, was 0");
+    }
+
+    @Test
+    void maxConcurrentCalls_nullErrorGivesNPE() {
+        assertThatThrownBy(() -> Bulkhead.maxConcurrentCalls(1, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,39 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Bulkhead_RecordFailureIf_Test {
+
+    private final AtomicLong time = new AtomicLong();
+    private final Bulkhead<String> bulkhead = Bulkhead.maxConcurrentCalls(4, "Rejected")
+            .withAdaptiveLimit(1, Duration.ofSeconds(1))
+            .recordFailureIf(err -> err.startsWith("503"))
+            .withClock(time::get);
+
+    @Test
+    void recordFailureIf_matchingError_shouldDecreaseLimit() {
+        bulkhead.handle(() -> {
+            throw new IllegalStateException("503 Unavailable");
+        }, Exception::getMessage);
+        assertThat(bulkhead.currentLimit()).isCloseTo(3.6, within(1e-9));
+    }
+
+    @Test
+    void recordFailureIf_nonMatchingError_shouldKeepLimit() {
+        bulkhead.handle(() -> {
+            throw new IllegalStateException("404 Not Found");
+        }, Exception::getMessage);
+        assertThat(bulkhead.currentLimit()).isEqualTo(4.0);
+    }
+
+    @Test
+    void recordFailureIf_nullPredicateGivesNPE() {
+        assertThatThrownBy(() -> bulkhead.recordFailureIf(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
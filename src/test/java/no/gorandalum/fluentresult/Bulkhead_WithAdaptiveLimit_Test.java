@@ -0,0 +1,188 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Bulkhead_WithAdaptiveLimit_Test {
+
+    private static final Duration THRESHOLD = Duration.ofNanos(100);
+
+    private final AtomicLong time = new AtomicLong(1000);
+    private final Bulkhead<String> bulkhead = Bulkhead.maxConcurrentCalls(4, "Rejected")
+            .withAdaptiveLimit(1, THRESHOLD)
+            .withClock(time::get);
+
+    @Test
+    void withAdaptiveLimit_shouldStartAtMax() {
+        assertThat(bulkhead.currentLimit()).isEqualTo(4.0);
+    }
+
+    @Test
+    void withAdaptiveLimit_failedCall_shouldDecreaseLimitByTenth() {
+        fail(bulkhead);
+        assertThat(bulkhead.currentLimit()).isCloseTo(3.6, within(1e-9));
+        assertThat(bulkhead.limit()).isEqualTo(3);
+    }
+
+    @Test
+    void withAdaptiveLimit_slowCall_shouldDecreaseLimit() {
+        bulkhead.handle(() -> time.addAndGet(101), Exception::getMessage);
+        assertThat(bulkhead.currentLimit()).isCloseTo(3.6, within(1e-9));
+    }
+
+    @Test
+    void withAdaptiveLimit_callAtThreshold_shouldKeepLimit() {
+        bulkhead.handle(() -> time.addAndGet(100), Exception::getMessage);
+        assertThat(bulkhead.currentLimit()).isEqualTo(4.0);
+    }
+
+    @Test
+    void withAdaptiveLimit_nestedFailuresStartedBeforeDecrease_shouldDecreaseOnce() {
+        bulkhead.handle(() -> {
+            time.addAndGet(10);
+            fail(bulkhead);
+            throw new IllegalStateException("Error");
+        }, Exception::getMessage);
+        assertThat(bulkhead.currentLimit()).isCloseTo(3.6, within(1e-9));
+    }
+
+    @Test
+    void withAdaptiveLimit_concurrentFailureBurst_shouldDecreaseOnce() throws InterruptedException {
+        int calls = 4;
+        CountDownLatch started = new CountDownLatch(calls);
+        CountDownLatch failing = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(calls);
+        try {
+            for (int i = 0; i < calls; i++) {
+                executor.execute(() -> bulkhead.handle(() -> {
+                    started.countDown();
+                    failing.await();
+                    throw new IllegalStateException("Error");
+                }, Exception::getMessage));
+            }
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            time.addAndGet(10);
+            failing.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bulkhead.currentLimit()).isCloseTo(3.6, within(1e-9));
+    }
+
+    @Test
+    void withAdaptiveLimit_failureStartedAfterDecrease_shouldDecreaseAgain() {
+        fail(bulkhead);
+        time.addAndGet(10);
+        fail(bulkhead);
+        assertThat(bulkhead.currentLimit()).isCloseTo(3.24, within(1e-9));
+    }
+
+    @Test
+    void withAdaptiveLimit_manyFailures_shouldNotGoBelowMin() {
+        Bulkhead<String> minTwo = bulkhead.withAdaptiveLimit(2, THRESHOLD);
+        for (int i = 0; i < 20; i++) {
+            fail(minTwo);
+        }
+        assertThat(minTwo.currentLimit()).isEqualTo(2.0);
+    }
+
+    @Test
+    void withAdaptiveLimit_goodCallWithHalfLimitInUse_shouldIncreaseLimit() {
+        Bulkhead<String> minTwo = bulkhead.withAdaptiveLimit(2, THRESHOLD);
+        for (int i = 0; i < 20; i++) {
+            fail(minTwo);
+        }
+        minTwo.handle(() -> "Success", Exception::getMessage);
+        assertThat(minTwo.currentLimit()).isEqualTo(2.5);
+    }
+
+    @Test
+    void withAdaptiveLimit_goodCallWithLessThanHalfLimitInUse_shouldKeepLimit() {
+        fail(bulkhead);
+        bulkhead.handle(() -> "Success", Exception::getMessage);
+        assertThat(bulkhead.currentLimit()).isCloseTo(3.6, within(1e-9));
+    }
+
+    @Test
+    void withAdaptiveLimit_nestedGoodCalls_shouldIncreaseOnlyForInnerCall() {
+        fail(bulkhead);
+        bulkhead.handle(() -> bulkhead.handle(() -> "Success", Exception::getMessage), Exception::getMessage);
+        assertThat(bulkhead.currentLimit()).isCloseTo(3.6 + 1 / 3.6, within(1e-9));
+    }
+
+    @Test
+    void withAdaptiveLimit_goodCalls_shouldNotGoAboveMax() {
+        fail(bulkhead);
+        for (int i = 0; i < 5; i++) {
+            bulkhead.handle(() -> bulkhead.handle(() -> "Success", Exception::getMessage), Exception::getMessage);
+        }
+        assertThat(bulkhead.currentLimit()).isEqualTo(4.0);
+    }
+
+    @Test
+    void withAdaptiveLimit_decreasedLimit_shouldRejectAtLimit() {
+        fail(bulkhead);
+        Result<Object, String> result = bulkhead.handle(
+                () -> bulkhead.handle(
+                        () -> bulkhead.handle(
+                                () -> bulkhead.handle(() -> "Fourth", Exception::getMessage),
+                                Exception::getMessage),
+                        Exception::getMessage),
+                Exception::getMessage);
+        assertThat(result).isEqualTo(Result.success(Result.success(Result.success(Result.error("Rejected")))));
+    }
+
+    @Test
+    void withAdaptiveLimit_minZeroGivesIAE() {
+        assertThatThrownBy(() -> bulkhead.withAdaptiveLimit(0, THRESHOLD))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Min concurrent calls must be between 1 and 4, was 0");
+    }
+
+    @Test
+    void withAdaptiveLimit_minAboveMaxGivesIAE() {
+        assertThatThrownBy(() -> bulkhead.withAdaptiveLimit(5, THRESHOLD))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Min concurrent calls must be between 1 and 4, was 5");
+    }
+
+    @Test
+    void withAdaptiveLimit_minEqualToMax_shouldBeAccepted() {
+        assertThat(bulkhead.withAdaptiveLimit(4, THRESHOLD).limit()).isEqualTo(4);
+    }
+
+    @Test
+    void withAdaptiveLimit_zeroThresholdGivesIAE() {
+        assertThatThrownBy(() -> bulkhead.withAdaptiveLimit(1, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Latency threshold must be positive, was PT0S");
+    }
+
+    @Test
+    void withAdaptiveLimit_negativeThresholdGivesIAE() {
+        assertThatThrownBy(() -> bulkhead.withAdaptiveLimit(1, Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Latency threshold must be positive, was PT-1S");
+    }
+
+    @Test
+    void withAdaptiveLimit_nullThresholdGivesNPE() {
+        assertThatThrownBy(() -> bulkhead.withAdaptiveLimit(1, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    private static void fail(Bulkhead<String> bulkhead) {
+        bulkhead.handle(() -> {
+            throw new IllegalStateException("Error");
+        }, Exception::getMessage);
+    }
+}
@@ -0,0 +1,55 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreaker_CallBooleanResult_Test {
+
+    private final AtomicLong time = new AtomicLong();
+    private final CircuitBreaker<String> breaker = CircuitBreaker.openError("Open")
+            .withMinimumCalls(2)
+            .withClock(time::get);
+
+    @Test
+    void callBooleanResult_closed_shouldReturnResultFromSupplier() {
+        assertThat(breaker.callBooleanResult(() -> BooleanResult.success(true))).isEqualTo(BooleanResult.success(true));
+        assertThat(breaker.callBooleanResult(() -> BooleanResult.error("Error"))).isEqualTo(BooleanResult.error("Error"));
+    }
+
+    @Test
+    void callBooleanResult_failures_shouldOpen() {
+        breaker.callBooleanResult(() -> BooleanResult.error("Error"));
+        breaker.callBooleanResult(() -> BooleanResult.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void callBooleanResult_open_shouldReturnSharedErrorWithoutCallingSupplier() {
+        breaker.callBooleanResult(() -> BooleanResult.error("Error"));
+        breaker.callBooleanResult(() -> BooleanResult.error("Error"));
+        AtomicInteger calls = new AtomicInteger();
+        BooleanResult<String> first = breaker.callBooleanResult(() -> {
+            calls.incrementAndGet();
+            return BooleanResult.success(true);
+        });
+        assertThat(first).isEqualTo(BooleanResult.error("Open"));
+        assertThat(breaker.callBooleanResult(() -> BooleanResult.success(true))).isSameAs(first);
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void callBooleanResult_nullSupplierGivesNPE() {
+        assertThatThrownBy(() -> breaker.callBooleanResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void callBooleanResult_nullFromSupplierGivesNPE() {
+        assertThatThrownBy(() -> breaker.callBooleanResult(() -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
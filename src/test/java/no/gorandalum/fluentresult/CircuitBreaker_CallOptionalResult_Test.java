@@ -0,0 +1,65 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreaker_CallOptionalResult_Test {
+
+    private final AtomicLong time = new AtomicLong();
+    private final CircuitBreaker<String> breaker = CircuitBreaker.openError("Open")
+            .withMinimumCalls(2)
+            .withClock(time::get);
+
+    @Test
+    void callOptionalResult_closed_shouldReturnResultFromSupplier() {
+        assertThat(breaker.callOptionalResult(() -> OptionalResult.success("Success"))).isEqualTo(OptionalResult.success("Success"));
+        assertThat(breaker.callOptionalResult(() -> OptionalResult.error("Error"))).isEqualTo(OptionalResult.error("Error"));
+    }
+
+    @Test
+    void callOptionalResult_failures_shouldOpen() {
+        breaker.callOptionalResult(() -> OptionalResult.error("Error"));
+        breaker.callOptionalResult(() -> OptionalResult.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void callOptionalResult_open_shouldReturnSharedErrorWithoutCallingSupplier() {
+        breaker.callOptionalResult(() -> OptionalResult.error("Error"));
+        breaker.callOptionalResult(() -> OptionalResult.error("Error"));
+        AtomicInteger calls = new AtomicInteger();
+        OptionalResult<String, String> first = breaker.callOptionalResult(() -> {
+            calls.incrementAndGet();
+            return OptionalResult.success("Success");
+        });
+        assertThat(first).isEqualTo(OptionalResult.error("Open"));
+        assertThat(breaker.callOptionalResult(() -> OptionalResult.success("Success"))).isSameAs(first);
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void callOptionalResult_empty_shouldCountAsSuccess() {
+        breaker.callOptionalResult(() -> OptionalResult.error("Error"));
+        breaker.callOptionalResult(OptionalResult::empty);
+        breaker.callOptionalResult(OptionalResult::empty);
+        breaker.callOptionalResult(OptionalResult::empty);
+        breaker.callOptionalResult(() -> OptionalResult.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void callOptionalResult_nullSupplierGivesNPE() {
+        assertThatThrownBy(() -> breaker.callOptionalResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void callOptionalResult_nullFromSupplierGivesNPE() {
+        assertThatThrownBy(() -> breaker.callOptionalResult(() -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreaker_CallVoidResult_Test {
+
+    private final AtomicLong time = new AtomicLong();
+    private final CircuitBreaker<String> breaker = CircuitBreaker.openError("Open")
+            .withMinimumCalls(2)
+            .withClock(time::get);
+
+    @Test
+    void callVoidResult_closed_shouldReturnResultFromSupplier() {
+        assertThat(breaker.callVoidResult(() -> VoidResult.success())).isEqualTo(VoidResult.success());
+        assertThat(breaker.callVoidResult(() -> VoidResult.error("Error"))).isEqualTo(VoidResult.error("Error"));
+    }
+
+    @Test
+    void callVoidResult_failures_shouldOpen() {
+        breaker.callVoidResult(() -> VoidResult.error("Error"));
+        breaker.callVoidResult(() -> VoidResult.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void callVoidResult_open_shouldReturnSharedErrorWithoutCallingSupplier() {
+        breaker.callVoidResult(() -> VoidResult.error("Error"));
+        breaker.callVoidResult(() -> VoidResult.error("Error"));
+        AtomicInteger calls = new AtomicInteger();
+        VoidResult<String> first = breaker.callVoidResult(() -> {
+            calls.incrementAndGet();
+            return VoidResult.success();
+        });
+        assertThat(first).isEqualTo(VoidResult.error("Open"));
+        assertThat(breaker.callVoidResult(() -> VoidResult.success())).isSameAs(first);
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void callVoidResult_nullSupplierGivesNPE() {
+        assertThatThrownBy(() -> breaker.callVoidResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void callVoidResult_nullFromSupplierGivesNPE() {
+        assertThatThrownBy(() -> breaker.callVoidResult(() -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
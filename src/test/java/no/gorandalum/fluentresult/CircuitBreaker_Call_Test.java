@@ -0,0 +1,123 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreaker_Call_Test {
+
+    private final AtomicLong time = new AtomicLong();
+    private final CircuitBreaker<String> breaker = CircuitBreaker.openError("Open")
+            .withMinimumCalls(2)
+            .withClock(time::get);
+
+    @Test
+    void call_closed_shouldReturnResultFromSupplier() {
+        assertThat(breaker.call(() -> Result.success("Success"))).isEqualTo(Result.success("Success"));
+        assertThat(breaker.call(() -> Result.error("Error"))).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void call_open_shouldReturnSharedErrorWithoutCallingSupplier() {
+        open();
+        AtomicInteger calls = new AtomicInteger();
+        Result<Integer, String> first = breaker.call(() -> Result.success(calls.incrementAndGet()));
+        Result<String, String> second = breaker.call(() -> Result.success("Success"));
+        assertThat(first).isEqualTo(Result.error("Open"));
+        assertThat((Object) second).isSameAs(first);
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void call_throwingSupplier_shouldCountFailureAndRethrow() {
+        IllegalStateException exception = new IllegalStateException();
+        breaker.call(() -> Result.error("Error"));
+        assertThatThrownBy(() -> breaker.call(() -> {
+            throw exception;
+        })).isSameAs(exception);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void call_throwingTrial_shouldReopen() {
+        open();
+        time.addAndGet(10_000_000_000L);
+        assertThatThrownBy(() -> breaker.call(() -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void call_duringTrial_shouldRejectOtherCalls() {
+        open();
+        time.addAndGet(10_000_000_000L);
+        AtomicReference<Result<String, String>> duringTrial = new AtomicReference<>();
+        breaker.call(() -> {
+            duringTrial.set(breaker.call(() -> Result.success("Other")));
+            return Result.success("Trial");
+        });
+        assertThat(duringTrial).hasValue(Result.error("Open"));
+    }
+
+    @Test
+    void call_afterSuccessfulTrial_shouldForgetEarlierFailures() {
+        CircuitBreaker<String> shortOpen = breaker.withOpenDuration(Duration.ofSeconds(1));
+        shortOpen.call(() -> Result.error("Error"));
+        shortOpen.call(() -> Result.error("Error"));
+        time.addAndGet(1_000_000_000L);
+        shortOpen.call(() -> Result.success("Success"));
+        shortOpen.call(() -> Result.error("Error"));
+        assertThat(shortOpen.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void call_concurrentSuccesses_shouldStayClosed() throws Exception {
+        CircuitBreaker<String> shared = CircuitBreaker.openError("Open");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        assertThat(shared.call(() -> Result.success(1))).isEqualTo(Result.success(1));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(shared.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void call_nullSupplierGivesNPE() {
+        assertThatThrownBy(() -> breaker.call(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void call_nullFromSupplierGivesNPE() {
+        assertThatThrownBy(() -> breaker.call(() -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    private void open() {
+        breaker.call(() -> Result.error("Error"));
+        breaker.call(() -> Result.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
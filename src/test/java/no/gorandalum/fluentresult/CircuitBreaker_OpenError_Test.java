@@ -0,0 +1,84 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreaker_OpenError_Test {
+
+    private final AtomicLong time = new AtomicLong(1005);
+    private final CircuitBreaker<String> breaker = CircuitBreaker.openError("Open").withClock(time::get);
+
+    @Test
+    void openError_shouldBeClosed() {
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void openError_nineFailures_shouldStayClosed() {
+        for (int i = 0; i < 9; i++) {
+            breaker.call(() -> Result.error("Error"));
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void openError_tenFailures_shouldOpen() {
+        for (int i = 0; i < 10; i++) {
+            breaker.call(() -> Result.error("Error"));
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.call(() -> Result.success("Success"))).isEqualTo(Result.error("Open"));
+    }
+
+    @Test
+    void openError_halfOfCallsFailed_shouldOpen() {
+        for (int i = 0; i < 5; i++) {
+            breaker.call(() -> Result.success("Success"));
+            breaker.call(() -> Result.error("Error"));
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void openError_lessThanHalfOfCallsFailed_shouldStayClosed() {
+        for (int i = 0; i < 6; i++) {
+            breaker.call(() -> Result.success("Success"));
+        }
+        for (int i = 0; i < 5; i++) {
+            breaker.call(() -> Result.error("Error"));
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void openError_failuresOlderThanTenSeconds_shouldNotCount() {
+        for (int i = 0; i < 9; i++) {
+            breaker.call(() -> Result.error("Error"));
+        }
+        time.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        breaker.call(() -> Result.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void openError_shouldLetTrialCallThroughAfterTenSeconds() {
+        for (int i = 0; i < 10; i++) {
+            breaker.call(() -> Result.error("Error"));
+        }
+        time.addAndGet(TimeUnit.SECONDS.toNanos(10) - 1);
+        assertThat(breaker.call(() -> Result.success("Success"))).isEqualTo(Result.error("Open"));
+        time.incrementAndGet();
+        assertThat(breaker.call(() -> Result.success("Success"))).isEqualTo(Result.success("Success"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void openError_nullErrorGivesNPE() {
+        assertThatThrownBy(() -> CircuitBreaker.openError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
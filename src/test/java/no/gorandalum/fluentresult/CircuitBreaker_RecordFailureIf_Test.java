@@ -0,0 +1,47 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreaker_RecordFailureIf_Test {
+
+    private final AtomicLong time = new AtomicLong();
+    private final CircuitBreaker<String> breaker = CircuitBreaker.openError("Open")
+            .withMinimumCalls(2)
+            .recordFailureIf(err -> err.startsWith("503"))
+            .withClock(time::get);
+
+    @Test
+    void recordFailureIf_matchingErrors_shouldOpen() {
+        breaker.call(() -> Result.error("503 Unavailable"));
+        breaker.call(() -> Result.error("503 Unavailable"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void recordFailureIf_nonMatchingErrors_shouldCountAsSuccess() {
+        breaker.call(() -> Result.error("404 Not Found"));
+        breaker.call(() -> Result.error("404 Not Found"));
+        breaker.call(() -> Result.error("404 Not Found"));
+        breaker.call(() -> Result.error("503 Unavailable"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void recordFailureIf_nonMatchingErrorInTrial_shouldClose() {
+        breaker.call(() -> Result.error("503 Unavailable"));
+        breaker.call(() -> Result.error("503 Unavailable"));
+        time.addAndGet(10_000_000_000L);
+        assertThat(breaker.call(() -> Result.error("404 Not Found"))).isEqualTo(Result.error("404 Not Found"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void recordFailureIf_nullPredicateGivesNPE() {
+        assertThatThrownBy(() -> breaker.recordFailureIf(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,49 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreaker_State_Test {
+
+    private final AtomicLong time = new AtomicLong();
+    private final CircuitBreaker<String> breaker = CircuitBreaker.openError("Open")
+            .withMinimumCalls(1)
+            .withClock(time::get);
+
+    @Test
+    void state_afterFailure_shouldBeOpen() {
+        breaker.call(() -> Result.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void state_afterOpenDuration_shouldStayOpenUntilCall() {
+        breaker.call(() -> Result.error("Error"));
+        time.addAndGet(10_000_000_000L);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void state_duringTrial_shouldBeHalfOpen() {
+        breaker.call(() -> Result.error("Error"));
+        time.addAndGet(10_000_000_000L);
+        AtomicReference<CircuitBreaker.State> duringTrial = new AtomicReference<>();
+        breaker.call(() -> {
+            duringTrial.set(breaker.state());
+            return Result.success("Success");
+        });
+        assertThat(duringTrial).hasValue(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void state_shouldNameAllStates() {
+        assertThat(CircuitBreaker.State.values()).containsExactly(
+                CircuitBreaker.State.CLOSED, CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN);
+        assertThat(CircuitBreaker.State.valueOf("HALF_OPEN")).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+}
@@ -0,0 +1,82 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreaker_WithFailureRateThreshold_Test {
+
+    private final AtomicLong time = new AtomicLong();
+    private final CircuitBreaker<String> breaker = CircuitBreaker.openError("Open")
+            .withMinimumCalls(5)
+            .withClock(time::get);
+
+    @Test
+    void withFailureRateThreshold_reached_shouldOpen() {
+        CircuitBreaker<String> lowThreshold = breaker.withFailureRateThreshold(0.2);
+        for (int i = 0; i < 4; i++) {
+            lowThreshold.call(() -> Result.success("Success"));
+        }
+        lowThreshold.call(() -> Result.error("Error"));
+        assertThat(lowThreshold.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void withFailureRateThreshold_notReached_shouldStayClosed() {
+        CircuitBreaker<String> lowThreshold = breaker.withFailureRateThreshold(0.2);
+        for (int i = 0; i < 5; i++) {
+            lowThreshold.call(() -> Result.success("Success"));
+        }
+        lowThreshold.call(() -> Result.error("Error"));
+        assertThat(lowThreshold.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void withFailureRateThreshold_one_shouldOpenOnlyWhenAllCallsFailed() {
+        CircuitBreaker<String> allFailed = breaker.withFailureRateThreshold(1);
+        allFailed.call(() -> Result.success("Success"));
+        for (int i = 0; i < 5; i++) {
+            allFailed.call(() -> Result.error("Error"));
+        }
+        assertThat(allFailed.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        CircuitBreaker<String> onlyFailures = breaker.withFailureRateThreshold(1);
+        for (int i = 0; i < 5; i++) {
+            onlyFailures.call(() -> Result.error("Error"));
+        }
+        assertThat(onlyFailures.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void withFailureRateThreshold_shouldNotAlterOriginal() {
+        CircuitBreaker<String> lowThreshold = breaker.withFailureRateThreshold(0.2);
+        for (int i = 0; i < 4; i++) {
+            breaker.call(() -> Result.success("Success"));
+        }
+        breaker.call(() -> Result.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(lowThreshold.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void withFailureRateThreshold_zeroGivesIAE() {
+        assertThatThrownBy(() -> breaker.withFailureRateThreshold(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Failure rate threshold must be greater than 0 and at most 1, was 0.0");
+    }
+
+    @Test
+    void withFailureRateThreshold_aboveOneGivesIAE() {
+        assertThatThrownBy(() -> breaker.withFailureRateThreshold(1.1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Failure rate threshold must be greater than 0 and at most 1, was 1.1");
+    }
+
+    @Test
+    void withFailureRateThreshold_nanGivesIAE() {
+        assertThatThrownBy(() -> breaker.withFailureRateThreshold(Double.NaN))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Failure rate threshold must be greater than 0 and at most 1, was NaN");
+    }
+}
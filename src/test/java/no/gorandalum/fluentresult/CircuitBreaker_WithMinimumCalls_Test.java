@@ -0,0 +1,44 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreaker_WithMinimumCalls_Test {
+
+    private final AtomicLong time = new AtomicLong();
+    private final CircuitBreaker<String> breaker = CircuitBreaker.openError("Open")
+            .withMinimumCalls(3)
+            .withClock(time::get);
+
+    @Test
+    void withMinimumCalls_fewerCalls_shouldStayClosed() {
+        breaker.call(() -> Result.error("Error"));
+        breaker.call(() -> Result.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void withMinimumCalls_reached_shouldOpen() {
+        breaker.call(() -> Result.error("Error"));
+        breaker.call(() -> Result.error("Error"));
+        breaker.call(() -> Result.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void withMinimumCalls_one_shouldOpenOnFirstFailure() {
+        CircuitBreaker<String> single = breaker.withMinimumCalls(1);
+        single.call(() -> Result.error("Error"));
+        assertThat(single.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void withMinimumCalls_zeroGivesIAE() {
+        assertThatThrownBy(() -> breaker.withMinimumCalls(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Minimum calls must be positive, was 0");
+    }
+}
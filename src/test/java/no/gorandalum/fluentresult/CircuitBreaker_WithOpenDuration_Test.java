@@ -0,0 +1,77 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreaker_WithOpenDuration_Test {
+
+    private final AtomicLong time = new AtomicLong();
+    private final CircuitBreaker<String> breaker = CircuitBreaker.openError("Open")
+            .withMinimumCalls(1)
+            .withOpenDuration(Duration.ofNanos(50))
+            .withClock(time::get);
+
+    @Test
+    void withOpenDuration_beforeDuration_shouldRejectCalls() {
+        breaker.call(() -> Result.error("Error"));
+        time.addAndGet(49);
+        assertThat(breaker.call(() -> Result.success("Success"))).isEqualTo(Result.error("Open"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void withOpenDuration_afterDuration_shouldLetTrialCallThrough() {
+        breaker.call(() -> Result.error("Error"));
+        time.addAndGet(50);
+        assertThat(breaker.call(() -> Result.success("Success"))).isEqualTo(Result.success("Success"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void withOpenDuration_failedTrial_shouldStayOpenForNewDuration() {
+        breaker.call(() -> Result.error("Error"));
+        time.addAndGet(50);
+        assertThat(breaker.call(() -> Result.error("Error"))).isEqualTo(Result.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        time.addAndGet(49);
+        assertThat(breaker.call(() -> Result.success("Success"))).isEqualTo(Result.error("Open"));
+        time.incrementAndGet();
+        assertThat(breaker.call(() -> Result.success("Success"))).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void withOpenDuration_failureEndingAfterOpening_shouldNotExtendDuration() {
+        breaker.call(() -> {
+            breaker.call(() -> Result.error("Error"));
+            time.addAndGet(20);
+            return Result.error("Error");
+        });
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        time.addAndGet(30);
+        assertThat(breaker.call(() -> Result.success("Success"))).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void withOpenDuration_zeroGivesIAE() {
+        assertThatThrownBy(() -> breaker.withOpenDuration(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Open duration must be positive, was PT0S");
+    }
+
+    @Test
+    void withOpenDuration_negativeGivesIAE() {
+        assertThatThrownBy(() -> breaker.withOpenDuration(Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Open duration must be positive, was PT-1S");
+    }
+
+    @Test
+    void withOpenDuration_nullGivesNPE() {
+        assertThatThrownBy(() -> breaker.withOpenDuration(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
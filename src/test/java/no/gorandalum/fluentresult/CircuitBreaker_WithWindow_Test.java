@@ -0,0 +1,111 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreaker_WithWindow_Test {
+
+    private final AtomicLong time = new AtomicLong(1007);
+    private final CircuitBreaker<String> breaker = CircuitBreaker.openError("Open")
+            .withMinimumCalls(2)
+            .withWindow(Duration.ofNanos(100))
+            .withClock(time::get);
+
+    @Test
+    void withWindow_failureInLastBucket_shouldCount() {
+        breaker.call(() -> Result.error("Error"));
+        time.addAndGet(99);
+        breaker.call(() -> Result.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void withWindow_failureBeforeWindow_shouldNotCount() {
+        breaker.call(() -> Result.error("Error"));
+        time.addAndGet(100);
+        breaker.call(() -> Result.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void withWindow_callsInSameBucket_shouldAllCount() {
+        breaker.call(() -> Result.success("Success"));
+        breaker.call(() -> Result.error("Error"));
+        breaker.call(() -> Result.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void withWindow_successesBeforeWindow_shouldNotCount() {
+        CircuitBreaker<String> halfFailed = breaker.withFailureRateThreshold(0.5);
+        halfFailed.call(() -> Result.success("Success"));
+        halfFailed.call(() -> Result.success("Success"));
+        time.addAndGet(100);
+        halfFailed.call(() -> Result.success("Success"));
+        halfFailed.call(() -> Result.error("Error"));
+        assertThat(halfFailed.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void withWindow_reusedBucket_shouldForgetOldCalls() {
+        breaker.call(() -> Result.error("Error"));
+        time.addAndGet(110);
+        breaker.call(() -> Result.success("Success"));
+        breaker.call(() -> Result.success("Success"));
+        breaker.call(() -> Result.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void withWindow_reusedBucket_shouldForgetOldSuccesses() {
+        breaker.call(() -> Result.success("Success"));
+        breaker.call(() -> Result.success("Success"));
+        breaker.call(() -> Result.success("Success"));
+        time.addAndGet(110);
+        breaker.call(() -> Result.error("Error"));
+        breaker.call(() -> Result.error("Error"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void withWindow_notDivisibleByBuckets_shouldRoundBucketsUp() {
+        CircuitBreaker<String> rounded = breaker.withWindow(Duration.ofNanos(95)).withClock(time::get);
+        rounded.call(() -> Result.error("Error"));
+        time.addAndGet(90);
+        rounded.call(() -> Result.error("Error"));
+        assertThat(rounded.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void withWindow_shortestWindow_shouldHaveOneNanosecondBuckets() {
+        CircuitBreaker<String> shortest = breaker.withWindow(Duration.ofNanos(1)).withClock(time::get);
+        shortest.call(() -> Result.error("Error"));
+        time.addAndGet(10);
+        shortest.call(() -> Result.error("Error"));
+        assertThat(shortest.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void withWindow_zeroGivesIAE() {
+        assertThatThrownBy(() -> breaker.withWindow(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Window must be positive, was PT0S");
+    }
+
+    @Test
+    void withWindow_negativeGivesIAE() {
+        assertThatThrownBy(() -> breaker.withWindow(Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Window must be positive, was PT-1S");
+    }
+
+    @Test
+    void withWindow_nullGivesNPE() {
+        assertThatThrownBy(() -> breaker.withWindow(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DeferredResult_Defer_Test {
+
+    @Test
+    void defer_shouldEvaluateToSuppliedResult() {
+        DeferredResult<String, String> result =
+                DeferredResult.defer(() -> DeferredResult.success("Success"));
+        assertThat(result.toResult()).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void defer_shouldNotCallSupplierUntilEvaluated() {
+        AtomicInteger calls = new AtomicInteger();
+        DeferredResult<String, String> result = DeferredResult.defer(() -> {
+            calls.incrementAndGet();
+            return DeferredResult.success("Success");
+        });
+        assertThat(calls).hasValue(0);
+        result.toResult();
+        assertThat(calls).hasValue(1);
+        result.toResult();
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void defer_deepRecursion_shouldNotOverflowStack() {
+        assertThat(countDown(1_000_000).toResult()).isEqualTo(Result.success(0));
+    }
+
+    private static DeferredResult<Integer, String> countDown(int n) {
+        if (n == 0) {
+            return DeferredResult.success(0);
+        }
+        return DeferredResult.defer(() -> countDown(n - 1));
+    }
+
+    @Test
+    void defer_supplierReturnsNull_shouldGiveNPE() {
+        DeferredResult<String, String> result = DeferredResult.defer(() -> null);
+        assertThatThrownBy(result::toResult)
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void defer_nullSupplierGivesNPE() {
+        assertThatThrownBy(() -> DeferredResult.defer(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
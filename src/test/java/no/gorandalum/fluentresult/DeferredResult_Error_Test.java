@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DeferredResult_Error_Test {
+
+    @Test
+    void error_shouldEvaluateToError() {
+        DeferredResult<String, String> result = DeferredResult.error("Error");
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void error_nullValueGivesNPE() {
+        assertThatThrownBy(() -> DeferredResult.error(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
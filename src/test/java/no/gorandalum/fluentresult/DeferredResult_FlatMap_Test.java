@@ -0,0 +1,98 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DeferredResult_FlatMap_Test {
+
+    @Test
+    void flatMap_success_shouldContinueWithReturnedResult() {
+        DeferredResult<Integer, String> result = DeferredResult.<String, String>success("Success")
+                .flatMap(val -> DeferredResult.success(val.length()));
+        assertThat(result.toResult()).isEqualTo(Result.success(7));
+    }
+
+    @Test
+    void flatMap_successToError_shouldEvaluateToError() {
+        DeferredResult<Integer, String> result = DeferredResult.<String, String>success("Success")
+                .flatMap(val -> DeferredResult.error("Error"));
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void flatMap_error_shouldNotRunFunction() {
+        DeferredResult<Integer, String> result = DeferredResult.<String, String>error("Error")
+                .flatMap(val -> { throw new RuntimeException(); });
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void flatMap_errorInChain_shouldSkipRemainingSteps() {
+        AtomicInteger calls = new AtomicInteger();
+        DeferredResult<Integer, String> result = DeferredResult.<Integer, String>success(1)
+                .flatMap(val -> DeferredResult.<Integer, String>error("Error"))
+                .flatMap(val -> DeferredResult.success(calls.incrementAndGet()))
+                .flatMap(val -> DeferredResult.success(calls.incrementAndGet()));
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void flatMap_shouldNotRunFunctionUntilEvaluated() {
+        AtomicInteger calls = new AtomicInteger();
+        DeferredResult<Integer, String> result = DeferredResult.<Integer, String>success(1)
+                .flatMap(val -> DeferredResult.success(calls.incrementAndGet()));
+        assertThat(calls).hasValue(0);
+        assertThat(result.toResult()).isEqualTo(Result.success(1));
+    }
+
+    @Test
+    void flatMap_shouldApplyStepsInOrder() {
+        DeferredResult<String, String> result = DeferredResult.<String, String>success("a")
+                .flatMap(val -> DeferredResult.success(val + "b"))
+                .flatMap(val -> DeferredResult.<String, String>success(val + "c")
+                        .flatMap(inner -> DeferredResult.success(inner + "d")))
+                .flatMap(val -> DeferredResult.success(val + "e"));
+        assertThat(result.toResult()).isEqualTo(Result.success("abcde"));
+    }
+
+    @Test
+    void flatMap_longChain_shouldNotOverflowStack() {
+        DeferredResult<Integer, String> result = DeferredResult.success(0);
+        for (int i = 0; i < 1_000_000; i++) {
+            result = result.flatMap(val -> DeferredResult.success(val + 1));
+        }
+        assertThat(result.toResult()).isEqualTo(Result.success(1_000_000));
+    }
+
+    @Test
+    void flatMap_deepRecursion_shouldNotOverflowStack() {
+        assertThat(sum(1_000_000).toResult()).isEqualTo(Result.success(500_000_500_000L));
+    }
+
+    private static DeferredResult<Long, String> sum(int n) {
+        if (n == 0) {
+            return DeferredResult.success(0L);
+        }
+        return DeferredResult.<Integer, String>success(n)
+                .flatMap(val -> sum(val - 1).flatMap(rest -> DeferredResult.success(rest + val)));
+    }
+
+    @Test
+    void flatMap_functionReturnsNull_shouldGiveNPE() {
+        DeferredResult<Integer, String> result = DeferredResult.<String, String>success("Success")
+                .flatMap(val -> null);
+        assertThatThrownBy(result::toResult)
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMap_nullFunctionGivesNPE() {
+        DeferredResult<String, String> result = DeferredResult.success("Success");
+        assertThatThrownBy(() -> result.flatMap(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,46 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DeferredResult_Map_Test {
+
+    @Test
+    void map_success_shouldMapValue() {
+        DeferredResult<Integer, String> result = DeferredResult.<String, String>success("Success")
+                .map(String::length);
+        assertThat(result.toResult()).isEqualTo(Result.success(7));
+    }
+
+    @Test
+    void map_error_shouldNotRunFunction() {
+        DeferredResult<Integer, String> result = DeferredResult.<String, String>error("Error")
+                .map(val -> { throw new RuntimeException(); });
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void map_longChain_shouldNotOverflowStack() {
+        DeferredResult<Integer, String> result = DeferredResult.success(0);
+        for (int i = 0; i < 1_000_000; i++) {
+            result = result.map(val -> val + 1);
+        }
+        assertThat(result.toResult()).isEqualTo(Result.success(1_000_000));
+    }
+
+    @Test
+    void map_functionReturnsNull_shouldGiveNPE() {
+        DeferredResult<Integer, String> result = DeferredResult.<String, String>success("Success")
+                .map(val -> null);
+        assertThatThrownBy(result::toResult)
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void map_nullFunctionGivesNPE() {
+        DeferredResult<String, String> result = DeferredResult.success("Success");
+        assertThatThrownBy(() -> result.map(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DeferredResult_Of_Test {
+
+    @Test
+    void of_shouldEvaluateToSameResult() {
+        Result<String, String> result = Result.success("Success");
+        assertThat(DeferredResult.of(result).toResult()).isSameAs(result);
+    }
+
+    @Test
+    void of_nullResultGivesNPE() {
+        assertThatThrownBy(() -> DeferredResult.of(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
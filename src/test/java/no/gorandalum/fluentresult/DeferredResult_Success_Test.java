@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DeferredResult_Success_Test {
+
+    @Test
+    void success_shouldEvaluateToSuccess() {
+        DeferredResult<String, String> result = DeferredResult.success("Success");
+        assertThat(result.toResult()).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void success_nullValueGivesNPE() {
+        assertThatThrownBy(() -> DeferredResult.success(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,35 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DeferredResult_ToResult_Test {
+
+    @Test
+    void toResult_shouldRunStepsOnEachCall() {
+        AtomicInteger calls = new AtomicInteger();
+        DeferredResult<Integer, String> result = DeferredResult.<Integer, String>success(0)
+                .map(val -> calls.incrementAndGet());
+        assertThat(result.toResult()).isEqualTo(Result.success(1));
+        assertThat(result.toResult()).isEqualTo(Result.success(2));
+    }
+
+    @Test
+    void toResult_errorAfterDefer_shouldEvaluateToError() {
+        DeferredResult<Integer, String> result = DeferredResult
+                .<Integer, String>defer(() -> DeferredResult.error("Error"))
+                .map(val -> val + 1);
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void toResult_successResult_shouldBeSameInstanceAsLastStep() {
+        Result<Integer, String> last = Result.success(2);
+        DeferredResult<Integer, String> result = DeferredResult.<Integer, String>success(1)
+                .flatMap(val -> DeferredResult.of(last));
+        assertThat(result.toResult()).isSameAs(last);
+    }
+}
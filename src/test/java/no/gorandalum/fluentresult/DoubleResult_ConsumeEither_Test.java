@@ -0,0 +1,47 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_ConsumeEither_Test {
+
+    @Test
+    void consumeEither_success_shouldRunValueConsumer() {
+        List<Double> resultList = new ArrayList<>();
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        DoubleResult<String> finalResult = result.consumeEither(
+                resultList::add,
+                err -> fail("Should not be run"));
+        assertThat(resultList).containsExactly(5.0);
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consumeEither_error_shouldRunErrorConsumer() {
+        List<String> resultList = new ArrayList<>();
+        DoubleResult<String> result = DoubleResult.error("Error");
+        DoubleResult<String> finalResult = result.consumeEither(
+                val -> fail("Should not be run"),
+                resultList::add);
+        assertThat(resultList).containsExactly("Error");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consumeEither_success_nullValueConsumerGivesNPE() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThatThrownBy(() -> result.consumeEither(null, err -> {}))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void consumeEither_success_nullErrorConsumerGivesNPE() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThatThrownBy(() -> result.consumeEither(val -> {}, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
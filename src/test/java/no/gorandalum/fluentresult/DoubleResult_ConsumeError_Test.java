@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_ConsumeError_Test {
+
+    @Test
+    void consumeError_success_shouldNotConsume() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        DoubleResult<String> finalResult = result.consumeError(err -> fail("Should not be run"));
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consumeError_error_shouldConsumeError() {
+        List<String> resultList = new ArrayList<>();
+        DoubleResult<String> result = DoubleResult.error("Error");
+        DoubleResult<String> finalResult = result.consumeError(resultList::add);
+        assertThat(resultList).containsExactly("Error");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consumeError_success_nullConsumerGivesNPE() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThatThrownBy(() -> result.consumeError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
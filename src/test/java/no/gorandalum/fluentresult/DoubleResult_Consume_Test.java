@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_Consume_Test {
+
+    @Test
+    void consume_success_shouldConsumeValue() {
+        List<Double> resultList = new ArrayList<>();
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        DoubleResult<String> finalResult = result.consume(resultList::add);
+        assertThat(resultList).containsExactly(5.0);
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consume_error_shouldNotConsume() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        DoubleResult<String> finalResult = result.consume(val -> fail("Should not be run"));
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consume_error_nullConsumerGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.consume(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
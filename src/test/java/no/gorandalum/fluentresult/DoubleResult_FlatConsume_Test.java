@@ -0,0 +1,51 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_FlatConsume_Test {
+
+    @Test
+    void flatConsume_success_shouldKeepSuccessWhenFunctionSucceeds() {
+        List<Double> resultList = new ArrayList<>();
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        DoubleResult<String> finalResult = result.flatConsume(val -> {
+            resultList.add(val);
+            return VoidResult.success();
+        });
+        assertThat(resultList).containsExactly(5.0);
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void flatConsume_success_shouldChangeToErrorWhenFunctionFails() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.flatConsume(val -> VoidResult.error("Consume error")))
+                .isEqualTo(DoubleResult.error("Consume error"));
+    }
+
+    @Test
+    void flatConsume_error_shouldNotRunFunction() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        DoubleResult<String> finalResult = result.flatConsume(val -> fail("Should not be run"));
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void flatConsume_success_nullValueFromFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThatThrownBy(() -> result.flatConsume(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatConsume_error_nullFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.flatConsume(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,43 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_FlatMapToDoubleResult_Test {
+
+    @Test
+    void flatMapToDoubleResult_success_shouldReturnMappedResult() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        DoubleResult<String> mapped = result.flatMapToDoubleResult(val -> DoubleResult.success(val + 5.0));
+        assertThat(mapped).isEqualTo(DoubleResult.success(5.0 + 5.0));
+    }
+
+    @Test
+    void flatMapToDoubleResult_success_shouldReturnMappedError() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        DoubleResult<String> mapped = result.flatMapToDoubleResult(val -> DoubleResult.error("Mapped"));
+        assertThat(mapped).isEqualTo(DoubleResult.error("Mapped"));
+    }
+
+    @Test
+    void flatMapToDoubleResult_error_shouldNotMap() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        DoubleResult<String> mapped = result.flatMapToDoubleResult(val -> fail("Should not be run"));
+        assertThat(mapped).isEqualTo(DoubleResult.error("Error"));
+    }
+
+    @Test
+    void flatMapToDoubleResult_success_nullValueFromFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThatThrownBy(() -> result.flatMapToDoubleResult(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMapToDoubleResult_error_nullFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.flatMapToDoubleResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
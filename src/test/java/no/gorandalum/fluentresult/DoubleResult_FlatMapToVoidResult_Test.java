@@ -0,0 +1,43 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_FlatMapToVoidResult_Test {
+
+    @Test
+    void flatMapToVoidResult_success_shouldReturnMappedResult() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        VoidResult<String> mapped = result.flatMapToVoidResult(val -> VoidResult.success());
+        assertThat(mapped).isEqualTo(VoidResult.success());
+    }
+
+    @Test
+    void flatMapToVoidResult_success_shouldReturnMappedError() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        VoidResult<String> mapped = result.flatMapToVoidResult(val -> VoidResult.error("Mapped"));
+        assertThat(mapped).isEqualTo(VoidResult.error("Mapped"));
+    }
+
+    @Test
+    void flatMapToVoidResult_error_shouldNotMap() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        VoidResult<String> mapped = result.flatMapToVoidResult(val -> fail("Should not be run"));
+        assertThat(mapped).isEqualTo(VoidResult.error("Error"));
+    }
+
+    @Test
+    void flatMapToVoidResult_success_nullValueFromFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThatThrownBy(() -> result.flatMapToVoidResult(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMapToVoidResult_error_nullFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.flatMapToVoidResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
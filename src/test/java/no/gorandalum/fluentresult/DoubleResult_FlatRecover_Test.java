@@ -0,0 +1,31 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_FlatRecover_Test {
+
+    @Test
+    void flatRecover_success_shouldRemainExistingSuccess() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.flatRecover(err -> DoubleResult.success(7.0)))
+                .isEqualTo(DoubleResult.success(5.0));
+    }
+
+    @Test
+    void flatRecover_error_shouldApplyRecoverFunction() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThat(result.flatRecover(err -> DoubleResult.success(7.0)))
+                .isEqualTo(DoubleResult.success(7.0));
+        assertThat(result.flatRecover(err -> DoubleResult.error("Recovered error")))
+                .isEqualTo(DoubleResult.error("Recovered error"));
+    }
+
+    @Test
+    void flatRecover_error_nullFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.flatRecover(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
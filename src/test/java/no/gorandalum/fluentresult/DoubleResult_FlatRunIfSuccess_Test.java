@@ -0,0 +1,35 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_FlatRunIfSuccess_Test {
+
+    @Test
+    void flatRunIfSuccess_success_shouldKeepSuccessWhenSupplierSucceeds() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.flatRunIfSuccess(VoidResult::success)).isSameAs(result);
+    }
+
+    @Test
+    void flatRunIfSuccess_success_shouldChangeToErrorWhenSupplierFails() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.flatRunIfSuccess(() -> VoidResult.error("Run error")))
+                .isEqualTo(DoubleResult.error("Run error"));
+    }
+
+    @Test
+    void flatRunIfSuccess_error_shouldNotRunSupplier() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThat(result.flatRunIfSuccess(() -> fail("Should not be run")))
+                .isSameAs(result);
+    }
+
+    @Test
+    void flatRunIfSuccess_error_nullSupplierGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.flatRunIfSuccess(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
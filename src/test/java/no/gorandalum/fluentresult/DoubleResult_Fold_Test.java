@@ -0,0 +1,31 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_Fold_Test {
+
+    @Test
+    void fold_success_shouldApplyValueFunction() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        String folded = result.fold(val -> "Value " + val, err -> "Error " + err);
+        assertThat(folded).isEqualTo("Value 5.0");
+    }
+
+    @Test
+    void fold_error_shouldApplyErrorFunction() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        String folded = result.fold(val -> "Value " + val, err -> "Error " + err);
+        assertThat(folded).isEqualTo("Error Error");
+    }
+
+    @Test
+    void fold_success_nullFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThatThrownBy(() -> result.fold(null, err -> "Error"))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> result.fold(val -> "Value", null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
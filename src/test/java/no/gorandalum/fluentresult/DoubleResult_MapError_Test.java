@@ -0,0 +1,39 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_MapError_Test {
+
+    @Test
+    void mapError_success_shouldNotMap() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        DoubleResult<Integer> mapped = result.mapError(err -> fail("Should not be run"));
+        assertThat(mapped.orElse(7.0)).isEqualTo(5.0);
+    }
+
+    @Test
+    void mapError_error_shouldMapError() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        result.mapError(String::length)
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        err -> assertThat(err).isEqualTo(5)
+                );
+    }
+
+    @Test
+    void mapError_error_nullValueFromFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.mapError(err -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void mapError_success_nullFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThatThrownBy(() -> result.mapError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
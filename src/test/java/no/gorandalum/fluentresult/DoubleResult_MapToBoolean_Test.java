@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_MapToBoolean_Test {
+
+    @Test
+    void mapToBoolean_success_shouldMapValue() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.mapToBoolean(val -> val == 5.0).orElseFalse()).isTrue();
+        assertThat(result.mapToBoolean(val -> val == 7.0).orElseTrue()).isFalse();
+    }
+
+    @Test
+    void mapToBoolean_error_shouldNotMap() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        result.mapToBoolean(val -> {
+                    throw new RuntimeException("Should not be run");
+                })
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        err -> assertThat(err).isEqualTo("Error")
+                );
+    }
+
+    @Test
+    void mapToBoolean_error_nullPredicateGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.mapToBoolean(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_MapToDouble_Test {
+
+    @Test
+    void mapToDouble_success_shouldMapValue() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.mapToDouble(val -> val / 2.0).orElse(0.0))
+                .isEqualTo(2.5);
+    }
+
+    @Test
+    void mapToDouble_error_shouldNotMap() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        result.mapToDouble(val -> {
+                    throw new RuntimeException("Should not be run");
+                })
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        err -> assertThat(err).isEqualTo("Error")
+                );
+    }
+
+    @Test
+    void mapToDouble_error_nullFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.mapToDouble(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_MapToInt_Test {
+
+    @Test
+    void mapToInt_success_shouldMapValue() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.mapToInt(val -> (int) val + 1).orElse(0))
+                .isEqualTo(6);
+    }
+
+    @Test
+    void mapToInt_error_shouldNotMap() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        result.mapToInt(val -> {
+                    throw new RuntimeException("Should not be run");
+                })
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        err -> assertThat(err).isEqualTo("Error")
+                );
+    }
+
+    @Test
+    void mapToInt_error_nullFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.mapToInt(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_MapToLong_Test {
+
+    @Test
+    void mapToLong_success_shouldMapValue() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.mapToLong(val -> (long) val * 10).orElse(0L))
+                .isEqualTo(50L);
+    }
+
+    @Test
+    void mapToLong_error_shouldNotMap() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        result.mapToLong(val -> {
+                    throw new RuntimeException("Should not be run");
+                })
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        err -> assertThat(err).isEqualTo("Error")
+                );
+    }
+
+    @Test
+    void mapToLong_error_nullFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.mapToLong(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
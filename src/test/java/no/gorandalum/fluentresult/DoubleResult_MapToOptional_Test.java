@@ -0,0 +1,52 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_MapToOptional_Test {
+
+    @Test
+    void mapToOptional_success_shouldMapToPresentValue() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        result.mapToOptional(val -> Optional.of("Value " + val)).consumeEither(
+                val -> assertThat(val).isEqualTo("Value 5.0"),
+                () -> fail("Should not be empty"),
+                err -> fail("Should not be error")
+        );
+    }
+
+    @Test
+    void mapToOptional_success_shouldMapToEmpty() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.mapToOptional(val -> Optional.empty()))
+                .isEqualTo(OptionalResult.empty());
+    }
+
+    @Test
+    void mapToOptional_error_shouldNotMap() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        result.mapToOptional(val -> fail("Should not be run"))
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        () -> fail("Should not be empty"),
+                        err -> assertThat(err).isEqualTo("Error")
+                );
+    }
+
+    @Test
+    void mapToOptional_success_nullValueFromFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThatThrownBy(() -> result.mapToOptional(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void mapToOptional_error_nullFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.mapToOptional(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
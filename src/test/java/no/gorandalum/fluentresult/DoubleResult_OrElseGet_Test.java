@@ -0,0 +1,29 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_OrElseGet_Test {
+
+    @Test
+    void orElseGet_success_shouldReturnValue() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.orElseGet(err -> {
+            throw new RuntimeException("Should not be run");
+        })).isEqualTo(5.0);
+    }
+
+    @Test
+    void orElseGet_error_shouldReturnValueFromFunction() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThat(result.orElseGet(err -> 7.0)).isEqualTo(7.0);
+    }
+
+    @Test
+    void orElseGet_success_nullFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThatThrownBy(() -> result.orElseGet(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
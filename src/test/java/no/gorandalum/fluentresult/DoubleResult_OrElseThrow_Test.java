@@ -0,0 +1,37 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_OrElseThrow_Test {
+
+    @Test
+    void orElseThrow_success_shouldRespondWithSuccessValue() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.orElseThrow(IllegalArgumentException::new))
+                .isEqualTo(5.0);
+    }
+
+    @Test
+    void orElseThrow_error_shouldThrowGivenException() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.orElseThrow(IllegalArgumentException::new))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Error");
+    }
+
+    @Test
+    void orElseThrow_success_nullExceptionSupplierGivesNPE() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThatThrownBy(() -> result.orElseThrow(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void orElseThrow_error_nullExceptionFromSupplierGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.orElseThrow(err -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_OrElse_Test {
+
+    @Test
+    void orElse_success_shouldReturnValue() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.orElse(7.0)).isEqualTo(5.0);
+    }
+
+    @Test
+    void orElse_error_shouldReturnOther() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThat(result.orElse(7.0)).isEqualTo(7.0);
+    }
+}
@@ -0,0 +1,29 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_Recover_Test {
+
+    @Test
+    void recover_success_shouldKeepValue() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.recover(err -> {
+            throw new RuntimeException("Should not be run");
+        }).orElse(7.0)).isEqualTo(5.0);
+    }
+
+    @Test
+    void recover_error_shouldApplyRecoverFunction() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThat(result.recover(err -> 7.0)).isEqualTo(DoubleResult.success(7.0));
+    }
+
+    @Test
+    void recover_success_nullFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThatThrownBy(() -> result.recover(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
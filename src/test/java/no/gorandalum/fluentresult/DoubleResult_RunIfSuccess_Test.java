@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_RunIfSuccess_Test {
+
+    @Test
+    void runIfSuccess_success_shouldRun() {
+        List<String> resultList = new ArrayList<>();
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        DoubleResult<String> finalResult = result.runIfSuccess(() -> resultList.add("Run"));
+        assertThat(resultList).containsExactly("Run");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runIfSuccess_error_shouldNotRun() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        DoubleResult<String> finalResult = result.runIfSuccess(() -> fail("Should not be run"));
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runIfSuccess_error_nullRunnableGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.runIfSuccess(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
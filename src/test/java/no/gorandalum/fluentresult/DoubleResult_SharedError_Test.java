@@ -0,0 +1,47 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_SharedError_Test {
+
+    enum ErrorCode {
+        NOT_FOUND,
+        FORBIDDEN,
+        CONFLICT {
+            @Override
+            public String toString() {
+                return "Conflict";
+            }
+        }
+    }
+
+    @Test
+    void sharedError_enumConstant_shouldReturnSharedInstance() {
+        DoubleResult<ErrorCode> result = DoubleResult.sharedError(ErrorCode.NOT_FOUND);
+        assertThat(result).isSameAs(DoubleResult.sharedError(ErrorCode.NOT_FOUND));
+        assertThat(result).isEqualTo(DoubleResult.error(ErrorCode.NOT_FOUND));
+    }
+
+    @Test
+    void sharedError_registeredError_shouldReturnSharedInstance() {
+        SharedErrors.register("Registered DoubleResult");
+        DoubleResult<String> result = DoubleResult.sharedError("Registered DoubleResult");
+        assertThat(result).isSameAs(DoubleResult.sharedError("Registered DoubleResult"));
+        assertThat(result).isEqualTo(DoubleResult.error("Registered DoubleResult"));
+    }
+
+    @Test
+    void sharedError_unregisteredError_shouldReturnNewInstance() {
+        DoubleResult<String> result = DoubleResult.sharedError("Unregistered DoubleResult");
+        assertThat(result).isNotSameAs(DoubleResult.sharedError("Unregistered DoubleResult"));
+        assertThat(result).isEqualTo(DoubleResult.error("Unregistered DoubleResult"));
+    }
+
+    @Test
+    void sharedError_nullErrorGivesNPE() {
+        assertThatThrownBy(() -> DoubleResult.sharedError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,23 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_Success_Test {
+
+    @Test
+    void success_shouldContainValue() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.orElse(7.0)).isEqualTo(5.0);
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.value()).isEqualTo(5.0);
+        assertThat(result.error()).isNull();
+    }
+
+    @Test
+    void success_shouldEqualOtherSuccessWithSameValue() {
+        assertThat(DoubleResult.success(5.0)).isEqualTo(DoubleResult.success(5.0));
+        assertThat(DoubleResult.success(5.0)).isNotEqualTo(DoubleResult.success(7.0));
+    }
+}
@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_ToOptionalResult_Test {
+
+    @Test
+    void toOptionalResult_success_shouldContainBoxedValue() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.toOptionalResult()).isEqualTo(OptionalResult.success(5.0));
+    }
+
+    @Test
+    void toOptionalResult_error_shouldContainError() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThat(result.toOptionalResult()).isEqualTo(OptionalResult.error("Error"));
+    }
+}
@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_ToResult_Test {
+
+    @Test
+    void toResult_success_shouldContainBoxedValue() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.toResult()).isEqualTo(Result.success(5.0));
+    }
+
+    @Test
+    void toResult_error_shouldContainError() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+    }
+}
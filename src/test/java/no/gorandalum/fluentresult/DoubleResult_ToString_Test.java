@@ -0,0 +1,18 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_ToString_Test {
+
+    @Test
+    void toString_success() {
+        assertThat(DoubleResult.success(5.0).toString()).isEqualTo("DoubleResult[Value: 5.0]");
+    }
+
+    @Test
+    void toString_error() {
+        assertThat(DoubleResult.error("Error").toString()).isEqualTo("DoubleResult[Error: Error]");
+    }
+}
@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_ToVoidResult_Test {
+
+    @Test
+    void toVoidResult_success_shouldBeSuccess() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.toVoidResult()).isEqualTo(VoidResult.success());
+    }
+
+    @Test
+    void toVoidResult_error_shouldContainError() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThat(result.toVoidResult()).isEqualTo(VoidResult.error("Error"));
+    }
+}
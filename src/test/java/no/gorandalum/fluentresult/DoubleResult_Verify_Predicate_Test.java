@@ -0,0 +1,47 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_Verify_Predicate_Test {
+
+    @Test
+    void verify_predicate_success_shouldKeepSuccessResultWhenVerifiedTrue() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.verify(val -> val == 5.0, () -> "ValidationError"))
+                .isSameAs(result);
+    }
+
+    @Test
+    void verify_predicate_success_shouldChangeToProvidedErrorWhenVerifiedFalse() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.verify(val -> val == 7.0, () -> "ValidationError"))
+                .isEqualTo(DoubleResult.error("ValidationError"));
+    }
+
+    @Test
+    void verify_predicate_error_shouldNotRunVerificatorWhenError() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThat(result.verify(
+                val -> {
+                    throw new RuntimeException();
+                },
+                () -> "ValidationError"))
+                .isSameAs(result);
+    }
+
+    @Test
+    void verify_predicate_success_nullVerificatorGivesNPE() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThatThrownBy(() -> result.verify(null, () -> "ValidationError"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void verify_predicate_error_nullErrorSupplierGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.verify(val -> true, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
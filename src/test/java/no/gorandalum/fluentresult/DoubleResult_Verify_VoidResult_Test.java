@@ -0,0 +1,35 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleResult_Verify_VoidResult_Test {
+
+    @Test
+    void verify_voidResult_success_shouldKeepSuccessResultWhenVerifiedSuccess() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.verify(val -> VoidResult.success())).isSameAs(result);
+    }
+
+    @Test
+    void verify_voidResult_success_shouldChangeToErrorWhenVerifiedError() {
+        DoubleResult<String> result = DoubleResult.success(5.0);
+        assertThat(result.verify(val -> VoidResult.error("ValidationError")))
+                .isEqualTo(DoubleResult.error("ValidationError"));
+    }
+
+    @Test
+    void verify_voidResult_error_shouldNotRunVerificatorWhenError() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThat(result.verify(val -> fail("Should not be run")))
+                .isSameAs(result);
+    }
+
+    @Test
+    void verify_voidResult_error_nullFunctionGivesNPE() {
+        DoubleResult<String> result = DoubleResult.error("Error");
+        assertThatThrownBy(() -> result.verify(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
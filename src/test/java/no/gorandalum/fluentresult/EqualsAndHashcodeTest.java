@@ -36,6 +36,20 @@ class EqualsAndHashcodeTest {
         assertThat(result.equals(result2)).isFalse();
     }
 
+    @Test
+    void equals_differentErrorObjectsSameContent() {
+        assertThat(Result.error("Error").equals(Result.error("Error"))).isTrue();
+        assertThat(OptionalResult.error("Error").equals(OptionalResult.error("Error"))).isTrue();
+        assertThat(BooleanResult.error("Error").equals(BooleanResult.error("Error"))).isTrue();
+        assertThat(VoidResult.error("Error").equals(VoidResult.error("Error"))).isTrue();
+    }
+
+    @Test
+    void equals_differentErrorObjectsDifferentContent() {
+        assertThat(Result.error("Error").equals(Result.error("Other"))).isFalse();
+        assertThat(VoidResult.error("Error").equals(VoidResult.error("Other"))).isFalse();
+    }
+
     @Test
     void equals_sameValueButSuccessAndError() {
         Result<String, String> result = Result.success("Content");
@@ -50,12 +64,25 @@ class EqualsAndHashcodeTest {
         assertThat(result.equals(result2)).isFalse();
     }
 
+    @Test
+    void equals_samePrimitiveValueButBoxedResult() {
+        assertThat(IntResult.success(5).equals(Result.success(5))).isFalse();
+        assertThat(LongResult.success(5L).equals(Result.success(5L))).isFalse();
+        assertThat(DoubleResult.success(5.0).equals(Result.success(5.0))).isFalse();
+    }
+
     @Test
     void equals_nonResultClass() {
         Result<Boolean, String> result = Result.success(true);
         assertThat(result.equals("Test")).isFalse();
     }
 
+    @Test
+    void equals_null() {
+        Result<Boolean, String> result = Result.success(true);
+        assertThat(result.equals(null)).isFalse();
+    }
+
     @Test
     void hashCode_equalForSameValue() {
         Result<String, String> result = Result.success("Hashcode");
@@ -63,6 +90,23 @@ class EqualsAndHashcodeTest {
         assertThat(result.hashCode()).isEqualTo(result2.hashCode());
     }
 
+    @Test
+    void hashCode_equalForSamePrimitiveValue() {
+        assertThat(IntResult.success(1000).hashCode()).isEqualTo(IntResult.success(1000).hashCode());
+        assertThat(LongResult.success(1000L).hashCode()).isEqualTo(LongResult.success(1000L).hashCode());
+        assertThat(DoubleResult.success(0.5).hashCode()).isEqualTo(DoubleResult.success(0.5).hashCode());
+    }
+
+    @Test
+    void hashCode_equalForSameError() {
+        assertThat(Result.error("Error").hashCode()).isEqualTo(Result.error("Error").hashCode());
+        assertThat(BooleanResult.error("Error").hashCode()).isEqualTo(BooleanResult.error("Error").hashCode());
+        assertThat(VoidResult.error("Error").hashCode()).isEqualTo(VoidResult.error("Error").hashCode());
+        assertThat(IntResult.error("Error").hashCode()).isEqualTo(IntResult.error("Error").hashCode());
+        assertThat(LongResult.error("Error").hashCode()).isEqualTo(LongResult.error("Error").hashCode());
+        assertThat(DoubleResult.error("Error").hashCode()).isEqualTo(DoubleResult.error("Error").hashCode());
+    }
+
     @Test
     void hashCode_notEqualForDifferentValue() {
         Result<String, String> result = Result.success("Hashcode");
@@ -76,4 +120,36 @@ class EqualsAndHashcodeTest {
         BooleanResult<String> result2 = BooleanResult.success(true);
         assertThat(result.hashCode()).isNotEqualTo(result2.hashCode());
     }
+
+    @Test
+    void equals_validation() {
+        Validation<String, String> invalid = Validation.<String, String>valid("Value")
+                .verify(val -> false, () -> "First")
+                .verify(val -> false, () -> "Second");
+        Validation<String, String> otherInvalid = Validation.<String, String>valid("Other")
+                .verify(val -> false, () -> "First")
+                .verify(val -> false, () -> "Second");
+        assertThat(Validation.valid("Value").equals(Validation.valid("Value"))).isTrue();
+        assertThat(Validation.valid("Value").equals(Validation.valid("Other"))).isFalse();
+        assertThat(invalid.equals(otherInvalid)).isTrue();
+        assertThat(invalid.equals(Validation.invalid("First"))).isFalse();
+        assertThat(Validation.valid("Error").equals(Validation.invalid("Error"))).isFalse();
+        assertThat(Validation.invalid("Error").equals(Validation.valid("Error"))).isFalse();
+        assertThat(Validation.valid("Value").equals(Result.success("Value"))).isFalse();
+        assertThat(Validation.valid("Value").equals(null)).isFalse();
+    }
+
+    @Test
+    void hashCode_validation() {
+        Validation<String, String> invalid = Validation.<String, String>valid("Value")
+                .verify(val -> false, () -> "First")
+                .verify(val -> false, () -> "Second");
+        Validation<String, String> otherInvalid = Validation.<String, String>valid("Other")
+                .verify(val -> false, () -> "First")
+                .verify(val -> false, () -> "Second");
+        assertThat(Validation.valid("Value").hashCode()).isEqualTo(Validation.valid("Value").hashCode());
+        assertThat(Validation.valid("Value").hashCode()).isNotEqualTo(Validation.valid("Other").hashCode());
+        assertThat(invalid.hashCode()).isEqualTo(otherInvalid.hashCode());
+        assertThat(invalid.hashCode()).isNotEqualTo(Validation.invalid("First").hashCode());
+    }
 }
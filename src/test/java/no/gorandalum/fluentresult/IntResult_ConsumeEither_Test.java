@@ -0,0 +1,47 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_ConsumeEither_Test {
+
+    @Test
+    void consumeEither_success_shouldRunValueConsumer() {
+        List<Integer> resultList = new ArrayList<>();
+        IntResult<String> result = IntResult.success(5);
+        IntResult<String> finalResult = result.consumeEither(
+                resultList::add,
+                err -> fail("Should not be run"));
+        assertThat(resultList).containsExactly(5);
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consumeEither_error_shouldRunErrorConsumer() {
+        List<String> resultList = new ArrayList<>();
+        IntResult<String> result = IntResult.error("Error");
+        IntResult<String> finalResult = result.consumeEither(
+                val -> fail("Should not be run"),
+                resultList::add);
+        assertThat(resultList).containsExactly("Error");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consumeEither_success_nullValueConsumerGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.consumeEither(null, err -> {}))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void consumeEither_success_nullErrorConsumerGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.consumeEither(val -> {}, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_Consume_Test {
+
+    @Test
+    void consume_success_shouldConsumeValue() {
+        List<Integer> resultList = new ArrayList<>();
+        IntResult<String> result = IntResult.success(5);
+        IntResult<String> finalResult = result.consume(resultList::add);
+        assertThat(resultList).containsExactly(5);
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consume_error_shouldNotConsume() {
+        IntResult<String> result = IntResult.error("Error");
+        IntResult<String> finalResult = result.consume(val -> fail("Should not be run"));
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consume_error_nullConsumerGivesNPE() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.consume(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
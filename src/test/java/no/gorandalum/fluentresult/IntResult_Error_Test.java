@@ -0,0 +1,22 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_Error_Test {
+
+    @Test
+    void error_shouldContainError() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.value()).isNull();
+        assertThat(result.error()).isEqualTo("Error");
+    }
+
+    @Test
+    void error_nullErrorGivesNPE() {
+        assertThatThrownBy(() -> IntResult.error(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_FlatConsume_Test {
+
+    @Test
+    void flatConsume_success_shouldKeepSuccessWhenFunctionSucceeds() {
+        List<Integer> resultList = new ArrayList<>();
+        IntResult<String> result = IntResult.success(5);
+        IntResult<String> finalResult = result.flatConsume(val -> {
+            resultList.add(val);
+            return VoidResult.success();
+        });
+        assertThat(resultList).containsExactly(5);
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void flatConsume_success_shouldChangeToErrorWhenFunctionFails() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.flatConsume(val -> VoidResult.error("Consume error")))
+                .isEqualTo(IntResult.error("Consume error"));
+    }
+
+    @Test
+    void flatConsume_error_shouldNotRunFunction() {
+        IntResult<String> result = IntResult.error("Error");
+        IntResult<String> finalResult = result.flatConsume(val -> fail("Should not be run"));
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void flatConsume_success_nullValueFromFunctionGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.flatConsume(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatConsume_error_nullFunctionGivesNPE() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.flatConsume(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,43 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_FlatMapToBooleanResult_Test {
+
+    @Test
+    void flatMapToBooleanResult_success_shouldReturnMappedResult() {
+        IntResult<String> result = IntResult.success(5);
+        BooleanResult<String> mapped = result.flatMapToBooleanResult(val -> BooleanResult.success(val == 5));
+        assertThat(mapped).isEqualTo(BooleanResult.successTrue());
+    }
+
+    @Test
+    void flatMapToBooleanResult_success_shouldReturnMappedError() {
+        IntResult<String> result = IntResult.success(5);
+        BooleanResult<String> mapped = result.flatMapToBooleanResult(val -> BooleanResult.error("Mapped"));
+        assertThat(mapped).isEqualTo(BooleanResult.error("Mapped"));
+    }
+
+    @Test
+    void flatMapToBooleanResult_error_shouldNotMap() {
+        IntResult<String> result = IntResult.error("Error");
+        BooleanResult<String> mapped = result.flatMapToBooleanResult(val -> fail("Should not be run"));
+        assertThat(mapped).isEqualTo(BooleanResult.error("Error"));
+    }
+
+    @Test
+    void flatMapToBooleanResult_success_nullValueFromFunctionGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.flatMapToBooleanResult(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMapToBooleanResult_error_nullFunctionGivesNPE() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.flatMapToBooleanResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,43 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_FlatMapToIntResult_Test {
+
+    @Test
+    void flatMapToIntResult_success_shouldReturnMappedResult() {
+        IntResult<String> result = IntResult.success(5);
+        IntResult<String> mapped = result.flatMapToIntResult(val -> IntResult.success(val + 5));
+        assertThat(mapped).isEqualTo(IntResult.success(5 + 5));
+    }
+
+    @Test
+    void flatMapToIntResult_success_shouldReturnMappedError() {
+        IntResult<String> result = IntResult.success(5);
+        IntResult<String> mapped = result.flatMapToIntResult(val -> IntResult.error("Mapped"));
+        assertThat(mapped).isEqualTo(IntResult.error("Mapped"));
+    }
+
+    @Test
+    void flatMapToIntResult_error_shouldNotMap() {
+        IntResult<String> result = IntResult.error("Error");
+        IntResult<String> mapped = result.flatMapToIntResult(val -> fail("Should not be run"));
+        assertThat(mapped).isEqualTo(IntResult.error("Error"));
+    }
+
+    @Test
+    void flatMapToIntResult_success_nullValueFromFunctionGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.flatMapToIntResult(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMapToIntResult_error_nullFunctionGivesNPE() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.flatMapToIntResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
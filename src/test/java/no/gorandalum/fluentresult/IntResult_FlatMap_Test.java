@@ -0,0 +1,43 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_FlatMap_Test {
+
+    @Test
+    void flatMap_success_shouldReturnMappedResult() {
+        IntResult<String> result = IntResult.success(5);
+        Result<String, String> mapped = result.flatMap(val -> Result.success("Value " + val));
+        assertThat(mapped).isEqualTo(Result.success("Value 5"));
+    }
+
+    @Test
+    void flatMap_success_shouldReturnMappedError() {
+        IntResult<String> result = IntResult.success(5);
+        Result<String, String> mapped = result.flatMap(val -> Result.error("Mapped"));
+        assertThat(mapped).isEqualTo(Result.error("Mapped"));
+    }
+
+    @Test
+    void flatMap_error_shouldNotMap() {
+        IntResult<String> result = IntResult.error("Error");
+        Result<String, String> mapped = result.flatMap(val -> fail("Should not be run"));
+        assertThat(mapped).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void flatMap_success_nullValueFromFunctionGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.flatMap(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMap_error_nullFunctionGivesNPE() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.flatMap(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,31 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_FlatRecover_Test {
+
+    @Test
+    void flatRecover_success_shouldRemainExistingSuccess() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.flatRecover(err -> IntResult.success(7)))
+                .isEqualTo(IntResult.success(5));
+    }
+
+    @Test
+    void flatRecover_error_shouldApplyRecoverFunction() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThat(result.flatRecover(err -> IntResult.success(7)))
+                .isEqualTo(IntResult.success(7));
+        assertThat(result.flatRecover(err -> IntResult.error("Recovered error")))
+                .isEqualTo(IntResult.error("Recovered error"));
+    }
+
+    @Test
+    void flatRecover_error_nullFunctionGivesNPE() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.flatRecover(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,35 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_FlatRunIfSuccess_Test {
+
+    @Test
+    void flatRunIfSuccess_success_shouldKeepSuccessWhenSupplierSucceeds() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.flatRunIfSuccess(VoidResult::success)).isSameAs(result);
+    }
+
+    @Test
+    void flatRunIfSuccess_success_shouldChangeToErrorWhenSupplierFails() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.flatRunIfSuccess(() -> VoidResult.error("Run error")))
+                .isEqualTo(IntResult.error("Run error"));
+    }
+
+    @Test
+    void flatRunIfSuccess_error_shouldNotRunSupplier() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThat(result.flatRunIfSuccess(() -> fail("Should not be run")))
+                .isSameAs(result);
+    }
+
+    @Test
+    void flatRunIfSuccess_error_nullSupplierGivesNPE() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.flatRunIfSuccess(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
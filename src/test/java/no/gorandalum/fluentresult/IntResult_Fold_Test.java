@@ -0,0 +1,31 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_Fold_Test {
+
+    @Test
+    void fold_success_shouldApplyValueFunction() {
+        IntResult<String> result = IntResult.success(5);
+        String folded = result.fold(val -> "Value " + val, err -> "Error " + err);
+        assertThat(folded).isEqualTo("Value 5");
+    }
+
+    @Test
+    void fold_error_shouldApplyErrorFunction() {
+        IntResult<String> result = IntResult.error("Error");
+        String folded = result.fold(val -> "Value " + val, err -> "Error " + err);
+        assertThat(folded).isEqualTo("Error Error");
+    }
+
+    @Test
+    void fold_success_nullFunctionGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.fold(null, err -> "Error"))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> result.fold(val -> "Value", null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,39 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_MapError_Test {
+
+    @Test
+    void mapError_success_shouldNotMap() {
+        IntResult<String> result = IntResult.success(5);
+        IntResult<Integer> mapped = result.mapError(err -> fail("Should not be run"));
+        assertThat(mapped.orElse(7)).isEqualTo(5);
+    }
+
+    @Test
+    void mapError_error_shouldMapError() {
+        IntResult<String> result = IntResult.error("Error");
+        result.mapError(String::length)
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        err -> assertThat(err).isEqualTo(5)
+                );
+    }
+
+    @Test
+    void mapError_error_nullValueFromFunctionGivesNPE() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.mapError(err -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void mapError_success_nullFunctionGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.mapError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
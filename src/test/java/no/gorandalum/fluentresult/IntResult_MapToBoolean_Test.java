@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_MapToBoolean_Test {
+
+    @Test
+    void mapToBoolean_success_shouldMapValue() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.mapToBoolean(val -> val == 5).orElseFalse()).isTrue();
+        assertThat(result.mapToBoolean(val -> val == 7).orElseTrue()).isFalse();
+    }
+
+    @Test
+    void mapToBoolean_error_shouldNotMap() {
+        IntResult<String> result = IntResult.error("Error");
+        result.mapToBoolean(val -> {
+                    throw new RuntimeException("Should not be run");
+                })
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        err -> assertThat(err).isEqualTo("Error")
+                );
+    }
+
+    @Test
+    void mapToBoolean_error_nullPredicateGivesNPE() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.mapToBoolean(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
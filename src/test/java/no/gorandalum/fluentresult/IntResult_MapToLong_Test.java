@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_MapToLong_Test {
+
+    @Test
+    void mapToLong_success_shouldMapValue() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.mapToLong(val -> val * 10).orElse(0L))
+                .isEqualTo(50L);
+    }
+
+    @Test
+    void mapToLong_error_shouldNotMap() {
+        IntResult<String> result = IntResult.error("Error");
+        result.mapToLong(val -> {
+                    throw new RuntimeException("Should not be run");
+                })
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        err -> assertThat(err).isEqualTo("Error")
+                );
+    }
+
+    @Test
+    void mapToLong_error_nullFunctionGivesNPE() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.mapToLong(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,41 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_Map_Test {
+
+    @Test
+    void map_success_shouldMapValue() {
+        IntResult<String> result = IntResult.success(5);
+        result.map(val -> "Value " + val).consumeEither(
+                val -> assertThat(val).isEqualTo("Value 5"),
+                err -> fail("Should not be error")
+        );
+    }
+
+    @Test
+    void map_error_shouldNotMap() {
+        IntResult<String> result = IntResult.error("Error");
+        result.map(val -> fail("Should not be run"))
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        err -> assertThat(err).isEqualTo("Error")
+                );
+    }
+
+    @Test
+    void map_success_nullValueFromFunctionGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.map(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void map_error_nullFunctionGivesNPE() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.map(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
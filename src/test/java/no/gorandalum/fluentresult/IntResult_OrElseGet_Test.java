@@ -0,0 +1,29 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_OrElseGet_Test {
+
+    @Test
+    void orElseGet_success_shouldReturnValue() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.orElseGet(err -> {
+            throw new RuntimeException("Should not be run");
+        })).isEqualTo(5);
+    }
+
+    @Test
+    void orElseGet_error_shouldReturnValueFromFunction() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThat(result.orElseGet(err -> 7)).isEqualTo(7);
+    }
+
+    @Test
+    void orElseGet_success_nullFunctionGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.orElseGet(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
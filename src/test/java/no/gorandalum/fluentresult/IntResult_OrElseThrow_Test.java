@@ -0,0 +1,37 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_OrElseThrow_Test {
+
+    @Test
+    void orElseThrow_success_shouldRespondWithSuccessValue() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.orElseThrow(IllegalArgumentException::new))
+                .isEqualTo(5);
+    }
+
+    @Test
+    void orElseThrow_error_shouldThrowGivenException() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.orElseThrow(IllegalArgumentException::new))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Error");
+    }
+
+    @Test
+    void orElseThrow_success_nullExceptionSupplierGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.orElseThrow(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void orElseThrow_error_nullExceptionFromSupplierGivesNPE() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.orElseThrow(err -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_OrElse_Test {
+
+    @Test
+    void orElse_success_shouldReturnValue() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.orElse(7)).isEqualTo(5);
+    }
+
+    @Test
+    void orElse_error_shouldReturnOther() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThat(result.orElse(7)).isEqualTo(7);
+    }
+}
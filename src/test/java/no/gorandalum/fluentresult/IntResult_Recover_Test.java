@@ -0,0 +1,29 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_Recover_Test {
+
+    @Test
+    void recover_success_shouldKeepValue() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.recover(err -> {
+            throw new RuntimeException("Should not be run");
+        }).orElse(7)).isEqualTo(5);
+    }
+
+    @Test
+    void recover_error_shouldApplyRecoverFunction() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThat(result.recover(err -> 7)).isEqualTo(IntResult.success(7));
+    }
+
+    @Test
+    void recover_success_nullFunctionGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.recover(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
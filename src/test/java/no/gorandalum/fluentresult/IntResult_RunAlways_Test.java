@@ -0,0 +1,36 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_RunAlways_Test {
+
+    @Test
+    void runAlways_success_shouldRun() {
+        List<String> resultList = new ArrayList<>();
+        IntResult<String> result = IntResult.success(5);
+        IntResult<String> finalResult = result.runAlways(() -> resultList.add("Run"));
+        assertThat(resultList).containsExactly("Run");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runAlways_error_shouldRun() {
+        List<String> resultList = new ArrayList<>();
+        IntResult<String> result = IntResult.error("Error");
+        IntResult<String> finalResult = result.runAlways(() -> resultList.add("Run"));
+        assertThat(resultList).containsExactly("Run");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runAlways_success_nullRunnableGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.runAlways(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,42 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_RunEither_Test {
+
+    @Test
+    void runEither_success_shouldRunSuccessRunnable() {
+        List<String> resultList = new ArrayList<>();
+        IntResult<String> result = IntResult.success(5);
+        IntResult<String> finalResult = result.runEither(
+                () -> resultList.add("Success"),
+                () -> fail("Should not be run"));
+        assertThat(resultList).containsExactly("Success");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runEither_error_shouldRunErrorRunnable() {
+        List<String> resultList = new ArrayList<>();
+        IntResult<String> result = IntResult.error("Error");
+        IntResult<String> finalResult = result.runEither(
+                () -> fail("Should not be run"),
+                () -> resultList.add("Error"));
+        assertThat(resultList).containsExactly("Error");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runEither_success_nullRunnableGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.runEither(null, () -> {}))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> result.runEither(() -> {}, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
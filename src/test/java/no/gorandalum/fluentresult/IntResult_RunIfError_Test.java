@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_RunIfError_Test {
+
+    @Test
+    void runIfError_success_shouldNotRun() {
+        IntResult<String> result = IntResult.success(5);
+        IntResult<String> finalResult = result.runIfError(() -> fail("Should not be run"));
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runIfError_error_shouldRun() {
+        List<String> resultList = new ArrayList<>();
+        IntResult<String> result = IntResult.error("Error");
+        IntResult<String> finalResult = result.runIfError(() -> resultList.add("Run"));
+        assertThat(resultList).containsExactly("Run");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runIfError_success_nullRunnableGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.runIfError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_RunIfSuccess_Test {
+
+    @Test
+    void runIfSuccess_success_shouldRun() {
+        List<String> resultList = new ArrayList<>();
+        IntResult<String> result = IntResult.success(5);
+        IntResult<String> finalResult = result.runIfSuccess(() -> resultList.add("Run"));
+        assertThat(resultList).containsExactly("Run");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runIfSuccess_error_shouldNotRun() {
+        IntResult<String> result = IntResult.error("Error");
+        IntResult<String> finalResult = result.runIfSuccess(() -> fail("Should not be run"));
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runIfSuccess_error_nullRunnableGivesNPE() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.runIfSuccess(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
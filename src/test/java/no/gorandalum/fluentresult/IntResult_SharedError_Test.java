@@ -0,0 +1,47 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_SharedError_Test {
+
+    enum ErrorCode {
+        NOT_FOUND,
+        FORBIDDEN,
+        CONFLICT {
+            @Override
+            public String toString() {
+                return "Conflict";
+            }
+        }
+    }
+
+    @Test
+    void sharedError_enumConstant_shouldReturnSharedInstance() {
+        IntResult<ErrorCode> result = IntResult.sharedError(ErrorCode.NOT_FOUND);
+        assertThat(result).isSameAs(IntResult.sharedError(ErrorCode.NOT_FOUND));
+        assertThat(result).isEqualTo(IntResult.error(ErrorCode.NOT_FOUND));
+    }
+
+    @Test
+    void sharedError_registeredError_shouldReturnSharedInstance() {
+        SharedErrors.register("Registered IntResult");
+        IntResult<String> result = IntResult.sharedError("Registered IntResult");
+        assertThat(result).isSameAs(IntResult.sharedError("Registered IntResult"));
+        assertThat(result).isEqualTo(IntResult.error("Registered IntResult"));
+    }
+
+    @Test
+    void sharedError_unregisteredError_shouldReturnNewInstance() {
+        IntResult<String> result = IntResult.sharedError("Unregistered IntResult");
+        assertThat(result).isNotSameAs(IntResult.sharedError("Unregistered IntResult"));
+        assertThat(result).isEqualTo(IntResult.error("Unregistered IntResult"));
+    }
+
+    @Test
+    void sharedError_nullErrorGivesNPE() {
+        assertThatThrownBy(() -> IntResult.sharedError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,23 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_Success_Test {
+
+    @Test
+    void success_shouldContainValue() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.orElse(7)).isEqualTo(5);
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.value()).isEqualTo(5);
+        assertThat(result.error()).isNull();
+    }
+
+    @Test
+    void success_shouldEqualOtherSuccessWithSameValue() {
+        assertThat(IntResult.success(5)).isEqualTo(IntResult.success(5));
+        assertThat(IntResult.success(5)).isNotEqualTo(IntResult.success(7));
+    }
+}
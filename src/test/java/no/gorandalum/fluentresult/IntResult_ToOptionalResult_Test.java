@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_ToOptionalResult_Test {
+
+    @Test
+    void toOptionalResult_success_shouldContainBoxedValue() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.toOptionalResult()).isEqualTo(OptionalResult.success(5));
+    }
+
+    @Test
+    void toOptionalResult_error_shouldContainError() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThat(result.toOptionalResult()).isEqualTo(OptionalResult.error("Error"));
+    }
+}
@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_ToResult_Test {
+
+    @Test
+    void toResult_success_shouldContainBoxedValue() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.toResult()).isEqualTo(Result.success(5));
+    }
+
+    @Test
+    void toResult_error_shouldContainError() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+    }
+}
@@ -0,0 +1,18 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_ToString_Test {
+
+    @Test
+    void toString_success() {
+        assertThat(IntResult.success(5).toString()).isEqualTo("IntResult[Value: 5]");
+    }
+
+    @Test
+    void toString_error() {
+        assertThat(IntResult.error("Error").toString()).isEqualTo("IntResult[Error: Error]");
+    }
+}
@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_ToVoidResult_Test {
+
+    @Test
+    void toVoidResult_success_shouldBeSuccess() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.toVoidResult()).isEqualTo(VoidResult.success());
+    }
+
+    @Test
+    void toVoidResult_error_shouldContainError() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThat(result.toVoidResult()).isEqualTo(VoidResult.error("Error"));
+    }
+}
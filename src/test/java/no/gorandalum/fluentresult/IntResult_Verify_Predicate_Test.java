@@ -0,0 +1,47 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_Verify_Predicate_Test {
+
+    @Test
+    void verify_predicate_success_shouldKeepSuccessResultWhenVerifiedTrue() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.verify(val -> val == 5, () -> "ValidationError"))
+                .isSameAs(result);
+    }
+
+    @Test
+    void verify_predicate_success_shouldChangeToProvidedErrorWhenVerifiedFalse() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.verify(val -> val == 7, () -> "ValidationError"))
+                .isEqualTo(IntResult.error("ValidationError"));
+    }
+
+    @Test
+    void verify_predicate_error_shouldNotRunVerificatorWhenError() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThat(result.verify(
+                val -> {
+                    throw new RuntimeException();
+                },
+                () -> "ValidationError"))
+                .isSameAs(result);
+    }
+
+    @Test
+    void verify_predicate_success_nullVerificatorGivesNPE() {
+        IntResult<String> result = IntResult.success(5);
+        assertThatThrownBy(() -> result.verify(null, () -> "ValidationError"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void verify_predicate_error_nullErrorSupplierGivesNPE() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.verify(val -> true, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
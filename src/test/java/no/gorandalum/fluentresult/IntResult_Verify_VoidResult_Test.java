@@ -0,0 +1,35 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntResult_Verify_VoidResult_Test {
+
+    @Test
+    void verify_voidResult_success_shouldKeepSuccessResultWhenVerifiedSuccess() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.verify(val -> VoidResult.success())).isSameAs(result);
+    }
+
+    @Test
+    void verify_voidResult_success_shouldChangeToErrorWhenVerifiedError() {
+        IntResult<String> result = IntResult.success(5);
+        assertThat(result.verify(val -> VoidResult.error("ValidationError")))
+                .isEqualTo(IntResult.error("ValidationError"));
+    }
+
+    @Test
+    void verify_voidResult_error_shouldNotRunVerificatorWhenError() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThat(result.verify(val -> fail("Should not be run")))
+                .isSameAs(result);
+    }
+
+    @Test
+    void verify_voidResult_error_nullFunctionGivesNPE() {
+        IntResult<String> result = IntResult.error("Error");
+        assertThatThrownBy(() -> result.verify(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
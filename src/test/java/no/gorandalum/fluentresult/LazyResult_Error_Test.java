@@ -0,0 +1,21 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_Error_Test {
+
+    @Test
+    void error_shouldBeEvaluatedWithError() {
+        LazyResult<String, String> result = LazyResult.error("Error");
+        assertThat(result.isEvaluated()).isTrue();
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void error_nullValueGivesNPE() {
+        assertThatThrownBy(() -> LazyResult.error(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,40 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_FlatMap_Test {
+
+    @Test
+    void flatMap_success_shouldHoldReturnedResult() {
+        LazyResult<Integer, String> result = LazyResult.<String, String>success("Success")
+                .flatMap(val -> Result.error("Error"));
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void flatMap_error_shouldNotRunFunction() {
+        LazyResult<Integer, String> result = LazyResult.<String, String>error("Error")
+                .flatMap(val -> { throw new RuntimeException(); });
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void flatMap_shouldNotRunFunctionUntilTerminalCall() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> result = LazyResult.<String, String>success("Success")
+                .flatMap(val -> Result.success(calls.incrementAndGet()));
+        assertThat(calls).hasValue(0);
+        assertThat(result.toResult()).isEqualTo(Result.success(1));
+    }
+
+    @Test
+    void flatMap_nullFunctionGivesNPE() {
+        LazyResult<String, String> result = LazyResult.success("Success");
+        assertThatThrownBy(() -> result.flatMap(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
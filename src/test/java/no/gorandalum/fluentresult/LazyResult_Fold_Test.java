@@ -0,0 +1,36 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_Fold_Test {
+
+    @Test
+    void fold_success_shouldApplyValueFunction() {
+        LazyResult<String, String> result = LazyResult.of(() -> Result.success("Success"));
+        String folded = result.fold(val -> "Value " + val, err -> "Error " + err);
+        assertThat(folded).isEqualTo("Value Success");
+    }
+
+    @Test
+    void fold_error_shouldApplyErrorFunction() {
+        LazyResult<String, String> result = LazyResult.of(() -> Result.error("Fault"));
+        String folded = result.fold(val -> "Value " + val, err -> "Error " + err);
+        assertThat(folded).isEqualTo("Error Fault");
+    }
+
+    @Test
+    void fold_nullValueFunctionGivesNPE() {
+        LazyResult<String, String> result = LazyResult.of(() -> { throw new IllegalStateException(); });
+        assertThatThrownBy(() -> result.fold(null, err -> "Error"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void fold_nullErrorFunctionGivesNPE() {
+        LazyResult<String, String> result = LazyResult.of(() -> { throw new IllegalStateException(); });
+        assertThatThrownBy(() -> result.fold(val -> "Value", null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,31 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_Handle_Test {
+
+    @Test
+    void handle_shouldNotCallCallableUntilTerminalCall() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, Exception> result = LazyResult.handle(calls::incrementAndGet);
+        assertThat(calls).hasValue(0);
+        assertThat(result.toResult()).isEqualTo(Result.success(1));
+    }
+
+    @Test
+    void handle_callableThrows_shouldBeErrorWithException() {
+        IllegalStateException exception = new IllegalStateException();
+        LazyResult<String, Exception> result = LazyResult.handle(() -> { throw exception; });
+        assertThat(result.toResult()).isEqualTo(Result.error(exception));
+    }
+
+    @Test
+    void handle_nullCallableGivesNPE() {
+        assertThatThrownBy(() -> LazyResult.handle(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,37 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_Handle_WithExceptionMapping_Test {
+
+    @Test
+    void handle_shouldNotCallCallableUntilTerminalCall() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> result = LazyResult.handle(calls::incrementAndGet, Exception::getMessage);
+        assertThat(calls).hasValue(0);
+        assertThat(result.toResult()).isEqualTo(Result.success(1));
+    }
+
+    @Test
+    void handle_callableThrows_shouldBeErrorWithMappedException() {
+        LazyResult<String, String> result = LazyResult.handle(
+                () -> { throw new IllegalStateException("Error"); }, Exception::getMessage);
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void handle_nullCallableGivesNPE() {
+        assertThatThrownBy(() -> LazyResult.handle(null, Exception::getMessage))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handle_nullExceptionMapperGivesNPE() {
+        assertThatThrownBy(() -> LazyResult.handle(() -> "Success", null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
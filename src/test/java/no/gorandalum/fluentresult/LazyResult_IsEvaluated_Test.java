@@ -0,0 +1,21 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_IsEvaluated_Test {
+
+    @Test
+    void isEvaluated_beforeTerminalCall_shouldBeFalse() {
+        LazyResult<String, String> result = LazyResult.of(() -> Result.success("Success"));
+        assertThat(result.isEvaluated()).isFalse();
+    }
+
+    @Test
+    void isEvaluated_afterTerminalCall_shouldBeTrue() {
+        LazyResult<String, String> result = LazyResult.of(() -> Result.success("Success"));
+        result.orElse("Other");
+        assertThat(result.isEvaluated()).isTrue();
+    }
+}
@@ -0,0 +1,37 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_MapError_Test {
+
+    @Test
+    void mapError_error_shouldMapError() {
+        LazyResult<String, Integer> result = LazyResult.<String, String>error("Error")
+                .mapError(String::length);
+        assertThat(result.toResult()).isEqualTo(Result.error(5));
+    }
+
+    @Test
+    void mapError_success_shouldNotRunFunction() {
+        LazyResult<String, Integer> result = LazyResult.<String, String>success("Success")
+                .mapError(err -> { throw new RuntimeException(); });
+        assertThat(result.toResult()).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void mapError_shouldNotRunFunctionUntilTerminalCall() {
+        LazyResult<String, Integer> result = LazyResult.<String, String>error("Error")
+                .mapError(err -> { throw new IllegalStateException(); });
+        assertThat(result.isEvaluated()).isFalse();
+        assertThatThrownBy(result::toResult).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void mapError_nullFunctionGivesNPE() {
+        LazyResult<String, String> result = LazyResult.error("Error");
+        assertThatThrownBy(() -> result.mapError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,41 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_Map_Test {
+
+    @Test
+    void map_success_shouldMapValue() {
+        LazyResult<Integer, String> result = LazyResult.<String, String>success("Success")
+                .map(String::length);
+        assertThat(result.toResult()).isEqualTo(Result.success(7));
+    }
+
+    @Test
+    void map_error_shouldNotRunFunction() {
+        LazyResult<Integer, String> result = LazyResult.<String, String>error("Error")
+                .map(val -> { throw new RuntimeException(); });
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void map_shouldNotRunFunctionUntilTerminalCall() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> result = LazyResult.<String, String>success("Success")
+                .map(val -> calls.incrementAndGet());
+        assertThat(calls).hasValue(0);
+        assertThat(result.isEvaluated()).isFalse();
+        assertThat(result.toResult()).isEqualTo(Result.success(1));
+    }
+
+    @Test
+    void map_nullFunctionGivesNPE() {
+        LazyResult<String, String> result = LazyResult.success("Success");
+        assertThatThrownBy(() -> result.map(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
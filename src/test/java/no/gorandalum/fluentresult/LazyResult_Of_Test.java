@@ -0,0 +1,31 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_Of_Test {
+
+    @Test
+    void of_shouldNotCallSupplierUntilTerminalCall() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> result = LazyResult.of(() -> Result.success(calls.incrementAndGet()));
+        assertThat(calls).hasValue(0);
+        assertThat(result.isEvaluated()).isFalse();
+        assertThat(result.toResult()).isEqualTo(Result.success(1));
+    }
+
+    @Test
+    void of_shouldHoldSuppliedResult() {
+        Result<String, String> supplied = Result.error("Error");
+        assertThat(LazyResult.of(() -> supplied).toResult()).isSameAs(supplied);
+    }
+
+    @Test
+    void of_nullSupplierGivesNPE() {
+        assertThatThrownBy(() -> LazyResult.of(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,27 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_OrElseGet_Test {
+
+    @Test
+    void orElseGet_success_shouldReturnValue() {
+        LazyResult<String, String> result = LazyResult.of(() -> Result.success("Success"));
+        assertThat(result.orElseGet(err -> "Other")).isEqualTo("Success");
+    }
+
+    @Test
+    void orElseGet_error_shouldReturnMappedError() {
+        LazyResult<String, String> result = LazyResult.of(() -> Result.error("Error"));
+        assertThat(result.orElseGet(err -> "Other " + err)).isEqualTo("Other Error");
+    }
+
+    @Test
+    void orElseGet_nullFunctionGivesNPE() {
+        LazyResult<String, String> result = LazyResult.of(() -> { throw new IllegalStateException(); });
+        assertThatThrownBy(() -> result.orElseGet(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,29 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_OrElseThrow_Test {
+
+    @Test
+    void orElseThrow_success_shouldReturnValue() {
+        LazyResult<String, String> result = LazyResult.of(() -> Result.success("Success"));
+        assertThat(result.orElseThrow(IllegalStateException::new)).isEqualTo("Success");
+    }
+
+    @Test
+    void orElseThrow_error_shouldThrowMappedException() {
+        LazyResult<String, String> result = LazyResult.of(() -> Result.error("Error"));
+        assertThatThrownBy(() -> result.orElseThrow(IllegalStateException::new))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Error");
+    }
+
+    @Test
+    void orElseThrow_nullFunctionGivesNPE() {
+        LazyResult<String, String> result = LazyResult.of(() -> { throw new IllegalStateException(); });
+        assertThatThrownBy(() -> result.orElseThrow(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_OrElse_Test {
+
+    @Test
+    void orElse_success_shouldReturnValue() {
+        LazyResult<String, String> result = LazyResult.of(() -> Result.success("Success"));
+        assertThat(result.orElse("Other")).isEqualTo("Success");
+    }
+
+    @Test
+    void orElse_error_shouldReturnOther() {
+        LazyResult<String, String> result = LazyResult.of(() -> Result.error("Error"));
+        assertThat(result.orElse("Other")).isEqualTo("Other");
+    }
+}
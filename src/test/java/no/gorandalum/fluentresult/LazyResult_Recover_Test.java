@@ -0,0 +1,37 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_Recover_Test {
+
+    @Test
+    void recover_error_shouldRecoverValue() {
+        LazyResult<String, String> result = LazyResult.<String, String>error("Error")
+                .recover(err -> "Recovered " + err);
+        assertThat(result.toResult()).isEqualTo(Result.success("Recovered Error"));
+    }
+
+    @Test
+    void recover_success_shouldNotRunFunction() {
+        LazyResult<String, String> result = LazyResult.<String, String>success("Success")
+                .recover(err -> { throw new RuntimeException(); });
+        assertThat(result.toResult()).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void recover_shouldNotRunFunctionUntilTerminalCall() {
+        LazyResult<String, String> result = LazyResult.<String, String>error("Error")
+                .recover(err -> { throw new IllegalStateException(); });
+        assertThat(result.isEvaluated()).isFalse();
+        assertThatThrownBy(result::toResult).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void recover_nullFunctionGivesNPE() {
+        LazyResult<String, String> result = LazyResult.error("Error");
+        assertThatThrownBy(() -> result.recover(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
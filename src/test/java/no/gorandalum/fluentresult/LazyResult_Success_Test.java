@@ -0,0 +1,21 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_Success_Test {
+
+    @Test
+    void success_shouldBeEvaluatedWithSuccess() {
+        LazyResult<String, String> result = LazyResult.success("Success");
+        assertThat(result.isEvaluated()).isTrue();
+        assertThat(result.toResult()).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void success_nullValueGivesNPE() {
+        assertThatThrownBy(() -> LazyResult.success(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
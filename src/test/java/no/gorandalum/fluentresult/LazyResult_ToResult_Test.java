@@ -0,0 +1,118 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_ToResult_Test {
+
+    @Test
+    void toResult_shouldComputeOnlyOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> result = LazyResult.of(() -> Result.success(calls.incrementAndGet()));
+        assertThat(result.toResult()).isEqualTo(Result.success(1));
+        assertThat(result.isEvaluated()).isTrue();
+        assertThat(result.toResult()).isEqualTo(Result.success(1));
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void toResult_derivedResults_shouldShareComputation() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> base = LazyResult.of(() -> Result.success(calls.incrementAndGet()));
+        LazyResult<Integer, String> doubled = base.map(val -> val * 2);
+        LazyResult<Integer, String> tripled = base.map(val -> val * 3);
+        assertThat(doubled.toResult()).isEqualTo(Result.success(2));
+        assertThat(tripled.toResult()).isEqualTo(Result.success(3));
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void toResult_supplierThrows_shouldRetryOnNextCall() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> result = LazyResult.of(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return Result.success(calls.get());
+        });
+        assertThatThrownBy(result::toResult).isInstanceOf(IllegalStateException.class);
+        assertThat(result.isEvaluated()).isFalse();
+        assertThat(result.toResult()).isEqualTo(Result.success(2));
+    }
+
+    @Test
+    void toResult_longChain_shouldNotOverflowStack() {
+        LazyResult<Integer, String> result = LazyResult.success(0);
+        for (int i = 0; i < 1_000_000; i++) {
+            result = result.map(val -> val + 1);
+        }
+        assertThat(result.toResult()).isEqualTo(Result.success(1_000_000));
+    }
+
+    @Test
+    void toResult_stepThrows_shouldKeepEarlierStepsAndRetryFromFailingStep() {
+        AtomicInteger supplierCalls = new AtomicInteger();
+        AtomicInteger stepCalls = new AtomicInteger();
+        LazyResult<Integer, String> base = LazyResult.of(() -> Result.success(supplierCalls.incrementAndGet()));
+        LazyResult<Integer, String> result = base.map(val -> {
+            if (stepCalls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return val * 10;
+        });
+        assertThatThrownBy(result::toResult).isInstanceOf(IllegalStateException.class);
+        assertThat(base.isEvaluated()).isTrue();
+        assertThat(result.isEvaluated()).isFalse();
+        assertThat(result.toResult()).isEqualTo(Result.success(10));
+        assertThat(supplierCalls).hasValue(1);
+    }
+
+    @Test
+    void toResult_supplierReturnsNull_shouldGiveNPE() {
+        LazyResult<String, String> result = LazyResult.of(() -> null);
+        assertThatThrownBy(result::toResult)
+                .isInstanceOf(NullPointerException.class);
+        assertThat(result.isEvaluated()).isFalse();
+    }
+
+    @Test
+    void toResult_concurrentCalls_shouldComputeOnlyOnce() throws Exception {
+        int threads = 8;
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        LazyResult<Integer, String> result = LazyResult.of(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Result.success(calls.incrementAndGet());
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Result<Integer, String>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return result.toResult();
+                }));
+            }
+            start.countDown();
+            for (Future<Result<Integer, String>> future : futures) {
+                assertThat(future.get()).isEqualTo(Result.success(1));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(calls).hasValue(1);
+    }
+}
@@ -0,0 +1,27 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_ToString_Test {
+
+    @Test
+    void toString_notEvaluated_shouldNotEvaluate() {
+        LazyResult<String, String> result = LazyResult.of(() -> Result.success("Success"));
+        assertThat(result.toString()).isEqualTo("LazyResult[Not evaluated]");
+        assertThat(result.isEvaluated()).isFalse();
+    }
+
+    @Test
+    void toString_success_shouldReturnCorrectStringRepresentation() {
+        LazyResult<String, String> result = LazyResult.success("Success");
+        assertThat(result.toString()).isEqualTo("LazyResult[Value: Success]");
+    }
+
+    @Test
+    void toString_error_shouldReturnCorrectStringRepresentation() {
+        LazyResult<String, String> result = LazyResult.error("Fault");
+        assertThat(result.toString()).isEqualTo("LazyResult[Error: Fault]");
+    }
+}
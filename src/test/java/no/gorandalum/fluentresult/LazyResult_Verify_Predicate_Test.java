@@ -0,0 +1,44 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_Verify_Predicate_Test {
+
+    @Test
+    void verify_predicateTrue_shouldKeepSuccess() {
+        LazyResult<String, String> result = LazyResult.<String, String>success("Success")
+                .verify(val -> true, () -> "Error");
+        assertThat(result.toResult()).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void verify_predicateFalse_shouldBeError() {
+        LazyResult<String, String> result = LazyResult.<String, String>success("Success")
+                .verify(val -> false, () -> "Error");
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void verify_shouldNotTestPredicateUntilTerminalCall() {
+        LazyResult<String, String> result = LazyResult.<String, String>success("Success")
+                .verify(val -> { throw new IllegalStateException(); }, () -> "Error");
+        assertThat(result.isEvaluated()).isFalse();
+        assertThatThrownBy(result::toResult).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void verify_nullPredicateGivesNPE() {
+        LazyResult<String, String> result = LazyResult.success("Success");
+        assertThatThrownBy(() -> result.verify(null, () -> "Error"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void verify_nullErrorSupplierGivesNPE() {
+        LazyResult<String, String> result = LazyResult.success("Success");
+        assertThatThrownBy(() -> result.verify(val -> true, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,39 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyResult_Verify_VoidResult_Test {
+
+    @Test
+    void verify_voidResultSuccess_shouldKeepSuccess() {
+        LazyResult<String, String> result = LazyResult.<String, String>success("Success")
+                .verify(val -> VoidResult.success());
+        assertThat(result.toResult()).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void verify_voidResultError_shouldBeError() {
+        LazyResult<String, String> result = LazyResult.<String, String>success("Success")
+                .verify(val -> VoidResult.error("Error"));
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void verify_shouldNotRunFunctionUntilTerminalCall() {
+        LazyResult<String, String> result = LazyResult.<String, String>success("Success")
+                .verify(val -> { throw new IllegalStateException(); });
+        assertThat(result.isEvaluated()).isFalse();
+        assertThatThrownBy(result::toResult).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void verify_nullFunctionGivesNPE() {
+        LazyResult<String, String> result = LazyResult.success("Success");
+        assertThatThrownBy(() -> result.verify((Function<String, VoidResult<String>>) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_ConsumeEither_Test {
+
+    @Test
+    void consumeEither_success_shouldRunValueConsumer() {
+        List<Long> resultList = new ArrayList<>();
+        LongResult<String> result = LongResult.success(5L);
+        LongResult<String> finalResult = result.consumeEither(
+                resultList::add,
+                err -> fail("Should not be run"));
+        assertThat(resultList).containsExactly(5L);
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consumeEither_error_shouldRunErrorConsumer() {
+        List<String> resultList = new ArrayList<>();
+        LongResult<String> result = LongResult.error("Error");
+        LongResult<String> finalResult = result.consumeEither(
+                val -> fail("Should not be run"),
+                resultList::add);
+        assertThat(resultList).containsExactly("Error");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consumeEither_success_nullValueConsumerGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.consumeEither(null, err -> {}))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void consumeEither_success_nullErrorConsumerGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.consumeEither(val -> {}, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
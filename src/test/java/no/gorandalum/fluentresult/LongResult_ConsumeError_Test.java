@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_ConsumeError_Test {
+
+    @Test
+    void consumeError_success_shouldNotConsume() {
+        LongResult<String> result = LongResult.success(5L);
+        LongResult<String> finalResult = result.consumeError(err -> fail("Should not be run"));
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consumeError_error_shouldConsumeError() {
+        List<String> resultList = new ArrayList<>();
+        LongResult<String> result = LongResult.error("Error");
+        LongResult<String> finalResult = result.consumeError(resultList::add);
+        assertThat(resultList).containsExactly("Error");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consumeError_success_nullConsumerGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.consumeError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
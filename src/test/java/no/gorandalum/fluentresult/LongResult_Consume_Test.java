@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_Consume_Test {
+
+    @Test
+    void consume_success_shouldConsumeValue() {
+        List<Long> resultList = new ArrayList<>();
+        LongResult<String> result = LongResult.success(5L);
+        LongResult<String> finalResult = result.consume(resultList::add);
+        assertThat(resultList).containsExactly(5L);
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consume_error_shouldNotConsume() {
+        LongResult<String> result = LongResult.error("Error");
+        LongResult<String> finalResult = result.consume(val -> fail("Should not be run"));
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void consume_error_nullConsumerGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.consume(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_FlatConsume_Test {
+
+    @Test
+    void flatConsume_success_shouldKeepSuccessWhenFunctionSucceeds() {
+        List<Long> resultList = new ArrayList<>();
+        LongResult<String> result = LongResult.success(5L);
+        LongResult<String> finalResult = result.flatConsume(val -> {
+            resultList.add(val);
+            return VoidResult.success();
+        });
+        assertThat(resultList).containsExactly(5L);
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void flatConsume_success_shouldChangeToErrorWhenFunctionFails() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.flatConsume(val -> VoidResult.error("Consume error")))
+                .isEqualTo(LongResult.error("Consume error"));
+    }
+
+    @Test
+    void flatConsume_error_shouldNotRunFunction() {
+        LongResult<String> result = LongResult.error("Error");
+        LongResult<String> finalResult = result.flatConsume(val -> fail("Should not be run"));
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void flatConsume_success_nullValueFromFunctionGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.flatConsume(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatConsume_error_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.flatConsume(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
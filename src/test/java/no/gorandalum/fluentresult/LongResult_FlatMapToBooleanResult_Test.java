@@ -0,0 +1,43 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_FlatMapToBooleanResult_Test {
+
+    @Test
+    void flatMapToBooleanResult_success_shouldReturnMappedResult() {
+        LongResult<String> result = LongResult.success(5L);
+        BooleanResult<String> mapped = result.flatMapToBooleanResult(val -> BooleanResult.success(val == 5L));
+        assertThat(mapped).isEqualTo(BooleanResult.successTrue());
+    }
+
+    @Test
+    void flatMapToBooleanResult_success_shouldReturnMappedError() {
+        LongResult<String> result = LongResult.success(5L);
+        BooleanResult<String> mapped = result.flatMapToBooleanResult(val -> BooleanResult.error("Mapped"));
+        assertThat(mapped).isEqualTo(BooleanResult.error("Mapped"));
+    }
+
+    @Test
+    void flatMapToBooleanResult_error_shouldNotMap() {
+        LongResult<String> result = LongResult.error("Error");
+        BooleanResult<String> mapped = result.flatMapToBooleanResult(val -> fail("Should not be run"));
+        assertThat(mapped).isEqualTo(BooleanResult.error("Error"));
+    }
+
+    @Test
+    void flatMapToBooleanResult_success_nullValueFromFunctionGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.flatMapToBooleanResult(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMapToBooleanResult_error_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.flatMapToBooleanResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,43 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_FlatMapToLongResult_Test {
+
+    @Test
+    void flatMapToLongResult_success_shouldReturnMappedResult() {
+        LongResult<String> result = LongResult.success(5L);
+        LongResult<String> mapped = result.flatMapToLongResult(val -> LongResult.success(val + 5L));
+        assertThat(mapped).isEqualTo(LongResult.success(5L + 5L));
+    }
+
+    @Test
+    void flatMapToLongResult_success_shouldReturnMappedError() {
+        LongResult<String> result = LongResult.success(5L);
+        LongResult<String> mapped = result.flatMapToLongResult(val -> LongResult.error("Mapped"));
+        assertThat(mapped).isEqualTo(LongResult.error("Mapped"));
+    }
+
+    @Test
+    void flatMapToLongResult_error_shouldNotMap() {
+        LongResult<String> result = LongResult.error("Error");
+        LongResult<String> mapped = result.flatMapToLongResult(val -> fail("Should not be run"));
+        assertThat(mapped).isEqualTo(LongResult.error("Error"));
+    }
+
+    @Test
+    void flatMapToLongResult_success_nullValueFromFunctionGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.flatMapToLongResult(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMapToLongResult_error_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.flatMapToLongResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
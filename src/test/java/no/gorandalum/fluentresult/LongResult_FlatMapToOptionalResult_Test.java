@@ -0,0 +1,43 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_FlatMapToOptionalResult_Test {
+
+    @Test
+    void flatMapToOptionalResult_success_shouldReturnMappedResult() {
+        LongResult<String> result = LongResult.success(5L);
+        OptionalResult<String, String> mapped = result.flatMapToOptionalResult(val -> OptionalResult.success("Value " + val));
+        assertThat(mapped).isEqualTo(OptionalResult.success("Value 5"));
+    }
+
+    @Test
+    void flatMapToOptionalResult_success_shouldReturnMappedError() {
+        LongResult<String> result = LongResult.success(5L);
+        OptionalResult<String, String> mapped = result.flatMapToOptionalResult(val -> OptionalResult.error("Mapped"));
+        assertThat(mapped).isEqualTo(OptionalResult.error("Mapped"));
+    }
+
+    @Test
+    void flatMapToOptionalResult_error_shouldNotMap() {
+        LongResult<String> result = LongResult.error("Error");
+        OptionalResult<String, String> mapped = result.flatMapToOptionalResult(val -> fail("Should not be run"));
+        assertThat(mapped).isEqualTo(OptionalResult.error("Error"));
+    }
+
+    @Test
+    void flatMapToOptionalResult_success_nullValueFromFunctionGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.flatMapToOptionalResult(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMapToOptionalResult_error_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.flatMapToOptionalResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
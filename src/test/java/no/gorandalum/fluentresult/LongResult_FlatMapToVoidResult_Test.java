@@ -0,0 +1,43 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_FlatMapToVoidResult_Test {
+
+    @Test
+    void flatMapToVoidResult_success_shouldReturnMappedResult() {
+        LongResult<String> result = LongResult.success(5L);
+        VoidResult<String> mapped = result.flatMapToVoidResult(val -> VoidResult.success());
+        assertThat(mapped).isEqualTo(VoidResult.success());
+    }
+
+    @Test
+    void flatMapToVoidResult_success_shouldReturnMappedError() {
+        LongResult<String> result = LongResult.success(5L);
+        VoidResult<String> mapped = result.flatMapToVoidResult(val -> VoidResult.error("Mapped"));
+        assertThat(mapped).isEqualTo(VoidResult.error("Mapped"));
+    }
+
+    @Test
+    void flatMapToVoidResult_error_shouldNotMap() {
+        LongResult<String> result = LongResult.error("Error");
+        VoidResult<String> mapped = result.flatMapToVoidResult(val -> fail("Should not be run"));
+        assertThat(mapped).isEqualTo(VoidResult.error("Error"));
+    }
+
+    @Test
+    void flatMapToVoidResult_success_nullValueFromFunctionGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.flatMapToVoidResult(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMapToVoidResult_error_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.flatMapToVoidResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,43 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_FlatMap_Test {
+
+    @Test
+    void flatMap_success_shouldReturnMappedResult() {
+        LongResult<String> result = LongResult.success(5L);
+        Result<String, String> mapped = result.flatMap(val -> Result.success("Value " + val));
+        assertThat(mapped).isEqualTo(Result.success("Value 5"));
+    }
+
+    @Test
+    void flatMap_success_shouldReturnMappedError() {
+        LongResult<String> result = LongResult.success(5L);
+        Result<String, String> mapped = result.flatMap(val -> Result.error("Mapped"));
+        assertThat(mapped).isEqualTo(Result.error("Mapped"));
+    }
+
+    @Test
+    void flatMap_error_shouldNotMap() {
+        LongResult<String> result = LongResult.error("Error");
+        Result<String, String> mapped = result.flatMap(val -> fail("Should not be run"));
+        assertThat(mapped).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void flatMap_success_nullValueFromFunctionGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.flatMap(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMap_error_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.flatMap(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
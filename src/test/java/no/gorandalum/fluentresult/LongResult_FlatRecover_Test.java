@@ -0,0 +1,31 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_FlatRecover_Test {
+
+    @Test
+    void flatRecover_success_shouldRemainExistingSuccess() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.flatRecover(err -> LongResult.success(7L)))
+                .isEqualTo(LongResult.success(5L));
+    }
+
+    @Test
+    void flatRecover_error_shouldApplyRecoverFunction() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThat(result.flatRecover(err -> LongResult.success(7L)))
+                .isEqualTo(LongResult.success(7L));
+        assertThat(result.flatRecover(err -> LongResult.error("Recovered error")))
+                .isEqualTo(LongResult.error("Recovered error"));
+    }
+
+    @Test
+    void flatRecover_error_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.flatRecover(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,35 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_FlatRunIfSuccess_Test {
+
+    @Test
+    void flatRunIfSuccess_success_shouldKeepSuccessWhenSupplierSucceeds() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.flatRunIfSuccess(VoidResult::success)).isSameAs(result);
+    }
+
+    @Test
+    void flatRunIfSuccess_success_shouldChangeToErrorWhenSupplierFails() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.flatRunIfSuccess(() -> VoidResult.error("Run error")))
+                .isEqualTo(LongResult.error("Run error"));
+    }
+
+    @Test
+    void flatRunIfSuccess_error_shouldNotRunSupplier() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThat(result.flatRunIfSuccess(() -> fail("Should not be run")))
+                .isSameAs(result);
+    }
+
+    @Test
+    void flatRunIfSuccess_error_nullSupplierGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.flatRunIfSuccess(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,31 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_Fold_Test {
+
+    @Test
+    void fold_success_shouldApplyValueFunction() {
+        LongResult<String> result = LongResult.success(5L);
+        String folded = result.fold(val -> "Value " + val, err -> "Error " + err);
+        assertThat(folded).isEqualTo("Value 5");
+    }
+
+    @Test
+    void fold_error_shouldApplyErrorFunction() {
+        LongResult<String> result = LongResult.error("Error");
+        String folded = result.fold(val -> "Value " + val, err -> "Error " + err);
+        assertThat(folded).isEqualTo("Error Error");
+    }
+
+    @Test
+    void fold_success_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.fold(null, err -> "Error"))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> result.fold(val -> "Value", null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
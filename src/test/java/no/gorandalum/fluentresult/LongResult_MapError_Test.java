@@ -0,0 +1,39 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_MapError_Test {
+
+    @Test
+    void mapError_success_shouldNotMap() {
+        LongResult<String> result = LongResult.success(5L);
+        LongResult<Integer> mapped = result.mapError(err -> fail("Should not be run"));
+        assertThat(mapped.orElse(7L)).isEqualTo(5L);
+    }
+
+    @Test
+    void mapError_error_shouldMapError() {
+        LongResult<String> result = LongResult.error("Error");
+        result.mapError(String::length)
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        err -> assertThat(err).isEqualTo(5)
+                );
+    }
+
+    @Test
+    void mapError_error_nullValueFromFunctionGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.mapError(err -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void mapError_success_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.mapError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_MapToBoolean_Test {
+
+    @Test
+    void mapToBoolean_success_shouldMapValue() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.mapToBoolean(val -> val == 5L).orElseFalse()).isTrue();
+        assertThat(result.mapToBoolean(val -> val == 7L).orElseTrue()).isFalse();
+    }
+
+    @Test
+    void mapToBoolean_error_shouldNotMap() {
+        LongResult<String> result = LongResult.error("Error");
+        result.mapToBoolean(val -> {
+                    throw new RuntimeException("Should not be run");
+                })
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        err -> assertThat(err).isEqualTo("Error")
+                );
+    }
+
+    @Test
+    void mapToBoolean_error_nullPredicateGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.mapToBoolean(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
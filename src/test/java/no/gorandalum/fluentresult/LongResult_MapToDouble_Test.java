@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_MapToDouble_Test {
+
+    @Test
+    void mapToDouble_success_shouldMapValue() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.mapToDouble(val -> val / 2.0).orElse(0.0))
+                .isEqualTo(2.5);
+    }
+
+    @Test
+    void mapToDouble_error_shouldNotMap() {
+        LongResult<String> result = LongResult.error("Error");
+        result.mapToDouble(val -> {
+                    throw new RuntimeException("Should not be run");
+                })
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        err -> assertThat(err).isEqualTo("Error")
+                );
+    }
+
+    @Test
+    void mapToDouble_error_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.mapToDouble(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_MapToLong_Test {
+
+    @Test
+    void mapToLong_success_shouldMapValue() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.mapToLong(val -> val * 10).orElse(0L))
+                .isEqualTo(50L);
+    }
+
+    @Test
+    void mapToLong_error_shouldNotMap() {
+        LongResult<String> result = LongResult.error("Error");
+        result.mapToLong(val -> {
+                    throw new RuntimeException("Should not be run");
+                })
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        err -> assertThat(err).isEqualTo("Error")
+                );
+    }
+
+    @Test
+    void mapToLong_error_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.mapToLong(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,52 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_MapToOptional_Test {
+
+    @Test
+    void mapToOptional_success_shouldMapToPresentValue() {
+        LongResult<String> result = LongResult.success(5L);
+        result.mapToOptional(val -> Optional.of("Value " + val)).consumeEither(
+                val -> assertThat(val).isEqualTo("Value 5"),
+                () -> fail("Should not be empty"),
+                err -> fail("Should not be error")
+        );
+    }
+
+    @Test
+    void mapToOptional_success_shouldMapToEmpty() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.mapToOptional(val -> Optional.empty()))
+                .isEqualTo(OptionalResult.empty());
+    }
+
+    @Test
+    void mapToOptional_error_shouldNotMap() {
+        LongResult<String> result = LongResult.error("Error");
+        result.mapToOptional(val -> fail("Should not be run"))
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        () -> fail("Should not be empty"),
+                        err -> assertThat(err).isEqualTo("Error")
+                );
+    }
+
+    @Test
+    void mapToOptional_success_nullValueFromFunctionGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.mapToOptional(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void mapToOptional_error_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.mapToOptional(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,41 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_Map_Test {
+
+    @Test
+    void map_success_shouldMapValue() {
+        LongResult<String> result = LongResult.success(5L);
+        result.map(val -> "Value " + val).consumeEither(
+                val -> assertThat(val).isEqualTo("Value 5"),
+                err -> fail("Should not be error")
+        );
+    }
+
+    @Test
+    void map_error_shouldNotMap() {
+        LongResult<String> result = LongResult.error("Error");
+        result.map(val -> fail("Should not be run"))
+                .consumeEither(
+                        val -> fail("Should not have value"),
+                        err -> assertThat(err).isEqualTo("Error")
+                );
+    }
+
+    @Test
+    void map_success_nullValueFromFunctionGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.map(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void map_error_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.map(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
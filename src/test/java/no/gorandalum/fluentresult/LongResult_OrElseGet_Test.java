@@ -0,0 +1,29 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_OrElseGet_Test {
+
+    @Test
+    void orElseGet_success_shouldReturnValue() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.orElseGet(err -> {
+            throw new RuntimeException("Should not be run");
+        })).isEqualTo(5L);
+    }
+
+    @Test
+    void orElseGet_error_shouldReturnValueFromFunction() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThat(result.orElseGet(err -> 7L)).isEqualTo(7L);
+    }
+
+    @Test
+    void orElseGet_success_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.orElseGet(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
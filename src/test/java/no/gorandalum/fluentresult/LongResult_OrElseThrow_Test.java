@@ -0,0 +1,37 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_OrElseThrow_Test {
+
+    @Test
+    void orElseThrow_success_shouldRespondWithSuccessValue() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.orElseThrow(IllegalArgumentException::new))
+                .isEqualTo(5L);
+    }
+
+    @Test
+    void orElseThrow_error_shouldThrowGivenException() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.orElseThrow(IllegalArgumentException::new))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Error");
+    }
+
+    @Test
+    void orElseThrow_success_nullExceptionSupplierGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.orElseThrow(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void orElseThrow_error_nullExceptionFromSupplierGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.orElseThrow(err -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
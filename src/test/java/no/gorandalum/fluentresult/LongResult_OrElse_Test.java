@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_OrElse_Test {
+
+    @Test
+    void orElse_success_shouldReturnValue() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.orElse(7L)).isEqualTo(5L);
+    }
+
+    @Test
+    void orElse_error_shouldReturnOther() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThat(result.orElse(7L)).isEqualTo(7L);
+    }
+}
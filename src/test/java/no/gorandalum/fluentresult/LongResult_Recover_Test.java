@@ -0,0 +1,29 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_Recover_Test {
+
+    @Test
+    void recover_success_shouldKeepValue() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.recover(err -> {
+            throw new RuntimeException("Should not be run");
+        }).orElse(7L)).isEqualTo(5L);
+    }
+
+    @Test
+    void recover_error_shouldApplyRecoverFunction() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThat(result.recover(err -> 7L)).isEqualTo(LongResult.success(7L));
+    }
+
+    @Test
+    void recover_success_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.recover(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
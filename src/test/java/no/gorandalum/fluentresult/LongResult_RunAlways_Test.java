@@ -0,0 +1,36 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_RunAlways_Test {
+
+    @Test
+    void runAlways_success_shouldRun() {
+        List<String> resultList = new ArrayList<>();
+        LongResult<String> result = LongResult.success(5L);
+        LongResult<String> finalResult = result.runAlways(() -> resultList.add("Run"));
+        assertThat(resultList).containsExactly("Run");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runAlways_error_shouldRun() {
+        List<String> resultList = new ArrayList<>();
+        LongResult<String> result = LongResult.error("Error");
+        LongResult<String> finalResult = result.runAlways(() -> resultList.add("Run"));
+        assertThat(resultList).containsExactly("Run");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runAlways_success_nullRunnableGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.runAlways(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
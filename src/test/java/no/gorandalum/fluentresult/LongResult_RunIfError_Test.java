@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_RunIfError_Test {
+
+    @Test
+    void runIfError_success_shouldNotRun() {
+        LongResult<String> result = LongResult.success(5L);
+        LongResult<String> finalResult = result.runIfError(() -> fail("Should not be run"));
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runIfError_error_shouldRun() {
+        List<String> resultList = new ArrayList<>();
+        LongResult<String> result = LongResult.error("Error");
+        LongResult<String> finalResult = result.runIfError(() -> resultList.add("Run"));
+        assertThat(resultList).containsExactly("Run");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runIfError_success_nullRunnableGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.runIfError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,34 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_RunIfSuccess_Test {
+
+    @Test
+    void runIfSuccess_success_shouldRun() {
+        List<String> resultList = new ArrayList<>();
+        LongResult<String> result = LongResult.success(5L);
+        LongResult<String> finalResult = result.runIfSuccess(() -> resultList.add("Run"));
+        assertThat(resultList).containsExactly("Run");
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runIfSuccess_error_shouldNotRun() {
+        LongResult<String> result = LongResult.error("Error");
+        LongResult<String> finalResult = result.runIfSuccess(() -> fail("Should not be run"));
+        assertThat(finalResult).isSameAs(result);
+    }
+
+    @Test
+    void runIfSuccess_error_nullRunnableGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.runIfSuccess(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_SharedError_Test {
+
+    enum ErrorCode {
+        NOT_FOUND,
+        FORBIDDEN,
+        CONFLICT {
+            @Override
+            public String toString() {
+                return "Conflict";
+            }
+        }
+    }
+
+    @Test
+    void sharedError_enumConstant_shouldReturnSharedInstance() {
+        LongResult<ErrorCode> result = LongResult.sharedError(ErrorCode.NOT_FOUND);
+        assertThat(result).isSameAs(LongResult.sharedError(ErrorCode.NOT_FOUND));
+        assertThat(result).isEqualTo(LongResult.error(ErrorCode.NOT_FOUND));
+    }
+
+    @Test
+    void sharedError_registeredError_shouldReturnSharedInstance() {
+        SharedErrors.register("Registered LongResult");
+        LongResult<String> result = LongResult.sharedError("Registered LongResult");
+        assertThat(result).isSameAs(LongResult.sharedError("Registered LongResult"));
+        assertThat(result).isEqualTo(LongResult.error("Registered LongResult"));
+    }
+
+    @Test
+    void sharedError_unregisteredError_shouldReturnNewInstance() {
+        LongResult<String> result = LongResult.sharedError("Unregistered LongResult");
+        assertThat(result).isNotSameAs(LongResult.sharedError("Unregistered LongResult"));
+        assertThat(result).isEqualTo(LongResult.error("Unregistered LongResult"));
+    }
+
+    @Test
+    void sharedError_nullErrorGivesNPE() {
+        assertThatThrownBy(() -> LongResult.sharedError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,23 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_Success_Test {
+
+    @Test
+    void success_shouldContainValue() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.orElse(7L)).isEqualTo(5L);
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.value()).isEqualTo(5L);
+        assertThat(result.error()).isNull();
+    }
+
+    @Test
+    void success_shouldEqualOtherSuccessWithSameValue() {
+        assertThat(LongResult.success(5L)).isEqualTo(LongResult.success(5L));
+        assertThat(LongResult.success(5L)).isNotEqualTo(LongResult.success(7L));
+    }
+}
@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_ToOptionalResult_Test {
+
+    @Test
+    void toOptionalResult_success_shouldContainBoxedValue() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.toOptionalResult()).isEqualTo(OptionalResult.success(5L));
+    }
+
+    @Test
+    void toOptionalResult_error_shouldContainError() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThat(result.toOptionalResult()).isEqualTo(OptionalResult.error("Error"));
+    }
+}
@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_ToResult_Test {
+
+    @Test
+    void toResult_success_shouldContainBoxedValue() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.toResult()).isEqualTo(Result.success(5L));
+    }
+
+    @Test
+    void toResult_error_shouldContainError() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThat(result.toResult()).isEqualTo(Result.error("Error"));
+    }
+}
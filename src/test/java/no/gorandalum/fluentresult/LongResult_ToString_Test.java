@@ -0,0 +1,18 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_ToString_Test {
+
+    @Test
+    void toString_success() {
+        assertThat(LongResult.success(5L).toString()).isEqualTo("LongResult[Value: 5]");
+    }
+
+    @Test
+    void toString_error() {
+        assertThat(LongResult.error("Error").toString()).isEqualTo("LongResult[Error: Error]");
+    }
+}
@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_ToVoidResult_Test {
+
+    @Test
+    void toVoidResult_success_shouldBeSuccess() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.toVoidResult()).isEqualTo(VoidResult.success());
+    }
+
+    @Test
+    void toVoidResult_error_shouldContainError() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThat(result.toVoidResult()).isEqualTo(VoidResult.error("Error"));
+    }
+}
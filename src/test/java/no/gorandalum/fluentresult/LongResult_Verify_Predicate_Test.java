@@ -0,0 +1,47 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_Verify_Predicate_Test {
+
+    @Test
+    void verify_predicate_success_shouldKeepSuccessResultWhenVerifiedTrue() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.verify(val -> val == 5L, () -> "ValidationError"))
+                .isSameAs(result);
+    }
+
+    @Test
+    void verify_predicate_success_shouldChangeToProvidedErrorWhenVerifiedFalse() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.verify(val -> val == 7L, () -> "ValidationError"))
+                .isEqualTo(LongResult.error("ValidationError"));
+    }
+
+    @Test
+    void verify_predicate_error_shouldNotRunVerificatorWhenError() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThat(result.verify(
+                val -> {
+                    throw new RuntimeException();
+                },
+                () -> "ValidationError"))
+                .isSameAs(result);
+    }
+
+    @Test
+    void verify_predicate_success_nullVerificatorGivesNPE() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThatThrownBy(() -> result.verify(null, () -> "ValidationError"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void verify_predicate_error_nullErrorSupplierGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.verify(val -> true, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
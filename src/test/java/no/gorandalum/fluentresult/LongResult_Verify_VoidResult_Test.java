@@ -0,0 +1,35 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongResult_Verify_VoidResult_Test {
+
+    @Test
+    void verify_voidResult_success_shouldKeepSuccessResultWhenVerifiedSuccess() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.verify(val -> VoidResult.success())).isSameAs(result);
+    }
+
+    @Test
+    void verify_voidResult_success_shouldChangeToErrorWhenVerifiedError() {
+        LongResult<String> result = LongResult.success(5L);
+        assertThat(result.verify(val -> VoidResult.error("ValidationError")))
+                .isEqualTo(LongResult.error("ValidationError"));
+    }
+
+    @Test
+    void verify_voidResult_error_shouldNotRunVerificatorWhenError() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThat(result.verify(val -> fail("Should not be run")))
+                .isSameAs(result);
+    }
+
+    @Test
+    void verify_voidResult_error_nullFunctionGivesNPE() {
+        LongResult<String> result = LongResult.error("Error");
+        assertThatThrownBy(() -> result.verify(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,119 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OptionalResult_FirstSuccess_Test {
+
+    @Test
+    void firstSuccess_oneSucceeds_shouldGiveSuccess() {
+        OptionalResult<String, List<String>> result = OptionalResult.firstSuccess(
+                Arrays.<Supplier<OptionalResult<String, String>>>asList(
+                        () -> OptionalResult.error("Failed"),
+                        () -> OptionalResult.success("Success")));
+        assertThat(result).isEqualTo(OptionalResult.success("Success"));
+    }
+
+    @Test
+    void firstSuccess_emptySuccess_shouldCountAsSuccess() {
+        OptionalResult<String, List<String>> result = OptionalResult.firstSuccess(
+                Arrays.<Supplier<OptionalResult<String, String>>>asList(
+                        () -> OptionalResult.error("Failed"),
+                        OptionalResult::empty));
+        assertThat(result).isEqualTo(OptionalResult.empty());
+    }
+
+    @Test
+    void firstSuccess_allFail_shouldGiveErrorsInOrderOfAlternatives() {
+        CountDownLatch firstMayFail = new CountDownLatch(1);
+        OptionalResult<String, List<String>> result = OptionalResult.firstSuccess(
+                Arrays.<Supplier<OptionalResult<String, String>>>asList(
+                        () -> {
+                            try {
+                                firstMayFail.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return OptionalResult.error("First");
+                        },
+                        () -> {
+                            firstMayFail.countDown();
+                            return OptionalResult.error("Second");
+                        }));
+        assertThat(result).isEqualTo(OptionalResult.error(Arrays.asList("First", "Second")));
+    }
+
+    @Test
+    void firstSuccess_hedgeDelay_firstFails_shouldStartNext() {
+        OptionalResult<String, List<String>> result = OptionalResult.firstSuccess(
+                Arrays.<Supplier<OptionalResult<String, String>>>asList(
+                        () -> OptionalResult.error("Failed"),
+                        () -> OptionalResult.success("Success")),
+                Duration.ofMinutes(1));
+        assertThat(result).isEqualTo(OptionalResult.success("Success"));
+    }
+
+    @Test
+    void firstSuccess_executor_shouldRunAlternativesOnExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "first-success-test"));
+        try {
+            OptionalResult<String, List<String>> result = OptionalResult.firstSuccess(
+                    Collections.<Supplier<OptionalResult<String, String>>>singletonList(
+                            () -> OptionalResult.success(Thread.currentThread().getName())),
+                    Duration.ofMinutes(1),
+                    executor);
+            assertThat(result).isEqualTo(OptionalResult.success("first-success-test"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void firstSuccess_callingThreadInterrupted_shouldThrowCancellationException() {
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> OptionalResult.firstSuccess(
+                    Collections.<Supplier<OptionalResult<String, String>>>singletonList(() -> {
+                        try {
+                            latch.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return OptionalResult.success("Success");
+                    })))
+                    .isInstanceOf(CancellationException.class)
+                    .hasCauseInstanceOf(InterruptedException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+            latch.countDown();
+        }
+    }
+
+    @Test
+    void firstSuccess_alternativeReturnsNullGivesNPE() {
+        assertThatThrownBy(() -> OptionalResult.firstSuccess(
+                Collections.<Supplier<OptionalResult<String, String>>>singletonList(() -> null)))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void firstSuccess_emptyListGivesIAE() {
+        assertThatThrownBy(() -> OptionalResult.firstSuccess(
+                Collections.<Supplier<OptionalResult<String, String>>>emptyList()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Alternatives must not be empty");
+    }
+}
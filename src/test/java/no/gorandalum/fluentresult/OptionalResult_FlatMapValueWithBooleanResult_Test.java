@@ -16,4 +16,27 @@ class OptionalResult_FlatMapValueWithBooleanResult_Test {
                 () -> fail("Should not be empty"),
                 err -> fail("Expected no error"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void flatMapValueWithBooleanResult_empty_shouldRemainEmpty() {
+        OptionalResult<Boolean, String> result =
+                OptionalResult.<String, String>empty()
+                        .flatMapValueWithBooleanResult(val -> fail("Should not be run"));
+        assertThat(result).isEqualTo(OptionalResult.empty());
+    }
+
+    @Test
+    void flatMapValueWithBooleanResult_error_shouldKeepError() {
+        OptionalResult<Boolean, String> result =
+                OptionalResult.<String, String>error("Error")
+                        .flatMapValueWithBooleanResult(val -> fail("Should not be run"));
+        assertThat(result).isEqualTo(OptionalResult.error("Error"));
+    }
+
+    @Test
+    void flatMapValueWithBooleanResult_success_nullValueFromFunctionGivesNPE() {
+        OptionalResult<String, String> result = OptionalResult.success("Success");
+        assertThatThrownBy(() -> result.flatMapValueWithBooleanResult(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
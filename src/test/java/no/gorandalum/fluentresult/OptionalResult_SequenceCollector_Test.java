@@ -0,0 +1,54 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OptionalResult_SequenceCollector_Test {
+
+    @Test
+    void sequenceCollector_allSuccess_shouldContainPresentValuesInOrder() {
+        Result<List<String>, String> result = Stream.of(
+                OptionalResult.<String, String>success("First"),
+                OptionalResult.<String, String>empty(),
+                OptionalResult.<String, String>success("Third"))
+                .collect(OptionalResult.sequenceCollector());
+        assertThat(result).isEqualTo(Result.success(Arrays.asList("First", "Third")));
+    }
+
+    @Test
+    void sequenceCollector_error_shouldContainFirstError() {
+        Result<List<String>, String> result = Stream.of(
+                OptionalResult.<String, String>success("First"),
+                OptionalResult.<String, String>error("Error"),
+                OptionalResult.<String, String>error("Other error"))
+                .collect(OptionalResult.sequenceCollector());
+        assertThat(result).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void sequenceCollector_parallel_shouldContainFirstErrorInEncounterOrder() {
+        Result<List<Integer>, String> result = IntStream.range(0, 10_000)
+                .parallel()
+                .mapToObj(val -> val % 1000 == 999 ?
+                        OptionalResult.<Integer, String>error("Error at " + val) :
+                        OptionalResult.<Integer, String>success(val))
+                .collect(OptionalResult.sequenceCollector());
+        assertThat(result).isEqualTo(Result.error("Error at 999"));
+    }
+
+    @Test
+    void sequenceCollector_allSuccess_shouldContainUnmodifiableList() {
+        List<String> values = Stream.of("First", "Second")
+                .map(OptionalResult::<String, String>success)
+                .collect(OptionalResult.sequenceCollector())
+                .orElseThrow(IllegalStateException::new);
+        assertThatThrownBy(() -> values.add("Third"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
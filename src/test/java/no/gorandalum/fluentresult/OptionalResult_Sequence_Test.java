@@ -0,0 +1,46 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OptionalResult_Sequence_Test {
+
+    @Test
+    void sequence_allSuccess_shouldContainPresentValuesInOrder() {
+        List<OptionalResult<String, String>> results = Arrays.asList(
+                OptionalResult.success("First"),
+                OptionalResult.empty(),
+                OptionalResult.success("Third"));
+        assertThat(OptionalResult.sequence(results))
+                .isEqualTo(Result.success(Arrays.asList("First", "Third")));
+    }
+
+    @Test
+    void sequence_allEmpty_shouldContainEmptyList() {
+        List<OptionalResult<String, String>> results = Arrays.asList(
+                OptionalResult.empty(),
+                OptionalResult.empty());
+        assertThat(OptionalResult.sequence(results)).isEqualTo(Result.success(Collections.emptyList()));
+    }
+
+    @Test
+    void sequence_error_shouldContainFirstErrorAndStopIterating() {
+        List<OptionalResult<String, String>> results = Arrays.asList(
+                OptionalResult.success("First"),
+                OptionalResult.error("Error"),
+                null);
+        assertThat(OptionalResult.sequence(results)).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void sequence_nullResultGivesNPE() {
+        List<OptionalResult<String, String>> results = Arrays.asList(OptionalResult.empty(), null);
+        assertThatThrownBy(() -> OptionalResult.sequence(results))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OptionalResult_SharedError_Test {
+
+    enum ErrorCode {
+        NOT_FOUND,
+        FORBIDDEN,
+        CONFLICT {
+            @Override
+            public String toString() {
+                return "Conflict";
+            }
+        }
+    }
+
+    @Test
+    void sharedError_enumConstant_shouldReturnSharedInstance() {
+        OptionalResult<String, ErrorCode> result = OptionalResult.sharedError(ErrorCode.NOT_FOUND);
+        assertThat(result).isSameAs(OptionalResult.sharedError(ErrorCode.NOT_FOUND));
+        assertThat(result).isEqualTo(OptionalResult.error(ErrorCode.NOT_FOUND));
+    }
+
+    @Test
+    void sharedError_registeredError_shouldReturnSharedInstance() {
+        SharedErrors.register("Registered OptionalResult");
+        OptionalResult<String, String> result = OptionalResult.sharedError("Registered OptionalResult");
+        assertThat(result).isSameAs(OptionalResult.sharedError("Registered OptionalResult"));
+        assertThat(result).isEqualTo(OptionalResult.error("Registered OptionalResult"));
+    }
+
+    @Test
+    void sharedError_unregisteredError_shouldReturnNewInstance() {
+        OptionalResult<String, String> result = OptionalResult.sharedError("Unregistered OptionalResult");
+        assertThat(result).isNotSameAs(OptionalResult.sharedError("Unregistered OptionalResult"));
+        assertThat(result).isEqualTo(OptionalResult.error("Unregistered OptionalResult"));
+    }
+
+    @Test
+    void sharedError_nullErrorGivesNPE() {
+        assertThatThrownBy(() -> OptionalResult.sharedError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,114 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OptionalResult_SharedSuccess_Test {
+
+    @Test
+    void sharedSuccess_smallInteger_shouldReturnSharedInstance() {
+        OptionalResult<Integer, String> result = OptionalResult.sharedSuccess(5);
+        assertThat(result).isSameAs(OptionalResult.sharedSuccess(5));
+        assertThat(result).isEqualTo(OptionalResult.success(5));
+    }
+
+    @Test
+    void sharedSuccess_integerAtLowerBound_shouldReturnSharedInstance() {
+        assertThat(OptionalResult.sharedSuccess(-128)).isSameAs(OptionalResult.sharedSuccess(-128));
+        assertThat(OptionalResult.sharedSuccess(-128)).isEqualTo(OptionalResult.success(-128));
+    }
+
+    @Test
+    void sharedSuccess_integerAtUpperBound_shouldReturnSharedInstance() {
+        assertThat(OptionalResult.sharedSuccess(127)).isSameAs(OptionalResult.sharedSuccess(127));
+        assertThat(OptionalResult.sharedSuccess(127)).isEqualTo(OptionalResult.success(127));
+    }
+
+    @Test
+    void sharedSuccess_integerOutsideRange_shouldReturnNewInstance() {
+        assertThat(OptionalResult.sharedSuccess(-129)).isNotSameAs(OptionalResult.sharedSuccess(-129));
+        assertThat(OptionalResult.sharedSuccess(128)).isNotSameAs(OptionalResult.sharedSuccess(128));
+        assertThat(OptionalResult.sharedSuccess(128)).isEqualTo(OptionalResult.success(128));
+    }
+
+    @Test
+    void sharedSuccess_smallLong_shouldReturnSharedInstance() {
+        OptionalResult<Long, String> result = OptionalResult.sharedSuccess(5L);
+        assertThat(result).isSameAs(OptionalResult.sharedSuccess(5L));
+        assertThat(result).isEqualTo(OptionalResult.success(5L));
+    }
+
+    @Test
+    void sharedSuccess_longOutsideRange_shouldReturnNewInstance() {
+        assertThat(OptionalResult.sharedSuccess(1000L)).isNotSameAs(OptionalResult.sharedSuccess(1000L));
+        assertThat(OptionalResult.sharedSuccess(1000L)).isEqualTo(OptionalResult.success(1000L));
+    }
+
+    @Test
+    void sharedSuccess_boolean_shouldReturnSharedInstance() {
+        assertThat(OptionalResult.sharedSuccess(true)).isSameAs(OptionalResult.sharedSuccess(true));
+        assertThat(OptionalResult.sharedSuccess(true)).isEqualTo(OptionalResult.success(true));
+        assertThat(OptionalResult.sharedSuccess(false)).isSameAs(OptionalResult.sharedSuccess(false));
+        assertThat(OptionalResult.sharedSuccess(false)).isEqualTo(OptionalResult.success(false));
+    }
+
+    @Test
+    void sharedSuccess_emptyString_shouldReturnSharedInstance() {
+        OptionalResult<String, String> result = OptionalResult.sharedSuccess(new String(""));
+        assertThat(result).isSameAs(OptionalResult.sharedSuccess(""));
+        assertThat(result).isEqualTo(OptionalResult.success(""));
+    }
+
+    @Test
+    void sharedSuccess_emptyCollections_shouldReturnSharedInstance() {
+        assertThat(OptionalResult.sharedSuccess(Collections.emptyList()))
+                .isSameAs(OptionalResult.sharedSuccess(Collections.emptyList()))
+                .isEqualTo(OptionalResult.success(Collections.emptyList()));
+        assertThat(OptionalResult.sharedSuccess(Collections.emptySet()))
+                .isSameAs(OptionalResult.sharedSuccess(Collections.emptySet()))
+                .isEqualTo(OptionalResult.success(Collections.emptySet()));
+        assertThat(OptionalResult.sharedSuccess(Collections.emptyMap()))
+                .isSameAs(OptionalResult.sharedSuccess(Collections.emptyMap()))
+                .isEqualTo(OptionalResult.success(Collections.emptyMap()));
+    }
+
+    @Test
+    void sharedSuccess_mutableEmptyCollection_shouldReturnNewInstance() {
+        List<String> list = new ArrayList<>();
+        OptionalResult<List<String>, String> result = OptionalResult.sharedSuccess(list);
+        assertThat(result).isNotSameAs(OptionalResult.sharedSuccess(list));
+        assertThat(result).isEqualTo(OptionalResult.success(list));
+    }
+
+    @Test
+    void sharedSuccess_registeredValue_shouldReturnSharedInstance() {
+        SharedValues.register("Registered OptionalResult");
+        OptionalResult<String, String> result = OptionalResult.sharedSuccess("Registered OptionalResult");
+        assertThat(result).isSameAs(OptionalResult.sharedSuccess(new String("Registered OptionalResult")));
+        assertThat(result).isEqualTo(OptionalResult.success("Registered OptionalResult"));
+    }
+
+    @Test
+    void sharedSuccess_registeredLargeInteger_shouldReturnSharedInstance() {
+        SharedValues.register(404_404);
+        assertThat(OptionalResult.sharedSuccess(404_404)).isSameAs(OptionalResult.sharedSuccess(404_404));
+    }
+
+    @Test
+    void sharedSuccess_unregisteredValue_shouldReturnNewInstance() {
+        OptionalResult<String, String> result = OptionalResult.sharedSuccess("Unregistered OptionalResult");
+        assertThat(result).isNotSameAs(OptionalResult.sharedSuccess("Unregistered OptionalResult"));
+        assertThat(result).isEqualTo(OptionalResult.success("Unregistered OptionalResult"));
+    }
+
+    @Test
+    void sharedSuccess_nullValueGivesNPE() {
+        assertThatThrownBy(() -> OptionalResult.sharedSuccess(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,58 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OptionalResult_Traverse_Test {
+
+    @Test
+    void traverse_allSuccess_shouldContainPresentValuesInOrder() {
+        Result<List<Integer>, String> result = OptionalResult.traverse(
+                Arrays.asList("One", "", "Fifteen"),
+                val -> OptionalResult.successNullable(val.isEmpty() ? null : val.length()));
+        assertThat(result).isEqualTo(Result.success(Arrays.asList(3, 7)));
+    }
+
+    @Test
+    void traverse_error_shouldContainFirstErrorAndStopApplying() {
+        List<String> applied = new ArrayList<>();
+        Result<List<Integer>, String> result = OptionalResult.traverse(
+                Arrays.asList("One", "Error", "Three"),
+                val -> {
+                    applied.add(val);
+                    return val.equals("Error") ?
+                            OptionalResult.error("Error") :
+                            OptionalResult.success(val.length());
+                });
+        assertThat(result).isEqualTo(Result.error("Error"));
+        assertThat(applied).containsExactly("One", "Error");
+    }
+
+    @Test
+    void traverse_nullFromFunctionGivesNPE() {
+        assertThatThrownBy(() -> OptionalResult.traverse(Arrays.asList("One"), val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void traverse_nullFunctionGivesNPE() {
+        assertThatThrownBy(() -> OptionalResult.traverse(Collections.emptyList(), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void traverse_allSuccess_shouldContainUnmodifiableList() {
+        Result<List<Integer>, String> result = OptionalResult.traverse(
+                Arrays.asList("One", "Three"),
+                val -> OptionalResult.success(val.length()));
+        List<Integer> values = result.orElseThrow(IllegalStateException::new);
+        assertThatThrownBy(() -> values.add(5))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,112 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResultCache_Get_Test {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final ResultCache<String, String, String> cache = ResultCache.of(key -> {
+        calls.incrementAndGet();
+        return key.startsWith("Bad") ? Result.error(key + "Error") : Result.success(key + "Value");
+    });
+
+    @Test
+    void get_firstLookup_shouldLoadAndCountMiss() {
+        assertThat(cache.get("Key")).isEqualTo(Result.success("KeyValue"));
+        assertThat(calls).hasValue(1);
+        assertThat(cache.missCount()).isOne();
+        assertThat(cache.hitCount()).isZero();
+    }
+
+    @Test
+    void get_cachedSuccess_shouldReturnSameInstanceAndCountHit() {
+        Result<String, String> first = cache.get("Key");
+        assertThat(cache.get("Key")).isSameAs(first);
+        assertThat(calls).hasValue(1);
+        assertThat(cache.hitCount()).isOne();
+        assertThat(cache.missCount()).isOne();
+    }
+
+    @Test
+    void get_error_shouldNotBeCachedByDefault() {
+        assertThat(cache.get("BadKey")).isEqualTo(Result.error("BadKeyError"));
+        assertThat(cache.get("BadKey")).isEqualTo(Result.error("BadKeyError"));
+        assertThat(calls).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_loaderThrows_shouldThrowAndCacheNothing() {
+        ResultCache<String, String, String> throwing = ResultCache.of(key -> {
+            throw new IllegalStateException("Failed");
+        });
+        assertThatThrownBy(() -> throwing.get("Key"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Failed");
+        assertThat(throwing.size()).isZero();
+    }
+
+    @Test
+    void get_concurrentMisses_shouldShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ResultCache<String, String, String> slow = ResultCache.of(key -> {
+            calls.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Result.success(key);
+        });
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Result<String, String>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> slow.get("Key")));
+            }
+            while (slow.missCount() < threads) {
+                Thread.yield();
+            }
+            release.countDown();
+            for (Future<Result<String, String>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(Result.success("Key"));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(slow.get("Key")).isEqualTo(Result.success("Key"));
+        assertThat(slow.hitCount()).isOne();
+    }
+
+    @Test
+    void get_loaderReturnsNullGivesNPE() {
+        ResultCache<String, String, String> nullReturning = ResultCache.of(key -> null);
+        assertThatThrownBy(() -> nullReturning.get("Key"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void get_nullKeyGivesNPE() {
+        assertThatThrownBy(() -> cache.get(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void of_nullLoaderGivesNPE() {
+        assertThatThrownBy(() -> ResultCache.of(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
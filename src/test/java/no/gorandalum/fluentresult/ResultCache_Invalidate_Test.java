@@ -0,0 +1,71 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResultCache_Invalidate_Test {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private Runnable duringLoad = () -> {};
+    private final ResultCache<String, String, String> cache = ResultCache.of(key -> {
+        calls.incrementAndGet();
+        duringLoad.run();
+        return Result.success(key);
+    });
+
+    @Test
+    void invalidate_shouldRemoveKey() {
+        cache.get("First");
+        cache.get("Second");
+        cache.invalidate("First");
+        assertThat(cache.size()).isOne();
+        cache.get("First");
+        cache.get("Second");
+        assertThat(calls).hasValue(3);
+        assertThat(cache.evictionCount()).isZero();
+    }
+
+    @Test
+    void invalidate_missingKey_shouldDoNothing() {
+        cache.invalidate("Missing");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void invalidateAll_shouldRemoveAllKeys() {
+        for (int i = 0; i < 100; i++) {
+            cache.get("Key" + i);
+        }
+        cache.invalidateAll();
+        assertThat(cache.size()).isZero();
+        cache.get("Key0");
+        assertThat(calls).hasValue(101);
+    }
+
+    @Test
+    void invalidate_duringLoad_shouldReturnButNotCacheLoadedResult() {
+        duringLoad = () -> cache.invalidate("First");
+        assertThat(cache.get("First")).isEqualTo(Result.success("First"));
+        assertThat(cache.size()).isZero();
+        duringLoad = () -> {};
+        cache.get("First");
+        cache.get("First");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void invalidateAll_duringLoad_shouldReturnButNotCacheLoadedResult() {
+        duringLoad = cache::invalidateAll;
+        assertThat(cache.get("First")).isEqualTo(Result.success("First"));
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void invalidate_nullKeyGivesNPE() {
+        assertThatThrownBy(() -> cache.invalidate(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,69 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResultCache_WithMaximumSize_Test {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final ResultCache<Integer, Integer, String> cache = ResultCache.<Integer, Integer, String>of(key -> {
+        calls.incrementAndGet();
+        return Result.success(key);
+    });
+
+    @Test
+    void withMaximumSize_full_shouldEvictLeastRecentlyUsed() {
+        ResultCache<Integer, Integer, String> single = cache.withMaximumSize(1);
+        single.get(1);
+        single.get(2);
+        assertThat(single.size()).isOne();
+        assertThat(single.evictionCount()).isOne();
+        single.get(2);
+        assertThat(single.hitCount()).isOne();
+        single.get(1);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void withMaximumSize_lookup_shouldMarkResultAsRecentlyUsed() {
+        // Three results are kept in two segments, even keys in the one holding two
+        ResultCache<Integer, Integer, String> three = cache.withMaximumSize(3);
+        three.get(0);
+        three.get(2);
+        three.get(0);
+        three.get(4);
+        assertThat(three.evictionCount()).isOne();
+        three.get(0);
+        assertThat(three.hitCount()).isEqualTo(2);
+        three.get(2);
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    void withMaximumSize_shouldNeverHoldMoreResults() {
+        ResultCache<Integer, Integer, String> limited = cache.withMaximumSize(100);
+        for (int i = 0; i < 1000; i++) {
+            limited.get(i);
+        }
+        assertThat(limited.size()).isEqualTo(100);
+        assertThat(limited.evictionCount()).isEqualTo(900);
+    }
+
+    @Test
+    void withMaximumSize_shouldGiveEmptyCache() {
+        cache.get(1);
+        ResultCache<Integer, Integer, String> other = cache.withMaximumSize(10);
+        assertThat(other.size()).isZero();
+        assertThat(other.missCount()).isZero();
+    }
+
+    @Test
+    void withMaximumSize_zeroGivesIAE() {
+        assertThatThrownBy(() -> cache.withMaximumSize(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Maximum size must be positive, was 0");
+    }
+}
@@ -0,0 +1,127 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResultCache_WithTtl_Test {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicLong time = new AtomicLong();
+    private final ResultCache<String, String, String> cache = ResultCache.<String, String, String>of(key -> {
+        calls.incrementAndGet();
+        return key.startsWith("Bad") ? Result.error(key) : Result.success(key);
+    }).withClock(time::get);
+
+    @Test
+    void withSuccessTtl_beforeExpiry_shouldHit() {
+        ResultCache<String, String, String> ttl = cache.withSuccessTtl(Duration.ofNanos(100));
+        ttl.get("Key");
+        time.set(99);
+        ttl.get("Key");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void withSuccessTtl_expired_shouldLoadAgain() {
+        ResultCache<String, String, String> ttl = cache.withSuccessTtl(Duration.ofNanos(100));
+        ttl.get("Key");
+        time.set(100);
+        ttl.get("Key");
+        assertThat(calls).hasValue(2);
+        assertThat(ttl.missCount()).isEqualTo(2);
+        assertThat(ttl.evictionCount()).isZero();
+    }
+
+    @Test
+    void withSuccessTtl_expiredResultRemovedWhenFull_shouldNotCountEviction() {
+        ResultCache<String, String, String> single = cache.withMaximumSize(1).withSuccessTtl(Duration.ofNanos(100));
+        single.get("First");
+        time.set(100);
+        single.get("Second");
+        assertThat(single.size()).isOne();
+        assertThat(single.evictionCount()).isZero();
+    }
+
+    @Test
+    void withSuccessTtl_liveResultRemovedWhenFull_shouldCountEviction() {
+        ResultCache<String, String, String> single = cache.withMaximumSize(1).withSuccessTtl(Duration.ofNanos(100));
+        single.get("First");
+        time.set(99);
+        single.get("Second");
+        assertThat(single.evictionCount()).isOne();
+    }
+
+    @Test
+    void withSuccessTtl_zero_shouldNotCacheSuccesses() {
+        ResultCache<String, String, String> ttl = cache.withSuccessTtl(Duration.ZERO);
+        ttl.get("Key");
+        ttl.get("Key");
+        assertThat(calls).hasValue(2);
+        assertThat(ttl.size()).isZero();
+    }
+
+    @Test
+    void withErrorTtl_shouldCacheErrorsForTtl() {
+        ResultCache<String, String, String> ttl = cache.withErrorTtl(Duration.ofNanos(10));
+        ttl.get("BadKey");
+        time.set(9);
+        assertThat(ttl.get("BadKey")).isEqualTo(Result.error("BadKey"));
+        assertThat(calls).hasValue(1);
+        time.set(10);
+        ttl.get("BadKey");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void withErrorTtl_shouldNotAffectSuccesses() {
+        ResultCache<String, String, String> ttl = cache
+                .withSuccessTtl(Duration.ofNanos(1000))
+                .withErrorTtl(Duration.ofNanos(10));
+        ttl.get("Key");
+        ttl.get("BadKey");
+        time.set(500);
+        ttl.get("Key");
+        ttl.get("BadKey");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void withSuccessTtl_veryLong_shouldNeverExpire() {
+        ResultCache<String, String, String> ttl = cache.withSuccessTtl(Duration.ofSeconds(Long.MAX_VALUE));
+        ttl.get("Key");
+        time.set(Long.MAX_VALUE / 2);
+        ttl.get("Key");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void withSuccessTtl_negativeGivesIAE() {
+        assertThatThrownBy(() -> cache.withSuccessTtl(Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Time to live must not be negative, was PT-1S");
+    }
+
+    @Test
+    void withErrorTtl_negativeGivesIAE() {
+        assertThatThrownBy(() -> cache.withErrorTtl(Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Time to live must not be negative, was PT-1S");
+    }
+
+    @Test
+    void withSuccessTtl_nullGivesNPE() {
+        assertThatThrownBy(() -> cache.withSuccessTtl(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void withErrorTtl_nullGivesNPE() {
+        assertThatThrownBy(() -> cache.withErrorTtl(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
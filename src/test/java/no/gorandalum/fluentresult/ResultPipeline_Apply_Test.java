@@ -0,0 +1,53 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResultPipeline_Apply_Test {
+
+    private static final ResultPipeline<String, Integer, String> PIPELINE = ResultPipeline
+            .<String, String, String>of(String::trim)
+            .verify(val -> !val.isEmpty(), () -> "Empty")
+            .map(Integer::valueOf)
+            .verify(val -> val > 0 ? VoidResult.success() : VoidResult.error("Not positive"))
+            .mapError(err -> "Invalid: " + err);
+
+    @Test
+    void apply_shouldGiveSameResultAsChain() {
+        for (String input : Arrays.asList(" 42 ", " ", "-1")) {
+            Result<Integer, String> chained = Result.<String, String>success(input)
+                    .map(String::trim)
+                    .verify(val -> !val.isEmpty(), () -> "Empty")
+                    .map(Integer::valueOf)
+                    .verify(val -> val > 0 ? VoidResult.success() : VoidResult.error("Not positive"))
+                    .mapError(err -> "Invalid: " + err);
+            assertThat(PIPELINE.apply(input)).isEqualTo(chained);
+        }
+    }
+
+    @Test
+    void apply_shouldBeUsableAsFunction() {
+        List<Result<Integer, String>> results = Arrays.asList("1", "", "2").stream()
+                .map(PIPELINE)
+                .collect(Collectors.toList());
+        assertThat(results).containsExactly(
+                Result.success(1), Result.error("Invalid: Empty"), Result.success(2));
+    }
+
+    @Test
+    void apply_functionThrows_shouldPropagateException() {
+        assertThatThrownBy(() -> PIPELINE.apply("x"))
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void apply_nullValueGivesNPE() {
+        assertThatThrownBy(() -> PIPELINE.apply(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
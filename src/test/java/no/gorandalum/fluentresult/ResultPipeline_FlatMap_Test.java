@@ -0,0 +1,46 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResultPipeline_FlatMap_Test {
+
+    @Test
+    void flatMap_success_shouldContinueWithReturnedSuccess() {
+        ResultPipeline<String, Integer, String> pipeline = ResultPipeline.<String, String>identity()
+                .flatMap(val -> Result.success(val.length()));
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.success(7));
+    }
+
+    @Test
+    void flatMap_success_shouldContinueWithReturnedError() {
+        ResultPipeline<String, Integer, String> pipeline = ResultPipeline.<String, String>identity()
+                .flatMap(val -> Result.<Integer, String>error("Error"))
+                .map(val -> val + 1);
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void flatMap_error_shouldNotRunFunction() {
+        ResultPipeline<String, Integer, String> pipeline = ResultPipeline.<String, String>identity()
+                .verify(val -> false, () -> "Error")
+                .flatMap(val -> { throw new RuntimeException(); });
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void flatMap_functionReturnsNull_shouldGiveNPE() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.<String, String>identity()
+                .flatMap(val -> null);
+        assertThatThrownBy(() -> pipeline.apply("Success"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMap_nullFunctionGivesNPE() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.identity();
+        assertThatThrownBy(() -> pipeline.flatMap(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,14 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResultPipeline_Identity_Test {
+
+    @Test
+    void identity_shouldGiveSuccessWithInput() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.identity();
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.success("Success"));
+    }
+}
@@ -0,0 +1,49 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResultPipeline_MapError_Test {
+
+    @Test
+    void mapError_error_shouldMapError() {
+        ResultPipeline<String, String, Integer> pipeline = ResultPipeline.<String, String>identity()
+                .verify(val -> false, () -> "Error")
+                .mapError(String::length);
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.error(5));
+    }
+
+    @Test
+    void mapError_multipleSteps_shouldMapErrorInOrder() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.<String, String>identity()
+                .verify(val -> false, () -> "a")
+                .mapError(err -> err + "b")
+                .mapError(err -> err + "c");
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.error("abc"));
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.error("abc"));
+    }
+
+    @Test
+    void mapError_success_shouldNotRunFunction() {
+        ResultPipeline<String, String, Integer> pipeline = ResultPipeline.<String, String>identity()
+                .mapError(err -> { throw new RuntimeException(); });
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void mapError_functionReturnsNull_shouldGiveNPE() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.<String, String>identity()
+                .verify(val -> false, () -> "Error")
+                .mapError(err -> null);
+        assertThatThrownBy(() -> pipeline.apply("Success"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void mapError_nullFunctionGivesNPE() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.identity();
+        assertThatThrownBy(() -> pipeline.mapError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
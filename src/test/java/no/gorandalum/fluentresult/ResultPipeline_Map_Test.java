@@ -0,0 +1,45 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResultPipeline_Map_Test {
+
+    @Test
+    void map_success_shouldMapValue() {
+        ResultPipeline<String, Integer, String> pipeline = ResultPipeline.<String, String>identity()
+                .map(String::length);
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.success(7));
+    }
+
+    @Test
+    void map_error_shouldNotRunFunction() {
+        ResultPipeline<String, Integer, String> pipeline = ResultPipeline.<String, String>identity()
+                .verify(val -> false, () -> "Error")
+                .map(val -> { throw new RuntimeException(); });
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void map_shouldNotAlterOriginalPipeline() {
+        ResultPipeline<String, String, String> original = ResultPipeline.identity();
+        original.map(String::length);
+        assertThat(original.apply("Success")).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void map_functionReturnsNull_shouldGiveNPE() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.<String, String>identity()
+                .map(val -> null);
+        assertThatThrownBy(() -> pipeline.apply("Success"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void map_nullFunctionGivesNPE() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.identity();
+        assertThatThrownBy(() -> pipeline.map(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
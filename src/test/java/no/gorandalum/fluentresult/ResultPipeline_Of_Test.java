@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResultPipeline_Of_Test {
+
+    @Test
+    void of_shouldApplyFunction() {
+        ResultPipeline<String, Integer, String> pipeline = ResultPipeline.of(String::length);
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.success(7));
+    }
+
+    @Test
+    void of_nullFunctionGivesNPE() {
+        assertThatThrownBy(() -> ResultPipeline.of(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,40 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResultPipeline_Recover_Test {
+
+    @Test
+    void recover_error_shouldContinueInSuccessState() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.<String, String>identity()
+                .verify(val -> false, () -> "Error")
+                .recover(err -> "Recovered " + err)
+                .map(val -> val + "!");
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.success("Recovered Error!"));
+    }
+
+    @Test
+    void recover_success_shouldNotRunFunction() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.<String, String>identity()
+                .recover(err -> { throw new RuntimeException(); });
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void recover_functionReturnsNull_shouldGiveNPE() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.<String, String>identity()
+                .verify(val -> false, () -> "Error")
+                .recover(err -> null);
+        assertThatThrownBy(() -> pipeline.apply("Success"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void recover_nullFunctionGivesNPE() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.identity();
+        assertThatThrownBy(() -> pipeline.recover(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
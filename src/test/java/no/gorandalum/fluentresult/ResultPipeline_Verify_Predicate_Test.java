@@ -0,0 +1,52 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResultPipeline_Verify_Predicate_Test {
+
+    @Test
+    void verify_predicateTrue_shouldKeepSuccess() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.<String, String>identity()
+                .verify(val -> true, () -> "Error");
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void verify_predicateFalse_shouldGiveSuppliedError() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.<String, String>identity()
+                .verify(val -> false, () -> "Error");
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void verify_error_shouldNotTestPredicate() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.<String, String>identity()
+                .verify(val -> false, () -> "Error")
+                .verify(val -> { throw new RuntimeException(); }, () -> "Other");
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void verify_errorSupplierReturnsNull_shouldGiveNPE() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.<String, String>identity()
+                .verify(val -> false, () -> null);
+        assertThatThrownBy(() -> pipeline.apply("Success"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void verify_nullPredicateGivesNPE() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.identity();
+        assertThatThrownBy(() -> pipeline.verify(null, () -> "Error"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void verify_nullErrorSupplierGivesNPE() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.identity();
+        assertThatThrownBy(() -> pipeline.verify(val -> true, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
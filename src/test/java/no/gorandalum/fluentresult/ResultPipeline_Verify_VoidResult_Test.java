@@ -0,0 +1,47 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResultPipeline_Verify_VoidResult_Test {
+
+    @Test
+    void verify_voidResultSuccess_shouldKeepSuccess() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.<String, String>identity()
+                .verify(val -> VoidResult.success());
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void verify_voidResultError_shouldGiveItsError() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.<String, String>identity()
+                .verify(val -> VoidResult.error("Error"));
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void verify_error_shouldNotRunFunction() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.<String, String>identity()
+                .verify(val -> false, () -> "Error")
+                .verify(val -> { throw new RuntimeException(); });
+        assertThat(pipeline.apply("Success")).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void verify_functionReturnsNull_shouldGiveNPE() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.<String, String>identity()
+                .verify(val -> null);
+        assertThatThrownBy(() -> pipeline.apply("Success"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void verify_nullFunctionGivesNPE() {
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.identity();
+        assertThatThrownBy(() -> pipeline.verify((Function<String, VoidResult<String>>) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
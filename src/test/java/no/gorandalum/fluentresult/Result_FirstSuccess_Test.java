@@ -0,0 +1,224 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class Result_FirstSuccess_Test {
+
+    @Test
+    void firstSuccess_oneSucceeds_shouldGiveSuccess() {
+        Result<String, List<String>> result = Result.firstSuccess(Arrays.<Supplier<Result<String, String>>>asList(
+                () -> Result.error("Failed"),
+                () -> Result.success("Success")));
+        assertThat(result).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void firstSuccess_allFail_shouldGiveErrorsInOrderOfAlternatives() {
+        CountDownLatch firstMayFail = new CountDownLatch(1);
+        Result<String, List<String>> result = Result.firstSuccess(Arrays.<Supplier<Result<String, String>>>asList(
+                () -> {
+                    await(firstMayFail);
+                    return Result.error("First");
+                },
+                () -> {
+                    firstMayFail.countDown();
+                    return Result.error("Second");
+                }));
+        assertThat(result).isEqualTo(Result.error(Arrays.asList("First", "Second")));
+    }
+
+    @Test
+    void firstSuccess_shouldNotWaitForSlowerAlternatives() {
+        CountDownLatch never = new CountDownLatch(1);
+        Result<String, List<String>> result = Result.firstSuccess(Arrays.<Supplier<Result<String, String>>>asList(
+                () -> {
+                    await(never);
+                    return Result.success("Slow");
+                },
+                () -> Result.success("Fast")));
+        assertThat(result).isEqualTo(Result.success("Fast"));
+    }
+
+    @Test
+    void firstSuccess_success_shouldInterruptRunningAlternatives() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Result<String, List<String>> result = Result.firstSuccess(Arrays.<Supplier<Result<String, String>>>asList(
+                () -> {
+                    started.countDown();
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return Result.error("Interrupted");
+                },
+                () -> {
+                    await(started);
+                    return Result.success("Success");
+                }));
+        assertThat(result).isEqualTo(Result.success("Success"));
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void firstSuccess_executor_shouldRunAlternativesOnExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(2, task -> new Thread(task, "first-success-test"));
+        try {
+            Result<String, List<String>> result = Result.firstSuccess(
+                    Collections.<Supplier<Result<String, String>>>singletonList(
+                            () -> Result.success(Thread.currentThread().getName())),
+                    executor);
+            assertThat(result).isEqualTo(Result.success("first-success-test"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void firstSuccess_executor_shouldClearInterruptOfCancelledAlternatives() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            Result.firstSuccess(Arrays.<Supplier<Result<String, String>>>asList(
+                    () -> {
+                        started.countDown();
+                        await(new CountDownLatch(1));
+                        return Result.error("Interrupted");
+                    },
+                    () -> {
+                        await(started);
+                        return Result.success("Success");
+                    }),
+                    executor);
+            CyclicBarrier bothThreads = new CyclicBarrier(2);
+            Callable<Boolean> interrupted = () -> {
+                bothThreads.await(5, TimeUnit.SECONDS);
+                return Thread.currentThread().isInterrupted();
+            };
+            List<Future<Boolean>> checks = executor.invokeAll(Arrays.asList(interrupted, interrupted));
+            for (Future<Boolean> check : checks) {
+                assertThat(check.get()).isFalse();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void firstSuccess_nestedOnFullFallbackPool_shouldNotDeadlock() {
+        ThreadPoolExecutor pool = BulkHandle.newFallbackPool(1);
+        try {
+            List<Result<Result<String, List<String>>, Exception>> results = assertTimeoutPreemptively(
+                    Duration.ofSeconds(10),
+                    () -> BulkHandle.handleAll(
+                            Arrays.<Callable<Result<String, List<String>>>>asList(
+                                    () -> Result.firstSuccess(Arrays.<Supplier<Result<String, String>>>asList(
+                                            () -> Result.error("Failed"),
+                                            () -> Result.success("Success")), pool)),
+                            Function.identity(),
+                            pool));
+            assertThat(results).containsExactly(Result.success(Result.success("Success")));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void firstSuccess_alternativeThrows_shouldRethrow() {
+        assertThatThrownBy(() -> Result.firstSuccess(Collections.<Supplier<Result<String, String>>>singletonList(
+                () -> {
+                    throw new IllegalStateException("Failed");
+                }))).isInstanceOf(IllegalStateException.class).hasMessage("Failed");
+    }
+
+    @Test
+    void firstSuccess_alternativeThrowsError_shouldRethrowError() {
+        assertThatThrownBy(() -> Result.firstSuccess(Collections.<Supplier<Result<String, String>>>singletonList(
+                () -> {
+                    throw new AssertionError("Failed");
+                }))).isInstanceOf(AssertionError.class).hasMessage("Failed");
+    }
+
+    @Test
+    void firstSuccess_callingThreadInterrupted_shouldThrowCancellationException() {
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> Result.firstSuccess(
+                    Collections.<Supplier<Result<String, String>>>singletonList(() -> {
+                        await(latch);
+                        return Result.success("Success");
+                    })))
+                    .isInstanceOf(CancellationException.class)
+                    .hasCauseInstanceOf(InterruptedException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+            latch.countDown();
+        }
+    }
+
+    @Test
+    void firstSuccess_alternativeReturnsNullGivesNPE() {
+        assertThatThrownBy(() -> Result.firstSuccess(
+                Collections.<Supplier<Result<String, String>>>singletonList(() -> null)))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void firstSuccess_nullAlternativeGivesNPE() {
+        assertThatThrownBy(() -> Result.firstSuccess(
+                Arrays.<Supplier<Result<String, String>>>asList(() -> Result.success("Success"), null)))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void firstSuccess_nullListGivesNPE() {
+        assertThatThrownBy(() -> Result.firstSuccess(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void firstSuccess_nullExecutorGivesNPE() {
+        assertThatThrownBy(() -> Result.firstSuccess(
+                Collections.<Supplier<Result<String, String>>>singletonList(() -> Result.success("Success")),
+                (Executor) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void firstSuccess_emptyListGivesIAE() {
+        assertThatThrownBy(() -> Result.firstSuccess(Collections.<Supplier<Result<String, String>>>emptyList()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Alternatives must not be empty");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
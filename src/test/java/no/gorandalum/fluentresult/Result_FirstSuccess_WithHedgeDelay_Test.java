@@ -0,0 +1,131 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class Result_FirstSuccess_WithHedgeDelay_Test {
+
+    private static final Duration LONG_DELAY = Duration.ofMinutes(1);
+
+    @Test
+    void firstSuccess_firstSucceedsWithinDelay_shouldNotStartOthers() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<String, List<String>> result = Result.firstSuccess(Arrays.<Supplier<Result<String, String>>>asList(
+                () -> Result.success("First"),
+                () -> {
+                    calls.incrementAndGet();
+                    return Result.success("Second");
+                }),
+                LONG_DELAY);
+        assertThat(result).isEqualTo(Result.success("First"));
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void firstSuccess_nestedOnFullFallbackPool_shouldNotDeadlock() {
+        ThreadPoolExecutor pool = BulkHandle.newFallbackPool(1);
+        try {
+            List<Result<Result<String, List<String>>, Exception>> results = assertTimeoutPreemptively(
+                    Duration.ofSeconds(10),
+                    () -> BulkHandle.handleAll(
+                            Arrays.<Callable<Result<String, List<String>>>>asList(
+                                    () -> Result.firstSuccess(Arrays.<Supplier<Result<String, String>>>asList(
+                                            () -> Result.error("Failed"),
+                                            () -> Result.success("Success")), Duration.ofMillis(10), pool)),
+                            Function.identity(),
+                            pool));
+            assertThat(results).containsExactly(Result.success(Result.success("Success")));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void firstSuccess_firstSlowerThanDelay_shouldStartNext() {
+        CountDownLatch never = new CountDownLatch(1);
+        Result<String, List<String>> result = Result.firstSuccess(Arrays.<Supplier<Result<String, String>>>asList(
+                () -> {
+                    await(never);
+                    return Result.success("First");
+                },
+                () -> Result.success("Second")),
+                Duration.ofMillis(10));
+        assertThat(result).isEqualTo(Result.success("Second"));
+    }
+
+    @Test
+    void firstSuccess_firstFails_shouldStartNextWithoutWaitingForDelay() {
+        Result<String, List<String>> result = Result.firstSuccess(Arrays.<Supplier<Result<String, String>>>asList(
+                () -> Result.error("First"),
+                () -> Result.error("Second"),
+                () -> Result.success("Third")),
+                LONG_DELAY);
+        assertThat(result).isEqualTo(Result.success("Third"));
+    }
+
+    @Test
+    void firstSuccess_allFail_shouldGiveAllErrors() {
+        Result<String, List<String>> result = Result.firstSuccess(Arrays.<Supplier<Result<String, String>>>asList(
+                () -> Result.error("First"),
+                () -> Result.error("Second")),
+                LONG_DELAY);
+        assertThat(result).isEqualTo(Result.error(Arrays.asList("First", "Second")));
+    }
+
+    @Test
+    void firstSuccess_zeroDelay_shouldStartAllAtOnce() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        Supplier<Result<String, String>> alternative = () -> {
+            allStarted.countDown();
+            try {
+                return allStarted.await(5, TimeUnit.SECONDS) ?
+                        Result.success("Success") :
+                        Result.error("Not started");
+            } catch (InterruptedException e) {
+                return Result.error("Interrupted");
+            }
+        };
+        Result<String, List<String>> result = Result.firstSuccess(
+                Arrays.asList(alternative, alternative, alternative), Duration.ZERO);
+        assertThat(result).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void firstSuccess_negativeDelayGivesIAE() {
+        assertThatThrownBy(() -> Result.firstSuccess(
+                Collections.<Supplier<Result<String, String>>>singletonList(() -> Result.success("Success")),
+                Duration.ofMillis(-1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Hedge delay must not be negative, was PT-0.001S");
+    }
+
+    @Test
+    void firstSuccess_nullDelayGivesNPE() {
+        assertThatThrownBy(() -> Result.firstSuccess(
+                Collections.<Supplier<Result<String, String>>>singletonList(() -> Result.success("Success")),
+                (Duration) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
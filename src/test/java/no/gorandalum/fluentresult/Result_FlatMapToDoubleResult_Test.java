@@ -0,0 +1,43 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_FlatMapToDoubleResult_Test {
+
+    @Test
+    void flatMapToDoubleResult_success_shouldReturnMappedResult() {
+        Result<String, String> result = Result.success("Success");
+        DoubleResult<String> mapped = result.flatMapToDoubleResult(val -> DoubleResult.success(0.5));
+        assertThat(mapped).isEqualTo(DoubleResult.success(0.5));
+    }
+
+    @Test
+    void flatMapToDoubleResult_success_shouldReturnMappedError() {
+        Result<String, String> result = Result.success("Success");
+        DoubleResult<String> mapped = result.flatMapToDoubleResult(val -> DoubleResult.error("Mapped"));
+        assertThat(mapped).isEqualTo(DoubleResult.error("Mapped"));
+    }
+
+    @Test
+    void flatMapToDoubleResult_error_shouldKeepError() {
+        Result<String, String> result = Result.error("Error");
+        DoubleResult<String> mapped = result.flatMapToDoubleResult(val -> fail("Should not be run"));
+        assertThat(mapped).isEqualTo(DoubleResult.error("Error"));
+    }
+
+    @Test
+    void flatMapToDoubleResult_success_nullValueFromFunctionGivesNPE() {
+        Result<String, String> result = Result.success("Success");
+        assertThatThrownBy(() -> result.flatMapToDoubleResult(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMapToDoubleResult_error_nullFunctionGivesNPE() {
+        Result<String, String> result = Result.error("Error");
+        assertThatThrownBy(() -> result.flatMapToDoubleResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,43 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_FlatMapToIntResult_Test {
+
+    @Test
+    void flatMapToIntResult_success_shouldReturnMappedResult() {
+        Result<String, String> result = Result.success("Success");
+        IntResult<String> mapped = result.flatMapToIntResult(val -> IntResult.success(5));
+        assertThat(mapped).isEqualTo(IntResult.success(5));
+    }
+
+    @Test
+    void flatMapToIntResult_success_shouldReturnMappedError() {
+        Result<String, String> result = Result.success("Success");
+        IntResult<String> mapped = result.flatMapToIntResult(val -> IntResult.error("Mapped"));
+        assertThat(mapped).isEqualTo(IntResult.error("Mapped"));
+    }
+
+    @Test
+    void flatMapToIntResult_error_shouldKeepError() {
+        Result<String, String> result = Result.error("Error");
+        IntResult<String> mapped = result.flatMapToIntResult(val -> fail("Should not be run"));
+        assertThat(mapped).isEqualTo(IntResult.error("Error"));
+    }
+
+    @Test
+    void flatMapToIntResult_success_nullValueFromFunctionGivesNPE() {
+        Result<String, String> result = Result.success("Success");
+        assertThatThrownBy(() -> result.flatMapToIntResult(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMapToIntResult_error_nullFunctionGivesNPE() {
+        Result<String, String> result = Result.error("Error");
+        assertThatThrownBy(() -> result.flatMapToIntResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
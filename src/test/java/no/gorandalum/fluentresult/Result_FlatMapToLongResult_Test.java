@@ -0,0 +1,43 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_FlatMapToLongResult_Test {
+
+    @Test
+    void flatMapToLongResult_success_shouldReturnMappedResult() {
+        Result<String, String> result = Result.success("Success");
+        LongResult<String> mapped = result.flatMapToLongResult(val -> LongResult.success(5L));
+        assertThat(mapped).isEqualTo(LongResult.success(5L));
+    }
+
+    @Test
+    void flatMapToLongResult_success_shouldReturnMappedError() {
+        Result<String, String> result = Result.success("Success");
+        LongResult<String> mapped = result.flatMapToLongResult(val -> LongResult.error("Mapped"));
+        assertThat(mapped).isEqualTo(LongResult.error("Mapped"));
+    }
+
+    @Test
+    void flatMapToLongResult_error_shouldKeepError() {
+        Result<String, String> result = Result.error("Error");
+        LongResult<String> mapped = result.flatMapToLongResult(val -> fail("Should not be run"));
+        assertThat(mapped).isEqualTo(LongResult.error("Error"));
+    }
+
+    @Test
+    void flatMapToLongResult_success_nullValueFromFunctionGivesNPE() {
+        Result<String, String> result = Result.success("Success");
+        assertThatThrownBy(() -> result.flatMapToLongResult(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void flatMapToLongResult_error_nullFunctionGivesNPE() {
+        Result<String, String> result = Result.error("Error");
+        assertThatThrownBy(() -> result.flatMapToLongResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
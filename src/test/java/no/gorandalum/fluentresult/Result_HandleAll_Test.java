@@ -0,0 +1,106 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_HandleAll_Test {
+
+    @Test
+    void handleAll_shouldKeepOrderOfCallables() {
+        List<Callable<Integer>> callables = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int value = i;
+            callables.add(() -> {
+                Thread.sleep(10 - value);
+                return value;
+            });
+        }
+        List<Result<Integer, Exception>> results = Result.handleAll(callables);
+        assertThat(results).extracting(res -> res.orElse(-1))
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void handleAll_callableThrows_shouldContainException() {
+        IOException exception = new IOException("Failed");
+        List<Result<String, Exception>> results = Result.handleAll(Arrays.<Callable<String>>asList(
+                () -> "Success",
+                () -> { throw exception; }));
+        assertThat(results).containsExactly(Result.success("Success"), Result.error(exception));
+    }
+
+    @Test
+    void handleAll_shouldRunCallablesConcurrently() {
+        int count = 20;
+        CountDownLatch latch = new CountDownLatch(count);
+        List<Callable<Boolean>> callables = Collections.nCopies(count, () -> {
+            latch.countDown();
+            return latch.await(10, TimeUnit.SECONDS);
+        });
+        assertThat(Result.handleAll(callables))
+                .hasSize(count)
+                .allMatch(res -> res.orElse(false));
+    }
+
+    @Test
+    void handleAll_callingThreadInterrupted_shouldGiveErrorForIncompleteCallables() {
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread.currentThread().interrupt();
+        try {
+            List<Result<String, Exception>> results = Result.handleAll(Collections.singletonList(() -> {
+                latch.await();
+                return "Success";
+            }));
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            assertThat(results).hasSize(1);
+            Exception error = results.get(0).fold(val -> null, err -> err);
+            assertThat(error).isInstanceOf(InterruptedException.class);
+        } finally {
+            Thread.interrupted();
+            latch.countDown();
+        }
+    }
+
+    @Test
+    void handleAll_emptyList_shouldGiveEmptyList() {
+        assertThat(Result.handleAll(Collections.<Callable<String>>emptyList())).isEmpty();
+    }
+
+    @Test
+    void handleAll_callableThrowsError_shouldRethrowError() {
+        assertThatThrownBy(() -> Result.handleAll(Collections.<Callable<String>>singletonList(() -> {
+            throw new AssertionError("Failed");
+        }))).isInstanceOf(AssertionError.class).hasMessage("Failed");
+    }
+
+    @Test
+    void handleAll_callableReturnsNullGivesNPE() {
+        assertThatThrownBy(() -> Result.handleAll(Collections.<Callable<String>>singletonList(() -> null)))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handleAll_nullCallableGivesNPEBeforeRunningAny() {
+        AtomicInteger calls = new AtomicInteger();
+        assertThatThrownBy(() -> Result.handleAll(Arrays.<Callable<Integer>>asList(calls::incrementAndGet, null)))
+                .isInstanceOf(NullPointerException.class);
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    void handleAll_nullListGivesNPE() {
+        assertThatThrownBy(() -> Result.handleAll(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
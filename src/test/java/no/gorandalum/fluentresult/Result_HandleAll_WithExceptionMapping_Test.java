@@ -0,0 +1,57 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_HandleAll_WithExceptionMapping_Test {
+
+    @Test
+    void handleAll_withExceptionMapping_shouldMapThrownExceptions() {
+        List<Result<String, String>> results = Result.handleAll(
+                Arrays.<Callable<String>>asList(
+                        () -> "Success",
+                        () -> { throw new IOException("Failed"); }),
+                Exception::getMessage);
+        assertThat(results).containsExactly(Result.success("Success"), Result.error("Failed"));
+    }
+
+    @Test
+    void handleAll_withExceptionMapping_callingThreadInterrupted_shouldMapInterruptedException() {
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread.currentThread().interrupt();
+        try {
+            List<Result<String, String>> results = Result.handleAll(
+                    Collections.singletonList(() -> {
+                        latch.await();
+                        return "Success";
+                    }),
+                    ex -> ex.getClass().getSimpleName());
+            assertThat(results).containsExactly(Result.error("InterruptedException"));
+        } finally {
+            Thread.interrupted();
+            latch.countDown();
+        }
+    }
+
+    @Test
+    void handleAll_withExceptionMapping_nullExceptionMapperGivesNPE() {
+        assertThatThrownBy(() -> Result.handleAll(Collections.<Callable<String>>singletonList(() -> "Success"), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handleAll_withExceptionMapping_exceptionMapperReturnsNullGivesNPE() {
+        assertThatThrownBy(() -> Result.handleAll(
+                Collections.<Callable<String>>singletonList(() -> { throw new IOException(); }),
+                ex -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,173 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_HandleWithTimeout_Test {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(50);
+
+    @Test
+    void handleWithTimeout_success_shouldContainValue() {
+        Result<String, Exception> result = Result.handleWithTimeout(() -> "Success", TIMEOUT);
+        result.consumeEither(
+                val -> assertThat(val).isEqualTo("Success"),
+                err -> fail("Should not be error")
+        );
+    }
+
+    @Test
+    void handleWithTimeout_exception_shouldContainException() {
+        IOException exception = new IOException("Error");
+        Result<String, Exception> result = Result.handleWithTimeout(() -> {
+            throw exception;
+        }, TIMEOUT);
+        result.consumeEither(
+                val -> fail("Should not be success"),
+                err -> assertThat(err).isSameAs(exception)
+        );
+    }
+
+    @Test
+    void handleWithTimeout_exceeded_shouldInterruptAndContainTimeoutException() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        long start = System.nanoTime();
+        Result<String, Exception> result = Result.handleWithTimeout(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                throw e;
+            }
+            return "Success";
+        }, TIMEOUT);
+        assertThat(System.nanoTime() - start).isBetween(40_000_000L, 5_000_000_000L);
+        assertThat(interrupted).isTrue();
+        result.consumeEither(
+                val -> fail("Should not be success"),
+                err -> assertThat(err)
+                        .isInstanceOf(TimeoutException.class)
+                        .hasMessage("Callable did not complete within PT0.05S")
+        );
+    }
+
+    @Test
+    void handleWithTimeout_exceededIgnoringInterrupt_shouldContainTimeoutException() {
+        Result<String, Exception> result = Result.handleWithTimeout(() -> {
+            long end = System.nanoTime() + 200_000_000L;
+            while (System.nanoTime() < end) {
+                Thread.yield();
+            }
+            return "Success";
+        }, TIMEOUT);
+        result.consumeEither(
+                val -> fail("Should not be success"),
+                err -> assertThat(err).isInstanceOf(TimeoutException.class)
+        );
+    }
+
+    @Test
+    void handleWithTimeout_exceeded_shouldClearInterrupt() {
+        Result.handleWithTimeout(() -> {
+            Thread.sleep(10_000);
+            return "Success";
+        }, TIMEOUT);
+        assertThat(Thread.interrupted()).isFalse();
+    }
+
+    @Test
+    void handleWithTimeout_success_shouldKeepExistingInterrupt() {
+        Thread.currentThread().interrupt();
+        Result.handleWithTimeout(() -> "Success", TIMEOUT);
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+    @Test
+    void handleWithTimeout_exceededWhenAlreadyInterrupted_shouldKeepInterrupt() {
+        Thread.currentThread().interrupt();
+        Result<String, Exception> result = Result.handleWithTimeout(() -> {
+            long end = System.nanoTime() + 200_000_000L;
+            while (System.nanoTime() < end) {
+                Thread.yield();
+            }
+            return "Success";
+        }, TIMEOUT);
+        assertThat(Thread.interrupted()).isTrue();
+        result.consumeEither(
+                val -> fail("Should not be success"),
+                err -> assertThat(err).isInstanceOf(TimeoutException.class)
+        );
+    }
+
+    @Test
+    void handleWithTimeout_interruptedElsewhereBeforeTimeout_shouldKeepInterrupt() {
+        Thread caller = Thread.currentThread();
+        Result.handleWithTimeout(() -> {
+            new Thread(caller::interrupt).start();
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.yield();
+            }
+            long end = System.nanoTime() + 200_000_000L;
+            while (System.nanoTime() < end) {
+                Thread.yield();
+            }
+            return "Success";
+        }, TIMEOUT);
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+    @Test
+    void handleWithTimeout_completed_shouldNotInterruptLater() throws InterruptedException {
+        Result.handleWithTimeout(() -> "Success", TIMEOUT);
+        TimeUnit.MILLISECONDS.sleep(150);
+        assertThat(Thread.interrupted()).isFalse();
+    }
+
+    @Test
+    void handleWithTimeout_durationBeyondNanos_shouldContainValue() {
+        Result<String, Exception> result = Result.handleWithTimeout(() -> {
+            Thread.sleep(100);
+            return "Success";
+        }, Duration.ofSeconds(Long.MAX_VALUE));
+        assertThat(result).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void handleWithTimeout_zeroTimeoutGivesIAE() {
+        assertThatThrownBy(() -> Result.handleWithTimeout(() -> "Success", Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Timeout must be positive, was PT0S");
+    }
+
+    @Test
+    void handleWithTimeout_negativeTimeoutGivesIAE() {
+        assertThatThrownBy(() -> Result.handleWithTimeout(() -> "Success", Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Timeout must be positive, was PT-1S");
+    }
+
+    @Test
+    void handleWithTimeout_nullCallableGivesNPE() {
+        assertThatThrownBy(() -> Result.handleWithTimeout(null, TIMEOUT))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handleWithTimeout_nullTimeoutGivesNPE() {
+        assertThatThrownBy(() -> Result.handleWithTimeout(() -> "Success", null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handleWithTimeout_nullValueFromCallableGivesNPE() {
+        assertThatThrownBy(() -> Result.handleWithTimeout(() -> null, TIMEOUT))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
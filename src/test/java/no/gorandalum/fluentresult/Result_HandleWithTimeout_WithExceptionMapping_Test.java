@@ -0,0 +1,85 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_HandleWithTimeout_WithExceptionMapping_Test {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(50);
+
+    @Test
+    void handleWithTimeout_withExceptionMapping_success_shouldContainValue() {
+        Result<String, String> result = Result.handleWithTimeout(
+                () -> "Success",
+                TIMEOUT,
+                ex -> fail("Should not map exception"));
+        result.consumeEither(
+                val -> assertThat(val).isEqualTo("Success"),
+                err -> fail("Should not be error")
+        );
+    }
+
+    @Test
+    void handleWithTimeout_withExceptionMapping_exception_shouldContainMappedException() {
+        Result<String, String> result = Result.handleWithTimeout(
+                () -> {
+                    throw new IOException("Error");
+                },
+                TIMEOUT,
+                Exception::getMessage);
+        result.consumeEither(
+                val -> fail("Should not be success"),
+                err -> assertThat(err).isEqualTo("Error")
+        );
+    }
+
+    @Test
+    void handleWithTimeout_withExceptionMapping_exceeded_shouldContainMappedTimeoutException() {
+        Result<String, String> result = Result.handleWithTimeout(
+                () -> {
+                    Thread.sleep(10_000);
+                    return "Success";
+                },
+                TIMEOUT,
+                ex -> ex instanceof TimeoutException ? "Timeout" : "Other");
+        result.consumeEither(
+                val -> fail("Should not be success"),
+                err -> assertThat(err).isEqualTo("Timeout")
+        );
+    }
+
+    @Test
+    void handleWithTimeout_withExceptionMapping_nullCallableGivesNPE() {
+        assertThatThrownBy(() -> Result.handleWithTimeout(null, TIMEOUT, Exception::getMessage))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handleWithTimeout_withExceptionMapping_nullTimeoutGivesNPE() {
+        assertThatThrownBy(() -> Result.handleWithTimeout(() -> "Success", null, Exception::getMessage))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handleWithTimeout_withExceptionMapping_nullExceptionMapperGivesNPE() {
+        assertThatThrownBy(() -> Result.handleWithTimeout(() -> "Success", TIMEOUT, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void handleWithTimeout_withExceptionMapping_nullValueFromExceptionMapperGivesNPE() {
+        assertThatThrownBy(() -> Result.handleWithTimeout(
+                () -> {
+                    Thread.sleep(10_000);
+                    return "Success";
+                },
+                TIMEOUT,
+                ex -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
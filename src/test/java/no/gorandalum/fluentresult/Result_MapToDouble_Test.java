@@ -0,0 +1,30 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_MapToDouble_Test {
+
+    @Test
+    void mapToDouble_success_shouldMapValue() {
+        Result<String, String> result = Result.success("Success");
+        assertThat(result.mapToDouble(String::length)).isEqualTo(DoubleResult.success(7.0));
+    }
+
+    @Test
+    void mapToDouble_error_shouldNotMap() {
+        Result<String, String> result = Result.error("Error");
+        DoubleResult<String> mapped = result.mapToDouble(val -> {
+            throw new RuntimeException("Should not be run");
+        });
+        assertThat(mapped).isEqualTo(DoubleResult.error("Error"));
+    }
+
+    @Test
+    void mapToDouble_error_nullFunctionGivesNPE() {
+        Result<String, String> result = Result.error("Error");
+        assertThatThrownBy(() -> result.mapToDouble(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,30 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_MapToInt_Test {
+
+    @Test
+    void mapToInt_success_shouldMapValue() {
+        Result<String, String> result = Result.success("Success");
+        assertThat(result.mapToInt(String::length)).isEqualTo(IntResult.success(7));
+    }
+
+    @Test
+    void mapToInt_error_shouldNotMap() {
+        Result<String, String> result = Result.error("Error");
+        IntResult<String> mapped = result.mapToInt(val -> {
+            throw new RuntimeException("Should not be run");
+        });
+        assertThat(mapped).isEqualTo(IntResult.error("Error"));
+    }
+
+    @Test
+    void mapToInt_error_nullFunctionGivesNPE() {
+        Result<String, String> result = Result.error("Error");
+        assertThatThrownBy(() -> result.mapToInt(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
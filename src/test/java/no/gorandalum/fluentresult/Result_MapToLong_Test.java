@@ -0,0 +1,30 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_MapToLong_Test {
+
+    @Test
+    void mapToLong_success_shouldMapValue() {
+        Result<String, String> result = Result.success("Success");
+        assertThat(result.mapToLong(String::length)).isEqualTo(LongResult.success(7L));
+    }
+
+    @Test
+    void mapToLong_error_shouldNotMap() {
+        Result<String, String> result = Result.error("Error");
+        LongResult<String> mapped = result.mapToLong(val -> {
+            throw new RuntimeException("Should not be run");
+        });
+        assertThat(mapped).isEqualTo(LongResult.error("Error"));
+    }
+
+    @Test
+    void mapToLong_error_nullFunctionGivesNPE() {
+        Result<String, String> result = Result.error("Error");
+        assertThatThrownBy(() -> result.mapToLong(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
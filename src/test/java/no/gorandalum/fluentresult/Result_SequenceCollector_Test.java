@@ -0,0 +1,120 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_SequenceCollector_Test {
+
+    @Test
+    void sequenceCollector_allSuccess_shouldContainValuesInOrder() {
+        Result<List<String>, String> result = Stream.of("First", "Second", "Third")
+                .map(Result::<String, String>success)
+                .collect(Result.sequenceCollector());
+        assertThat(result).isEqualTo(Result.success(Arrays.asList("First", "Second", "Third")));
+    }
+
+    @Test
+    void sequenceCollector_empty_shouldContainEmptyList() {
+        Result<List<String>, String> result = Stream.<Result<String, String>>empty()
+                .collect(Result.sequenceCollector());
+        assertThat(result).isEqualTo(Result.success(Collections.emptyList()));
+    }
+
+    @Test
+    void sequenceCollector_error_shouldContainFirstError() {
+        Result<List<String>, String> result = Stream.of(
+                Result.<String, String>success("First"),
+                Result.<String, String>error("Error"),
+                Result.<String, String>success("Third"),
+                Result.<String, String>error("Other error"))
+                .collect(Result.sequenceCollector());
+        assertThat(result).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void sequenceCollector_parallel_shouldContainValuesInOrder() {
+        Result<List<Integer>, String> result = IntStream.range(0, 10_000)
+                .parallel()
+                .mapToObj(Result::<Integer, String>success)
+                .collect(Result.sequenceCollector());
+        assertThat(result.orElseThrow(IllegalStateException::new))
+                .containsExactlyElementsOf(() -> IntStream.range(0, 10_000).iterator());
+    }
+
+    @Test
+    void sequenceCollector_parallel_shouldContainFirstErrorInEncounterOrder() {
+        Result<List<Integer>, String> result = IntStream.range(0, 10_000)
+                .parallel()
+                .mapToObj(val -> val % 1000 == 999 ?
+                        Result.<Integer, String>error("Error at " + val) :
+                        Result.<Integer, String>success(val))
+                .collect(Result.sequenceCollector());
+        assertThat(result).isEqualTo(Result.error("Error at 999"));
+    }
+
+    @Test
+    void sequenceCollector_combineSuccesses_shouldConcatenateValues() {
+        assertThat(combine(
+                Arrays.asList(Result.success("First")),
+                Arrays.asList(Result.success("Second"))))
+                .isEqualTo(Result.success(Arrays.asList("First", "Second")));
+    }
+
+    @Test
+    void sequenceCollector_combineErrorWithSuccess_shouldKeepLeftError() {
+        assertThat(combine(
+                Arrays.asList(Result.error("Error")),
+                Arrays.asList(Result.success("Second"))))
+                .isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void sequenceCollector_combineSuccessWithError_shouldKeepRightError() {
+        assertThat(combine(
+                Arrays.asList(Result.success("First")),
+                Arrays.asList(Result.error("Error"))))
+                .isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void sequenceCollector_combineErrors_shouldKeepLeftError() {
+        assertThat(combine(
+                Arrays.asList(Result.error("Error")),
+                Arrays.asList(Result.error("Other error"))))
+                .isEqualTo(Result.error("Error"));
+    }
+
+    private static Result<List<String>, String> combine(List<Result<String, String>> left,
+                                                        List<Result<String, String>> right) {
+        return combine(Result.sequenceCollector(), left, right);
+    }
+
+    private static <A> Result<List<String>, String> combine(
+            Collector<Result<? extends String, ? extends String>, A, Result<List<String>, String>> collector,
+            List<Result<String, String>> left,
+            List<Result<String, String>> right) {
+        A leftContainer = collector.supplier().get();
+        left.forEach(result -> collector.accumulator().accept(leftContainer, result));
+        A rightContainer = collector.supplier().get();
+        right.forEach(result -> collector.accumulator().accept(rightContainer, result));
+        return collector.finisher().apply(collector.combiner().apply(leftContainer, rightContainer));
+    }
+
+    @Test
+    void sequenceCollector_allSuccess_shouldContainUnmodifiableList() {
+        List<String> values = Stream.of("First", "Second")
+                .map(Result::<String, String>success)
+                .collect(Result.sequenceCollector())
+                .orElseThrow(IllegalStateException::new);
+        assertThatThrownBy(() -> values.add("Third"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_Sequence_Test {
+
+    @Test
+    void sequence_allSuccess_shouldContainValuesInOrder() {
+        List<Result<String, String>> results = Arrays.asList(
+                Result.success("First"),
+                Result.success("Second"),
+                Result.success("Third"));
+        assertThat(Result.sequence(results))
+                .isEqualTo(Result.success(Arrays.asList("First", "Second", "Third")));
+    }
+
+    @Test
+    void sequence_empty_shouldContainEmptyList() {
+        List<Result<String, String>> results = Collections.emptyList();
+        assertThat(Result.sequence(results)).isEqualTo(Result.success(Collections.emptyList()));
+    }
+
+    @Test
+    void sequence_error_shouldContainFirstError() {
+        List<Result<String, String>> results = Arrays.asList(
+                Result.success("First"),
+                Result.error("Error"),
+                Result.error("Other error"));
+        assertThat(Result.sequence(results)).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void sequence_error_shouldReturnFailingInstance() {
+        Result<String, String> error = Result.error("Error");
+        Result<List<String>, String> result = Result.sequence(Arrays.asList(Result.success("First"), error));
+        assertThat(result).isSameAs(error);
+    }
+
+    @Test
+    void sequence_error_shouldStopIterating() {
+        List<Result<String, String>> results = Arrays.asList(
+                Result.error("Error"),
+                null);
+        assertThat(Result.sequence(results)).isEqualTo(Result.error("Error"));
+    }
+
+    @Test
+    void sequence_iterable_shouldContainValuesInOrder() {
+        List<Result<String, String>> results = new ArrayList<>();
+        results.add(Result.success("First"));
+        results.add(Result.success("Second"));
+        Iterable<Result<String, String>> iterable = results::iterator;
+        assertThat(Result.sequence(iterable))
+                .isEqualTo(Result.success(Arrays.asList("First", "Second")));
+    }
+
+    @Test
+    void sequence_nullResultGivesNPE() {
+        List<Result<String, String>> results = Arrays.asList(Result.success("First"), null);
+        assertThatThrownBy(() -> Result.sequence(results))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void sequence_nullIterableGivesNPE() {
+        assertThatThrownBy(() -> Result.sequence(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
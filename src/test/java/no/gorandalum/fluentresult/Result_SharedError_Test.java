@@ -0,0 +1,67 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_SharedError_Test {
+
+    enum ErrorCode {
+        NOT_FOUND,
+        FORBIDDEN,
+        CONFLICT {
+            @Override
+            public String toString() {
+                return "Conflict";
+            }
+        }
+    }
+
+    @Test
+    void sharedError_enumConstant_shouldReturnSharedInstance() {
+        Result<String, ErrorCode> result = Result.sharedError(ErrorCode.NOT_FOUND);
+        assertThat(result).isSameAs(Result.sharedError(ErrorCode.NOT_FOUND));
+        assertThat(result).isEqualTo(Result.error(ErrorCode.NOT_FOUND));
+    }
+
+    @Test
+    void sharedError_enumConstantWithBody_shouldReturnSharedInstance() {
+        Result<String, ErrorCode> result = Result.sharedError(ErrorCode.CONFLICT);
+        assertThat(result).isSameAs(Result.sharedError(ErrorCode.CONFLICT));
+        assertThat(result).isEqualTo(Result.error(ErrorCode.CONFLICT));
+    }
+
+    @Test
+    void sharedError_differentEnumConstants_shouldReturnDifferentInstances() {
+        assertThat(Result.sharedError(ErrorCode.NOT_FOUND))
+                .isNotEqualTo(Result.sharedError(ErrorCode.FORBIDDEN));
+    }
+
+    @Test
+    void sharedError_equalRegisteredError_shouldReturnSharedInstance() {
+        SharedErrors.register("Registered Result");
+        assertThat(Result.sharedError(new String("Registered Result")))
+                .isSameAs(Result.sharedError("Registered Result"));
+    }
+
+    @Test
+    void sharedError_registeredError_shouldReturnSharedInstance() {
+        SharedErrors.register("Registered Result");
+        Result<String, String> result = Result.sharedError("Registered Result");
+        assertThat(result).isSameAs(Result.sharedError("Registered Result"));
+        assertThat(result).isEqualTo(Result.error("Registered Result"));
+    }
+
+    @Test
+    void sharedError_unregisteredError_shouldReturnNewInstance() {
+        Result<String, String> result = Result.sharedError("Unregistered Result");
+        assertThat(result).isNotSameAs(Result.sharedError("Unregistered Result"));
+        assertThat(result).isEqualTo(Result.error("Unregistered Result"));
+    }
+
+    @Test
+    void sharedError_nullErrorGivesNPE() {
+        assertThatThrownBy(() -> Result.sharedError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,123 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_SharedSuccess_Test {
+
+    @Test
+    void sharedSuccess_smallInteger_shouldReturnSharedInstance() {
+        Result<Integer, String> result = Result.sharedSuccess(5);
+        assertThat(result).isSameAs(Result.sharedSuccess(5));
+        assertThat(result).isEqualTo(Result.success(5));
+    }
+
+    @Test
+    void sharedSuccess_integerAtLowerBound_shouldReturnSharedInstance() {
+        assertThat(Result.sharedSuccess(-128)).isSameAs(Result.sharedSuccess(-128));
+        assertThat(Result.sharedSuccess(-128)).isEqualTo(Result.success(-128));
+    }
+
+    @Test
+    void sharedSuccess_integerAtUpperBound_shouldReturnSharedInstance() {
+        assertThat(Result.sharedSuccess(127)).isSameAs(Result.sharedSuccess(127));
+        assertThat(Result.sharedSuccess(127)).isEqualTo(Result.success(127));
+    }
+
+    @Test
+    void sharedSuccess_integerOutsideRange_shouldReturnNewInstance() {
+        assertThat(Result.sharedSuccess(-129)).isNotSameAs(Result.sharedSuccess(-129));
+        assertThat(Result.sharedSuccess(128)).isNotSameAs(Result.sharedSuccess(128));
+        assertThat(Result.sharedSuccess(128)).isEqualTo(Result.success(128));
+    }
+
+    @Test
+    void sharedSuccess_smallLong_shouldReturnSharedInstance() {
+        Result<Long, String> result = Result.sharedSuccess(5L);
+        assertThat(result).isSameAs(Result.sharedSuccess(5L));
+        assertThat(result).isEqualTo(Result.success(5L));
+    }
+
+    @Test
+    void sharedSuccess_longOutsideRange_shouldReturnNewInstance() {
+        assertThat(Result.sharedSuccess(1000L)).isNotSameAs(Result.sharedSuccess(1000L));
+        assertThat(Result.sharedSuccess(1000L)).isEqualTo(Result.success(1000L));
+    }
+
+    @Test
+    void sharedSuccess_longBounds_shouldOnlyShareWithinRange() {
+        assertThat(Result.sharedSuccess(-128L)).isSameAs(Result.sharedSuccess(-128L));
+        assertThat(Result.sharedSuccess(127L)).isSameAs(Result.sharedSuccess(127L));
+        assertThat(Result.sharedSuccess(127L)).isEqualTo(Result.success(127L));
+        assertThat(Result.sharedSuccess(-129L)).isNotSameAs(Result.sharedSuccess(-129L));
+        assertThat(Result.sharedSuccess(128L)).isNotSameAs(Result.sharedSuccess(128L));
+    }
+
+    @Test
+    void sharedSuccess_boolean_shouldReturnSharedInstance() {
+        assertThat(Result.sharedSuccess(true)).isSameAs(Result.sharedSuccess(true));
+        assertThat(Result.sharedSuccess(true)).isEqualTo(Result.success(true));
+        assertThat(Result.sharedSuccess(false)).isSameAs(Result.sharedSuccess(false));
+        assertThat(Result.sharedSuccess(false)).isEqualTo(Result.success(false));
+    }
+
+    @Test
+    void sharedSuccess_emptyString_shouldReturnSharedInstance() {
+        Result<String, String> result = Result.sharedSuccess(new String(""));
+        assertThat(result).isSameAs(Result.sharedSuccess(""));
+        assertThat(result).isEqualTo(Result.success(""));
+    }
+
+    @Test
+    void sharedSuccess_emptyCollections_shouldReturnSharedInstance() {
+        assertThat(Result.sharedSuccess(Collections.emptyList()))
+                .isSameAs(Result.sharedSuccess(Collections.emptyList()))
+                .isEqualTo(Result.success(Collections.emptyList()));
+        assertThat(Result.sharedSuccess(Collections.emptySet()))
+                .isSameAs(Result.sharedSuccess(Collections.emptySet()))
+                .isEqualTo(Result.success(Collections.emptySet()));
+        assertThat(Result.sharedSuccess(Collections.emptyMap()))
+                .isSameAs(Result.sharedSuccess(Collections.emptyMap()))
+                .isEqualTo(Result.success(Collections.emptyMap()));
+    }
+
+    @Test
+    void sharedSuccess_mutableEmptyCollection_shouldReturnNewInstance() {
+        List<String> list = new ArrayList<>();
+        Result<List<String>, String> result = Result.sharedSuccess(list);
+        assertThat(result).isNotSameAs(Result.sharedSuccess(list));
+        assertThat(result).isEqualTo(Result.success(list));
+    }
+
+    @Test
+    void sharedSuccess_registeredValue_shouldReturnSharedInstance() {
+        SharedValues.register("Registered Result");
+        Result<String, String> result = Result.sharedSuccess("Registered Result");
+        assertThat(result).isSameAs(Result.sharedSuccess(new String("Registered Result")));
+        assertThat(result).isEqualTo(Result.success("Registered Result"));
+    }
+
+    @Test
+    void sharedSuccess_registeredLargeInteger_shouldReturnSharedInstance() {
+        SharedValues.register(404_404);
+        assertThat(Result.sharedSuccess(404_404)).isSameAs(Result.sharedSuccess(404_404));
+    }
+
+    @Test
+    void sharedSuccess_unregisteredValue_shouldReturnNewInstance() {
+        Result<String, String> result = Result.sharedSuccess("Unregistered Result");
+        assertThat(result).isNotSameAs(Result.sharedSuccess("Unregistered Result"));
+        assertThat(result).isEqualTo(Result.success("Unregistered Result"));
+    }
+
+    @Test
+    void sharedSuccess_nullValueGivesNPE() {
+        assertThatThrownBy(() -> Result.sharedSuccess(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,20 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Result_ToOptionalResult_Test {
+
+    @Test
+    void toOptionalResult_success_shouldContainValue() {
+        Result<String, String> result = Result.success("Success");
+        assertThat(result.toOptionalResult()).isEqualTo(OptionalResult.success("Success"));
+    }
+
+    @Test
+    void toOptionalResult_error_shouldKeepError() {
+        Result<String, String> result = Result.error("Error");
+        assertThat(result.toOptionalResult()).isEqualTo(OptionalResult.error("Error"));
+    }
+}
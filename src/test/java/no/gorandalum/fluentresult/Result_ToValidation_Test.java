@@ -0,0 +1,32 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Result_ToValidation_Test {
+
+    @Test
+    void toValidation_success_shouldBeValid() {
+        Validation<String, String> validation = Result.<String, String>success("Success").toValidation();
+        assertThat(validation).isEqualTo(Validation.valid("Success"));
+    }
+
+    @Test
+    void toValidation_error_shouldBeInvalidWithError() {
+        Validation<String, String> validation = Result.<String, String>error("Error").toValidation();
+        assertThat(validation.isValid()).isFalse();
+        assertThat(validation.errors()).containsExactly("Error");
+    }
+
+    @Test
+    void toValidation_error_roundTrip_shouldWrapErrorInList() {
+        Result<String, List<String>> result = Result.<String, String>error("Error")
+                .toValidation()
+                .toResult();
+        assertThat(result).isEqualTo(Result.error(Collections.singletonList("Error")));
+    }
+}
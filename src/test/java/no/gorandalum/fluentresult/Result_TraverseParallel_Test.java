@@ -0,0 +1,242 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_TraverseParallel_Test {
+
+    private final ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+    private final ForkJoinPool fourThreadPool = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdownPool() {
+        singleThreadPool.shutdown();
+        fourThreadPool.shutdown();
+    }
+
+    @Test
+    void traverseParallel_allSuccess_shouldContainMappedValuesInInputOrder() {
+        List<Integer> items = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        Result<List<String>, String> result = Result.traverseParallel(
+                items,
+                val -> Result.success(String.valueOf(val)));
+        assertThat(result.orElseThrow(IllegalStateException::new))
+                .isEqualTo(items.stream().map(String::valueOf).collect(Collectors.toList()));
+    }
+
+    @Test
+    void traverseParallel_nonListCollection_shouldContainMappedValuesInInputOrder() {
+        Result<List<Integer>, String> result = Result.traverseParallel(
+                new LinkedHashSet<>(Arrays.asList("One", "Three", "Fifteen")),
+                val -> Result.success(val.length()),
+                singleThreadPool,
+                1);
+        assertThat(result).isEqualTo(Result.success(Arrays.asList(3, 5, 7)));
+    }
+
+    @Test
+    void traverseParallel_empty_shouldContainEmptyList() {
+        Result<List<Integer>, String> result = Result.traverseParallel(
+                Collections.<String>emptyList(),
+                val -> Result.success(val.length()),
+                singleThreadPool);
+        assertThat(result).isEqualTo(Result.success(Collections.emptyList()));
+    }
+
+    @Test
+    void traverseParallel_errors_shouldContainFirstErrorInInputOrder() {
+        List<Integer> items = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        Result<List<Integer>, String> result = Result.traverseParallel(
+                items,
+                val -> val % 1000 == 999 ? Result.error("Error at " + val) : Result.success(val),
+                ForkJoinPool.commonPool(),
+                16);
+        assertThat(result).isEqualTo(Result.error("Error at 999"));
+    }
+
+    @Test
+    void traverseParallel_errorAtLastItem_shouldContainError() {
+        Result<List<Integer>, String> result = Result.traverseParallel(
+                Arrays.asList(0, 1, 2),
+                val -> val == 2 ? Result.error("Error at " + val) : Result.success(val),
+                singleThreadPool,
+                1);
+        assertThat(result).isEqualTo(Result.error("Error at 2"));
+    }
+
+    @Test
+    void traverseParallel_error_shouldReturnFailingInstance() {
+        Result<Integer, String> error = Result.error("Error");
+        Result<List<Integer>, String> result = Result.traverseParallel(
+                Arrays.asList(0, 1),
+                val -> val == 1 ? error : Result.success(val),
+                singleThreadPool,
+                1);
+        assertThat(result).isSameAs(error);
+    }
+
+    @Test
+    void traverseParallel_error_shouldSkipPartsAfterError() {
+        List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+        Result<List<Integer>, String> result = Result.traverseParallel(
+                IntStream.range(0, 8).boxed().collect(Collectors.toList()),
+                val -> {
+                    applied.add(val);
+                    return val == 1 ? Result.error("Error at " + val) : Result.success(val);
+                },
+                singleThreadPool,
+                2);
+        assertThat(result).isEqualTo(Result.error("Error at 1"));
+        assertThat(applied).containsExactly(0, 1);
+    }
+
+    @Test
+    void traverseParallel_error_shouldStopPartAtError() {
+        List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+        Result<List<Integer>, String> result = Result.traverseParallel(
+                IntStream.range(0, 8).boxed().collect(Collectors.toList()),
+                val -> {
+                    applied.add(val);
+                    return val == 4 ? Result.error("Error at " + val) : Result.success(val);
+                },
+                singleThreadPool,
+                8);
+        assertThat(result).isEqualTo(Result.error("Error at 4"));
+        assertThat(applied).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void traverseParallel_singleThread_shouldApplyInInputOrder() {
+        List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+        Result.traverseParallel(
+                IntStream.range(0, 8).boxed().collect(Collectors.toList()),
+                val -> {
+                    applied.add(val);
+                    return Result.success(val);
+                },
+                singleThreadPool,
+                3);
+        assertThat(applied).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Test
+    void traverseParallel_customPool_shouldContainMappedValuesInInputOrder() {
+        List<Integer> items = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        Result<List<Integer>, String> result = Result.traverseParallel(
+                items,
+                val -> Result.success(val * 2),
+                fourThreadPool,
+                1);
+        assertThat(result).isEqualTo(Result.success(
+                items.stream().map(val -> val * 2).collect(Collectors.toList())));
+    }
+
+    @Test
+    void traverseParallel_customPool_shouldContainFirstErrorInInputOrder() {
+        Result<List<Integer>, String> result = Result.traverseParallel(
+                IntStream.range(0, 1000).boxed().collect(Collectors.toList()),
+                val -> val >= 500 && val % 7 == 0 ? Result.error("Error at " + val) : Result.success(val),
+                fourThreadPool,
+                8);
+        assertThat(result).isEqualTo(Result.error("Error at 504"));
+    }
+
+    @Test
+    void traverseParallel_errorInOtherPart_shouldStopRunningPart() {
+        CountDownLatch errorApplied = new CountDownLatch(1);
+        List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+        Result<List<Integer>, String> result = Result.traverseParallel(
+                IntStream.range(0, 8).boxed().collect(Collectors.toList()),
+                val -> {
+                    applied.add(val);
+                    if (val == 1) {
+                        errorApplied.countDown();
+                        return Result.error("Error at " + val);
+                    }
+                    if (val == 4) {
+                        await(errorApplied);
+                        sleep();
+                    }
+                    return Result.success(val);
+                },
+                fourThreadPool,
+                4);
+        assertThat(result).isEqualTo(Result.error("Error at 1"));
+        assertThat(applied).doesNotContain(5, 6, 7);
+    }
+
+    @Test
+    void traverseParallel_success_shouldContainUnmodifiableList() {
+        Result<List<Integer>, String> result = Result.traverseParallel(
+                Arrays.asList(1, 2),
+                Result::success,
+                singleThreadPool,
+                1);
+        List<Integer> values = result.orElseThrow(IllegalStateException::new);
+        assertThatThrownBy(() -> values.set(0, 3))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void traverseParallel_thresholdOne_shouldBeAccepted() {
+        Result<List<Integer>, String> result = Result.traverseParallel(
+                Arrays.asList(1, 2),
+                Result::success,
+                singleThreadPool,
+                1);
+        assertThat(result).isEqualTo(Result.success(Arrays.asList(1, 2)));
+    }
+
+    @Test
+    void traverseParallel_nonPositiveThresholdGivesIllegalArgumentException() {
+        assertThatThrownBy(() -> Result.traverseParallel(Arrays.asList(1, 2), Result::success, singleThreadPool, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void traverseParallel_nullFromFunctionGivesNPE() {
+        assertThatThrownBy(() -> Result.traverseParallel(Arrays.asList(1, 2), val -> null, singleThreadPool, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void traverseParallel_nullFunctionGivesNPE() {
+        assertThatThrownBy(() -> Result.traverseParallel(Arrays.asList(1, 2), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void traverseParallel_nullPoolGivesNPE() {
+        assertThatThrownBy(() -> Result.traverseParallel(Arrays.asList(1, 2), Result::success, null, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
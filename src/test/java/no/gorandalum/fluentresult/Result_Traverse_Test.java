@@ -0,0 +1,66 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Result_Traverse_Test {
+
+    @Test
+    void traverse_allSuccess_shouldContainMappedValuesInOrder() {
+        Result<List<Integer>, String> result = Result.traverse(
+                Arrays.asList("One", "Three", "Fifteen"),
+                val -> Result.success(val.length()));
+        assertThat(result).isEqualTo(Result.success(Arrays.asList(3, 5, 7)));
+    }
+
+    @Test
+    void traverse_empty_shouldContainEmptyList() {
+        Result<List<Integer>, String> result = Result.traverse(
+                Collections.<String>emptyList(),
+                val -> Result.success(val.length()));
+        assertThat(result).isEqualTo(Result.success(Collections.emptyList()));
+    }
+
+    @Test
+    void traverse_error_shouldContainFirstErrorAndStopApplying() {
+        List<String> applied = new ArrayList<>();
+        Result<List<Integer>, String> result = Result.traverse(
+                Arrays.asList("One", "", "Three", ""),
+                val -> {
+                    applied.add(val);
+                    return val.isEmpty() ?
+                            Result.error("Empty at " + applied.size()) :
+                            Result.success(val.length());
+                });
+        assertThat(result).isEqualTo(Result.error("Empty at 2"));
+        assertThat(applied).containsExactly("One", "");
+    }
+
+    @Test
+    void traverse_nullFromFunctionGivesNPE() {
+        assertThatThrownBy(() -> Result.traverse(Arrays.asList("One"), val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void traverse_nullFunctionGivesNPE() {
+        assertThatThrownBy(() -> Result.traverse(Collections.emptyList(), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void traverse_allSuccess_shouldContainUnmodifiableList() {
+        Result<List<Integer>, String> result = Result.traverse(
+                Arrays.asList("One", "Three"),
+                val -> Result.success(val.length()));
+        List<Integer> values = result.orElseThrow(IllegalStateException::new);
+        assertThatThrownBy(() -> values.add(5))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,36 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RetryPolicy_MaxAttempts_Test {
+
+    @Test
+    void maxAttempts_one_shouldMakeSingleAttempt() {
+        AtomicInteger attempts = new AtomicInteger();
+        Result<String, String> result = RetryPolicy.<String>maxAttempts(1)
+                .retry(() -> Result.error("Error " + attempts.incrementAndGet()));
+        assertThat(result).isEqualTo(Result.error("Error 1"));
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void maxAttempts_shouldRetryAnyErrorWithoutDelay() {
+        AtomicInteger attempts = new AtomicInteger();
+        long start = System.nanoTime();
+        Result<String, String> result = RetryPolicy.<String>maxAttempts(50)
+                .retry(() -> Result.error("Error " + attempts.incrementAndGet()));
+        assertThat(result).isEqualTo(Result.error("Error 50"));
+        assertThat(System.nanoTime() - start).isLessThan(1_000_000_000L);
+    }
+
+    @Test
+    void maxAttempts_zeroGivesIllegalArgumentException() {
+        assertThatThrownBy(() -> RetryPolicy.maxAttempts(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Max attempts must be positive, was 0");
+    }
+}
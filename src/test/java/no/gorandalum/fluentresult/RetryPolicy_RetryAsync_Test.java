@@ -0,0 +1,156 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RetryPolicy_RetryAsync_Test {
+
+    private static final RetryPolicy<String> POLICY = RetryPolicy.<String>maxAttempts(3)
+            .withBackoff(Duration.ofMillis(20), 1, Duration.ofMillis(20));
+
+    @Test
+    void retryAsync_successAfterErrors_shouldCompleteWithSuccess() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        AsyncResult<Integer, String> result = POLICY.retryAsync(() -> attempts.incrementAndGet() < 3 ?
+                AsyncResult.error("Error") :
+                AsyncResult.success(attempts.get()));
+        assertThat(await(result)).isEqualTo(Result.success(3));
+    }
+
+    @Test
+    void retryAsync_onlyErrors_shouldCompleteWithLastError() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        AsyncResult<Integer, String> result = POLICY.retryAsync(
+                () -> AsyncResult.error("Error " + attempts.incrementAndGet()));
+        assertThat(await(result)).isEqualTo(Result.error("Error 3"));
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void retryAsync_nonMatchingError_shouldStopRetrying() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        AsyncResult<Integer, String> result = POLICY.retryIf(err -> false).retryAsync(
+                () -> AsyncResult.error("Error " + attempts.incrementAndGet()));
+        assertThat(await(result)).isEqualTo(Result.error("Error 1"));
+    }
+
+    @Test
+    void retryAsync_shouldNotBlockWhileWaiting() throws Exception {
+        RetryPolicy<String> policy = RetryPolicy.<String>maxAttempts(2)
+                .withBackoff(Duration.ofMillis(300), 1, Duration.ofMillis(300));
+        long start = System.nanoTime();
+        AsyncResult<Integer, String> result = policy.retryAsync(() -> AsyncResult.error("Error"));
+        assertThat(System.nanoTime() - start).isLessThan(200_000_000L);
+        assertThat(result.toCompletableFuture()).isNotDone();
+        assertThat(await(result)).isEqualTo(Result.error("Error"));
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(300_000_000L);
+    }
+
+    @Test
+    void retryAsync_retries_shouldNotRunOnSchedulerThread() throws Exception {
+        CompletableFuture<String> threadName = new CompletableFuture<>();
+        AtomicInteger attempts = new AtomicInteger();
+        AsyncResult<Integer, String> result = POLICY.retryAsync(() -> {
+            if (attempts.incrementAndGet() == 2) {
+                threadName.complete(Thread.currentThread().getName());
+            }
+            return AsyncResult.error("Error");
+        });
+        await(result);
+        assertThat(threadName.get(5, TimeUnit.SECONDS)).isNotEqualTo(Scheduler.THREAD_NAME);
+    }
+
+    @Test
+    void retryAsync_givenExecutor_shouldMakeRetriesWithExecutor() throws Exception {
+        AtomicInteger executed = new AtomicInteger();
+        Executor executor = task -> {
+            executed.incrementAndGet();
+            new Thread(task, "retry-executor").start();
+        };
+        List<String> threadNames = new CopyOnWriteArrayList<>();
+        AsyncResult<Integer, String> result = POLICY.retryAsync(() -> {
+            threadNames.add(Thread.currentThread().getName());
+            return AsyncResult.error("Error");
+        }, executor);
+        assertThat(await(result)).isEqualTo(Result.error("Error"));
+        assertThat(executed).hasValue(2);
+        assertThat(threadNames).containsExactly(
+                Thread.currentThread().getName(), "retry-executor", "retry-executor");
+    }
+
+    @Test
+    void retryAsync_executorRejects_shouldCompleteExceptionally() {
+        AsyncResult<Integer, String> result = POLICY.retryAsync(
+                () -> AsyncResult.error("Error"),
+                task -> {
+                    throw new RejectedExecutionException();
+                });
+        assertThatThrownBy(() -> await(result))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void retryAsync_attemptCompletesExceptionally_shouldCompleteExceptionally() {
+        IllegalStateException exception = new IllegalStateException();
+        CompletableFuture<Result<String, String>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(exception);
+        AsyncResult<String, String> result = POLICY.retryAsync(() -> AsyncResult.fromCompletionStage(failed));
+        assertThatThrownBy(() -> await(result))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void retryAsync_supplierThrows_shouldCompleteExceptionally() {
+        AsyncResult<String, String> result = POLICY.retryAsync(() -> { throw new IllegalStateException(); });
+        assertThatThrownBy(() -> await(result))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void retryAsync_supplierReturnsNull_shouldCompleteExceptionally() {
+        AsyncResult<String, String> result = POLICY.retryAsync(() -> null);
+        assertThatThrownBy(() -> await(result))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void retryAsync_predicateThrows_shouldCompleteExceptionally() {
+        AsyncResult<String, String> result = POLICY
+                .retryIf(err -> { throw new IllegalStateException(); })
+                .retryAsync(() -> AsyncResult.error("Error"));
+        assertThatThrownBy(() -> await(result))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void retryAsync_nullSupplierGivesNPE() {
+        assertThatThrownBy(() -> POLICY.retryAsync(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void retryAsync_nullExecutorGivesNPE() {
+        assertThatThrownBy(() -> POLICY.retryAsync(() -> AsyncResult.error("Error"), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    private static <T> Result<T, String> await(AsyncResult<T, String> result) throws Exception {
+        return result.toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,37 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RetryPolicy_RetryBooleanResult_Test {
+
+    private static final RetryPolicy<String> POLICY = RetryPolicy.maxAttempts(3);
+
+    @Test
+    void retryBooleanResult_withHandle_shouldRetryThrowingCallable() {
+        AtomicInteger attempts = new AtomicInteger();
+        BooleanResult<String> result = POLICY.retryBooleanResult(() -> BooleanResult.handle(() -> {
+            if (attempts.incrementAndGet() < 2) {
+                throw new IllegalStateException("Flaky");
+            }
+            return false;
+        }, Exception::getMessage));
+        assertThat(result).isEqualTo(BooleanResult.successFalse());
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void retryBooleanResult_onlyErrors_shouldReturnLastError() {
+        BooleanResult<String> result = POLICY.retryBooleanResult(() -> BooleanResult.error("Error"));
+        assertThat(result).isEqualTo(BooleanResult.error("Error"));
+    }
+
+    @Test
+    void retryBooleanResult_nullSupplierGivesNPE() {
+        assertThatThrownBy(() -> POLICY.retryBooleanResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,46 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RetryPolicy_RetryIf_Test {
+
+    @Test
+    void retryIf_matchingError_shouldRetry() {
+        AtomicInteger attempts = new AtomicInteger();
+        Result<String, String> result = RetryPolicy.<String>maxAttempts(3)
+                .retryIf(err -> err.startsWith("Transient"))
+                .retry(() -> Result.error("Transient " + attempts.incrementAndGet()));
+        assertThat(result).isEqualTo(Result.error("Transient 3"));
+    }
+
+    @Test
+    void retryIf_nonMatchingError_shouldStopRetrying() {
+        AtomicInteger attempts = new AtomicInteger();
+        Result<String, String> result = RetryPolicy.<String>maxAttempts(5)
+                .retryIf(err -> err.startsWith("Transient"))
+                .retry(() -> Result.error(attempts.incrementAndGet() < 2 ? "Transient" : "Permanent"));
+        assertThat(result).isEqualTo(Result.error("Permanent"));
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void retryIf_shouldKeepBackoff() {
+        RetryPolicy<String> policy = RetryPolicy.<String>maxAttempts(3)
+                .withBackoff(Duration.ofMillis(10), 1, Duration.ofMillis(10))
+                .withJitter(0.5)
+                .retryIf(err -> true);
+        assertThat(policy.delayNanos(1, 1)).isEqualTo(5_000_000L);
+    }
+
+    @Test
+    void retryIf_nullPredicateGivesNPE() {
+        RetryPolicy<String> policy = RetryPolicy.maxAttempts(3);
+        assertThatThrownBy(() -> policy.retryIf(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,48 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RetryPolicy_RetryOptionalResult_Test {
+
+    private static final RetryPolicy<String> POLICY = RetryPolicy.maxAttempts(3);
+
+    @Test
+    void retryOptionalResult_empty_shouldNotRetry() {
+        AtomicInteger attempts = new AtomicInteger();
+        OptionalResult<String, String> result = POLICY.retryOptionalResult(() -> {
+            attempts.incrementAndGet();
+            return OptionalResult.empty();
+        });
+        assertThat(result).isEqualTo(OptionalResult.empty());
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void retryOptionalResult_withHandle_shouldRetryThrowingCallable() {
+        AtomicInteger attempts = new AtomicInteger();
+        OptionalResult<Integer, String> result = POLICY.retryOptionalResult(() -> OptionalResult.handle(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("Flaky");
+            }
+            return Optional.of(attempts.get());
+        }, Exception::getMessage));
+        assertThat(result).isEqualTo(OptionalResult.success(3));
+    }
+
+    @Test
+    void retryOptionalResult_onlyErrors_shouldReturnLastError() {
+        OptionalResult<String, String> result = POLICY.retryOptionalResult(() -> OptionalResult.error("Error"));
+        assertThat(result).isEqualTo(OptionalResult.error("Error"));
+    }
+
+    @Test
+    void retryOptionalResult_nullSupplierGivesNPE() {
+        assertThatThrownBy(() -> POLICY.retryOptionalResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,36 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RetryPolicy_RetryVoidResult_Test {
+
+    private static final RetryPolicy<String> POLICY = RetryPolicy.maxAttempts(3);
+
+    @Test
+    void retryVoidResult_withHandle_shouldRetryThrowingRunnable() {
+        AtomicInteger attempts = new AtomicInteger();
+        VoidResult<String> result = POLICY.retryVoidResult(() -> VoidResult.handle(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("Flaky");
+            }
+        }, Exception::getMessage));
+        assertThat(result).isEqualTo(VoidResult.success());
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void retryVoidResult_onlyErrors_shouldReturnLastError() {
+        VoidResult<String> result = POLICY.retryVoidResult(() -> VoidResult.error("Error"));
+        assertThat(result).isEqualTo(VoidResult.error("Error"));
+    }
+
+    @Test
+    void retryVoidResult_nullSupplierGivesNPE() {
+        assertThatThrownBy(() -> POLICY.retryVoidResult(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RetryPolicy_Retry_Test {
+
+    private static final RetryPolicy<String> POLICY = RetryPolicy.maxAttempts(3);
+
+    @Test
+    void retry_success_shouldNotRetry() {
+        AtomicInteger attempts = new AtomicInteger();
+        Result<Integer, String> result = POLICY.retry(() -> Result.success(attempts.incrementAndGet()));
+        assertThat(result).isEqualTo(Result.success(1));
+    }
+
+    @Test
+    void retry_successAfterErrors_shouldReturnSuccess() {
+        AtomicInteger attempts = new AtomicInteger();
+        Result<Integer, String> result = POLICY.retry(() -> attempts.incrementAndGet() < 3 ?
+                Result.error("Error") :
+                Result.success(attempts.get()));
+        assertThat(result).isEqualTo(Result.success(3));
+    }
+
+    @Test
+    void retry_onlyErrors_shouldReturnLastError() {
+        AtomicInteger attempts = new AtomicInteger();
+        Result<Integer, String> result = POLICY.retry(() -> Result.error("Error " + attempts.incrementAndGet()));
+        assertThat(result).isEqualTo(Result.error("Error 3"));
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void retry_withHandle_shouldRetryThrowingCallable() {
+        AtomicInteger attempts = new AtomicInteger();
+        Result<Integer, String> result = POLICY.retry(() -> Result.handle(() -> {
+            if (attempts.incrementAndGet() < 2) {
+                throw new IllegalStateException("Flaky");
+            }
+            return attempts.get();
+        }, Exception::getMessage));
+        assertThat(result).isEqualTo(Result.success(2));
+    }
+
+    @Test
+    void retry_interruptedWhileWaiting_shouldReturnLastResult() {
+        AtomicInteger attempts = new AtomicInteger();
+        RetryPolicy<String> policy = RetryPolicy.<String>maxAttempts(3)
+                .withBackoff(Duration.ofSeconds(10), 1, Duration.ofSeconds(10));
+        Thread.currentThread().interrupt();
+        try {
+            Result<Integer, String> result = policy.retry(() -> Result.error("Error " + attempts.incrementAndGet()));
+            assertThat(result).isEqualTo(Result.error("Error 1"));
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void retry_supplierReturnsNull_shouldGiveNPE() {
+        assertThatThrownBy(() -> POLICY.retry(() -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void retry_nullSupplierGivesNPE() {
+        assertThatThrownBy(() -> POLICY.retry(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
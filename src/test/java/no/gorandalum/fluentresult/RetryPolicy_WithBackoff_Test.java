@@ -0,0 +1,96 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RetryPolicy_WithBackoff_Test {
+
+    private static final RetryPolicy<String> POLICY = RetryPolicy.<String>maxAttempts(10)
+            .withBackoff(Duration.ofMillis(100), 2, Duration.ofMillis(1000));
+
+    @Test
+    void withBackoff_shouldGrowDelayExponentially() {
+        assertThat(POLICY.delayNanos(1, 0.5)).isEqualTo(100_000_000L);
+        assertThat(POLICY.delayNanos(2, 0.5)).isEqualTo(200_000_000L);
+        assertThat(POLICY.delayNanos(3, 0.5)).isEqualTo(400_000_000L);
+    }
+
+    @Test
+    void withBackoff_shouldLimitDelayToMaxDelay() {
+        assertThat(POLICY.delayNanos(5, 0.5)).isEqualTo(1_000_000_000L);
+        assertThat(POLICY.delayNanos(60, 0.5)).isEqualTo(1_000_000_000L);
+    }
+
+    @Test
+    void withBackoff_multiplierOne_shouldGiveFixedDelay() {
+        RetryPolicy<String> policy = RetryPolicy.<String>maxAttempts(3)
+                .withBackoff(Duration.ofMillis(10), 1, Duration.ofMillis(10));
+        assertThat(policy.delayNanos(1, 0)).isEqualTo(10_000_000L);
+        assertThat(policy.delayNanos(3, 0)).isEqualTo(10_000_000L);
+    }
+
+    @Test
+    void withBackoff_shouldWaitBetweenAttempts() {
+        RetryPolicy<String> policy = RetryPolicy.<String>maxAttempts(3)
+                .withBackoff(Duration.ofMillis(20), 1, Duration.ofMillis(20));
+        long start = System.nanoTime();
+        policy.retry(() -> Result.error("Error"));
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(40_000_000L);
+    }
+
+    @Test
+    void withBackoff_shouldNotAlterOriginalPolicy() {
+        RetryPolicy<String> original = RetryPolicy.maxAttempts(3);
+        original.withBackoff(Duration.ofMillis(10), 2, Duration.ofMillis(100));
+        assertThat(original.delayNanos(1, 0)).isZero();
+    }
+
+    @Test
+    void withBackoff_zeroInitialDelay_shouldBeAccepted() {
+        RetryPolicy<String> policy = RetryPolicy.<String>maxAttempts(3)
+                .withBackoff(Duration.ZERO, 2, Duration.ZERO);
+        assertThat(policy.delayNanos(2, 0)).isZero();
+    }
+
+    @Test
+    void withBackoff_negativeInitialDelayGivesIllegalArgumentException() {
+        RetryPolicy<String> policy = RetryPolicy.maxAttempts(3);
+        assertThatThrownBy(() -> policy.withBackoff(Duration.ofMillis(-1), 2, Duration.ofMillis(10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Delays must satisfy 0 <= initial <= max, was PT-0.001S and PT0.01S");
+    }
+
+    @Test
+    void withBackoff_maxDelayShorterThanInitialDelayGivesIllegalArgumentException() {
+        RetryPolicy<String> policy = RetryPolicy.maxAttempts(3);
+        assertThatThrownBy(() -> policy.withBackoff(Duration.ofMillis(10), 2, Duration.ofMillis(9)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void withBackoff_multiplierBelowOneGivesIllegalArgumentException() {
+        RetryPolicy<String> policy = RetryPolicy.maxAttempts(3);
+        assertThatThrownBy(() -> policy.withBackoff(Duration.ofMillis(10), 0.99, Duration.ofMillis(10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Multiplier must be at least 1, was 0.99");
+    }
+
+    @Test
+    void withBackoff_nanMultiplierGivesIllegalArgumentException() {
+        RetryPolicy<String> policy = RetryPolicy.maxAttempts(3);
+        assertThatThrownBy(() -> policy.withBackoff(Duration.ofMillis(10), Double.NaN, Duration.ofMillis(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void withBackoff_nullDelayGivesNPE() {
+        RetryPolicy<String> policy = RetryPolicy.maxAttempts(3);
+        assertThatThrownBy(() -> policy.withBackoff(null, 2, Duration.ofMillis(10)))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> policy.withBackoff(Duration.ofMillis(10), 2, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,48 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RetryPolicy_WithJitter_Test {
+
+    private static final RetryPolicy<String> POLICY = RetryPolicy.<String>maxAttempts(3)
+            .withBackoff(Duration.ofMillis(100), 2, Duration.ofMillis(1000));
+
+    @Test
+    void withJitter_shouldShortenDelayByRandomPart() {
+        RetryPolicy<String> policy = POLICY.withJitter(0.5);
+        assertThat(policy.delayNanos(1, 0)).isEqualTo(100_000_000L);
+        assertThat(policy.delayNanos(1, 0.5)).isEqualTo(75_000_000L);
+        assertThat(policy.delayNanos(2, 1)).isEqualTo(100_000_000L);
+    }
+
+    @Test
+    void withJitter_zero_shouldKeepDelay() {
+        assertThat(POLICY.withJitter(0).delayNanos(1, 0.9)).isEqualTo(100_000_000L);
+    }
+
+    @Test
+    void withJitter_one_shouldAllowNoDelay() {
+        assertThat(POLICY.withJitter(1).delayNanos(1, 1)).isZero();
+    }
+
+    @Test
+    void withJitter_shouldKeepBackoff() {
+        RetryPolicy<String> policy = POLICY.withJitter(0.5);
+        assertThat(policy.delayNanos(5, 0)).isEqualTo(1_000_000_000L);
+    }
+
+    @Test
+    void withJitter_outOfRangeGivesIllegalArgumentException() {
+        assertThatThrownBy(() -> POLICY.withJitter(-0.01))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Jitter must be between 0 and 1, was -0.01");
+        assertThatThrownBy(() -> POLICY.withJitter(1.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> POLICY.withJitter(Double.NaN))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SchedulerTest {
+
+    @Test
+    void newScheduler_shouldUseNamedDaemonThread() throws Exception {
+        ScheduledExecutorService scheduler = Scheduler.newScheduler();
+        try {
+            CompletableFuture<ScheduledFuture<Thread>> scheduled = new CompletableFuture<>();
+            Thread creator = new Thread(() -> scheduled.complete(
+                    scheduler.schedule(Thread::currentThread, 1, TimeUnit.MILLISECONDS)));
+            creator.setDaemon(false);
+            creator.start();
+            Thread thread = scheduled.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+            assertThat(thread.isDaemon()).isTrue();
+            assertThat(thread.getName()).isEqualTo("fluent-result-timer");
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void shared_shouldRunBatchWindows() throws Exception {
+        Thread shared = Scheduler.shared().schedule(Thread::currentThread, 0, TimeUnit.MILLISECONDS)
+                .get(5, TimeUnit.SECONDS);
+        CompletableFuture<Thread> batch = new CompletableFuture<>();
+        BatchLoader.<String, String, String>of(keys -> {
+            batch.complete(Thread.currentThread());
+            return Result.success(Collections.emptyMap());
+        }).withWindow(Duration.ofMillis(1)).withExecutor(Runnable::run).loadAsync("A");
+        assertThat(shared.getName()).isEqualTo("fluent-result-timer");
+        assertThat(batch.get(5, TimeUnit.SECONDS)).isSameAs(shared);
+    }
+}
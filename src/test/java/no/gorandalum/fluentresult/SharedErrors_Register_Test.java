@@ -0,0 +1,21 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SharedErrors_Register_Test {
+
+    @Test
+    void register_shouldMarkErrorAsRegistered() {
+        assertThat(SharedErrors.isRegistered("Registered error")).isFalse();
+        SharedErrors.register("Registered error");
+        assertThat(SharedErrors.isRegistered("Registered error")).isTrue();
+    }
+
+    @Test
+    void register_nullErrorGivesNPE() {
+        assertThatThrownBy(() -> SharedErrors.register(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,21 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SharedValues_Register_Test {
+
+    @Test
+    void register_shouldMarkValueAsRegistered() {
+        assertThat(SharedValues.isRegistered("Registered value")).isFalse();
+        SharedValues.register("Registered value");
+        assertThat(SharedValues.isRegistered("Registered value")).isTrue();
+    }
+
+    @Test
+    void register_nullValueGivesNPE() {
+        assertThatThrownBy(() -> SharedValues.register(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,123 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SingleFlight_LoadAsync_Test {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SingleFlight<String, Integer, String> flight = SingleFlight.of(key -> {
+        int call = calls.incrementAndGet();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            return Result.error("Interrupted");
+        }
+        return Result.success(call);
+    });
+
+    @Test
+    void loadAsync_shouldRunLoaderOnExecutor() {
+        release.countDown();
+        SingleFlight<String, String, String> names = SingleFlight.of(key -> Result.success(Thread.currentThread().getName()));
+        ExecutorService executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "single-flight-test"));
+        try {
+            assertThat(names.loadAsync("Key", executor).join()).isEqualTo(Result.success("single-flight-test"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void loadAsync_concurrentCallsForSameKey_shouldShareOneLoadWithoutBlocking() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncResult<Integer, String> first = flight.loadAsync("Key", executor);
+            AsyncResult<Integer, String> second = flight.loadAsync("Key", executor);
+            assertThat(first.toCompletableFuture()).isNotDone();
+            assertThat(flight.inFlight()).isOne();
+            release.countDown();
+            assertThat(first.join()).isEqualTo(Result.success(1));
+            assertThat(second.join()).isEqualTo(Result.success(1));
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void loadAsync_blockingCallDuringAsyncLoad_shouldShareLoad() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncResult<Integer, String> async = flight.loadAsync("Key", executor);
+            new Thread(() -> {
+                while (flight.waiting("Key") < 2) {
+                    Thread.yield();
+                }
+                release.countDown();
+            }).start();
+            assertThat(flight.load("Key")).isEqualTo(Result.success(1));
+            assertThat(async.join()).isEqualTo(Result.success(1));
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void loadAsync_completed_shouldForgetLoad() {
+        release.countDown();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertThat(flight.loadAsync("Key", executor).join()).isEqualTo(Result.success(1));
+            assertThat(flight.inFlight()).isZero();
+            assertThat(flight.loadAsync("Key", executor).join()).isEqualTo(Result.success(2));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void loadAsync_loaderThrows_shouldCompleteExceptionally() {
+        SingleFlight<String, String, String> failing = SingleFlight.of(key -> {
+            throw new IllegalStateException("Failed");
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertThatThrownBy(() -> failing.loadAsync("Key", executor).join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void loadAsync_executorRejects_shouldThrowAndForgetLoad() {
+        assertThatThrownBy(() -> flight.loadAsync("Key", task -> {
+            throw new RejectedExecutionException("Rejected");
+        })).isInstanceOf(RejectedExecutionException.class);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void loadAsync_nullKeyGivesNPE() {
+        assertThatThrownBy(() -> flight.loadAsync(null, Runnable::run))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void loadAsync_nullExecutorGivesNPE() {
+        assertThatThrownBy(() -> flight.loadAsync("Key", null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
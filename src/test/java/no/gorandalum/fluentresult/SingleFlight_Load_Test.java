@@ -0,0 +1,178 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SingleFlight_Load_Test {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void load_success_shouldGiveResultOfLoader() {
+        SingleFlight<String, String, String> flight = SingleFlight.of(key -> Result.success(key + "Value"));
+        assertThat(flight.load("Key")).isEqualTo(Result.success("KeyValue"));
+    }
+
+    @Test
+    void load_error_shouldGiveResultOfLoader() {
+        SingleFlight<String, String, String> flight = SingleFlight.of(key -> Result.error(key + "Error"));
+        assertThat(flight.load("Key")).isEqualTo(Result.error("KeyError"));
+    }
+
+    @Test
+    void load_sequentialCalls_shouldCallLoaderEachTime() {
+        SingleFlight<String, Integer, String> flight = SingleFlight.of(key -> Result.success(calls.incrementAndGet()));
+        assertThat(flight.load("Key")).isEqualTo(Result.success(1));
+        assertThat(flight.load("Key")).isEqualTo(Result.success(2));
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void load_concurrentCallsForSameKey_shouldShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlight<String, Integer, String> flight = SingleFlight.of(key -> {
+            int call = calls.incrementAndGet();
+            await(release);
+            return Result.success(call);
+        });
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Result<Integer, String>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> flight.load("Key")));
+            }
+            awaitWaiting(flight, threads - 1);
+            release.countDown();
+            for (Future<Result<Integer, String>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(Result.success(1));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void load_concurrentCallsForSameKey_shouldShareError() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlight<String, String, String> flight = SingleFlight.of(key -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return Result.error("Error");
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Result<String, String>> first = executor.submit(() -> flight.load("Key"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            new Thread(() -> {
+                awaitWaiting(flight, 1);
+                release.countDown();
+            }).start();
+            assertThat(flight.load("Key")).isEqualTo(Result.error("Error"));
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(Result.error("Error"));
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void load_differentKeys_shouldLoadEach() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        SingleFlight<String, String, String> flight = SingleFlight.of(key -> {
+            bothStarted.countDown();
+            await(bothStarted);
+            return Result.success(key);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Result<String, String>> first = executor.submit(() -> flight.load("First"));
+            Future<Result<String, String>> second = executor.submit(() -> flight.load("Second"));
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(Result.success("First"));
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(Result.success("Second"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void load_loaderThrows_shouldThrowToAllCallersAndForgetLoad() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlight<String, String, String> flight = SingleFlight.of(key -> {
+            if (calls.incrementAndGet() > 1) {
+                return Result.success("Success");
+            }
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("Failed");
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Result<String, String>> first = executor.submit(() -> flight.load("Key"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            new Thread(() -> {
+                awaitWaiting(flight, 1);
+                release.countDown();
+            }).start();
+            assertThatThrownBy(() -> flight.load("Key"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Failed");
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(flight.inFlight()).isZero();
+        assertThat(flight.load("Key")).isEqualTo(Result.success("Success"));
+    }
+
+    @Test
+    void load_loaderReturnsNullGivesNPE() {
+        SingleFlight<String, String, String> flight = SingleFlight.of(key -> null);
+        assertThatThrownBy(() -> flight.load("Key"))
+                .isInstanceOf(NullPointerException.class);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void load_nullKeyGivesNPE() {
+        SingleFlight<String, String, String> flight = SingleFlight.of(Result::success);
+        assertThatThrownBy(() -> flight.load(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void of_nullLoaderGivesNPE() {
+        assertThatThrownBy(() -> SingleFlight.of(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitWaiting(SingleFlight<String, ?, ?> flight, int callers) {
+        while (flight.waiting("Key") < callers) {
+            Thread.yield();
+        }
+    }
+}
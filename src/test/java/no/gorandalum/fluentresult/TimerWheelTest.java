@@ -0,0 +1,138 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TimerWheelTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final TimerWheel wheel = new TimerWheel(SECOND, 4);
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    void new_wheelSizeNotPowerOfTwoGivesIAE() {
+        assertThatThrownBy(() -> new TimerWheel(SECOND, 3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Wheel size must be a power of two, was 3");
+        assertThatThrownBy(() -> new TimerWheel(SECOND, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Wheel size must be a power of two, was 0");
+    }
+
+    @Test
+    void expire_shouldRunTaskAtTickAfterDeadline() {
+        wheel.arm(SECOND + SECOND / 2, runs::incrementAndGet);
+        wheel.expire(1);
+        assertThat(runs).hasValue(0);
+        wheel.expire(2);
+        assertThat(runs).hasValue(1);
+        wheel.expire(3);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void expire_delayBeyondWheel_shouldRunTaskInLaterRotation() {
+        wheel.arm(4 * SECOND + SECOND / 2, runs::incrementAndGet);
+        for (long tick = 1; tick <= 4; tick++) {
+            wheel.expire(tick);
+        }
+        assertThat(runs).hasValue(0);
+        wheel.expire(5);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void expire_deadlinePassedBeforeTransfer_shouldRunTaskAtCurrentTick() {
+        for (long tick = 1; tick <= 3; tick++) {
+            wheel.expire(tick);
+        }
+        wheel.arm(0, runs::incrementAndGet);
+        wheel.expire(4);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void expire_pendingBeforeDueInBucket_shouldRunOnlyDue() {
+        AtomicInteger later = new AtomicInteger();
+        wheel.arm(0, runs::incrementAndGet);
+        wheel.arm(4 * SECOND + SECOND / 2, later::incrementAndGet);
+        wheel.expire(1);
+        assertThat(runs).hasValue(1);
+        assertThat(later).hasValue(0);
+        for (long tick = 2; tick <= 5; tick++) {
+            wheel.expire(tick);
+        }
+        assertThat(runs).hasValue(1);
+        assertThat(later).hasValue(1);
+    }
+
+    @Test
+    void expire_failingTask_shouldStillRunOtherTasks() {
+        wheel.arm(0, runs::incrementAndGet);
+        wheel.arm(0, () -> {
+            throw new IllegalStateException();
+        });
+        wheel.expire(1);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void arm_maximumDelay_shouldNotRunTask() {
+        wheel.arm(Long.MAX_VALUE, runs::incrementAndGet);
+        for (long tick = 1; tick <= 8; tick++) {
+            wheel.expire(tick);
+        }
+        assertThat(runs).hasValue(0);
+    }
+
+    @Test
+    void cancel_beforeTransfer_shouldNotRunTask() {
+        TimerWheel.Timeout timeout = wheel.arm(0, runs::incrementAndGet);
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        wheel.expire(1);
+        assertThat(runs).hasValue(0);
+    }
+
+    @Test
+    void cancel_afterTransfer_shouldNotRunTask() {
+        TimerWheel.Timeout timeout = wheel.arm(SECOND + SECOND / 2, runs::incrementAndGet);
+        wheel.expire(1);
+        assertThat(timeout.cancel()).isTrue();
+        wheel.expire(2);
+        assertThat(runs).hasValue(0);
+    }
+
+    @Test
+    void cancel_afterRun_shouldReturnFalse() {
+        TimerWheel.Timeout timeout = wheel.arm(0, runs::incrementAndGet);
+        wheel.expire(1);
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void startedOn_shouldRunTaskAfterDelayOnSchedulerThread() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                task -> new Thread(task, "timer-wheel-test"));
+        try {
+            TimerWheel started = TimerWheel.startedOn(scheduler, TimeUnit.MILLISECONDS.toNanos(10), 8);
+            CompletableFuture<Thread> worker = new CompletableFuture<>();
+            long start = System.nanoTime();
+            started.arm(TimeUnit.MILLISECONDS.toNanos(100), () -> worker.complete(Thread.currentThread()));
+            Thread thread = worker.get(5, TimeUnit.SECONDS);
+            assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90));
+            assertThat(thread.getName()).isEqualTo("timer-wheel-test");
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
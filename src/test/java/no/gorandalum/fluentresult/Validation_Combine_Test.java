@@ -0,0 +1,90 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Validation_Combine_Test {
+
+    private static Validation<String, String> invalidWith(String... errors) {
+        Validation<String, String> validation = Validation.valid("Value");
+        for (String error : errors) {
+            validation = validation.verify(val -> false, () -> error);
+        }
+        return validation;
+    }
+
+    @Test
+    void combine_bothValid_shouldApplyFunction() {
+        Validation<String, String> validation = Validation.<String, String>valid("Name")
+                .combine(Validation.valid(42), (name, age) -> name + ":" + age);
+        assertThat(validation).isEqualTo(Validation.valid("Name:42"));
+    }
+
+    @Test
+    void combine_thisInvalid_shouldKeepErrorsAndNotRunFunction() {
+        Validation<String, String> validation = invalidWith("First", "Second")
+                .combine(Validation.valid(42), (name, age) -> { throw new RuntimeException(); });
+        assertThat(validation.errors()).containsExactly("First", "Second");
+    }
+
+    @Test
+    void combine_otherInvalid_shouldKeepErrorsAndNotRunFunction() {
+        Validation<String, String> validation = Validation.<String, String>valid("Name")
+                .combine(invalidWith("First", "Second"), (name, age) -> { throw new RuntimeException(); });
+        assertThat(validation.errors()).containsExactly("First", "Second");
+    }
+
+    @Test
+    void combine_bothInvalid_shouldKeepErrorsOfBothInOrder() {
+        Validation<String, String> validation = invalidWith("First", "Second")
+                .combine(invalidWith("Third", "Fourth"), (name, age) -> { throw new RuntimeException(); });
+        assertThat(validation.errors()).containsExactly("First", "Second", "Third", "Fourth");
+    }
+
+    @Test
+    void combine_bothInvalidWithSingleError_shouldKeepBothErrors() {
+        Validation<String, String> validation = Validation.<String, String>invalid("First")
+                .combine(Validation.<String, String>invalid("Second"), (a, b) -> a + b);
+        assertThat(validation.errors()).containsExactly("First", "Second");
+    }
+
+    @Test
+    void combine_invalid_shouldHoldNoValueForFollowingChecks() {
+        Validation<String, String> validation = invalidWith("First")
+                .combine(Validation.valid("Other"), (a, b) -> a + b)
+                .verify(val -> false, () -> "Second");
+        assertThat(validation.errors()).containsExactly("First");
+    }
+
+    @Test
+    void combine_many_shouldAccumulateAllErrors() {
+        Validation<String, String> validation = Validation.<String, String>valid("")
+                .combine(invalidWith("First"), (a, b) -> a + b)
+                .combine(Validation.valid("x"), (a, b) -> a + b)
+                .combine(invalidWith("Second", "Third"), (a, b) -> a + b)
+                .combine(invalidWith("Fourth"), (a, b) -> a + b);
+        assertThat(validation.errors()).containsExactly("First", "Second", "Third", "Fourth");
+    }
+
+    @Test
+    void combine_nullOtherGivesNPE() {
+        Validation<String, String> validation = Validation.valid("Value");
+        assertThatThrownBy(() -> validation.combine(null, (a, b) -> a))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void combine_nullFunctionGivesNPE() {
+        Validation<String, String> validation = Validation.invalid("Error");
+        assertThatThrownBy(() -> validation.combine(Validation.invalid("Other"), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void combine_functionReturnsNullGivesNPE() {
+        Validation<String, String> validation = Validation.valid("Value");
+        assertThatThrownBy(() -> validation.combine(Validation.valid("Other"), (a, b) -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
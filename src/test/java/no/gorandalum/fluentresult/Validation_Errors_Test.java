@@ -0,0 +1,49 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Validation_Errors_Test {
+
+    @Test
+    void errors_valid_shouldBeEmpty() {
+        assertThat(Validation.valid("Value").errors()).isEmpty();
+    }
+
+    @Test
+    void errors_singleError_shouldContainError() {
+        assertThat(Validation.invalid("Error").errors()).containsExactly("Error");
+    }
+
+    @Test
+    void errors_multipleErrors_shouldBeInOrderAdded() {
+        Validation<String, String> validation = Validation.<String, String>valid("Value")
+                .verify(val -> false, () -> "First")
+                .verify(val -> false, () -> "Second")
+                .verify(val -> false, () -> "Third");
+        assertThat(validation.errors()).containsExactly("First", "Second", "Third");
+    }
+
+    @Test
+    void errors_shouldBeUnmodifiable() {
+        List<String> errors = Validation.<String, String>valid("Value")
+                .verify(val -> false, () -> "First")
+                .verify(val -> false, () -> "Second")
+                .errors();
+        assertThatThrownBy(() -> errors.set(0, "Other"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void errors_modifyingReturnedListAttempt_shouldNotAffectValidation() {
+        Validation<String, String> validation = Validation.<String, String>valid("Value")
+                .verify(val -> false, () -> "First")
+                .verify(val -> false, () -> "Second");
+        assertThatThrownBy(() -> validation.errors().add("Third"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(validation.errors()).containsExactly("First", "Second");
+    }
+}
@@ -0,0 +1,38 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Validation_Fold_Test {
+
+    @Test
+    void fold_valid_shouldApplyValueFunction() {
+        Validation<String, String> validation = Validation.valid("Value");
+        String folded = validation.fold(val -> val + "!", errs -> { throw new RuntimeException(); });
+        assertThat(folded).isEqualTo("Value!");
+    }
+
+    @Test
+    void fold_invalid_shouldApplyErrorsFunction() {
+        Validation<String, String> validation = Validation.<String, String>valid("Value")
+                .verify(val -> false, () -> "First")
+                .verify(val -> false, () -> "Second");
+        String folded = validation.fold(val -> { throw new RuntimeException(); }, errs -> String.join(",", errs));
+        assertThat(folded).isEqualTo("First,Second");
+    }
+
+    @Test
+    void fold_nullValueFunctionGivesNPE() {
+        Validation<String, String> validation = Validation.invalid("Error");
+        assertThatThrownBy(() -> validation.fold(null, errs -> errs))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void fold_nullErrorsFunctionGivesNPE() {
+        Validation<String, String> validation = Validation.valid("Value");
+        assertThatThrownBy(() -> validation.fold(val -> val, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
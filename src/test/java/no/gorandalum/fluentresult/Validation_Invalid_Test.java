@@ -0,0 +1,28 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Validation_Invalid_Test {
+
+    @Test
+    void invalid_shouldBeInvalidWithSingleError() {
+        Validation<String, String> validation = Validation.invalid("Error");
+        assertThat(validation.isValid()).isFalse();
+        assertThat(validation.errors()).containsExactly("Error");
+    }
+
+    @Test
+    void invalid_shouldHoldNoValueForFollowingChecks() {
+        Validation<String, String> validation = Validation.<String, String>invalid("Error")
+                .verify(val -> val.length() > 10, () -> "Too short");
+        assertThat(validation.errors()).containsExactly("Error");
+    }
+
+    @Test
+    void invalid_nullErrorGivesNPE() {
+        assertThatThrownBy(() -> Validation.invalid(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Validation_Map_Test {
+
+    @Test
+    void map_valid_shouldMapValue() {
+        Validation<Integer, String> validation = Validation.<String, String>valid("Value")
+                .map(String::length);
+        assertThat(validation).isEqualTo(Validation.valid(5));
+    }
+
+    @Test
+    void map_invalid_shouldKeepErrorsAndNotRunFunction() {
+        Validation<Integer, String> validation = Validation.<String, String>valid("Value")
+                .verify(val -> false, () -> "First")
+                .verify(val -> false, () -> "Second")
+                .map(val -> { throw new RuntimeException(); });
+        assertThat(validation.isValid()).isFalse();
+        assertThat(validation.errors()).containsExactly("First", "Second");
+    }
+
+    @Test
+    void map_invalid_shouldDropValueUnderValidation() {
+        Validation<String, String> validation = Validation.<String, String>valid("Value")
+                .verify(val -> false, () -> "First")
+                .map(val -> val + "!")
+                .verify(val -> false, () -> "Second");
+        assertThat(validation.errors()).containsExactly("First");
+    }
+
+    @Test
+    void map_valid_nullFunctionGivesNPE() {
+        Validation<String, String> validation = Validation.valid("Value");
+        assertThatThrownBy(() -> validation.map(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void map_invalid_nullFunctionGivesNPE() {
+        Validation<String, String> validation = Validation.invalid("Error");
+        assertThatThrownBy(() -> validation.map(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void map_valid_functionReturnsNullGivesNPE() {
+        Validation<String, String> validation = Validation.valid("Value");
+        assertThatThrownBy(() -> validation.map(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
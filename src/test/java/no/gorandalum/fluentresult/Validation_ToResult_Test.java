@@ -0,0 +1,26 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Validation_ToResult_Test {
+
+    @Test
+    void toResult_valid_shouldBeSuccess() {
+        Result<String, List<String>> result = Validation.<String, String>valid("Value").toResult();
+        assertThat(result).isEqualTo(Result.success("Value"));
+    }
+
+    @Test
+    void toResult_invalid_shouldContainAllErrors() {
+        Result<String, List<String>> result = Validation.<String, String>valid("Value")
+                .verify(val -> false, () -> "First")
+                .verify(val -> false, () -> "Second")
+                .toResult();
+        assertThat(result).isEqualTo(Result.error(Arrays.asList("First", "Second")));
+    }
+}
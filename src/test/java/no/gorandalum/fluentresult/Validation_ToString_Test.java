@@ -0,0 +1,22 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Validation_ToString_Test {
+
+    @Test
+    void toString_valid_shouldReturnCorrectStringRepresentation() {
+        Validation<String, String> validation = Validation.valid("Value");
+        assertThat(validation.toString()).isEqualTo("Validation[Value: Value]");
+    }
+
+    @Test
+    void toString_invalid_shouldReturnCorrectStringRepresentation() {
+        Validation<String, String> validation = Validation.<String, String>valid("Value")
+                .verify(val -> false, () -> "First")
+                .verify(val -> false, () -> "Second");
+        assertThat(validation.toString()).isEqualTo("Validation[Errors: [First, Second]]");
+    }
+}
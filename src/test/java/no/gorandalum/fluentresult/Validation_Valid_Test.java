@@ -0,0 +1,27 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Validation_Valid_Test {
+
+    @Test
+    void valid_shouldBeValidWithValue() {
+        Validation<String, String> validation = Validation.valid("Value");
+        assertThat(validation.isValid()).isTrue();
+        assertThat(validation.toResult()).isEqualTo(Result.success("Value"));
+    }
+
+    @Test
+    void valid_shouldHaveNoErrors() {
+        Validation<String, String> validation = Validation.valid("Value");
+        assertThat(validation.errors()).isEmpty();
+    }
+
+    @Test
+    void valid_nullValueGivesNPE() {
+        assertThatThrownBy(() -> Validation.valid(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,113 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Validation_Verify_Predicate_Test {
+
+    @Test
+    void verify_valid_predicateTrue_shouldReturnSameInstance() {
+        Validation<String, String> validation = Validation.valid("Value");
+        assertThat(validation.verify(val -> val.equals("Value"), () -> "Error"))
+                .isSameAs(validation);
+    }
+
+    @Test
+    void verify_valid_predicateFalse_shouldBeInvalidWithError() {
+        Validation<String, String> validation = Validation.<String, String>valid("Value")
+                .verify(val -> val.isEmpty(), () -> "Not empty");
+        assertThat(validation.isValid()).isFalse();
+        assertThat(validation.errors()).containsExactly("Not empty");
+    }
+
+    @Test
+    void verify_shouldRunAllChecksAndAccumulateErrors() {
+        Validation<String, String> validation = Validation.<String, String>valid("Value")
+                .verify(val -> val.length() > 10, () -> "Too short")
+                .verify(val -> val.startsWith("V"), () -> "Wrong start")
+                .verify(val -> val.endsWith("x"), () -> "Wrong end");
+        assertThat(validation.errors()).containsExactly("Too short", "Wrong end");
+    }
+
+    @Test
+    void verify_manyFailingChecks_shouldKeepAllErrorsInOrder() {
+        Validation<Integer, Integer> validation = Validation.valid(0);
+        for (int i = 0; i < 1000; i++) {
+            int error = i;
+            validation = validation.verify(val -> false, () -> error);
+        }
+        List<Integer> expected = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        assertThat(validation.errors()).isEqualTo(expected);
+    }
+
+    @Test
+    void verify_branchingFromSameValidation_shouldKeepErrorsOfEachBranch() {
+        Validation<String, String> base = Validation.<String, String>valid("Value")
+                .verify(val -> false, () -> "First")
+                .verify(val -> false, () -> "Second");
+        Validation<String, String> left = base.verify(val -> false, () -> "Left");
+        Validation<String, String> right = base.verify(val -> false, () -> "Right")
+                .verify(val -> false, () -> "Right again");
+        Validation<String, String> leftAgain = left.verify(val -> false, () -> "Left again");
+        assertThat(base.errors()).containsExactly("First", "Second");
+        assertThat(left.errors()).containsExactly("First", "Second", "Left");
+        assertThat(leftAgain.errors()).containsExactly("First", "Second", "Left", "Left again");
+        assertThat(right.errors()).containsExactly("First", "Second", "Right", "Right again");
+    }
+
+    @Test
+    void verify_invalidHoldingValue_predicateTrue_shouldReturnSameInstance() {
+        Validation<String, String> validation = Validation.<String, String>valid("Value")
+                .verify(val -> false, () -> "Error");
+        assertThat(validation.verify(val -> true, () -> "Other"))
+                .isSameAs(validation);
+    }
+
+    @Test
+    void verify_invalidHoldingValue_shouldTestTheValue() {
+        Validation<String, String> validation = Validation.<String, String>valid("Value")
+                .verify(val -> false, () -> "Error")
+                .verify(val -> !val.equals("Value"), () -> "Was Value");
+        assertThat(validation.errors()).containsExactly("Error", "Was Value");
+    }
+
+    @Test
+    void verify_invalidWithoutValue_shouldNotRunPredicate() {
+        Validation<String, String> validation = Validation.invalid("Error");
+        assertThat(validation.verify(val -> { throw new RuntimeException(); }, () -> "Other"))
+                .isSameAs(validation);
+    }
+
+    @Test
+    void verify_valid_nullPredicateGivesNPE() {
+        Validation<String, String> validation = Validation.valid("Value");
+        assertThatThrownBy(() -> validation.verify(null, () -> "Error"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void verify_invalid_nullPredicateGivesNPE() {
+        Validation<String, String> validation = Validation.invalid("Error");
+        assertThatThrownBy(() -> validation.verify(null, () -> "Error"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void verify_valid_nullErrorSupplierGivesNPE() {
+        Validation<String, String> validation = Validation.valid("Value");
+        assertThatThrownBy(() -> validation.verify(val -> true, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void verify_valid_errorSupplierReturnsNullGivesNPE() {
+        Validation<String, String> validation = Validation.valid("Value");
+        assertThatThrownBy(() -> validation.verify(val -> false, () -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,59 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Validation_Verify_VoidResult_Test {
+
+    @Test
+    void verify_valid_successVoidResult_shouldReturnSameInstance() {
+        Validation<String, String> validation = Validation.valid("Value");
+        assertThat(validation.verify(val -> VoidResult.success()))
+                .isSameAs(validation);
+    }
+
+    @Test
+    void verify_valid_errorVoidResult_shouldBeInvalidWithError() {
+        Validation<String, String> validation = Validation.<String, String>valid("Value")
+                .verify(val -> VoidResult.error("Error"));
+        assertThat(validation.errors()).containsExactly("Error");
+    }
+
+    @Test
+    void verify_shouldRunAllChecksAndAccumulateErrors() {
+        Validation<String, String> validation = Validation.<String, String>valid("Value")
+                .verify(val -> VoidResult.error("First"))
+                .verify(val -> VoidResult.success())
+                .verify(val -> VoidResult.error(val + " second"));
+        assertThat(validation.errors()).containsExactly("First", "Value second");
+    }
+
+    @Test
+    void verify_invalidWithoutValue_shouldNotRunFunction() {
+        Validation<String, String> validation = Validation.invalid("Error");
+        assertThat(validation.verify(val -> { throw new RuntimeException(); }))
+                .isSameAs(validation);
+    }
+
+    @Test
+    void verify_valid_nullFunctionGivesNPE() {
+        Validation<String, String> validation = Validation.valid("Value");
+        assertThatThrownBy(() -> validation.verify(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void verify_invalid_nullFunctionGivesNPE() {
+        Validation<String, String> validation = Validation.invalid("Error");
+        assertThatThrownBy(() -> validation.verify(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void verify_valid_functionReturnsNullGivesNPE() {
+        Validation<String, String> validation = Validation.valid("Value");
+        assertThatThrownBy(() -> validation.verify(val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,41 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VoidResult_SequenceCollector_Test {
+
+    @Test
+    void sequenceCollector_allSuccess_shouldBeSuccess() {
+        VoidResult<String> result = Stream.of(
+                VoidResult.<String>success(),
+                VoidResult.<String>success())
+                .collect(VoidResult.sequenceCollector());
+        assertThat(result).isEqualTo(VoidResult.success());
+    }
+
+    @Test
+    void sequenceCollector_error_shouldContainFirstError() {
+        VoidResult<String> result = Stream.of(
+                VoidResult.<String>success(),
+                VoidResult.<String>error("Error"),
+                VoidResult.<String>error("Other error"))
+                .collect(VoidResult.sequenceCollector());
+        assertThat(result).isEqualTo(VoidResult.error("Error"));
+    }
+
+    @Test
+    void sequenceCollector_parallel_shouldContainFirstErrorInEncounterOrder() {
+        VoidResult<String> result = IntStream.range(0, 10_000)
+                .parallel()
+                .mapToObj(val -> val % 1000 == 999 ?
+                        VoidResult.<String>error("Error at " + val) :
+                        VoidResult.<String>success())
+                .collect(VoidResult.sequenceCollector());
+        assertThat(result).isEqualTo(VoidResult.error("Error at 999"));
+    }
+}
@@ -0,0 +1,43 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VoidResult_Sequence_Test {
+
+    @Test
+    void sequence_allSuccess_shouldBeSuccess() {
+        List<VoidResult<String>> results = Arrays.asList(
+                VoidResult.success(),
+                VoidResult.success());
+        assertThat(VoidResult.sequence(results)).isEqualTo(VoidResult.success());
+    }
+
+    @Test
+    void sequence_empty_shouldBeSuccess() {
+        List<VoidResult<String>> results = Collections.emptyList();
+        assertThat(VoidResult.sequence(results)).isEqualTo(VoidResult.success());
+    }
+
+    @Test
+    void sequence_error_shouldReturnFirstErrorAndStopIterating() {
+        VoidResult<String> error = VoidResult.error("Error");
+        List<VoidResult<String>> results = Arrays.asList(
+                VoidResult.success(),
+                error,
+                null);
+        assertThat(VoidResult.sequence(results)).isSameAs(error);
+    }
+
+    @Test
+    void sequence_nullResultGivesNPE() {
+        List<VoidResult<String>> results = Arrays.asList(VoidResult.success(), null);
+        assertThatThrownBy(() -> VoidResult.sequence(results))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VoidResult_SharedError_Test {
+
+    enum ErrorCode {
+        NOT_FOUND,
+        FORBIDDEN,
+        CONFLICT {
+            @Override
+            public String toString() {
+                return "Conflict";
+            }
+        }
+    }
+
+    @Test
+    void sharedError_enumConstant_shouldReturnSharedInstance() {
+        VoidResult<ErrorCode> result = VoidResult.sharedError(ErrorCode.NOT_FOUND);
+        assertThat(result).isSameAs(VoidResult.sharedError(ErrorCode.NOT_FOUND));
+        assertThat(result).isEqualTo(VoidResult.error(ErrorCode.NOT_FOUND));
+    }
+
+    @Test
+    void sharedError_registeredError_shouldReturnSharedInstance() {
+        SharedErrors.register("Registered VoidResult");
+        VoidResult<String> result = VoidResult.sharedError("Registered VoidResult");
+        assertThat(result).isSameAs(VoidResult.sharedError("Registered VoidResult"));
+        assertThat(result).isEqualTo(VoidResult.error("Registered VoidResult"));
+    }
+
+    @Test
+    void sharedError_unregisteredError_shouldReturnNewInstance() {
+        VoidResult<String> result = VoidResult.sharedError("Unregistered VoidResult");
+        assertThat(result).isNotSameAs(VoidResult.sharedError("Unregistered VoidResult"));
+        assertThat(result).isEqualTo(VoidResult.error("Unregistered VoidResult"));
+    }
+
+    @Test
+    void sharedError_nullErrorGivesNPE() {
+        assertThatThrownBy(() -> VoidResult.sharedError(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
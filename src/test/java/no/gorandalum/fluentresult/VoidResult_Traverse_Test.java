@@ -0,0 +1,51 @@
+package no.gorandalum.fluentresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VoidResult_Traverse_Test {
+
+    @Test
+    void traverse_allSuccess_shouldBeSuccess() {
+        List<String> applied = new ArrayList<>();
+        VoidResult<String> result = VoidResult.traverse(
+                Arrays.asList("One", "Two"),
+                val -> {
+                    applied.add(val);
+                    return VoidResult.success();
+                });
+        assertThat(result).isEqualTo(VoidResult.success());
+        assertThat(applied).containsExactly("One", "Two");
+    }
+
+    @Test
+    void traverse_error_shouldContainFirstErrorAndStopApplying() {
+        List<String> applied = new ArrayList<>();
+        VoidResult<String> result = VoidResult.traverse(
+                Arrays.asList("One", "Error", "Three"),
+                val -> {
+                    applied.add(val);
+                    return val.equals("Error") ? VoidResult.error("Error") : VoidResult.success();
+                });
+        assertThat(result).isEqualTo(VoidResult.error("Error"));
+        assertThat(applied).containsExactly("One", "Error");
+    }
+
+    @Test
+    void traverse_nullFromFunctionGivesNPE() {
+        assertThatThrownBy(() -> VoidResult.traverse(Arrays.asList("One"), val -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void traverse_nullFunctionGivesNPE() {
+        assertThatThrownBy(() -> VoidResult.traverse(Collections.emptyList(), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}